@@ -0,0 +1,63 @@
+package personal.ai.benchmarks.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Seat / Reservation 도메인 상태 전환 벤치마크
+ * - 좌석: AVAILABLE -> RESERVED -> OCCUPIED, RESERVED -> AVAILABLE
+ * - 예약: 생성 -> 확정 / 취소 / 만료
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookingDomainBenchmark {
+
+    private static final int RESERVATION_TTL_MINUTES = 5;
+
+    private Seat availableSeat;
+    private Seat reservedSeat;
+
+    @Setup
+    public void setUp() {
+        availableSeat = new Seat(1L, 10L, "A-1", SeatGrade.VIP, new BigDecimal("150000"), SeatStatus.AVAILABLE);
+        reservedSeat = availableSeat.reserve();
+    }
+
+    @Benchmark
+    public Seat seatReserveThenOccupy() {
+        return availableSeat.reserve().occupy();
+    }
+
+    @Benchmark
+    public Seat seatRelease() {
+        return reservedSeat.release();
+    }
+
+    @Benchmark
+    public Reservation reservationCreateThenConfirm() {
+        return Reservation.create(100L, 1L, 10L, RESERVATION_TTL_MINUTES).confirm();
+    }
+
+    @Benchmark
+    public Reservation reservationCreateThenCancel() {
+        return Reservation.create(100L, 1L, 10L, RESERVATION_TTL_MINUTES).cancel();
+    }
+
+    @Benchmark
+    public Reservation reservationCreateThenExpire() {
+        return Reservation.create(100L, 1L, 10L, RESERVATION_TTL_MINUTES).expire();
+    }
+}
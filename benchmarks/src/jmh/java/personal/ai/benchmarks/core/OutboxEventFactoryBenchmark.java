@@ -0,0 +1,44 @@
+package personal.ai.benchmarks.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import personal.ai.core.booking.adapter.out.persistence.OutboxEventEntity;
+import personal.ai.core.booking.adapter.out.persistence.OutboxEventFactory;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OutboxEventFactory 벤치마크
+ * 예약 트랜잭션 안에서 수행되는 이벤트 Payload 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboxEventFactoryBenchmark {
+
+    private OutboxEventFactory factory;
+    private Reservation reservation;
+
+    @Setup
+    public void setUp() {
+        factory = new OutboxEventFactory(new ObjectMapper());
+
+        LocalDateTime now = LocalDateTime.now();
+        reservation = new Reservation(1L, 100L, 1000L, 10L,
+                ReservationStatus.PENDING, now.plusMinutes(5), now);
+    }
+
+    @Benchmark
+    public OutboxEventEntity createReservationCreatedEvent() {
+        return factory.createReservationCreatedEvent(reservation);
+    }
+}
@@ -0,0 +1,28 @@
+package personal.ai.benchmarks.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import personal.ai.core.booking.domain.service.QueueTokenExtractor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueueTokenExtractor 벤치마크
+ * 좌석 조회/예약 요청마다 토큰에서 concertId를 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueueTokenExtractorBenchmark {
+
+    private final String queueToken = "CONCERT-001:USER-000001:1234567";
+
+    @Benchmark
+    public String extractConcertId() {
+        return QueueTokenExtractor.extractConcertId(queueToken);
+    }
+}
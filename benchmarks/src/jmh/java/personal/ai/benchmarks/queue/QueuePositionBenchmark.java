@@ -0,0 +1,56 @@
+package personal.ai.benchmarks.queue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import personal.ai.queue.domain.model.QueuePosition;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueuePosition 생성 벤치마크
+ * 대기열 진입/재진입 응답마다 예상 대기 시간을 계산하며 생성됨
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueuePositionBenchmark {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-000001";
+    private static final int ACTIVE_CAPACITY = 50_000;
+    private static final int ACTIVATION_INTERVAL_SECONDS = 5;
+
+    private long position;
+    private QueueToken activeToken;
+
+    @Setup
+    public void setUp() {
+        position = 123_456L;
+        activeToken = QueueToken.active(CONCERT_ID, USER_ID, CONCERT_ID + ":" + USER_ID + ":42",
+                Instant.now().plusSeconds(600), 0);
+    }
+
+    @Benchmark
+    public QueuePosition newEntry() {
+        return QueuePosition.newEntry(CONCERT_ID, USER_ID, position, position + 1,
+                ACTIVE_CAPACITY, ACTIVATION_INTERVAL_SECONDS);
+    }
+
+    @Benchmark
+    public QueuePosition alreadyWaiting() {
+        return QueuePosition.alreadyWaiting(CONCERT_ID, USER_ID, position, position + 1,
+                ACTIVE_CAPACITY, ACTIVATION_INTERVAL_SECONDS);
+    }
+
+    @Benchmark
+    public QueuePosition alreadyActive() {
+        return QueuePosition.alreadyActive(activeToken);
+    }
+}
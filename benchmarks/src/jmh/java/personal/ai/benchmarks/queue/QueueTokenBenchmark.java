@@ -0,0 +1,59 @@
+package personal.ai.benchmarks.queue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueueToken 상태 전환 벤치마크
+ * READY 발급 -> ACTIVE 전환 -> 연장, 그리고 매 요청마다 수행되는 토큰 검증
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueueTokenBenchmark {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-000001";
+    private static final String TOKEN = CONCERT_ID + ":" + USER_ID + ":42";
+
+    private Instant readyExpiredAt;
+    private Instant activeExpiredAt;
+    private QueueToken activeToken;
+
+    @Setup
+    public void setUp() {
+        readyExpiredAt = Instant.now().plusSeconds(300);
+        activeExpiredAt = Instant.now().plusSeconds(600);
+        activeToken = QueueToken.active(CONCERT_ID, USER_ID, TOKEN, activeExpiredAt, 0);
+    }
+
+    @Benchmark
+    public QueueToken readyToActiveToExtended() {
+        QueueToken ready = QueueToken.ready(CONCERT_ID, USER_ID, TOKEN, readyExpiredAt);
+        QueueToken active = QueueToken.active(ready.concertId(), ready.userId(), ready.token(),
+                activeExpiredAt, ready.extendCount());
+        active.ensureCanExtend();
+        return active.withExtension(activeExpiredAt.plusSeconds(600), active.extendCount() + 1);
+    }
+
+    @Benchmark
+    public void ensureValidFor(Blackhole blackhole) {
+        activeToken.ensureValidFor(TOKEN);
+        blackhole.consume(activeToken);
+    }
+
+    @Benchmark
+    public boolean canExtendAndIsActive() {
+        return activeToken.canExtend() && activeToken.isActive() && !activeToken.isExpired();
+    }
+}
@@ -0,0 +1,82 @@
+package personal.ai.benchmarks.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import personal.ai.queue.adapter.out.redis.RedisTokenConverter;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * RedisTokenConverter 벤치마크
+ * - toQueueToken: 상태 조회/검증 API마다 호출되는 Hash -> QueueToken 변환
+ * - parseUserIdsFromJson: 스케줄러 틱마다 move_to_active_queue.lua 결과 파싱 (배치 크기별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisTokenConverterBenchmark {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-000001";
+
+    @Param({"10", "1000"})
+    private int batchSize;
+
+    private RedisTokenConverter converter;
+    private Map<Object, Object> readyHash;
+    private Map<Object, Object> activeHash;
+    private String userIdsJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        converter = new RedisTokenConverter(objectMapper);
+
+        long expiredAt = Instant.now().plusSeconds(300).getEpochSecond();
+        readyHash = tokenHash("READY", expiredAt, 0);
+        activeHash = tokenHash("ACTIVE", expiredAt, 1);
+
+        List<String> userIds = IntStream.range(0, batchSize)
+                .mapToObj(i -> "USER-%06d".formatted(i))
+                .collect(Collectors.toList());
+        userIdsJson = objectMapper.writeValueAsString(userIds);
+    }
+
+    @Benchmark
+    public QueueToken toQueueTokenReady() {
+        return converter.toQueueToken(readyHash, CONCERT_ID, USER_ID);
+    }
+
+    @Benchmark
+    public QueueToken toQueueTokenActive() {
+        return converter.toQueueToken(activeHash, CONCERT_ID, USER_ID);
+    }
+
+    @Benchmark
+    public List<String> parseUserIdsFromJson() {
+        return converter.parseUserIdsFromJson(userIdsJson);
+    }
+
+    private static Map<Object, Object> tokenHash(String status, long expiredAt, int extendCount) {
+        Map<Object, Object> hash = new HashMap<>();
+        hash.put("token", CONCERT_ID + ":" + USER_ID + ":42");
+        hash.put("status", status);
+        hash.put("extend_count", String.valueOf(extendCount));
+        hash.put("expired_at", String.valueOf(expiredAt));
+        return hash;
+    }
+}
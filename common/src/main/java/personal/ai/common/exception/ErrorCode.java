@@ -42,6 +42,7 @@ public enum ErrorCode {
     QUEUE_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "Q003", "유효하지 않은 대기열 토큰입니다."),
     QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "Q004", "대기열이 가득 찼습니다."),
     QUEUE_EXTENSION_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "Q005", "더 이상 연장할 수 없습니다."),
+    QUEUE_NOT_OPEN(HttpStatus.FORBIDDEN, "Q006", "아직 대기열 응모 기간이 아닙니다."),
 
     // External Service (6xxx)
     EXTERNAL_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "E001", "외부 서비스 오류가 발생했습니다."),
@@ -0,0 +1,76 @@
+package personal.ai.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Outbox Archive Writer
+ * 삭제 전 이벤트를 gzip 압축된 JSON Lines 파일로 기록 (실행 1회당 파일 1개)
+ *
+ * 파일: {archiveDirectory}/{name}-{yyyyMMdd-HHmmss}-{첫 ID}.jsonl.gz
+ * 배치마다 flush(SYNC_FLUSH)하므로 삭제된 행은 항상 파일에 먼저 기록되어 있음
+ */
+class OutboxArchiveWriter implements Closeable {
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final String name;
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private BufferedWriter writer;
+    private Path file;
+
+    OutboxArchiveWriter(String name, Path directory, ObjectMapper objectMapper) {
+        this.name = name;
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 배치 기록 (첫 배치에서 파일 생성)
+     */
+    void write(List<PublishedOutboxEvent> events) {
+        try {
+            if (writer == null) {
+                open(events.getFirst().id());
+            }
+            for (PublishedOutboxEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive outbox events: " + file, e);
+        }
+    }
+
+    private void open(Long firstId) throws IOException {
+        Files.createDirectories(directory);
+        file = directory.resolve(name + "-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + "-" + firstId + ".jsonl.gz");
+        writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+    }
+
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
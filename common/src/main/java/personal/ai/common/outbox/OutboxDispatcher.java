@@ -0,0 +1,139 @@
+package personal.ai.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Outbox Dispatcher (Fast Path)
+ * 비즈니스 트랜잭션 커밋 직후 Outbox 이벤트를 바로 발행하여 폴링 주기만큼의 지연을 없앰
+ *
+ * - afterCommit에서 비동기 전송 (롤백된 트랜잭션의 이벤트는 전송하지 않음)
+ * - 브로커 확인(ack)된 이벤트 ID를 모아 주기마다 단일 UPDATE로 PUBLISHED 처리
+ * - 전송/상태 반영에 실패한 이벤트는 PENDING으로 남아 OutboxRelay(폴링)가 재발행 (At-Least-Once)
+ */
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final int MAX_MARK_BATCH_SIZE = 500;
+
+    private final String name;
+    private final OutboxStore store;
+    private final OutboxSender sender;
+    private final Function<String, String> topicResolver;
+    private final TransactionOperations transactionOperations;
+    // 발행 확인되었지만 아직 PUBLISHED로 반영되지 않은 Outbox 행 ID
+    private final Queue<Long> publishedIds = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService executor;
+
+    /**
+     * @param name                  로그 식별용 이름 (예: reservation, payment)
+     * @param store                 Outbox 테이블 접근
+     * @param sender                비동기 발행
+     * @param topicResolver         이벤트 타입 -> 토픽
+     * @param transactionOperations 상태 반영 트랜잭션
+     * @param markInterval          PUBLISHED 일괄 반영 주기
+     */
+    public OutboxDispatcher(String name,
+                            OutboxStore store,
+                            OutboxSender sender,
+                            Function<String, String> topicResolver,
+                            TransactionOperations transactionOperations,
+                            Duration markInterval) {
+        this.name = name;
+        this.store = store;
+        this.sender = sender;
+        this.topicResolver = topicResolver;
+        this.transactionOperations = transactionOperations;
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+        this.executor.scheduleWithFixedDelay(this::markPublished,
+                markInterval.toMillis(), markInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 이벤트 발행 예약 (트랜잭션이 없으면 즉시 발행)
+     *
+     * @param message 같은 트랜잭션에서 저장한 Outbox 이벤트
+     */
+    public void dispatchAfterCommit(OutboxMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(message);
+            }
+        });
+    }
+
+    /**
+     * 비동기 전송 (요청 스레드를 막지 않음)
+     */
+    void dispatch(OutboxMessage message) {
+        try {
+            String topic = topicResolver.apply(message.eventType());
+            sender.send(topic, message.key(), message.payload())
+                    .whenComplete((result, e) -> {
+                        if (e == null) {
+                            publishedIds.add(message.id());
+                        } else {
+                            log.warn("Outbox fast-path publish failed, left for relay: relay={}, id={}, type={}",
+                                    name, message.id(), message.eventType());
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Outbox fast-path dispatch failed, left for relay: relay={}, id={}, type={}",
+                    name, message.id(), message.eventType(), e);
+        }
+    }
+
+    /**
+     * 발행 확인된 이벤트를 PUBLISHED로 일괄 반영
+     * Kafka 콜백(프로듀서 I/O 스레드)에서 DB를 호출하지 않도록 별도 스레드에서 수행
+     */
+    void markPublished() {
+        try {
+            List<Long> ids = drain();
+            while (!ids.isEmpty()) {
+                List<Long> batch = ids;
+                transactionOperations.executeWithoutResult(status -> store.markPublished(batch));
+                log.debug("Outbox fast-path events marked published: relay={}, count={}", name, batch.size());
+                ids = drain();
+            }
+        } catch (Exception e) {
+            // 반영하지 못한 이벤트는 PENDING으로 남아 릴레이가 재발행
+            log.error("Failed to mark outbox events published: relay={}", name, e);
+        }
+    }
+
+    private List<Long> drain() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while (ids.size() < MAX_MARK_BATCH_SIZE && (id = publishedIds.poll()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    /**
+     * 종료 시 남은 발행 확인 건 반영 후 스레드 정리
+     */
+    public void shutdown() {
+        executor.shutdown();
+        markPublished();
+    }
+}
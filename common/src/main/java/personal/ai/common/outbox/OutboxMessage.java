@@ -0,0 +1,18 @@
+package personal.ai.common.outbox;
+
+/**
+ * Outbox Message
+ * 릴레이가 선점한 발행 대기 이벤트 한 건
+ *
+ * @param id        Outbox 행 ID
+ * @param eventType 이벤트 타입 (토픽 결정용)
+ * @param key       메시지 키 (같은 키는 선점 순서대로 발행)
+ * @param payload   메시지 본문 (직렬화된 JSON)
+ */
+public record OutboxMessage(
+        Long id,
+        String eventType,
+        String key,
+        String payload
+) {
+}
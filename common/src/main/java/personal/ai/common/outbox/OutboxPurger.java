@@ -0,0 +1,113 @@
+package personal.ai.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Purger (Retention)
+ * 보관 기간이 지난 발행 완료 이벤트를 작은 배치로 삭제하여 Outbox 테이블 크기를 일정하게 유지
+ *
+ * 배치 처리:
+ * 1. 조회: (published_at, id) Keyset 순서로 batchSize건 (커서 이후만 읽으므로 배치당 비용 일정)
+ * 2. 아카이브(선택): gzip JSON Lines 파일에 기록 후 flush
+ * 3. 삭제: 단일 DELETE (배치마다 커밋하여 락/undo 범위를 batchSize로 제한)
+ * 4. 대기: batchPause만큼 쉬어 운영 트래픽과 복제에 여유를 줌
+ *
+ * 아카이브 후 삭제 전에 장애가 나면 다음 실행에서 다시 아카이브될 수 있음 (ID로 중복 제거)
+ */
+@Slf4j
+public class OutboxPurger {
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final String name;
+    private final OutboxRetentionStore store;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final OutboxRetentionSettings settings;
+
+    /**
+     * @param name                  로그/아카이브 파일 식별용 이름 (예: reservation, payment)
+     * @param store                 Outbox 테이블 접근
+     * @param transactionOperations 배치 단위 트랜잭션
+     * @param objectMapper          아카이브 직렬화
+     * @param settings              보관 설정
+     */
+    public OutboxPurger(String name,
+                        OutboxRetentionStore store,
+                        TransactionOperations transactionOperations,
+                        ObjectMapper objectMapper,
+                        OutboxRetentionSettings settings) {
+        this.name = name;
+        this.store = store;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.settings = settings;
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제 (대상이 없거나 maxBatchesPerRun에 도달할 때까지)
+     *
+     * @return 삭제된 이벤트 수
+     */
+    public int purgePublished() {
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(settings.retention());
+        LocalDateTime afterPublishedAt = CURSOR_START;
+        long afterId = 0L;
+        int deletedCount = 0;
+
+        try (OutboxArchiveWriter archive = settings.archiveEnabled()
+                ? new OutboxArchiveWriter(name, settings.archiveDirectory(), objectMapper)
+                : null) {
+            for (int batch = 0; batch < settings.maxBatchesPerRun(); batch++) {
+                List<PublishedOutboxEvent> events =
+                        store.findPublishedBefore(publishedBefore, afterPublishedAt, afterId, settings.batchSize());
+                if (events.isEmpty()) {
+                    break;
+                }
+
+                if (archive != null) {
+                    archive.write(events);
+                }
+                List<Long> ids = events.stream().map(PublishedOutboxEvent::id).toList();
+                Integer deleted = transactionOperations.execute(status -> store.deletePublished(ids));
+                deletedCount += deleted != null ? deleted : 0;
+
+                PublishedOutboxEvent last = events.getLast();
+                afterPublishedAt = last.publishedAt();
+                afterId = last.id();
+
+                if (events.size() < settings.batchSize() || !pause()) {
+                    break;
+                }
+            }
+
+            if (deletedCount > 0) {
+                log.info("Outbox events purged: relay={}, count={}, archive={}",
+                        name, deletedCount, archive != null ? archive.file() : "disabled");
+            }
+        } catch (IOException e) {
+            log.error("Failed to close outbox archive: relay={}", name, e);
+        }
+
+        return deletedCount;
+    }
+
+    private boolean pause() {
+        if (settings.batchPause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(settings.batchPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
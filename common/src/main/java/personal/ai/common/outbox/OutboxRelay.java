@@ -0,0 +1,189 @@
+package personal.ai.common.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Outbox Relay Engine
+ * Outbox 테이블의 발행 대기 이벤트를 페이지 단위로 선점하여 발행하는 공통 엔진
+ *
+ * 커밋 직후 발행(OutboxDispatcher)이 기본 경로이며, 릴레이는 그 경로가 놓친 이벤트를 발행하는 안전망
+ *
+ * 페이지 처리 (하나의 트랜잭션):
+ * 1. 선점: FOR UPDATE SKIP LOCKED로 claimDelay보다 오래된 이벤트를 최대 pageSize건 선점 (인스턴스 수만큼 처리량 확장)
+ *    - 같은 키에 더 오래된 PENDING 이벤트가 있으면 선점하지 않음 (OutboxStore 계약)
+ *    - 다른 인스턴스가 앞선 이벤트를 선점 중이어도 뒤 이벤트를 먼저 보내지 않으므로 인스턴스 간에도 키별 순서 유지
+ * 2. 발행: 페이지 전체를 비동기로 전송하고 한 번에 대기
+ *    - 같은 키의 이벤트가 한 페이지에 있으면 순서대로 (i번째 이벤트는 i-1번째가 성공한 뒤 전송)
+ *    - 한 이벤트가 실패하면 같은 키의 이후 이벤트는 전송하지 않고 PENDING으로 남겨 다음 실행에서 순서대로 재시도
+ * 3. 상태 반영: 성공/실패를 각각 단일 UPDATE로 일괄 반영
+ *
+ * 전송 후 커밋 전에 장애가 나면 다음 실행에서 다시 발행될 수 있음 (At-Least-Once)
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final String name;
+    private final OutboxStore store;
+    private final OutboxSender sender;
+    private final Function<String, String> topicResolver;
+    private final TransactionOperations transactionOperations;
+    private final OutboxRelaySettings settings;
+
+    /**
+     * @param name                  로그 식별용 이름 (예: reservation, payment)
+     * @param store                 Outbox 테이블 접근
+     * @param sender                비동기 발행
+     * @param topicResolver         이벤트 타입 -> 토픽 (알 수 없는 타입은 예외 -> 발행 실패로 처리)
+     * @param transactionOperations 페이지 단위 트랜잭션
+     * @param settings              릴레이 설정
+     */
+    public OutboxRelay(String name,
+                       OutboxStore store,
+                       OutboxSender sender,
+                       Function<String, String> topicResolver,
+                       TransactionOperations transactionOperations,
+                       OutboxRelaySettings settings) {
+        this.name = name;
+        this.store = store;
+        this.sender = sender;
+        this.topicResolver = topicResolver;
+        this.transactionOperations = transactionOperations;
+        this.settings = settings;
+    }
+
+    /**
+     * 발행 대기 이벤트 발행 (대기 이벤트가 없거나 maxPagesPerRun에 도달할 때까지)
+     *
+     * @return 발행된 이벤트 수
+     */
+    public int relayPending() {
+        int publishedCount = 0;
+
+        for (int page = 0; page < settings.maxPagesPerRun(); page++) {
+            PageResult result = transactionOperations.execute(status -> relayPage());
+            if (result == null) {
+                break;
+            }
+            publishedCount += result.published();
+
+            // 페이지가 가득 차지 않았으면 남은 이벤트 없음, 실패가 있었으면 다음 실행에서 재시도
+            if (result.claimed() < settings.pageSize() || result.failed() > 0) {
+                break;
+            }
+        }
+
+        if (publishedCount > 0) {
+            log.debug("Outbox relay published events: relay={}, count={}", name, publishedCount);
+        }
+        return publishedCount;
+    }
+
+    /**
+     * 페이지 하나 선점 → 발행 → 상태 반영 (호출자 트랜잭션 안에서 실행)
+     */
+    PageResult relayPage() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(settings.claimDelay());
+        List<OutboxMessage> page = store.claimPending(settings.pageSize(), createdBefore);
+        if (page.isEmpty()) {
+            return new PageResult(0, 0, 0);
+        }
+
+        // 키별 대기열 (선점 순서 유지)
+        Map<String, List<OutboxMessage>> byKey = new LinkedHashMap<>();
+        for (OutboxMessage message : page) {
+            byKey.computeIfAbsent(message.key(), key -> new ArrayList<>()).add(message);
+        }
+
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        Set<String> blockedKeys = new HashSet<>();
+        long deadline = System.nanoTime() + settings.sendTimeout().toNanos();
+
+        // i번째 차수: 각 키의 i번째 이벤트를 동시에 전송 (대부분의 페이지는 1차수로 끝남)
+        int depth = byKey.values().stream().mapToInt(List::size).max().orElse(0);
+        for (int wave = 0; wave < depth; wave++) {
+            Map<OutboxMessage, CompletableFuture<?>> inFlight = new LinkedHashMap<>();
+            for (Map.Entry<String, List<OutboxMessage>> entry : byKey.entrySet()) {
+                if (entry.getValue().size() > wave && !blockedKeys.contains(entry.getKey())) {
+                    OutboxMessage message = entry.getValue().get(wave);
+                    inFlight.put(message, send(message));
+                }
+            }
+
+            awaitAll(inFlight.values(), deadline);
+
+            inFlight.forEach((message, future) -> {
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    publishedIds.add(message.id());
+                } else {
+                    failedIds.add(message.id());
+                    blockedKeys.add(message.key());
+                    log.warn("Outbox event publish failed: relay={}, id={}, type={}, key={}",
+                            name, message.id(), message.eventType(), message.key(), causeOf(future));
+                }
+            });
+        }
+
+        if (!publishedIds.isEmpty()) {
+            store.markPublished(publishedIds);
+        }
+        if (!failedIds.isEmpty()) {
+            store.markFailed(failedIds, settings.maxRetryCount());
+        }
+
+        return new PageResult(page.size(), publishedIds.size(), failedIds.size());
+    }
+
+    private CompletableFuture<?> send(OutboxMessage message) {
+        try {
+            String topic = topicResolver.apply(message.eventType());
+            return sender.send(topic, message.key(), message.payload());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitAll(Iterable<CompletableFuture<?>> futures, long deadline) {
+        List<CompletableFuture<?>> list = new ArrayList<>();
+        futures.forEach(list::add);
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            CompletableFuture.allOf(list.toArray(CompletableFuture[]::new))
+                    .get(remaining, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 개별 결과는 호출자가 Future 상태로 판단 (실패/타임아웃)
+        }
+    }
+
+    private static Throwable causeOf(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return new IllegalStateException("Send timed out");
+        }
+        try {
+            future.join();
+            return null;
+        } catch (Exception e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    /**
+     * 페이지 처리 결과
+     */
+    record PageResult(int claimed, int published, int failed) {
+    }
+}
@@ -0,0 +1,38 @@
+package personal.ai.common.outbox;
+
+import java.time.Duration;
+
+/**
+ * Outbox Relay 설정
+ *
+ * @param pageSize       한 번에 선점할 최대 이벤트 수 (행 락 보유 범위)
+ * @param maxPagesPerRun 실행 1회당 최대 페이지 수 (스케줄러 스레드 점유 제한)
+ * @param sendTimeout    페이지 전송 대기 시간 (초과 시 미완료 이벤트는 실패 처리)
+ * @param maxRetryCount  최대 재시도 횟수 (도달 시 FAILED)
+ * @param claimDelay     생성 후 이 시간이 지난 이벤트만 선점 (커밋 직후 발행 경로와 중복 발행 방지)
+ */
+public record OutboxRelaySettings(
+        int pageSize,
+        int maxPagesPerRun,
+        Duration sendTimeout,
+        int maxRetryCount,
+        Duration claimDelay
+) {
+    public OutboxRelaySettings {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+        if (maxPagesPerRun <= 0) {
+            throw new IllegalArgumentException("Max pages per run must be positive: " + maxPagesPerRun);
+        }
+        if (sendTimeout == null || sendTimeout.isNegative() || sendTimeout.isZero()) {
+            throw new IllegalArgumentException("Send timeout must be positive: " + sendTimeout);
+        }
+        if (maxRetryCount <= 0) {
+            throw new IllegalArgumentException("Max retry count must be positive: " + maxRetryCount);
+        }
+        if (claimDelay == null || claimDelay.isNegative()) {
+            throw new IllegalArgumentException("Claim delay must not be negative: " + claimDelay);
+        }
+    }
+}
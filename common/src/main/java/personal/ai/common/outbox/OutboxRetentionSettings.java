@@ -0,0 +1,40 @@
+package personal.ai.common.outbox;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outbox Retention 설정
+ *
+ * @param retention        발행 완료 후 보관 기간 (지나면 삭제 대상)
+ * @param batchSize        배치당 삭제 건수 (DELETE 한 번이 잡는 행 락 범위)
+ * @param maxBatchesPerRun 실행 1회당 최대 배치 수
+ * @param batchPause       배치 사이 대기 시간 (복제 지연/undo 누적 완화)
+ * @param archiveDirectory 삭제 전 아카이브 디렉토리 (null이면 아카이브하지 않음)
+ */
+public record OutboxRetentionSettings(
+        Duration retention,
+        int batchSize,
+        int maxBatchesPerRun,
+        Duration batchPause,
+        Path archiveDirectory
+) {
+    public OutboxRetentionSettings {
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Retention must be positive: " + retention);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if (maxBatchesPerRun <= 0) {
+            throw new IllegalArgumentException("Max batches per run must be positive: " + maxBatchesPerRun);
+        }
+        if (batchPause == null || batchPause.isNegative()) {
+            throw new IllegalArgumentException("Batch pause must not be negative: " + batchPause);
+        }
+    }
+
+    public boolean archiveEnabled() {
+        return archiveDirectory != null;
+    }
+}
@@ -0,0 +1,32 @@
+package personal.ai.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Retention Store (SPI)
+ * 보관 기간이 지난 발행 완료 이벤트 조회/삭제
+ */
+public interface OutboxRetentionStore {
+
+    /**
+     * 발행 완료 이벤트를 (published_at, id) 순서로 커서 이후부터 최대 limit건 조회 (Keyset)
+     * 삭제된 앞부분을 다시 훑지 않으므로 테이블 크기와 무관하게 배치당 비용이 일정
+     *
+     * @param publishedBefore  이 시각 이전에 발행된 이벤트만 조회
+     * @param afterPublishedAt 커서 (마지막으로 조회한 이벤트의 발행 시각)
+     * @param afterId          커서 (마지막으로 조회한 이벤트의 ID)
+     * @param limit            최대 조회 건수
+     */
+    List<PublishedOutboxEvent> findPublishedBefore(LocalDateTime publishedBefore,
+                                                   LocalDateTime afterPublishedAt,
+                                                   long afterId,
+                                                   int limit);
+
+    /**
+     * 발행 완료 이벤트 삭제 (단일 DELETE, PUBLISHED 상태인 행만)
+     *
+     * @return 삭제된 행 수
+     */
+    int deletePublished(List<Long> ids);
+}
@@ -0,0 +1,19 @@
+package personal.ai.common.outbox;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Outbox Sender
+ * 이벤트를 비동기로 발행 (예: KafkaTemplate.send)
+ */
+@FunctionalInterface
+public interface OutboxSender {
+
+    /**
+     * @param topic   발행할 토픽
+     * @param key     메시지 키
+     * @param payload 메시지 본문
+     * @return 브로커 확인(ack) 시 완료되는 Future
+     */
+    CompletableFuture<?> send(String topic, String key, String payload);
+}
@@ -0,0 +1,42 @@
+package personal.ai.common.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Outbox Store (SPI)
+ * 릴레이가 사용하는 Outbox 테이블 접근 인터페이스
+ * 모든 메서드는 릴레이가 시작한 하나의 트랜잭션 안에서 호출됨
+ */
+public interface OutboxStore {
+
+    /**
+     * 발행 대기(PENDING) 이벤트를 생성 순서대로 최대 limit건 선점
+     * SELECT ... FOR UPDATE SKIP LOCKED: 다른 인스턴스가 선점한 행은 건너뛰므로 인스턴스 간 중복 발행 없음
+     * 같은 키(aggregate)에 더 오래된 PENDING 이벤트가 있는 행은 선점하지 않음
+     * (앞선 이벤트를 다른 인스턴스가 선점 중일 때 뒤 이벤트가 먼저 발행되지 않도록 함 → 페이지당 키별 최대 1건)
+     *
+     * @param limit         최대 선점 건수
+     * @param createdBefore 이 시각 이전에 생성된 이벤트만 선점 (최근 이벤트는 커밋 직후 발행 경로에 맡김)
+     * @return 선점한 이벤트 목록 (생성 순서)
+     */
+    List<OutboxMessage> claimPending(int limit, LocalDateTime createdBefore);
+
+    /**
+     * 발행 완료 처리 (단일 UPDATE, PENDING 상태인 행만)
+     *
+     * @param ids Outbox 행 ID 목록
+     * @return 변경된 행 수
+     */
+    int markPublished(List<Long> ids);
+
+    /**
+     * 발행 실패 처리 (단일 UPDATE)
+     * 재시도 횟수를 1 증가시키고, maxRetryCount에 도달하면 FAILED로 변경
+     *
+     * @param ids           Outbox 행 ID 목록
+     * @param maxRetryCount 최대 재시도 횟수
+     * @return 변경된 행 수
+     */
+    int markFailed(List<Long> ids, int maxRetryCount);
+}
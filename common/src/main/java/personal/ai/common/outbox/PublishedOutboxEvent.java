@@ -0,0 +1,26 @@
+package personal.ai.common.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published Outbox Event
+ * 보관 기간이 지나 삭제 대상이 된 발행 완료 이벤트 한 건 (아카이브 레코드)
+ *
+ * @param id            Outbox 행 ID
+ * @param aggregateType Aggregate 타입
+ * @param aggregateId   Aggregate ID
+ * @param eventType     이벤트 타입
+ * @param payload       메시지 본문 (직렬화된 JSON)
+ * @param createdAt     생성 시각
+ * @param publishedAt   발행 완료 시각 (삭제 순서 키)
+ */
+public record PublishedOutboxEvent(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        String payload,
+        LocalDateTime createdAt,
+        LocalDateTime publishedAt
+) {
+}
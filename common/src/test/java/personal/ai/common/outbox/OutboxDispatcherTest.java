@@ -0,0 +1,93 @@
+package personal.ai.common.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxDispatcher 단위 테스트")
+class OutboxDispatcherTest {
+
+    private final List<List<Long>> published = new ArrayList<>();
+    private final OutboxStore store = new OutboxStore() {
+        @Override
+        public List<OutboxMessage> claimPending(int limit, LocalDateTime createdBefore) {
+            return List.of();
+        }
+
+        @Override
+        public int markPublished(List<Long> ids) {
+            published.add(ids);
+            return ids.size();
+        }
+
+        @Override
+        public int markFailed(List<Long> ids, int maxRetryCount) {
+            return 0;
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 전에는 전송하지 않고 커밋 후 전송한다")
+    void dispatchAfterCommit_SendsOnlyAfterCommit() {
+        // given
+        List<String> sent = new ArrayList<>();
+        OutboxSender sender = (topic, key, payload) -> {
+            sent.add(payload);
+            return CompletableFuture.completedFuture(null);
+        };
+        OutboxDispatcher dispatcher = newDispatcher(sender);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        dispatcher.dispatchAfterCommit(new OutboxMessage(1L, "CREATED", "A", "a-1"));
+
+        // then
+        assertThat(sent).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        dispatcher.shutdown();
+        assertThat(sent).containsExactly("a-1");
+        assertThat(published).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 이벤트는 발행 완료 처리하지 않는다 (릴레이가 재발행)")
+    void dispatch_LeavesFailedEventPending() {
+        // given
+        OutboxSender sender = (topic, key, payload) -> payload.equals("a-1")
+                ? CompletableFuture.failedFuture(new IllegalStateException("broker down"))
+                : CompletableFuture.completedFuture(null);
+        OutboxDispatcher dispatcher = newDispatcher(sender);
+
+        // when
+        dispatcher.dispatchAfterCommit(new OutboxMessage(1L, "CREATED", "A", "a-1"));
+        dispatcher.dispatchAfterCommit(new OutboxMessage(2L, "CREATED", "B", "b-1"));
+        dispatcher.shutdown();
+
+        // then
+        assertThat(published).containsExactly(List.of(2L));
+    }
+
+    private OutboxDispatcher newDispatcher(OutboxSender sender) {
+        return new OutboxDispatcher("test", store, sender, eventType -> "topic",
+                TransactionOperations.withoutTransaction(), Duration.ofMinutes(1));
+    }
+}
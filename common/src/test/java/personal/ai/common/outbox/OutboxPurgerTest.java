@@ -0,0 +1,121 @@
+package personal.ai.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxPurger 단위 테스트")
+class OutboxPurgerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("보관 기간이 지난 발행 완료 이벤트만 배치 단위로 삭제한다")
+    void purgePublished_DeletesExpiredInBatches() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        FakeStore store = new FakeStore();
+        for (long id = 1; id <= 5; id++) {
+            store.add(event(id, now.minusDays(10)));
+        }
+        store.add(event(6L, now.minusMinutes(1)));
+        OutboxPurger purger = new OutboxPurger("test", store, TransactionOperations.withoutTransaction(),
+                objectMapper, settings(2, null));
+
+        // when
+        int deleted = purger.purgePublished();
+
+        // then
+        assertThat(deleted).isEqualTo(5);
+        assertThat(store.deleteBatches).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(store.rows).extracting(PublishedOutboxEvent::id).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("아카이브 디렉토리가 있으면 삭제 전에 gzip JSON Lines 파일로 기록한다")
+    void purgePublished_ArchivesBeforeDelete(@TempDir Path archiveDir) throws IOException {
+        // given
+        FakeStore store = new FakeStore();
+        store.add(event(1L, LocalDateTime.now().minusDays(10)));
+        store.add(event(2L, LocalDateTime.now().minusDays(10)));
+        OutboxPurger purger = new OutboxPurger("test", store, TransactionOperations.withoutTransaction(),
+                objectMapper, settings(10, archiveDir));
+
+        // when
+        purger.purgePublished();
+
+        // then
+        List<Path> files;
+        try (var stream = Files.list(archiveDir)) {
+            files = stream.toList();
+        }
+        assertThat(files).hasSize(1);
+        assertThat(files.getFirst().getFileName().toString()).startsWith("test-").endsWith("-1.jsonl.gz");
+
+        List<String> lines;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(files.getFirst())), StandardCharsets.UTF_8))) {
+            lines = reader.lines().toList();
+        }
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(1), PublishedOutboxEvent.class).id()).isEqualTo(2L);
+    }
+
+    private static OutboxRetentionSettings settings(int batchSize, Path archiveDir) {
+        return new OutboxRetentionSettings(Duration.ofDays(1), batchSize, 10, Duration.ZERO, archiveDir);
+    }
+
+    private static PublishedOutboxEvent event(Long id, LocalDateTime publishedAt) {
+        return new PublishedOutboxEvent(id, "RESERVATION", id, "CREATED", "{\"id\":" + id + "}",
+                publishedAt.minusSeconds(1), publishedAt);
+    }
+
+    private static class FakeStore implements OutboxRetentionStore {
+
+        private final List<PublishedOutboxEvent> rows = new ArrayList<>();
+        private final List<List<Long>> deleteBatches = new ArrayList<>();
+
+        void add(PublishedOutboxEvent event) {
+            rows.add(event);
+        }
+
+        @Override
+        public List<PublishedOutboxEvent> findPublishedBefore(LocalDateTime publishedBefore,
+                                                              LocalDateTime afterPublishedAt,
+                                                              long afterId,
+                                                              int limit) {
+            return rows.stream()
+                    .filter(row -> row.publishedAt().isBefore(publishedBefore))
+                    .filter(row -> row.publishedAt().isAfter(afterPublishedAt)
+                            || (row.publishedAt().isEqual(afterPublishedAt) && row.id() > afterId))
+                    .sorted(Comparator.comparing(PublishedOutboxEvent::publishedAt)
+                            .thenComparing(PublishedOutboxEvent::id))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public int deletePublished(List<Long> ids) {
+            deleteBatches.add(ids);
+            rows.removeIf(row -> ids.contains(row.id()));
+            return ids.size();
+        }
+    }
+}
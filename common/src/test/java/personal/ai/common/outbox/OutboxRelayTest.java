@@ -0,0 +1,208 @@
+package personal.ai.common.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxRelay 단위 테스트")
+class OutboxRelayTest {
+
+    private static final OutboxRelaySettings SETTINGS =
+            new OutboxRelaySettings(10, 5, Duration.ofSeconds(1), 3, Duration.ZERO);
+
+    @Test
+    @DisplayName("같은 키의 이벤트가 실패하면 이후 이벤트는 전송하지 않고 다른 키는 계속 발행한다")
+    void relayPending_StopsKeyAfterFailure() {
+        // given
+        FakeStore store = new FakeStore(List.of(
+                new OutboxMessage(1L, "CREATED", "A", "a-1"),
+                new OutboxMessage(2L, "CONFIRMED", "A", "a-2"),
+                new OutboxMessage(3L, "CREATED", "B", "b-1")));
+        List<String> sent = new ArrayList<>();
+        OutboxSender sender = (topic, key, payload) -> {
+            sent.add(payload);
+            return payload.equals("a-1")
+                    ? CompletableFuture.failedFuture(new IllegalStateException("broker down"))
+                    : CompletableFuture.completedFuture(null);
+        };
+        OutboxRelay relay = new OutboxRelay("test", store, sender, eventType -> "topic",
+                TransactionOperations.withoutTransaction(), SETTINGS);
+
+        // when
+        int published = relay.relayPending();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        assertThat(sent).containsExactly("a-1", "b-1");
+        assertThat(store.published).containsExactly(List.of(3L));
+        assertThat(store.failed).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 선점 순서대로 발행하고 상태는 한 번에 반영한다")
+    void relayPending_KeepsKeyOrder() {
+        // given
+        FakeStore store = new FakeStore(List.of(
+                new OutboxMessage(1L, "CREATED", "A", "a-1"),
+                new OutboxMessage(2L, "CREATED", "B", "b-1"),
+                new OutboxMessage(3L, "CONFIRMED", "A", "a-2")));
+        List<String> sent = new ArrayList<>();
+        OutboxSender sender = (topic, key, payload) -> {
+            sent.add(payload);
+            return CompletableFuture.completedFuture(null);
+        };
+        OutboxRelay relay = new OutboxRelay("test", store, sender, eventType -> "topic",
+                TransactionOperations.withoutTransaction(), SETTINGS);
+
+        // when
+        int published = relay.relayPending();
+
+        // then
+        assertThat(published).isEqualTo(3);
+        assertThat(sent.indexOf("a-1")).isLessThan(sent.indexOf("a-2"));
+        assertThat(store.published).containsExactly(List.of(1L, 2L, 3L));
+        assertThat(store.failed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토픽을 결정할 수 없는 이벤트는 발행 실패로 처리한다")
+    void relayPending_UnknownEventType() {
+        // given
+        FakeStore store = new FakeStore(List.of(new OutboxMessage(1L, "UNKNOWN", "A", "a-1")));
+        OutboxRelay relay = new OutboxRelay("test", store,
+                (topic, key, payload) -> CompletableFuture.completedFuture(null),
+                eventType -> {
+                    throw new IllegalArgumentException("Unknown event type: " + eventType);
+                },
+                TransactionOperations.withoutTransaction(), SETTINGS);
+
+        // when
+        int published = relay.relayPending();
+
+        // then
+        assertThat(published).isZero();
+        assertThat(store.failed).containsExactly(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("앞선 이벤트를 다른 페이지가 선점 중이면 같은 키의 뒤 이벤트는 발행하지 않는다")
+    void relayPage_SkipsKeyWhileEarlierEventClaimed() {
+        // given
+        LockingStore store = new LockingStore(List.of(
+                new OutboxMessage(1L, "CREATED", "A", "a-1"),
+                new OutboxMessage(2L, "CONFIRMED", "A", "a-2"),
+                new OutboxMessage(3L, "CREATED", "B", "b-1")));
+        List<String> sentByOther = new ArrayList<>();
+        OutboxRelay otherReplica = new OutboxRelay("other", store,
+                (topic, key, payload) -> {
+                    sentByOther.add(payload);
+                    return CompletableFuture.completedFuture(null);
+                },
+                eventType -> "topic", TransactionOperations.withoutTransaction(), SETTINGS);
+
+        // 이 인스턴스는 a-1만 선점하고, a-1 전송 중(선점 유지)에 다른 인스턴스가 페이지를 처리
+        OutboxRelaySettings onePerPage = new OutboxRelaySettings(1, 5, Duration.ofSeconds(1), 3, Duration.ZERO);
+        List<String> sent = new ArrayList<>();
+        OutboxRelay relay = new OutboxRelay("test", store,
+                (topic, key, payload) -> {
+                    sent.add(payload);
+                    if (payload.equals("a-1")) {
+                        otherReplica.relayPage();
+                    }
+                    return CompletableFuture.completedFuture(null);
+                },
+                eventType -> "topic", TransactionOperations.withoutTransaction(), onePerPage);
+
+        // when
+        relay.relayPage();
+
+        // then
+        assertThat(sentByOther).containsExactly("b-1");
+        assertThat(sent).containsExactly("a-1");
+
+        // 앞선 이벤트 발행 후 다음 페이지에서 뒤 이벤트 발행
+        relay.relayPage();
+        assertThat(sent).containsExactly("a-1", "a-2");
+    }
+
+    private static class FakeStore implements OutboxStore {
+
+        private final List<OutboxMessage> pending;
+        private final List<List<Long>> published = new ArrayList<>();
+        private final List<List<Long>> failed = new ArrayList<>();
+
+        FakeStore(List<OutboxMessage> pending) {
+            this.pending = new ArrayList<>(pending);
+        }
+
+        @Override
+        public List<OutboxMessage> claimPending(int limit, LocalDateTime createdBefore) {
+            return new ArrayList<>(pending.subList(0, Math.min(limit, pending.size())));
+        }
+
+        @Override
+        public int markPublished(List<Long> ids) {
+            published.add(ids);
+            pending.removeIf(message -> ids.contains(message.id()));
+            return ids.size();
+        }
+
+        @Override
+        public int markFailed(List<Long> ids, int maxRetryCount) {
+            failed.add(ids);
+            return ids.size();
+        }
+    }
+
+    /**
+     * SKIP LOCKED + 같은 키의 앞선 PENDING 이벤트 제외 계약을 따르는 저장소
+     * 선점한 행은 상태 반영(커밋에 해당) 전까지 잠겨 있는 것으로 취급
+     */
+    private static class LockingStore implements OutboxStore {
+
+        private final List<OutboxMessage> pending;
+        private final Set<Long> locked = new HashSet<>();
+
+        LockingStore(List<OutboxMessage> pending) {
+            this.pending = new ArrayList<>(pending);
+        }
+
+        @Override
+        public List<OutboxMessage> claimPending(int limit, LocalDateTime createdBefore) {
+            List<OutboxMessage> claimed = new ArrayList<>();
+            Set<String> seenKeys = new HashSet<>();
+            for (OutboxMessage message : pending) {
+                // 생성 순서상 같은 키의 첫 PENDING 이벤트만 후보 (잠긴 앞선 이벤트도 PENDING으로 보임)
+                boolean head = seenKeys.add(message.key());
+                if (head && !locked.contains(message.id()) && claimed.size() < limit) {
+                    claimed.add(message);
+                }
+            }
+            claimed.forEach(message -> locked.add(message.id()));
+            return claimed;
+        }
+
+        @Override
+        public int markPublished(List<Long> ids) {
+            pending.removeIf(message -> ids.contains(message.id()));
+            ids.forEach(locked::remove);
+            return ids.size();
+        }
+
+        @Override
+        public int markFailed(List<Long> ids, int maxRetryCount) {
+            ids.forEach(locked::remove);
+            return ids.size();
+        }
+    }
+}
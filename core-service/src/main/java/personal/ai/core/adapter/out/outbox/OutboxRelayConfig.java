@@ -0,0 +1,44 @@
+package personal.ai.core.adapter.out.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import personal.ai.common.outbox.OutboxRelaySettings;
+import personal.ai.common.outbox.OutboxRetentionSettings;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outbox Relay Configuration
+ * 예약/결제 Outbox 릴레이/보관 작업이 공유하는 설정
+ */
+@Configuration
+public class OutboxRelayConfig {
+
+    @Bean
+    public OutboxRelaySettings outboxRelaySettings(
+            @Value("${outbox.relay.page-size:100}") int pageSize,
+            @Value("${outbox.relay.max-pages-per-run:10}") int maxPagesPerRun,
+            @Value("${outbox.relay.send-timeout-ms:5000}") long sendTimeoutMs,
+            @Value("${outbox.relay.max-retry-count:3}") int maxRetryCount,
+            @Value("${outbox.relay.claim-delay-ms:1000}") long claimDelayMs) {
+        return new OutboxRelaySettings(pageSize, maxPagesPerRun, Duration.ofMillis(sendTimeoutMs), maxRetryCount,
+                Duration.ofMillis(claimDelayMs));
+    }
+
+    @Bean
+    public OutboxRetentionSettings outboxRetentionSettings(
+            @Value("${outbox.retention.retention-hours:72}") long retentionHours,
+            @Value("${outbox.retention.batch-size:500}") int batchSize,
+            @Value("${outbox.retention.max-batches-per-run:200}") int maxBatchesPerRun,
+            @Value("${outbox.retention.batch-pause-ms:100}") long batchPauseMs,
+            @Value("${outbox.retention.archive-dir:}") String archiveDir) {
+        return new OutboxRetentionSettings(
+                Duration.ofHours(retentionHours),
+                batchSize,
+                maxBatchesPerRun,
+                Duration.ofMillis(batchPauseMs),
+                archiveDir.isBlank() ? null : Path.of(archiveDir));
+    }
+}
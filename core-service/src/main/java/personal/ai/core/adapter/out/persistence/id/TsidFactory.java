@@ -0,0 +1,85 @@
+package personal.ai.core.adapter.out.persistence.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TSID (Time-Sorted ID) Factory
+ * 애플리케이션에서 생성하는 시간 정렬 64비트 ID
+ *
+ * - 구조: [시간(ms, 42비트)][노드(10비트)][카운터(12비트)]
+ * - 시간순 증가: InnoDB 클러스터드 인덱스에 순차 삽입 (AUTO_INCREMENT와 같은 삽입 패턴)
+ * - DB 왕복 없이 ID 확정: Hibernate가 INSERT를 플러시 시점까지 미루고 JDBC Batch로 묶을 수 있음
+ * - 같은 밀리초에 카운터(4096개)를 모두 쓰면 다음 밀리초 값을 미리 사용하여 단조 증가 유지
+ *
+ * 노드 ID는 시스템 프로퍼티 tsid.node 또는 환경 변수 TSID_NODE(0~1023)로 지정하며,
+ * 없으면 무작위 값을 사용하고 WARN 로그를 남김
+ * (다중 인스턴스에서 무작위 노드가 겹치면 같은 밀리초에 중복 ID가 생길 수 있으므로 인스턴스별로 반드시 지정)
+ *
+ * 생성되는 ID는 약 59비트로 JavaScript Number의 안전 정수 범위(2^53)를 넘으므로,
+ * 브라우저 클라이언트는 reservationId/paymentId 등을 문자열로 다뤄야 함
+ */
+@Slf4j
+public final class TsidFactory {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int COUNTER_BITS = 12;
+    static final long NODE_MASK = (1L << NODE_BITS) - 1;
+    static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static final TsidFactory INSTANCE = new TsidFactory(resolveNode(), Clock.systemUTC());
+
+    private final long node;
+    private final Clock clock;
+    // (경과 시간 << COUNTER_BITS) | 카운터
+    private final AtomicLong state = new AtomicLong();
+
+    TsidFactory(long node, Clock clock) {
+        if (node < 0 || node > NODE_MASK) {
+            throw new IllegalArgumentException("TSID node must be between 0 and " + NODE_MASK + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public static TsidFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 다음 ID 생성 (스레드 안전, Lock-Free)
+     */
+    public long next() {
+        while (true) {
+            long last = state.get();
+            long elapsed = clock.millis() - EPOCH_MILLIS;
+
+            // 시간이 흘렀으면 카운터 초기화, 같은 밀리초이거나 시계가 되돌아가면 이전 값 + 1
+            long next = elapsed > (last >>> COUNTER_BITS)
+                    ? elapsed << COUNTER_BITS
+                    : last + 1;
+
+            if (state.compareAndSet(last, next)) {
+                return ((next >>> COUNTER_BITS) << (NODE_BITS + COUNTER_BITS))
+                        | (node << COUNTER_BITS)
+                        | (next & COUNTER_MASK);
+            }
+        }
+    }
+
+    private static long resolveNode() {
+        String configured = System.getProperty("tsid.node", System.getenv("TSID_NODE"));
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim());
+        }
+        long node = new SecureRandom().nextInt((int) NODE_MASK + 1);
+        log.warn("TSID_NODE is not set, using random TSID node {}. "
+                + "Set a distinct TSID_NODE per instance when running more than one instance.", node);
+        return node;
+    }
+}
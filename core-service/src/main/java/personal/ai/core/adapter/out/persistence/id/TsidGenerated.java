@@ -0,0 +1,18 @@
+package personal.ai.core.adapter.out.persistence.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * TSID 기반 식별자 생성 (@GeneratedValue(strategy = IDENTITY) 대체)
+ * 신규 엔티티(id == null)의 persist 시점에 TsidFactory로 ID 할당
+ */
+@IdGeneratorType(TsidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TsidGenerated {
+}
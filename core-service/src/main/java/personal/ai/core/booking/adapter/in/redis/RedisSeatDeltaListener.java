@@ -0,0 +1,54 @@
+package personal.ai.core.booking.adapter.in.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import personal.ai.core.booking.adapter.in.web.service.SeatDeltaStreamService;
+import personal.ai.core.booking.domain.model.SeatDelta;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis Seat Delta Listener
+ * seat:delta:* 채널을 노드당 한 번 구독하여 이 노드의 SSE 구독자에게 전달
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RedisSeatDeltaListener implements MessageListener {
+
+    private final SeatDeltaStreamService seatDeltaStreamService;
+
+    /**
+     * Redis Message Listener Container 설정
+     * 좌석 상태 변경: 일정별 채널을 노드당 한 번만 구독하고 노드 내 SSE 구독자에게 팬아웃
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this,
+                new PatternTopic(SeatDelta.CHANNEL_PREFIX + "*"));
+        return container;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            // seat:delta:1 -> 1
+            Long scheduleId = Long.parseLong(channel.substring(SeatDelta.CHANNEL_PREFIX.length()));
+            seatDeltaStreamService.dispatch(SeatDelta.fromMessage(scheduleId, body));
+        } catch (Exception e) {
+            log.warn("Invalid seat delta message: channel={}, body={}", channel, body, e);
+        }
+    }
+}
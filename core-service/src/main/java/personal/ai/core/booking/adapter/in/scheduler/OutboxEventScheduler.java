@@ -5,10 +5,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import personal.ai.core.booking.application.port.in.PublishPendingEventsUseCase;
+import personal.ai.core.booking.application.port.in.PurgePublishedEventsUseCase;
 
 /**
  * Outbox Event Scheduler (Driving Adapter)
  * 주기적으로 OutboxEventService를 호출하여 PENDING 상태의 이벤트를 발행
+ * 이벤트는 커밋 직후 바로 발행되므로, 스케줄러는 그 경로가 놓친 이벤트를 발행하는 안전망
  */
 @Slf4j
 @Component
@@ -16,12 +18,12 @@ import personal.ai.core.booking.application.port.in.PublishPendingEventsUseCase;
 public class OutboxEventScheduler {
 
     private final PublishPendingEventsUseCase publishPendingEventsUseCase;
+    private final PurgePublishedEventsUseCase purgePublishedEventsUseCase;
 
     /**
-     * 500ms마다 실행 (이전 작업 완료 후)
-     * 짧은 주기로 실행하여 실시간성 확보
+     * outbox.relay.poll-interval-ms마다 실행 (이전 작업 완료 후)
      */
-    @Scheduled(fixedDelay = 500)
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
     public void schedulePublishing() {
         try {
             int publishedCount = publishPendingEventsUseCase.publishPendingEvents();
@@ -32,4 +34,17 @@ public class OutboxEventScheduler {
             log.error("Failed to execute scheduled publishing", e);
         }
     }
+
+    /**
+     * outbox.retention.interval-ms마다 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${outbox.retention.interval-ms:600000}",
+            initialDelayString = "${outbox.retention.interval-ms:600000}")
+    public void schedulePurging() {
+        try {
+            purgePublishedEventsUseCase.purgePublishedEvents();
+        } catch (Exception e) {
+            log.error("Failed to execute scheduled outbox purge", e);
+        }
+    }
 }
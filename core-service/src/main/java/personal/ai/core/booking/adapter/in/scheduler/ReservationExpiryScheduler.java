@@ -0,0 +1,31 @@
+package personal.ai.core.booking.adapter.in.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.in.ExpireReservationsUseCase;
+
+/**
+ * Reservation Expiry Scheduler (Driving Adapter)
+ * 주기적으로 만료 시각이 지난 예약을 만료 처리하여 좌석을 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryScheduler {
+
+    private final ExpireReservationsUseCase expireReservationsUseCase;
+
+    /**
+     * booking.expiry.poll-interval-ms마다 실행 (이전 작업 완료 후)
+     */
+    @Scheduled(fixedDelayString = "${booking.expiry.poll-interval-ms:1000}")
+    public void scheduleExpiry() {
+        try {
+            expireReservationsUseCase.expireDueReservations();
+        } catch (Exception e) {
+            log.error("Failed to execute scheduled reservation expiry", e);
+        }
+    }
+}
@@ -3,21 +3,36 @@ package personal.ai.core.booking.adapter.in.web;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import personal.ai.common.dto.ApiResponse;
 import personal.ai.core.booking.adapter.in.web.dto.ReservationResponse;
 import personal.ai.core.booking.adapter.in.web.dto.ReserveSeatRequest;
+import personal.ai.core.booking.adapter.in.web.dto.ReserveSeatsRequest;
+import personal.ai.core.booking.adapter.in.web.dto.SeatCatalogResponse;
+import personal.ai.core.booking.adapter.in.web.dto.SeatMapResponse;
 import personal.ai.core.booking.adapter.in.web.dto.SeatResponse;
+import personal.ai.core.booking.adapter.in.web.service.SeatDeltaStreamService;
 import personal.ai.core.booking.application.port.in.GetAvailableSeatsUseCase;
 import personal.ai.core.booking.application.port.in.GetReservationUseCase;
+import personal.ai.core.booking.application.port.in.GetSeatMapUseCase;
 import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
 import personal.ai.core.booking.application.port.in.ReserveSeatUseCase;
+import personal.ai.core.booking.application.port.in.ReserveSeatsCommand;
+import personal.ai.core.booking.application.port.in.ReserveSeatsUseCase;
 import personal.ai.core.booking.domain.model.Reservation;
 import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatCatalog;
+import personal.ai.core.booking.domain.model.SeatMap;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Booking API Controller
@@ -30,8 +45,11 @@ import java.util.List;
 public class BookingController {
 
     private final ReserveSeatUseCase reserveSeatUseCase;
+    private final ReserveSeatsUseCase reserveSeatsUseCase;
     private final GetAvailableSeatsUseCase getAvailableSeatsUseCase;
     private final GetReservationUseCase getReservationUseCase;
+    private final GetSeatMapUseCase getSeatMapUseCase;
+    private final SeatDeltaStreamService seatDeltaStreamService;
 
     /**
      * 예약 가능한 좌석 목록 조회
@@ -54,6 +72,91 @@ public class BookingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 좌석 맵 조회 (좌석 상태 비트맵 + 버전)
+     * GET /api/v1/schedules/{scheduleId}/seat-map
+     *
+     * 좌석 상태가 바뀌지 않았으면(If-None-Match == ETag) 본문 없이 304 응답
+     */
+    @GetMapping("/schedules/{scheduleId}/seat-map")
+    public ResponseEntity<SeatMapResponse> getSeatMap(
+            @PathVariable Long scheduleId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-Queue-Token") String queueToken,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        log.debug("Get seat map: scheduleId={}, userId={}", scheduleId, userId);
+
+        SeatMap seatMap = getSeatMapUseCase.getSeatMap(scheduleId, userId, queueToken);
+        String etag = SeatMapResponse.etagOf(seatMap);
+
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(SeatMapResponse.from(seatMap));
+    }
+
+    /**
+     * 좌석 상태 변경 실시간 구독 (SSE)
+     * GET /api/v1/schedules/{scheduleId}/seat-deltas
+     *
+     * - seat-map: 구독 시점의 좌석 맵 (1회)
+     * - seat-delta: 이후 좌석 예약/해제/점유 변경분 (전송 주기마다 묶음)
+     * 변경분의 version이 받은 좌석 맵 version 이하이면 이미 반영된 변경이므로 무시하고,
+     * 재연결 시에는 새 seat-map 이벤트로 다시 동기화
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/seat-deltas", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSeatDeltas(
+            @PathVariable Long scheduleId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-Queue-Token") String queueToken
+    ) {
+        log.info("Seat delta subscription request: scheduleId={}, userId={}", scheduleId, userId);
+
+        // 구독 등록 후 토큰 검증을 겸하여 구독 시점의 좌석 맵 조회 (조회 중 변경분 누락 방지)
+        return seatDeltaStreamService.subscribe(scheduleId,
+                () -> SeatMapResponse.from(getSeatMapUseCase.getSeatMap(scheduleId, userId, queueToken)));
+    }
+
+    /**
+     * 좌석 카탈로그 조회 (좌석 번호, 등급, 가격)
+     * GET /api/v1/schedules/{scheduleId}/seat-map/catalog[?version={catalogVersion}]
+     *
+     * 좌석 맵 응답의 catalogVersion으로 요청하면 해당 버전은 바뀌지 않으므로 장기 캐시 허용
+     */
+    @GetMapping("/schedules/{scheduleId}/seat-map/catalog")
+    public ResponseEntity<SeatCatalogResponse> getSeatCatalog(
+            @PathVariable Long scheduleId,
+            @RequestParam(required = false) String version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        SeatCatalog catalog = getSeatMapUseCase.getSeatCatalog(scheduleId);
+        String etag = SeatCatalogResponse.etagOf(catalog);
+
+        CacheControl cacheControl = catalog.version().equals(version)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(SeatCatalogResponse.from(catalog));
+    }
+
     /**
      * 좌석 예약 생성
      * POST /api/v1/reservations
@@ -76,6 +179,30 @@ public class BookingController {
                 .body(ApiResponse.success("좌석이 예약되었습니다.", response));
     }
 
+    /**
+     * 다중 좌석 예약 생성 (All or Nothing)
+     * POST /api/v1/reservations/batch
+     */
+    @PostMapping("/reservations/batch")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> reserveSeats(
+            @Valid @RequestBody ReserveSeatsRequest request,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader("X-Queue-Token") String queueToken
+    ) {
+        log.info("Reserve seats: userId={}, seatIds={}, scheduleId={}", userId, request.seatIds(), request.scheduleId());
+
+        ReserveSeatsCommand command = request.toCommand(userId, queueToken);
+        List<Reservation> reservations = reserveSeatsUseCase.reserveSeats(command);
+
+        List<ReservationResponse> response = reservations.stream()
+                .map(ReservationResponse::from)
+                .toList();
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("좌석이 예약되었습니다.", response));
+    }
+
     /**
      * 예약 조회
      * GET /api/v1/reservations/{reservationId}
@@ -93,4 +220,17 @@ public class BookingController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (목록, 약한 비교 W/ 허용)
+     */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(candidate -> candidate.startsWith("W/") ? candidate.substring(2) : candidate)
+                .anyMatch(candidate -> candidate.equals(etag) || candidate.equals("*"));
+    }
 }
@@ -0,0 +1,18 @@
+package personal.ai.core.booking.adapter.in.web.dto;
+
+import personal.ai.core.booking.application.port.in.ReserveSeatsCommand;
+
+import java.util.List;
+
+/**
+ * Reserve Seats Request DTO
+ * 다중 좌석 예약 요청
+ */
+public record ReserveSeatsRequest(
+        List<Long> seatIds,
+        Long scheduleId
+) {
+    public ReserveSeatsCommand toCommand(Long userId, String queueToken) {
+        return new ReserveSeatsCommand(userId, seatIds, scheduleId, queueToken);
+    }
+}
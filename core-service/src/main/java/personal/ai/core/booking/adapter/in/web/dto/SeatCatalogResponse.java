@@ -0,0 +1,40 @@
+package personal.ai.core.booking.adapter.in.web.dto;
+
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatCatalog;
+import personal.ai.core.booking.domain.model.SeatGrade;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 좌석 카탈로그 응답 DTO
+ * 좌석별 객체 대신 컬럼 배열로 전달하여 필드명 반복 제거 (배열 index = 좌석 맵 비트 offset)
+ */
+public record SeatCatalogResponse(
+        Long scheduleId,
+        String version,
+        List<Long> seatIds,
+        List<String> seatNumbers,
+        List<SeatGrade> grades,
+        List<BigDecimal> prices
+) {
+    public static SeatCatalogResponse from(SeatCatalog catalog) {
+        List<Seat> seats = catalog.seats();
+        return new SeatCatalogResponse(
+                catalog.scheduleId(),
+                catalog.version(),
+                seats.stream().map(Seat::id).toList(),
+                seats.stream().map(Seat::seatNumber).toList(),
+                seats.stream().map(Seat::grade).toList(),
+                seats.stream().map(Seat::price).toList()
+        );
+    }
+
+    /**
+     * 카탈로그 ETag (카탈로그 버전)
+     */
+    public static String etagOf(SeatCatalog catalog) {
+        return "\"" + catalog.version() + "\"";
+    }
+}
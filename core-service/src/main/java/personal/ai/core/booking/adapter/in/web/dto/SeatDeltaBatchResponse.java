@@ -0,0 +1,32 @@
+package personal.ai.core.booking.adapter.in.web.dto;
+
+import personal.ai.core.booking.domain.model.SeatDelta;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.util.Collection;
+
+/**
+ * 좌석 상태 변경 묶음 응답 DTO (SSE seat-delta 이벤트)
+ * 전송 주기 동안 모인 변경분을 컬럼 배열로 전달 (같은 좌석은 마지막 상태만)
+ */
+public record SeatDeltaBatchResponse(
+        Long scheduleId,
+        long version,            // 묶음 내 최대 버전 (좌석 맵 version과 비교하여 누락 판단, 0이면 알 수 없음)
+        long[] seatIds,
+        SeatStatus[] statuses
+) {
+    public static SeatDeltaBatchResponse from(Long scheduleId, Collection<SeatDelta> deltas) {
+        long[] seatIds = new long[deltas.size()];
+        SeatStatus[] statuses = new SeatStatus[deltas.size()];
+        long version = 0;
+
+        int index = 0;
+        for (SeatDelta delta : deltas) {
+            seatIds[index] = delta.seatId();
+            statuses[index] = delta.status();
+            version = Math.max(version, delta.version());
+            index++;
+        }
+        return new SeatDeltaBatchResponse(scheduleId, version, seatIds, statuses);
+    }
+}
@@ -0,0 +1,35 @@
+package personal.ai.core.booking.adapter.in.web.dto;
+
+import personal.ai.core.booking.domain.model.SeatMap;
+
+import java.util.Base64;
+
+/**
+ * 좌석 맵 응답 DTO
+ * 좌석별 객체 대신 카탈로그 offset 기준 비트맵(Base64)으로 예매 가능 여부 전달
+ * (5만 석 기준 약 8KB)
+ */
+public record SeatMapResponse(
+        Long scheduleId,
+        long version,           // 좌석 상태 버전 (ETag)
+        String catalogVersion,  // 비트맵 해석에 필요한 카탈로그 버전 (다르면 카탈로그 재조회)
+        int seatCount,
+        String availability     // MSB-first 비트맵, offset i의 비트가 1이면 카탈로그 i번째 좌석 예매 가능
+) {
+    public static SeatMapResponse from(SeatMap seatMap) {
+        return new SeatMapResponse(
+                seatMap.scheduleId(),
+                seatMap.version(),
+                seatMap.catalog().version(),
+                seatMap.catalog().size(),
+                Base64.getEncoder().encodeToString(seatMap.availability())
+        );
+    }
+
+    /**
+     * 좌석 맵 ETag (카탈로그 버전 + 좌석 상태 버전)
+     */
+    public static String etagOf(SeatMap seatMap) {
+        return "\"" + seatMap.catalog().version() + "-" + seatMap.version() + "\"";
+    }
+}
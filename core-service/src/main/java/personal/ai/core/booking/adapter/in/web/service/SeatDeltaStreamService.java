@@ -0,0 +1,228 @@
+package personal.ai.core.booking.adapter.in.web.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import personal.ai.core.booking.adapter.in.web.dto.SeatDeltaBatchResponse;
+import personal.ai.core.booking.adapter.in.web.dto.SeatMapResponse;
+import personal.ai.core.booking.domain.model.SeatDelta;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Seat Delta Stream Service (SSE)
+ * 일정별 좌석 상태 변경을 SSE 구독자에게 실시간으로 전송
+ *
+ * - 구독 시: 구독자를 먼저 등록한 뒤 현재 좌석 맵(seat-map 이벤트)을 보내고 이후 변경분(seat-delta 이벤트)만 전송
+ *   (좌석 맵 조회 중 발생한 변경분은 좌석 맵 다음에 전송되며, 클라이언트는 좌석 맵 version 이하의 변경을 무시)
+ * - 팬아웃: Redis Pub/Sub 메시지는 노드당 한 번 수신되며, 전송 주기마다 일정별로 모아
+ *   한 번만 직렬화한 뒤 이 노드의 모든 구독자에게 같은 문자열을 전송
+ * - 구독자가 없는 일정의 변경은 버림
+ */
+@Slf4j
+@Service
+public class SeatDeltaStreamService {
+
+    private static final long SSE_TIMEOUT_MS = 30 * 60 * 1000L; // 30분
+    private static final String EVENT_TYPE_SEAT_MAP = "seat-map";
+    private static final String EVENT_TYPE_SEAT_DELTA = "seat-delta";
+
+    private final ObjectMapper objectMapper;
+    // 일정별 SSE 구독자 (scheduleId -> subscribers)
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    // 전송 대기 중인 변경분 (scheduleId -> deltas)
+    private final Map<Long, Queue<SeatDelta>> pendingDeltas = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+
+    public SeatDeltaStreamService(ObjectMapper objectMapper,
+                                  @Value("${booking.seat-delta.flush-interval-ms:200}") long flushIntervalMs) {
+        this.objectMapper = objectMapper;
+        this.executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+        this.executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+
+        log.info("SeatDeltaStreamService initialized with flush interval: {}ms", flushIntervalMs);
+    }
+
+    /**
+     * 일정 좌석 변경 구독 시작
+     *
+     * 구독자를 먼저 등록해 변경분 수집을 시작한 뒤 좌석 맵을 조회하므로, 조회 중 발생한 변경도 누락되지 않음
+     * (좌석 맵 전송 전까지 이 구독자 몫의 변경분은 버퍼링했다가 좌석 맵 다음에 전송)
+     *
+     * @param scheduleId    일정 ID
+     * @param seatMapLoader 구독 시점의 좌석 맵 조회 (최초 이벤트, 예외 발생 시 구독 취소 후 전파)
+     */
+    public SseEmitter subscribe(Long scheduleId, Supplier<SeatMapResponse> seatMapLoader) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(SSE_TIMEOUT_MS));
+        Set<Subscriber> scheduleSubscribers = subscribers.computeIfAbsent(scheduleId, id -> ConcurrentHashMap.newKeySet());
+        scheduleSubscribers.add(subscriber);
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> unsubscribe(scheduleId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(scheduleId, subscriber));
+        emitter.onError(e -> unsubscribe(scheduleId, subscriber));
+
+        SeatMapResponse seatMap;
+        try {
+            seatMap = seatMapLoader.get();
+        } catch (RuntimeException e) {
+            unsubscribe(scheduleId, subscriber);
+            throw e;
+        }
+
+        log.info("Seat delta subscription started: scheduleId={}, subscribers={}", scheduleId, scheduleSubscribers.size());
+
+        try {
+            subscriber.start(seatMap);
+        } catch (IOException e) {
+            log.warn("Failed to send initial seat map: scheduleId={}", scheduleId, e);
+            unsubscribe(scheduleId, subscriber);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 좌석 상태 변경 수신 (노드당 한 번, Redis Pub/Sub Listener에서 호출)
+     */
+    public void dispatch(SeatDelta delta) {
+        if (!subscribers.containsKey(delta.scheduleId())) {
+            return;
+        }
+        pendingDeltas.computeIfAbsent(delta.scheduleId(), id -> new ConcurrentLinkedQueue<>()).add(delta);
+    }
+
+    /**
+     * 전송 주기마다 일정별 변경분을 묶어 전송
+     */
+    private void flush() {
+        try {
+            pendingDeltas.forEach(this::flushSchedule);
+        } catch (Exception e) {
+            // 예외로 주기 작업이 중단되지 않도록 로그만 남김
+            log.error("Seat delta flush failed", e);
+        }
+    }
+
+    private void flushSchedule(Long scheduleId, Queue<SeatDelta> queue) {
+        // 같은 좌석이 여러 번 바뀌었으면 마지막 상태만 전송
+        Map<Long, SeatDelta> latest = new LinkedHashMap<>();
+        SeatDelta delta;
+        while ((delta = queue.poll()) != null) {
+            latest.remove(delta.seatId());
+            latest.put(delta.seatId(), delta);
+        }
+        if (!latest.isEmpty()) {
+            broadcast(scheduleId, SeatDeltaBatchResponse.from(scheduleId, latest.values()));
+        }
+    }
+
+    private void broadcast(Long scheduleId, SeatDeltaBatchResponse batch) {
+        Set<Subscriber> scheduleSubscribers = subscribers.get(scheduleId);
+        if (scheduleSubscribers == null || scheduleSubscribers.isEmpty()) {
+            return;
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(batch);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize seat delta batch: scheduleId={}", scheduleId, e);
+            return;
+        }
+
+        for (Subscriber subscriber : scheduleSubscribers) {
+            try {
+                subscriber.send(payload);
+            } catch (Exception e) {
+                log.debug("Seat delta send failed, removing subscriber: scheduleId={}", scheduleId);
+                unsubscribe(scheduleId, subscriber);
+            }
+        }
+
+        log.debug("Seat delta batch sent: scheduleId={}, seats={}, subscribers={}",
+                scheduleId, batch.seatIds().length, scheduleSubscribers.size());
+    }
+
+    private void unsubscribe(Long scheduleId, Subscriber subscriber) {
+        subscribers.computeIfPresent(scheduleId, (id, scheduleSubscribers) -> {
+            scheduleSubscribers.remove(subscriber);
+            return scheduleSubscribers.isEmpty() ? null : scheduleSubscribers;
+        });
+        if (!subscribers.containsKey(scheduleId)) {
+            pendingDeltas.remove(scheduleId);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 리소스 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        log.info("Shutting down SeatDeltaStreamService...");
+
+        subscribers.values().forEach(scheduleSubscribers ->
+                scheduleSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        pendingDeltas.clear();
+
+        executor.shutdownNow();
+    }
+
+    /**
+     * SSE 구독자
+     * 좌석 맵 전송 전에 도착한 변경분은 버퍼링했다가 좌석 맵 다음에 순서대로 전송
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private List<String> buffered = new ArrayList<>();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void start(SeatMapResponse seatMap) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_TYPE_SEAT_MAP)
+                    .data(seatMap));
+            List<String> pending = buffered;
+            buffered = null;
+            for (String payload : pending) {
+                sendDelta(payload);
+            }
+        }
+
+        synchronized void send(String payload) throws IOException {
+            if (buffered != null) {
+                buffered.add(payload);
+                return;
+            }
+            sendDelta(payload);
+        }
+
+        private void sendDelta(String payload) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_TYPE_SEAT_DELTA)
+                    .data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+}
@@ -1,28 +1,40 @@
 package personal.ai.core.booking.adapter.out.event;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import personal.ai.common.exception.OutboxEventException;
+import personal.ai.common.outbox.OutboxDispatcher;
 import personal.ai.core.booking.adapter.out.persistence.JpaOutboxEventRepository;
 import personal.ai.core.booking.adapter.out.persistence.OutboxEventEntity;
 import personal.ai.core.booking.adapter.out.persistence.OutboxEventFactory;
 import personal.ai.core.booking.application.port.out.ReservationEventPort;
 import personal.ai.core.booking.domain.model.Reservation;
 
+import java.util.List;
+
 /**
  * Reservation Event Adapter
  * Outbox 패턴을 사용한 예약 이벤트 발행 구현체
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ReservationEventAdapter implements ReservationEventPort {
 
     private final JpaOutboxEventRepository jpaOutboxEventRepository;
     private final OutboxEventFactory outboxEventFactory;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public ReservationEventAdapter(
+            JpaOutboxEventRepository jpaOutboxEventRepository,
+            OutboxEventFactory outboxEventFactory,
+            @Qualifier("reservationOutboxDispatcher") OutboxDispatcher outboxDispatcher) {
+        this.jpaOutboxEventRepository = jpaOutboxEventRepository;
+        this.outboxEventFactory = outboxEventFactory;
+        this.outboxDispatcher = outboxDispatcher;
+    }
 
     /**
      * 예약 상태 변경 이벤트 발행 (Outbox 패턴)
@@ -31,19 +43,16 @@ public class ReservationEventAdapter implements ReservationEventPort {
      * - Outbox 이벤트는 반드시 비즈니스 로직과 같은 트랜잭션에서 저장되어야 함
      * - 호출자가 트랜잭션을 시작하지 않으면 즉시 예외 발생 (Fail-Fast)
      * - 데이터 정합성 보장을 아키텍처 레벨에서 강제
+     * 커밋 직후 바로 발행되며, 실패 시 스케줄러가 재발행
      */
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
     public void publishReservationEvent(Reservation reservation) {
         try {
-            OutboxEventEntity outboxEvent = switch (reservation.status()) {
-                case PENDING -> outboxEventFactory.createReservationCreatedEvent(reservation);
-                case CONFIRMED -> outboxEventFactory.createReservationConfirmedEvent(reservation);
-                case CANCELLED -> outboxEventFactory.createReservationCancelledEvent(reservation);
-                case EXPIRED -> outboxEventFactory.createReservationExpiredEvent(reservation);
-            };
+            OutboxEventEntity outboxEvent = toOutboxEvent(reservation);
 
             jpaOutboxEventRepository.save(outboxEvent);
+            outboxDispatcher.dispatchAfterCommit(outboxEvent.toOutboxMessage());
             log.debug("Reservation event published: reservationId={}, status={}",
                     reservation.id(), reservation.status());
 
@@ -52,4 +61,59 @@ public class ReservationEventAdapter implements ReservationEventPort {
             throw OutboxEventException.saveFailed(reservation.id(), e);
         }
     }
+
+    /**
+     * 다중 좌석 예약 생성 이벤트 발행 (Outbox 패턴, 단일 이벤트)
+     * 예약 저장과 같은 트랜잭션에서 저장되어야 하므로 MANDATORY
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishReservationGroupCreatedEvent(List<Reservation> reservations) {
+        Long aggregateId = reservations.getFirst().id();
+        try {
+            OutboxEventEntity outboxEvent = outboxEventFactory.createReservationGroupCreatedEvent(reservations);
+
+            jpaOutboxEventRepository.save(outboxEvent);
+            outboxDispatcher.dispatchAfterCommit(outboxEvent.toOutboxMessage());
+            log.debug("Reservation group event published: reservationIds={}",
+                    reservations.stream().map(Reservation::id).toList());
+
+        } catch (Exception e) {
+            log.error("Failed to publish reservation group event: reservationId={}", aggregateId, e);
+            throw OutboxEventException.saveFailed(aggregateId, e);
+        }
+    }
+
+    /**
+     * 예약 상태 변경 이벤트 일괄 발행 (Outbox 패턴, 예약 건별 이벤트)
+     * 일괄 만료 등 여러 예약의 상태를 한 트랜잭션에서 바꿀 때 사용하며, 저장은 JDBC Batch로 전송
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishReservationEvents(List<Reservation> reservations) {
+        Long aggregateId = reservations.getFirst().id();
+        try {
+            List<OutboxEventEntity> outboxEvents = reservations.stream()
+                    .map(this::toOutboxEvent)
+                    .toList();
+
+            jpaOutboxEventRepository.saveAll(outboxEvents);
+            outboxEvents.forEach(outboxEvent ->
+                    outboxDispatcher.dispatchAfterCommit(outboxEvent.toOutboxMessage()));
+            log.debug("Reservation events published: count={}", outboxEvents.size());
+
+        } catch (Exception e) {
+            log.error("Failed to publish reservation events: reservationId={}", aggregateId, e);
+            throw OutboxEventException.saveFailed(aggregateId, e);
+        }
+    }
+
+    private OutboxEventEntity toOutboxEvent(Reservation reservation) {
+        return switch (reservation.status()) {
+            case PENDING -> outboxEventFactory.createReservationCreatedEvent(reservation);
+            case CONFIRMED -> outboxEventFactory.createReservationConfirmedEvent(reservation);
+            case CANCELLED -> outboxEventFactory.createReservationCancelledEvent(reservation);
+            case EXPIRED -> outboxEventFactory.createReservationExpiredEvent(reservation);
+        };
+    }
 }
@@ -0,0 +1,36 @@
+package personal.ai.core.booking.adapter.out.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.ai.common.outbox.OutboxDispatcher;
+import personal.ai.core.booking.application.port.out.OutboxEventRepository;
+import personal.ai.core.booking.application.port.out.ReservationEventPublisher;
+import personal.ai.core.booking.domain.service.OutboxEventService;
+
+import java.time.Duration;
+
+/**
+ * Reservation Outbox Dispatcher Configuration
+ * 예약 이벤트를 커밋 직후 바로 발행하는 Dispatcher (ReservationEventAdapter에서 사용)
+ * 놓친 이벤트는 OutboxEventService의 Relay가 안전망으로 발행
+ */
+@Configuration
+public class ReservationOutboxDispatcherConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public OutboxDispatcher reservationOutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            ReservationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${outbox.dispatch.mark-interval-ms:50}") long markIntervalMs) {
+        return new OutboxDispatcher(
+                "reservation",
+                outboxEventRepository,
+                eventPublisher::publishRawAsync,
+                OutboxEventService::topicOf,
+                transactionTemplate,
+                Duration.ofMillis(markIntervalMs));
+    }
+}
@@ -8,6 +8,8 @@ import personal.ai.common.exception.KafkaPublishException;
 import personal.ai.core.booking.application.port.out.ReservationEventPublisher;
 import personal.ai.core.booking.domain.model.Reservation;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Reservation Kafka Publisher (Adapter Layer)
  * Kafka를 통한 예약 이벤트 발행 구현체
@@ -36,6 +38,19 @@ public class ReservationKafkaPublisher implements ReservationEventPublisher {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> publishRawAsync(String topic, String key, String payload) {
+        log.debug("Publishing raw event (async): topic={}, key={}", topic, key);
+        return kafkaTemplate.send(topic, key, payload)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        throw KafkaPublishException.publishFailed(topic, e);
+                    }
+                    log.debug("Raw event published: topic={}, key={}", topic, key);
+                    return null;
+                });
+    }
+
     // 아래 메서드들은 Outbox Pattern 도입으로 인해 직접 호출되지 않을 수 있으나,
     // 인터페이스 규약을 위해 구현하거나, 필요 시 직접 발행 용도로 유지
     @Override
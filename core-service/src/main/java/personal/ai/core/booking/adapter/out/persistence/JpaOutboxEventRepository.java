@@ -1,6 +1,9 @@
 package personal.ai.core.booking.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,18 +19,52 @@ public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntit
     List<OutboxEventEntity> findByAggregateTypeAndAggregateId(String aggregateType, Long aggregateId);
 
     /**
-     * 발행 대기 중인 이벤트 조회 (재시도 횟수 제한)
+     * 발행 대기 중인 이벤트 선점 (생성 순서, 최대 limit건)
+     * 다른 인스턴스가 잠근 행은 건너뜀 (SKIP LOCKED, MySQL 8.0+)
+     * 같은 aggregate_id에 더 오래된 PENDING 이벤트가 있으면 선점하지 않음 (키별 발행 순서 보장)
+     * - 앞선 이벤트를 다른 인스턴스가 선점 중이어도 PENDING으로 보이므로 뒤 이벤트가 먼저 발행되지 않음
+     * - 잠금은 바깥 행에만 걸고(FOR UPDATE OF o) 하위 조회는 잠금 없는 읽기로 수행
      */
-    List<OutboxEventEntity> findByStatusAndRetryCountLessThanOrderByCreatedAtAsc(
-            OutboxEventEntity.OutboxEventStatus status,
-            int maxRetryCount
-    );
+    @Query(value = "SELECT o.* FROM outbox_events o WHERE o.status = 'PENDING' AND o.created_at <= :createdBefore " +
+            "AND NOT EXISTS (SELECT 1 FROM outbox_events p WHERE p.aggregate_id = o.aggregate_id " +
+            "AND p.status = 'PENDING' AND (p.created_at < o.created_at OR (p.created_at = o.created_at AND p.id < o.id))) " +
+            "ORDER BY o.created_at, o.id LIMIT :limit FOR UPDATE OF o SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> claimPending(@Param("limit") int limit, @Param("createdBefore") LocalDateTime createdBefore);
 
     /**
-     * 오래된 발행 완료 이벤트 삭제용 조회
+     * 발행 완료 일괄 처리 (릴레이/커밋 직후 발행 중 먼저 반영한 쪽만 적용)
      */
-    List<OutboxEventEntity> findByStatusAndPublishedAtBefore(
-            OutboxEventEntity.OutboxEventStatus status,
-            LocalDateTime publishedBefore
-    );
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET status = 'PUBLISHED', published_at = :publishedAt " +
+            "WHERE id IN (:ids) AND status = 'PENDING'", nativeQuery = true)
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 일괄 처리 (재시도 횟수 증가, 최대 횟수 도달 시 FAILED)
+     * MySQL은 SET 절을 왼쪽부터 평가하므로 status를 먼저 계산 (증가 전 retry_count 기준)
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events " +
+            "SET status = CASE WHEN retry_count + 1 >= :maxRetryCount THEN 'FAILED' ELSE status END, " +
+            "retry_count = retry_count + 1 " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int markFailed(@Param("ids") List<Long> ids, @Param("maxRetryCount") int maxRetryCount);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 조회 ((published_at, id) Keyset 순서, (status, published_at) 인덱스 사용)
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE status = 'PUBLISHED' AND published_at < :publishedBefore " +
+            "AND (published_at > :afterPublishedAt OR (published_at = :afterPublishedAt AND id > :afterId)) " +
+            "ORDER BY published_at, id LIMIT :limit", nativeQuery = true)
+    List<OutboxEventEntity> findPublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore,
+                                                @Param("afterPublishedAt") LocalDateTime afterPublishedAt,
+                                                @Param("afterId") long afterId,
+                                                @Param("limit") int limit);
+
+    /**
+     * 발행 완료 이벤트 일괄 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE id IN (:ids) AND status = 'PUBLISHED'", nativeQuery = true)
+    int deletePublished(@Param("ids") List<Long> ids);
 }
@@ -1,9 +1,34 @@
 package personal.ai.core.booking.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Spring Data JPA Repository for Reservation
  */
 public interface JpaReservationRepository extends JpaRepository<ReservationEntity, Long> {
+
+    /**
+     * 만료 시각이 지난 PENDING 예약 선점 (만료 시각 순서, 최대 limit건)
+     * (status, expires_at) 인덱스를 범위 조회하며, 다른 인스턴스가 잠근 행은 건너뜀 (SKIP LOCKED, MySQL 8.0+)
+     */
+    @Query(value = "SELECT * FROM reservations WHERE status = 'PENDING' AND expires_at <= :now " +
+            "ORDER BY expires_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ReservationEntity> claimExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 조건부 예약 상태 일괄 변경 (현재 상태가 expected인 예약만)
+     */
+    @Modifying
+    @Query("UPDATE ReservationEntity r SET r.status = :status " +
+            "WHERE r.id IN :ids AND r.status = :expected")
+    int updateStatusIfMatchesIn(@Param("ids") List<Long> ids,
+                                @Param("expected") ReservationStatus expected,
+                                @Param("status") ReservationStatus status);
 }
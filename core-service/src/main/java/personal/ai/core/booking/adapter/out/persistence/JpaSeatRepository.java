@@ -1,6 +1,7 @@
 package personal.ai.core.booking.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import personal.ai.core.booking.domain.model.SeatStatus;
@@ -20,6 +21,51 @@ public interface JpaSeatRepository extends JpaRepository<SeatEntity, Long> {
     List<SeatEntity> findByScheduleIdAndStatus(@Param("scheduleId") Long scheduleId,
                                                 @Param("status") SeatStatus status);
 
+    /**
+     * 특정 일정의 전체 좌석 목록 조회 (좌석 ID 오름차순)
+     */
+    @Query("SELECT s FROM SeatEntity s WHERE s.scheduleId = :scheduleId ORDER BY s.id ASC")
+    List<SeatEntity> findByScheduleIdOrderByIdAsc(@Param("scheduleId") Long scheduleId);
+
+    /**
+     * 좌석 ID 목록으로 일괄 조회 (좌석 ID 오름차순)
+     */
+    @Query("SELECT s FROM SeatEntity s WHERE s.id IN :ids ORDER BY s.id ASC")
+    List<SeatEntity> findByIdInOrderByIdAsc(@Param("ids") List<Long> ids);
+
+    /**
+     * 조건부 좌석 상태 변경 (현재 상태가 expected인 경우에만)
+     * 조회 없이 UPDATE 한 번으로 선점하며, 영향받은 행 수(0 또는 1)로 성공 여부 판단
+     */
+    @Modifying
+    @Query("UPDATE SeatEntity s SET s.status = :status " +
+            "WHERE s.id = :id AND s.scheduleId = :scheduleId AND s.status = :expected")
+    int updateStatusIfMatches(@Param("id") Long id,
+                              @Param("scheduleId") Long scheduleId,
+                              @Param("expected") SeatStatus expected,
+                              @Param("status") SeatStatus status);
+
+    /**
+     * 조건부 좌석 상태 일괄 변경 (현재 상태가 expected인 좌석만)
+     */
+    @Modifying
+    @Query("UPDATE SeatEntity s SET s.status = :status " +
+            "WHERE s.id IN :ids AND s.scheduleId = :scheduleId AND s.status = :expected")
+    int updateStatusIfMatchesIn(@Param("ids") List<Long> ids,
+                                @Param("scheduleId") Long scheduleId,
+                                @Param("expected") SeatStatus expected,
+                                @Param("status") SeatStatus status);
+
+    /**
+     * 조건부 좌석 상태 일괄 변경 (일정 무관, 현재 상태가 expected인 좌석만)
+     */
+    @Modifying
+    @Query("UPDATE SeatEntity s SET s.status = :status " +
+            "WHERE s.id IN :ids AND s.status = :expected")
+    int updateStatusIfMatchesInAnySchedule(@Param("ids") List<Long> ids,
+                                           @Param("expected") SeatStatus expected,
+                                           @Param("status") SeatStatus status);
+
     /**
      * 특정 일정의 특정 좌석 번호 조회
      */
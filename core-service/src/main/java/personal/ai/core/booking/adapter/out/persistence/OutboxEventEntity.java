@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import personal.ai.common.outbox.OutboxMessage;
+import personal.ai.common.outbox.PublishedOutboxEvent;
+import personal.ai.core.adapter.out.persistence.id.TsidGenerated;
 import personal.ai.core.booking.domain.model.OutboxEvent;
 
 import java.time.LocalDateTime;
@@ -14,14 +17,16 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "outbox_events", indexes = {
-        @Index(name = "idx_status_created", columnList = "status, created_at")
+        @Index(name = "idx_status_created", columnList = "status, created_at"),
+        @Index(name = "idx_status_published", columnList = "status, published_at"),
+        @Index(name = "idx_aggregate_status", columnList = "aggregate_id, status, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OutboxEventEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(name = "aggregate_type", nullable = false, length = 50)
@@ -107,6 +112,20 @@ public class OutboxEventEntity {
                 publishedAt);
     }
 
+    /**
+     * Outbox 발행 메시지로 변환 (Key: Aggregate ID, 같은 Aggregate의 순서 보장)
+     */
+    public OutboxMessage toOutboxMessage() {
+        return new OutboxMessage(id, eventType, String.valueOf(aggregateId), payload);
+    }
+
+    /**
+     * 보관 기간 만료 삭제/아카이브용 레코드로 변환
+     */
+    public PublishedOutboxEvent toPublishedOutboxEvent() {
+        return new PublishedOutboxEvent(id, aggregateType, aggregateId, eventType, payload, createdAt, publishedAt);
+    }
+
     public enum OutboxEventStatus {
         PENDING,
         PUBLISHED,
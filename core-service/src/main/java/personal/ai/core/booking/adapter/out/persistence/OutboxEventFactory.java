@@ -8,6 +8,8 @@ import personal.ai.common.exception.BusinessException;
 import personal.ai.common.exception.ErrorCode;
 import personal.ai.core.booking.domain.model.Reservation;
 
+import java.util.List;
+
 /**
  * Outbox Event Factory (Adapter Layer)
  * Reservation을 OutboxEventEntity로 변환하는 팩토리
@@ -48,17 +50,38 @@ public class OutboxEventFactory {
         return createEvent(reservation, "RESERVATION_EXPIRED");
     }
 
+    /**
+     * 다중 좌석 예약 목록을 하나의 OutboxEventEntity로 변환 (Group Created)
+     * Aggregate ID는 첫 번째 예약 ID (Kafka 파티션 키)
+     */
+    public OutboxEventEntity createReservationGroupCreatedEvent(List<Reservation> reservations) {
+        Reservation first = reservations.getFirst();
+        try {
+            ReservationGroupCreatedEvent event = new ReservationGroupCreatedEvent(
+                    first.userId(),
+                    first.scheduleId(),
+                    reservations.stream()
+                            .map(OutboxEventFactory::toEventDto)
+                            .toList());
+
+            String payload = objectMapper.writeValueAsString(event);
+
+            return OutboxEventEntity.create(
+                    "RESERVATION",
+                    first.id(),
+                    "RESERVATION_GROUP_CREATED",
+                    payload);
+        } catch (Exception e) {
+            log.error("Failed to create outbox event: reservationId={}, eventType={}",
+                    first.id(), "RESERVATION_GROUP_CREATED", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to create outbox event");
+        }
+    }
+
     private OutboxEventEntity createEvent(Reservation reservation, String eventType) {
         try {
             // DTO 생성 (Domain Model만 사용)
-            ReservationCreatedEvent event = new ReservationCreatedEvent(
-                    reservation.id(),
-                    reservation.userId(),
-                    reservation.seatId(),
-                    reservation.scheduleId(),
-                    reservation.status().name(),
-                    reservation.expiresAt().toString(),
-                    reservation.createdAt().toString());
+            ReservationCreatedEvent event = toEventDto(reservation);
 
             String payload = objectMapper.writeValueAsString(event);
 
@@ -73,6 +96,17 @@ public class OutboxEventFactory {
         }
     }
 
+    private static ReservationCreatedEvent toEventDto(Reservation reservation) {
+        return new ReservationCreatedEvent(
+                reservation.id(),
+                reservation.userId(),
+                reservation.seatId(),
+                reservation.scheduleId(),
+                reservation.status().name(),
+                reservation.expiresAt().toString(),
+                reservation.createdAt().toString());
+    }
+
     /**
      * Kafka 이벤트 DTO
      */
@@ -85,4 +119,13 @@ public class OutboxEventFactory {
             String expiresAt,
             String createdAt) {
     }
+
+    /**
+     * Kafka 이벤트 DTO (다중 좌석 예약)
+     */
+    public record ReservationGroupCreatedEvent(
+            Long userId,
+            Long scheduleId,
+            List<ReservationCreatedEvent> reservations) {
+    }
 }
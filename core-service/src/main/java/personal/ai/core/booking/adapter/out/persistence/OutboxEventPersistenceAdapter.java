@@ -2,9 +2,12 @@ package personal.ai.core.booking.adapter.out.persistence;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import personal.ai.common.outbox.OutboxMessage;
+import personal.ai.common.outbox.PublishedOutboxEvent;
 import personal.ai.core.booking.application.port.out.OutboxEventRepository;
 import personal.ai.core.booking.domain.model.OutboxEvent;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,8 +18,6 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OutboxEventPersistenceAdapter implements OutboxEventRepository {
 
-    private static final int MAX_RETRY_COUNT = 3;
-
     private final JpaOutboxEventRepository jpaOutboxEventRepository;
 
     @Override
@@ -27,12 +28,37 @@ public class OutboxEventPersistenceAdapter implements OutboxEventRepository {
     }
 
     @Override
-    public List<OutboxEvent> findPendingEvents() {
-        return jpaOutboxEventRepository.findByStatusAndRetryCountLessThanOrderByCreatedAtAsc(
-                OutboxEventEntity.OutboxEventStatus.PENDING,
-                MAX_RETRY_COUNT)
+    public List<OutboxMessage> claimPending(int limit, LocalDateTime createdBefore) {
+        // Key: Aggregate ID (reservationId) to ensure ordering
+        return jpaOutboxEventRepository.claimPending(limit, createdBefore)
+                .stream()
+                .map(OutboxEventEntity::toOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public int markPublished(List<Long> ids) {
+        return jpaOutboxEventRepository.markPublished(ids, LocalDateTime.now());
+    }
+
+    @Override
+    public int markFailed(List<Long> ids, int maxRetryCount) {
+        return jpaOutboxEventRepository.markFailed(ids, maxRetryCount);
+    }
+
+    @Override
+    public List<PublishedOutboxEvent> findPublishedBefore(LocalDateTime publishedBefore,
+                                                          LocalDateTime afterPublishedAt,
+                                                          long afterId,
+                                                          int limit) {
+        return jpaOutboxEventRepository.findPublishedBefore(publishedBefore, afterPublishedAt, afterId, limit)
                 .stream()
-                .map(OutboxEventEntity::toDomain)
-                .collect(java.util.stream.Collectors.toList());
+                .map(OutboxEventEntity::toPublishedOutboxEvent)
+                .toList();
+    }
+
+    @Override
+    public int deletePublished(List<Long> ids) {
+        return jpaOutboxEventRepository.deletePublished(ids);
     }
 }
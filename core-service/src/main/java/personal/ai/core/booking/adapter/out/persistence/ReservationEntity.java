@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import personal.ai.core.adapter.out.persistence.id.TsidGenerated;
 import personal.ai.core.booking.domain.model.Reservation;
 import personal.ai.core.booking.domain.model.ReservationStatus;
 
@@ -18,13 +19,14 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_schedule_seat",
                 columnNames = {"schedule_id", "seat_id"}
-        ))
+        ),
+        indexes = @Index(name = "idx_reservation_status_expires", columnList = "status, expires_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReservationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(name = "user_id", nullable = false)
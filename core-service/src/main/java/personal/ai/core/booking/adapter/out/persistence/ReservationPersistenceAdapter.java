@@ -6,7 +6,10 @@ import org.springframework.stereotype.Component;
 import personal.ai.core.booking.application.port.out.ReservationEventPort;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,10 +39,49 @@ public class ReservationPersistenceAdapter implements ReservationRepository {
         return savedReservation;
     }
 
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        log.debug("Saving reservations: count={}", reservations.size());
+
+        var entities = reservations.stream()
+                .map(ReservationEntity::fromDomain)
+                .toList();
+        var savedReservations = jpaReservationRepository.saveAll(entities)
+                .stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+
+        // 예약 건수와 무관하게 Outbox 이벤트는 하나만 기록 (Port 위임)
+        reservationEventPort.publishReservationGroupCreatedEvent(savedReservations);
+
+        return savedReservations;
+    }
+
     @Override
     public Optional<Reservation> findById(Long reservationId) {
         log.debug("Finding reservation: reservationId={}", reservationId);
         return jpaReservationRepository.findById(reservationId)
                 .map(ReservationEntity::toDomain);
     }
+
+    @Override
+    public List<Reservation> claimExpired(LocalDateTime now, int limit) {
+        return jpaReservationRepository.claimExpired(now, limit)
+                .stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int expireAll(List<Reservation> reservations) {
+        List<Long> ids = reservations.stream().map(Reservation::id).toList();
+        int updated = jpaReservationRepository.updateStatusIfMatchesIn(
+                ids, ReservationStatus.PENDING, ReservationStatus.EXPIRED);
+        log.debug("Expiring reservations: count={}, expired={}", ids.size(), updated);
+
+        // Outbox 이벤트 일괄 기록 (Port 위임)
+        reservationEventPort.publishReservationEvents(reservations);
+
+        return updated;
+    }
 }
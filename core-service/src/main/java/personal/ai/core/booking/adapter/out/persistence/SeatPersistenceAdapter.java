@@ -28,6 +28,15 @@ public class SeatPersistenceAdapter implements SeatRepository {
                 .map(SeatEntity::toDomain);
     }
 
+    @Override
+    public List<Seat> findAllByIds(List<Long> seatIds) {
+        log.debug("Finding seats by ids: {}", seatIds);
+        return jpaSeatRepository.findByIdInOrderByIdAsc(seatIds)
+                .stream()
+                .map(SeatEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Seat> findAvailableByScheduleId(Long scheduleId) {
         log.debug("Finding available seats for schedule: {}", scheduleId);
@@ -37,6 +46,39 @@ public class SeatPersistenceAdapter implements SeatRepository {
                 .toList();
     }
 
+    @Override
+    public List<Seat> findAllByScheduleId(Long scheduleId) {
+        log.debug("Finding all seats for schedule: {}", scheduleId);
+        return jpaSeatRepository.findByScheduleIdOrderByIdAsc(scheduleId)
+                .stream()
+                .map(SeatEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public boolean claimAvailable(Long scheduleId, Long seatId) {
+        int updated = jpaSeatRepository.updateStatusIfMatches(
+                seatId, scheduleId, SeatStatus.AVAILABLE, SeatStatus.RESERVED);
+        log.debug("Claiming seat: seatId={}, scheduleId={}, claimed={}", seatId, scheduleId, updated == 1);
+        return updated == 1;
+    }
+
+    @Override
+    public int claimAllAvailable(Long scheduleId, List<Long> seatIds) {
+        int updated = jpaSeatRepository.updateStatusIfMatchesIn(
+                seatIds, scheduleId, SeatStatus.AVAILABLE, SeatStatus.RESERVED);
+        log.debug("Claiming seats: seatIds={}, scheduleId={}, claimed={}", seatIds, scheduleId, updated);
+        return updated;
+    }
+
+    @Override
+    public int releaseAllReserved(List<Long> seatIds) {
+        int updated = jpaSeatRepository.updateStatusIfMatchesInAnySchedule(
+                seatIds, SeatStatus.RESERVED, SeatStatus.AVAILABLE);
+        log.debug("Releasing seats: count={}, released={}", seatIds.size(), updated);
+        return updated;
+    }
+
     @Override
     public Seat save(Seat seat) {
         log.debug("Saving seat: seatId={}, status={}", seat.id(), seat.status());
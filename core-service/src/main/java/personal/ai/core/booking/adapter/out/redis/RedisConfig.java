@@ -1,42 +1,48 @@
 package personal.ai.core.booking.adapter.out.redis;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.listener.PatternTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * Redis Configuration
- * Redis Keyspace Notification 설정
+ * 좌석 락 / 좌석 상태 인덱스 Lua Script 설정
+ * (좌석 상태 변경 구독은 adapter.in.redis.RedisSeatDeltaListener)
  */
 @Configuration
-@RequiredArgsConstructor
 public class RedisConfig {
 
-    private final RedisExpirationListener redisExpirationListener;
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> releaseLockScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/release_lock.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
 
-    /**
-     * Redis Message Listener Container 설정
-     * Keyspace Notification에서 expired 이벤트를 구독
-     */
     @Bean
-    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
-        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(connectionFactory);
+    public org.springframework.data.redis.core.script.RedisScript<Long> acquireLocksScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/acquire_locks.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
 
-        // __keyevent@*__:expired 패턴 구독 (모든 DB의 expired 이벤트)
-        // 특정 DB만 구독하려면: __keyevent@0__:expired
-        container.addMessageListener(redisExpirationListener, new PatternTopic("__keyevent@*__:expired"));
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> releaseLocksScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/release_locks.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
 
-        return container;
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> seatStatusUpdateScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/seat_status_update.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
 
     @Bean
-    public org.springframework.data.redis.core.script.RedisScript<Long> releaseLockScript() {
+    public org.springframework.data.redis.core.script.RedisScript<Long> seatStatusRebuildScript() {
         org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
-                "scripts/release_lock.lua");
+                "scripts/seat_status_rebuild.lua");
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
 }
@@ -0,0 +1,32 @@
+package personal.ai.core.booking.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.SeatDeltaPublisher;
+import personal.ai.core.booking.domain.model.SeatDelta;
+
+/**
+ * Redis Seat Delta Publisher
+ * 좌석 상태 변경을 seat:delta:{scheduleId} 채널로 발행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSeatDeltaPublisher implements SeatDeltaPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void publish(SeatDelta delta) {
+        try {
+            redisTemplate.convertAndSend(SeatDelta.CHANNEL_PREFIX + delta.scheduleId(), delta.toMessage());
+            log.debug("Seat delta published: scheduleId={}, seatId={}, status={}, version={}",
+                    delta.scheduleId(), delta.seatId(), delta.status(), delta.version());
+        } catch (Exception e) {
+            log.error("Failed to publish seat delta: scheduleId={}, seatId={}",
+                    delta.scheduleId(), delta.seatId(), e);
+        }
+    }
+}
@@ -9,6 +9,8 @@ import personal.ai.core.booking.application.port.out.SeatLockRepository;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Redis Seat Lock Adapter
@@ -23,6 +25,8 @@ public class RedisSeatLockAdapter implements SeatLockRepository {
     private static final String SEAT_LOCK_PREFIX = "seat:lock:";
     private final StringRedisTemplate redisTemplate;
     private final RedisScript<Long> releaseLockScript;
+    private final RedisScript<Long> acquireLocksScript;
+    private final RedisScript<Long> releaseLocksScript;
 
     @Override
     public boolean tryLock(Long seatId, Long userId, int ttlSeconds) {
@@ -40,6 +44,30 @@ public class RedisSeatLockAdapter implements SeatLockRepository {
         return locked;
     }
 
+    @Override
+    public Optional<Long> tryLockAll(List<Long> seatIds, Long userId, int ttlSeconds) {
+        // EXISTS 검사 + SET EX를 한 번의 스크립트로 수행 (부분 선점 없음)
+        Long result = redisTemplate.execute(
+                acquireLocksScript,
+                toKeys(seatIds),
+                String.valueOf(userId),
+                String.valueOf(ttlSeconds)
+        );
+
+        if (result == null || result < 0 || result > seatIds.size()) {
+            throw new IllegalStateException("Unexpected seat lock script result: " + result);
+        }
+
+        // 0: 전체 선점 성공, N: N번째 좌석이 이미 선점됨
+        Optional<Long> conflict = result == 0L
+                ? Optional.empty()
+                : Optional.of(seatIds.get(result.intValue() - 1));
+
+        log.debug("Seat lock attempt (all): seatIds={}, userId={}, conflict={}", seatIds, userId, conflict);
+
+        return conflict;
+    }
+
     @Override
     public void unlock(Long seatId, Long userId) {
         String key = SEAT_LOCK_PREFIX + seatId;
@@ -66,6 +94,27 @@ public class RedisSeatLockAdapter implements SeatLockRepository {
         }
     }
 
+    @Override
+    public void unlockAll(List<Long> seatIds, Long userId) {
+        try {
+            Long released = redisTemplate.execute(
+                    releaseLocksScript,
+                    toKeys(seatIds),
+                    String.valueOf(userId)
+            );
+
+            if (released != null && released == seatIds.size()) {
+                log.debug("Seat locks released: seatIds={}, userId={}", seatIds, userId);
+            } else {
+                log.warn("Some seat locks were not released (not owned or already released): seatIds={}, userId={}, released={}",
+                        seatIds, userId, released);
+            }
+
+        } catch (Exception e) {
+            log.error("Error releasing seat locks: seatIds={}, userId={}", seatIds, userId, e);
+        }
+    }
+
     @Override
     public boolean isLocked(Long seatId) {
         String key = SEAT_LOCK_PREFIX + seatId;
@@ -73,4 +122,10 @@ public class RedisSeatLockAdapter implements SeatLockRepository {
 
         return Boolean.TRUE.equals(exists);
     }
+
+    private List<String> toKeys(List<Long> seatIds) {
+        return seatIds.stream()
+                .map(seatId -> SEAT_LOCK_PREFIX + seatId)
+                .toList();
+    }
 }
@@ -0,0 +1,133 @@
+package personal.ai.core.booking.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.SeatStatusIndexRepository;
+import personal.ai.core.booking.domain.model.SeatStatusSnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis Seat Status Index Adapter
+ * 일정별 좌석 상태를 Redis Bitmap(seat:status:{scheduleId})으로 관리하는 구현체
+ * 좌석 상태 버전(seat:version:{scheduleId})은 TTL 없이 유지하여 비트맵이 재구성되어도 감소하지 않음
+ *
+ * 인덱스는 조회 최적화 용도이므로 Redis 장애 시 예외를 전파하지 않고
+ * empty/무시로 처리하여 호출자가 DB 조회로 대체하도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSeatStatusIndexAdapter implements SeatStatusIndexRepository {
+
+    private static final String SEAT_STATUS_PREFIX = "seat:status:";
+    private static final String SEAT_VERSION_PREFIX = "seat:version:";
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<Long> seatStatusUpdateScript;
+    private final RedisScript<Long> seatStatusRebuildScript;
+
+    @Value("${booking.seat-index.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    @Override
+    public Optional<SeatStatusSnapshot> findSnapshot(Long scheduleId) {
+        byte[] key = keyOf(scheduleId);
+        byte[] versionKey = versionKeyOf(scheduleId);
+        try {
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(key, versionKey));
+            if (values == null || values.get(0) == null) {
+                return Optional.empty();
+            }
+
+            byte[] version = values.get(1);
+            return Optional.of(new SeatStatusSnapshot(values.get(0),
+                    version == null ? 0L : Long.parseLong(new String(version, StandardCharsets.UTF_8))));
+        } catch (Exception e) {
+            log.error("Error reading seat status index: scheduleId={}", scheduleId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long currentVersion(Long scheduleId) {
+        try {
+            String version = redisTemplate.opsForValue().get(SEAT_VERSION_PREFIX + scheduleId);
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (Exception e) {
+            log.error("Error reading seat status version: scheduleId={}", scheduleId, e);
+            return -1L;
+        }
+    }
+
+    @Override
+    public boolean saveBitmapIfUnchanged(Long scheduleId, byte[] bitmap, long expectedVersion) {
+        if (expectedVersion < 0) {
+            return false;
+        }
+        byte[] script = seatStatusRebuildScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        try {
+            // 비트맵은 바이너리이므로 문자열 직렬화 없이 바이트 그대로 전달
+            Long result = redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                            keyOf(scheduleId), versionKeyOf(scheduleId), bitmap,
+                            String.valueOf(expectedVersion).getBytes(StandardCharsets.UTF_8),
+                            String.valueOf(ttlSeconds).getBytes(StandardCharsets.UTF_8)));
+            boolean saved = result != null && result == 1L;
+            log.debug("Seat status index rebuilt: scheduleId={}, bytes={}, expectedVersion={}, saved={}",
+                    scheduleId, bitmap.length, expectedVersion, saved);
+            return saved;
+        } catch (Exception e) {
+            log.error("Error saving seat status index: scheduleId={}", scheduleId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public long updateIfPresent(Long scheduleId, int offset, boolean available) {
+        List<String> keys = List.of(SEAT_STATUS_PREFIX + scheduleId, SEAT_VERSION_PREFIX + scheduleId);
+        try {
+            Long result = redisTemplate.execute(
+                    seatStatusUpdateScript,
+                    keys,
+                    String.valueOf(offset),
+                    available ? "1" : "0"
+            );
+            long version = result == null ? 0L : result;
+            log.debug("Seat status index updated: scheduleId={}, offset={}, available={}, version={}",
+                    scheduleId, offset, available, version);
+            return version;
+        } catch (Exception e) {
+            // 갱신 누락 시 비트맵이 DB와 어긋나므로 삭제하여 다음 조회에서 재구성
+            log.error("Error updating seat status index: scheduleId={}, offset={}", scheduleId, offset, e);
+            evict(scheduleId);
+            return 0L;
+        }
+    }
+
+    @Override
+    public void evict(Long scheduleId) {
+        try {
+            redisTemplate.delete(SEAT_STATUS_PREFIX + scheduleId);
+            log.debug("Seat status index evicted: scheduleId={}", scheduleId);
+        } catch (Exception e) {
+            log.error("Error evicting seat status index: scheduleId={}", scheduleId, e);
+        }
+    }
+
+    private byte[] keyOf(Long scheduleId) {
+        return (SEAT_STATUS_PREFIX + scheduleId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] versionKeyOf(Long scheduleId) {
+        return (SEAT_VERSION_PREFIX + scheduleId).getBytes(StandardCharsets.UTF_8);
+    }
+}
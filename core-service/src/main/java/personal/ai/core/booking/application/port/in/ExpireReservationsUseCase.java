@@ -0,0 +1,16 @@
+package personal.ai.core.booking.application.port.in;
+
+/**
+ * Expire Reservations UseCase (Input Port)
+ * 만료 시각이 지난 PENDING 예약을 만료 처리하고 좌석을 반환하는 유스케이스
+ */
+public interface ExpireReservationsUseCase {
+
+    /**
+     * 만료 대상 예약을 배치 단위로 만료 처리
+     * 스케줄러에 의해 주기적으로 호출됨
+     *
+     * @return 만료 처리된 예약 수
+     */
+    int expireDueReservations();
+}
@@ -0,0 +1,30 @@
+package personal.ai.core.booking.application.port.in;
+
+import personal.ai.core.booking.domain.model.SeatCatalog;
+import personal.ai.core.booking.domain.model.SeatMap;
+
+/**
+ * Get Seat Map UseCase (Input Port)
+ * 좌석 맵(카탈로그 + 좌석 상태 비트맵) 조회 유스케이스
+ */
+public interface GetSeatMapUseCase {
+
+    /**
+     * 특정 일정의 좌석 맵 조회 (좌석 상태 비트맵 + 버전)
+     *
+     * @param scheduleId 콘서트 일정 ID
+     * @param userId 사용자 ID
+     * @param queueToken 대기열 토큰
+     * @return 좌석 맵
+     */
+    SeatMap getSeatMap(Long scheduleId, Long userId, String queueToken);
+
+    /**
+     * 특정 일정의 좌석 카탈로그 조회 (좌석 번호, 등급, 가격)
+     * 예매 가능 여부를 포함하지 않는 정적 정보이므로 대기열 토큰 없이 조회
+     *
+     * @param scheduleId 콘서트 일정 ID
+     * @return 좌석 카탈로그
+     */
+    SeatCatalog getSeatCatalog(Long scheduleId);
+}
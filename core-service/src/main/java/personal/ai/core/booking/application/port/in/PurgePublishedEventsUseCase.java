@@ -0,0 +1,16 @@
+package personal.ai.core.booking.application.port.in;
+
+/**
+ * Purge Published Events UseCase (Input Port)
+ * 보관 기간이 지난 발행 완료(PUBLISHED) 이벤트를 Outbox 테이블에서 삭제하는 유스케이스
+ */
+public interface PurgePublishedEventsUseCase {
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 배치 단위로 삭제 (설정 시 삭제 전 아카이브)
+     * 스케줄러에 의해 주기적으로 호출됨
+     *
+     * @return 삭제된 이벤트 수
+     */
+    int purgePublishedEvents();
+}
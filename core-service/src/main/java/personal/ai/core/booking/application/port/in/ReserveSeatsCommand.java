@@ -0,0 +1,49 @@
+package personal.ai.core.booking.application.port.in;
+
+import personal.ai.common.exception.BusinessException;
+import personal.ai.common.exception.ErrorCode;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reserve Seats Command
+ * 다중 좌석 예약 커맨드 (단체 예매, 전부 성공 또는 전부 실패)
+ */
+public record ReserveSeatsCommand(
+        Long userId,
+        List<Long> seatIds,
+        Long scheduleId,
+        String queueToken
+) {
+    // 한 번에 예약 가능한 최대 좌석 수
+    public static final int MAX_SEATS_PER_REQUEST = 4;
+
+    public ReserveSeatsCommand {
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "User ID cannot be null");
+        }
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Seat IDs cannot be null or empty");
+        }
+        if (seatIds.size() > MAX_SEATS_PER_REQUEST) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    String.format("Cannot reserve more than %d seats at once", MAX_SEATS_PER_REQUEST));
+        }
+        if (seatIds.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Seat ID cannot be null");
+        }
+        if (new HashSet<>(seatIds).size() != seatIds.size()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Seat IDs must be distinct");
+        }
+        if (scheduleId == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Schedule ID cannot be null");
+        }
+        if (queueToken == null || queueToken.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Queue token cannot be null or blank");
+        }
+        // 락/DB 접근 순서를 고정하여 교착 상태 방지 (좌석 ID 오름차순)
+        seatIds = seatIds.stream().sorted().toList();
+    }
+}
@@ -0,0 +1,25 @@
+package personal.ai.core.booking.application.port.in;
+
+import personal.ai.core.booking.domain.model.Reservation;
+
+import java.util.List;
+
+/**
+ * Reserve Seats UseCase (Input Port)
+ * 다중 좌석 예약 유스케이스
+ */
+public interface ReserveSeatsUseCase {
+
+    /**
+     * 다중 좌석 예약 (All or Nothing)
+     * Redis Lua Script로 모든 좌석을 한 번에 선점한 뒤 하나의 트랜잭션에서 PENDING 상태로 저장
+     * 한 좌석이라도 선점/예약할 수 없으면 아무 좌석도 예약되지 않음
+     *
+     * @param command 예약 커맨드 (userId, seatIds, scheduleId, queueToken)
+     * @return 생성된 예약 목록 (좌석 ID 오름차순)
+     * @throws personal.ai.core.booking.domain.exception.SeatAlreadyReservedException Redis 선점 실패 시 (409 Conflict)
+     * @throws personal.ai.core.booking.domain.exception.SeatNotFoundException 좌석을 찾을 수 없을 때
+     * @throws personal.ai.core.booking.domain.exception.SeatNotAvailableException 좌석이 예약 불가능한 상태일 때
+     */
+    List<Reservation> reserveSeats(ReserveSeatsCommand command);
+}
@@ -1,24 +1,19 @@
 package personal.ai.core.booking.application.port.out;
 
+import personal.ai.common.outbox.OutboxRetentionStore;
+import personal.ai.common.outbox.OutboxStore;
 import personal.ai.core.booking.domain.model.OutboxEvent;
 
-import java.util.List;
-
 /**
  * Outbox Event Repository (Output Port)
  * Transactional Outbox Pattern을 위한 이벤트 저장소 인터페이스
+ * 발행 대기 이벤트 선점/상태 반영은 공통 Outbox Relay의 OutboxStore 규약을 따름
+ * 보관 기간이 지난 이벤트 삭제는 OutboxRetentionStore 규약을 따름
  */
-public interface OutboxEventRepository {
+public interface OutboxEventRepository extends OutboxStore, OutboxRetentionStore {
 
     /**
      * Outbox 이벤트 저장
      */
     OutboxEvent save(OutboxEvent outboxEvent);
-
-    /**
-     * 발행 대기 중인 이벤트 조회 (Locking 등 고려 가능)
-     * 
-     * @return PENDING 상태의 이벤트 목록
-     */
-    List<OutboxEvent> findPendingEvents();
 }
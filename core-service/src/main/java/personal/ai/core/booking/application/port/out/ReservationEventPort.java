@@ -2,6 +2,8 @@ package personal.ai.core.booking.application.port.out;
 
 import personal.ai.core.booking.domain.model.Reservation;
 
+import java.util.List;
+
 /**
  * Reservation Event Port
  * 예약 이벤트 발행 책임 (Outbox 패턴)
@@ -14,4 +16,18 @@ public interface ReservationEventPort {
      * @param reservation 예약
      */
     void publishReservationEvent(Reservation reservation);
+
+    /**
+     * 다중 좌석 예약 생성 이벤트 발행 (예약 목록 전체를 하나의 이벤트로)
+     *
+     * @param reservations 생성된 예약 목록
+     */
+    void publishReservationGroupCreatedEvent(List<Reservation> reservations);
+
+    /**
+     * 예약 상태 변경 이벤트 일괄 발행 (예약 건별 이벤트, 일괄 저장)
+     *
+     * @param reservations 상태가 변경된 예약 목록
+     */
+    void publishReservationEvents(List<Reservation> reservations);
 }
@@ -2,6 +2,8 @@ package personal.ai.core.booking.application.port.out;
 
 import personal.ai.core.booking.domain.model.Reservation;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Reservation Event Publisher (Output Port)
  * Kafka 이벤트 발행 인터페이스
@@ -49,4 +51,15 @@ public interface ReservationEventPublisher {
      * @param payload 메시지 본문 (JSON String)
      */
     void publishRaw(String topic, String key, String payload);
+
+    /**
+     * Raw Event 비동기 발행 (Outbox Relay용)
+     * 페이지 단위로 여러 이벤트를 동시에 전송하고 한 번에 대기
+     *
+     * @param topic   발행할 Kafka 토픽
+     * @param key     메시지 키 (순서 보장용, e.g. reservationId)
+     * @param payload 메시지 본문 (JSON String)
+     * @return 브로커 확인(ack) 시 완료되는 Future (실패 시 KafkaPublishException)
+     */
+    CompletableFuture<Void> publishRawAsync(String topic, String key, String payload);
 }
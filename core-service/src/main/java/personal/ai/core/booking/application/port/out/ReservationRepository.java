@@ -2,6 +2,8 @@ package personal.ai.core.booking.application.port.out;
 
 import personal.ai.core.booking.domain.model.Reservation;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,6 +20,15 @@ public interface ReservationRepository {
      */
     Reservation save(Reservation reservation);
 
+    /**
+     * 다중 좌석 예약 일괄 저장
+     * 예약 건별이 아닌 하나의 그룹 이벤트로 Outbox에 기록
+     *
+     * @param reservations 예약 목록 (동일 사용자, 동일 일정, PENDING 상태)
+     * @return 저장된 예약 목록 (ID 포함)
+     */
+    List<Reservation> saveAll(List<Reservation> reservations);
+
     /**
      * 예약 ID로 조회
      *
@@ -25,4 +36,23 @@ public interface ReservationRepository {
      * @return 예약 정보
      */
     Optional<Reservation> findById(Long reservationId);
+
+    /**
+     * 만료 시각이 지난 PENDING 예약 선점 (만료 시각 순서)
+     * 선점한 예약은 트랜잭션이 끝날 때까지 다른 인스턴스가 가져가지 않음 (FOR UPDATE SKIP LOCKED)
+     *
+     * @param now   기준 시각 (만료 시각이 이 시각 이전인 예약만)
+     * @param limit 최대 선점 건수
+     * @return 선점한 예약 목록
+     */
+    List<Reservation> claimExpired(LocalDateTime now, int limit);
+
+    /**
+     * 예약 일괄 만료 (PENDING -> EXPIRED, 조건부 일괄 UPDATE)
+     * 만료 이벤트는 예약 건별로 Outbox에 기록
+     *
+     * @param reservations 만료된 예약 목록 (EXPIRED 상태)
+     * @return 만료 처리된 예약 수
+     */
+    int expireAll(List<Reservation> reservations);
 }
@@ -0,0 +1,19 @@
+package personal.ai.core.booking.application.port.out;
+
+import personal.ai.core.booking.domain.model.SeatDelta;
+
+/**
+ * Seat Delta Publisher (Output Port)
+ * 좌석 상태 변경을 모든 core-service 노드에 전달 (Redis Pub/Sub)
+ *
+ * 각 노드는 채널을 한 번만 구독하고, 자기 노드에 연결된 SSE 구독자에게 팬아웃
+ */
+public interface SeatDeltaPublisher {
+
+    /**
+     * 좌석 상태 변경 발행 (실패해도 예외를 전파하지 않음, 좌석 맵 재조회로 복구 가능)
+     *
+     * @param delta 좌석 상태 변경
+     */
+    void publish(SeatDelta delta);
+}
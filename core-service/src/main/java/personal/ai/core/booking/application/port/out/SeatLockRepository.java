@@ -1,5 +1,8 @@
 package personal.ai.core.booking.application.port.out;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Seat Lock Repository (Output Port)
  * Redis SETNX 기반 좌석 선점 인터페이스
@@ -17,6 +20,17 @@ public interface SeatLockRepository {
      */
     boolean tryLock(Long seatId, Long userId, int ttlSeconds);
 
+    /**
+     * 다중 좌석 원자적 선점 (Redis Lua Script, All or Nothing)
+     * 하나라도 이미 선점된 좌석이 있으면 어떤 좌석도 선점하지 않음
+     *
+     * @param seatIds    좌석 ID 목록
+     * @param userId     사용자 ID
+     * @param ttlSeconds TTL (초 단위)
+     * @return 이미 선점된 좌석 ID (선점 성공 시 empty)
+     */
+    Optional<Long> tryLockAll(List<Long> seatIds, Long userId, int ttlSeconds);
+
     /**
      * 좌석 선점 해제 (Redis Lua Script: 값 확인 후 삭제)
      *
@@ -25,6 +39,14 @@ public interface SeatLockRepository {
      */
     void unlock(Long seatId, Long userId);
 
+    /**
+     * 다중 좌석 선점 해제 (Redis Lua Script: 소유한 키만 삭제)
+     *
+     * @param seatIds 좌석 ID 목록
+     * @param userId  사용자 ID (Lock 소유자 검증용)
+     */
+    void unlockAll(List<Long> seatIds, Long userId);
+
     /**
      * 좌석 선점 여부 확인 (Redis EXISTS)
      *
@@ -19,6 +19,14 @@ public interface SeatRepository {
      */
     Optional<Seat> findById(Long seatId);
 
+    /**
+     * 좌석 ID 목록으로 일괄 조회 (단일 IN 쿼리)
+     *
+     * @param seatIds 좌석 ID 목록
+     * @return 존재하는 좌석 목록 (좌석 ID 오름차순)
+     */
+    List<Seat> findAllByIds(List<Long> seatIds);
+
     /**
      * 특정 일정의 예매 가능한 좌석 목록 조회
      *
@@ -27,6 +35,43 @@ public interface SeatRepository {
      */
     List<Seat> findAvailableByScheduleId(Long scheduleId);
 
+    /**
+     * 특정 일정의 전체 좌석 목록 조회 (상태 무관)
+     * 좌석 카탈로그 및 좌석 상태 인덱스 재구성용
+     *
+     * @param scheduleId 일정 ID
+     * @return 전체 좌석 목록 (좌석 ID 오름차순)
+     */
+    List<Seat> findAllByScheduleId(Long scheduleId);
+
+    /**
+     * 좌석 선점 (AVAILABLE -> RESERVED, 조건부 UPDATE)
+     * 조회 없이 `UPDATE ... WHERE status = 'AVAILABLE'` 한 번으로 처리
+     *
+     * @param scheduleId 일정 ID (다른 일정의 좌석은 선점하지 않음)
+     * @param seatId     좌석 ID
+     * @return true: 선점 성공, false: 좌석이 없거나 예약 불가능한 상태
+     */
+    boolean claimAvailable(Long scheduleId, Long seatId);
+
+    /**
+     * 다중 좌석 선점 (AVAILABLE -> RESERVED, 조건부 일괄 UPDATE)
+     *
+     * @param scheduleId 일정 ID
+     * @param seatIds    좌석 ID 목록
+     * @return 선점된 좌석 수 (seatIds 크기와 다르면 일부 좌석 선점 실패)
+     */
+    int claimAllAvailable(Long scheduleId, List<Long> seatIds);
+
+    /**
+     * 좌석 일괄 해제 (RESERVED -> AVAILABLE, 조건부 일괄 UPDATE)
+     * 예약 만료 시 여러 일정의 좌석을 한 번에 반환
+     *
+     * @param seatIds 좌석 ID 목록
+     * @return 해제된 좌석 수 (RESERVED 상태였던 좌석만 해제)
+     */
+    int releaseAllReserved(List<Long> seatIds);
+
     /**
      * 좌석 저장 (상태 변경)
      *
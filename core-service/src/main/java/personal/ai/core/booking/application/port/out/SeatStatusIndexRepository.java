@@ -0,0 +1,66 @@
+package personal.ai.core.booking.application.port.out;
+
+import personal.ai.core.booking.domain.model.SeatStatusSnapshot;
+
+import java.util.Optional;
+
+/**
+ * Seat Status Index Repository (Output Port)
+ * 일정별 좌석 상태 비트맵 저장소 인터페이스 (Redis Bitmap)
+ *
+ * 좌석 조회 경로에서 MySQL을 제외하기 위한 읽기 전용 인덱스이며,
+ * 예약 가능 여부의 최종 판단은 여전히 DB(조건부 UPDATE 선점)가 담당
+ *
+ * 비트맵과 함께 일정별 버전(seat:version:{scheduleId})을 관리하며,
+ * 비트가 실제로 바뀌거나 비트맵이 재구성될 때마다 증가 (좌석 맵 ETag)
+ */
+public interface SeatStatusIndexRepository {
+
+    /**
+     * 좌석 상태 비트맵과 버전 조회 (MGET 한 번)
+     *
+     * @param scheduleId 일정 ID
+     * @return 비트맵과 버전, 비트맵이 없거나 조회 실패 시 empty (호출자가 DB에서 재구성)
+     */
+    Optional<SeatStatusSnapshot> findSnapshot(Long scheduleId);
+
+    /**
+     * 좌석 상태 버전 조회 (재구성 시 DB 조회 전에 읽어 두는 값)
+     *
+     * @param scheduleId 일정 ID
+     * @return 현재 버전 (없으면 0), 조회 실패 시 -1
+     */
+    long currentVersion(Long scheduleId);
+
+    /**
+     * 좌석 상태 비트맵 저장 및 버전 증가 (Lua Script)
+     * - 이미 있으면 무시: 다른 인스턴스가 먼저 재구성하여 Write-Through가 반영된 비트맵을 덮어쓰지 않기 위함
+     * - 버전이 바뀌었으면 무시: DB 조회와 저장 사이에 커밋된 좌석 변경이 비트맵 없음으로 누락되어
+     *   오래된 비트맵이 TTL 동안 제공되지 않도록 함
+     *
+     * @param scheduleId      일정 ID
+     * @param bitmap          좌석 상태 비트맵
+     * @param expectedVersion DB 조회 전에 읽은 버전
+     * @return 비트맵이 저장되었거나 이미 있으면 true, 버전이 바뀌었거나 실패 시 false
+     */
+    boolean saveBitmapIfUnchanged(Long scheduleId, byte[] bitmap, long expectedVersion);
+
+    /**
+     * 좌석 비트 갱신 (비트맵이 있을 때만, Lua Script)
+     * 비트맵이 없을 때 SETBIT으로 일부 비트만 가진 비트맵이 생기는 것을 방지
+     * 비트가 실제로 바뀐 경우 버전 증가 (비트맵이 없으면 진행 중인 재구성을 무효화하도록 버전만 증가)
+     *
+     * @param scheduleId 일정 ID
+     * @param offset     좌석 비트 offset
+     * @param available  예매 가능 여부
+     * @return 비트가 바뀌었으면 증가된 버전, 변경 없음/비트맵 없음/실패 시 0
+     */
+    long updateIfPresent(Long scheduleId, int offset, boolean available);
+
+    /**
+     * 좌석 상태 비트맵 삭제 (다음 조회 시 DB에서 재구성)
+     *
+     * @param scheduleId 일정 ID
+     */
+    void evict(Long scheduleId);
+}
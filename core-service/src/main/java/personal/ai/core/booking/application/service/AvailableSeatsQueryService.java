@@ -3,39 +3,43 @@ package personal.ai.core.booking.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import personal.ai.core.booking.application.port.in.GetAvailableSeatsUseCase;
 import personal.ai.core.booking.application.port.out.QueueServiceClient;
-import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.model.QueueTokenScope;
 import personal.ai.core.booking.domain.model.Seat;
 import personal.ai.core.booking.domain.service.QueueTokenExtractor;
+import personal.ai.core.booking.domain.service.QueueTokenScopeVerifier;
+import personal.ai.core.booking.domain.service.SeatStatusIndexer;
 
 import java.util.List;
 
 /**
  * Available Seats Query Service (SRP)
  * 단일 책임: 예약 가능 좌석 조회
+ *
+ * 좌석 목록은 Redis 좌석 상태 비트맵과 좌석 카탈로그로 응답하므로 DB 트랜잭션(커넥션)을 잡지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AvailableSeatsQueryService implements GetAvailableSeatsUseCase {
 
-    private final SeatRepository seatRepository;
+    private final SeatStatusIndexer seatStatusIndexer;
     private final QueueServiceClient queueServiceClient;
+    private final QueueTokenScopeVerifier queueTokenScopeVerifier;
 
     @Override
     public List<Seat> getAvailableSeats(Long scheduleId, Long userId, String queueToken) {
         log.debug("Getting available seats: scheduleId={}, userId={}", scheduleId, userId);
 
-        // 토큰에서 concertId 추출 (형식: concertId:userId:counter)
-        String concertId = QueueTokenExtractor.extractConcertId(queueToken);
+        // 토큰에서 대기열 범위 추출 (형식: queueId:userId:counter) 후 조회 대상 일정과 범위 일치 확인
+        QueueTokenScope scope = QueueTokenExtractor.extractScope(queueToken);
+        queueTokenScopeVerifier.verify(scope, scheduleId);
 
         // Queue Service에 토큰 검증 요청
-        queueServiceClient.validateToken(concertId, userId, queueToken);
+        queueServiceClient.validateToken(scope.queueId(), userId, queueToken);
 
-        var availableSeats = seatRepository.findAvailableByScheduleId(scheduleId);
+        var availableSeats = seatStatusIndexer.findAvailableSeats(scheduleId);
 
         log.debug("Found available seats: scheduleId={}, count={}", scheduleId, availableSeats.size());
 
@@ -10,6 +10,7 @@ import personal.ai.core.booking.application.port.out.SeatRepository;
 import personal.ai.core.booking.domain.exception.ReservationNotFoundException;
 import personal.ai.core.booking.domain.exception.SeatNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.service.SeatStatusIndexer;
 
 /**
  * Reservation Confirm Service (SRP)
@@ -22,6 +23,7 @@ public class ReservationConfirmService implements ConfirmReservationUseCase {
 
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
+    private final SeatStatusIndexer seatStatusIndexer;
 
     @Override
     @Transactional
@@ -42,6 +44,7 @@ public class ReservationConfirmService implements ConfirmReservationUseCase {
 
         var occupiedSeat = seat.occupy();
         seatRepository.save(occupiedSeat);
+        seatStatusIndexer.recordStatusChange(occupiedSeat);
 
         log.debug("Reservation confirmed: reservationId={}, seatId={}", savedReservation.id(), seat.id());
 
@@ -0,0 +1,56 @@
+package personal.ai.core.booking.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import personal.ai.core.booking.application.port.in.ExpireReservationsUseCase;
+import personal.ai.core.booking.domain.service.BookingManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reservation Expiry Service (SRP)
+ * 단일 책임: 만료 시각이 지난 예약의 만료 처리 및 좌석 반환
+ *
+ * - 만료 시각은 예약과 같은 트랜잭션에서 reservations.expires_at에 저장되므로 유실되지 않음
+ * - (status, expires_at) 인덱스를 만료 시각 순서로 읽어 배치 단위로 선점 (FOR UPDATE SKIP LOCKED)
+ * - 배치마다 별도 트랜잭션: 인스턴스가 여러 개면 서로 다른 배치를 나눠 처리
+ */
+@Slf4j
+@Service
+public class ReservationExpiryService implements ExpireReservationsUseCase {
+
+    private final BookingManager bookingManager;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public ReservationExpiryService(BookingManager bookingManager,
+                                    @Value("${booking.expiry.batch-size:200}") int batchSize,
+                                    @Value("${booking.expiry.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.bookingManager = bookingManager;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Override
+    public int expireDueReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        int expiredCount = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int expired = bookingManager.expireDueReservations(now, batchSize);
+            expiredCount += expired;
+
+            // 배치가 가득 차지 않았으면 남은 만료 대상 없음
+            if (expired < batchSize) {
+                break;
+            }
+        }
+
+        if (expiredCount > 0) {
+            log.info("Expired {} reservations", expiredCount);
+        }
+
+        return expiredCount;
+    }
+}
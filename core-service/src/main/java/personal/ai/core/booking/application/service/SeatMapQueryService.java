@@ -0,0 +1,45 @@
+package personal.ai.core.booking.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.core.booking.application.port.in.GetSeatMapUseCase;
+import personal.ai.core.booking.application.port.out.QueueServiceClient;
+import personal.ai.core.booking.domain.model.QueueTokenScope;
+import personal.ai.core.booking.domain.model.SeatCatalog;
+import personal.ai.core.booking.domain.model.SeatMap;
+import personal.ai.core.booking.domain.service.QueueTokenExtractor;
+import personal.ai.core.booking.domain.service.QueueTokenScopeVerifier;
+import personal.ai.core.booking.domain.service.SeatStatusIndexer;
+
+/**
+ * Seat Map Query Service (SRP)
+ * 단일 책임: 좌석 맵/카탈로그 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatMapQueryService implements GetSeatMapUseCase {
+
+    private final SeatStatusIndexer seatStatusIndexer;
+    private final QueueServiceClient queueServiceClient;
+    private final QueueTokenScopeVerifier queueTokenScopeVerifier;
+
+    @Override
+    public SeatMap getSeatMap(Long scheduleId, Long userId, String queueToken) {
+        log.debug("Getting seat map: scheduleId={}, userId={}", scheduleId, userId);
+
+        // 좌석 목록 조회와 동일하게 토큰 범위 확인 후 Queue Service 검증
+        QueueTokenScope scope = QueueTokenExtractor.extractScope(queueToken);
+        queueTokenScopeVerifier.verify(scope, scheduleId);
+        queueServiceClient.validateToken(scope.queueId(), userId, queueToken);
+
+        return seatStatusIndexer.findSeatMap(scheduleId);
+    }
+
+    @Override
+    public SeatCatalog getSeatCatalog(Long scheduleId) {
+        log.debug("Getting seat catalog: scheduleId={}", scheduleId);
+        return seatStatusIndexer.findCatalog(scheduleId);
+    }
+}
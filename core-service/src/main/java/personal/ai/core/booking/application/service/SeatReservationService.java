@@ -6,36 +6,43 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
 import personal.ai.core.booking.application.port.in.ReserveSeatUseCase;
+import personal.ai.core.booking.application.port.in.ReserveSeatsCommand;
+import personal.ai.core.booking.application.port.in.ReserveSeatsUseCase;
 import personal.ai.core.booking.application.port.out.QueueServiceClient;
-import personal.ai.core.booking.application.port.out.ReservationCacheRepository;
 import personal.ai.core.booking.application.port.out.SeatLockRepository;
 import personal.ai.core.booking.domain.exception.ConcurrentReservationException;
 import personal.ai.core.booking.domain.exception.SeatAlreadyReservedException;
+import personal.ai.core.booking.domain.model.QueueTokenScope;
 import personal.ai.core.booking.domain.model.Reservation;
 import personal.ai.core.booking.domain.service.BookingManager;
 import personal.ai.core.booking.domain.service.QueueTokenExtractor;
+import personal.ai.core.booking.domain.service.QueueTokenScopeVerifier;
+
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Seat Reservation Service (SRP)
- * 단일 책임: 좌석 예약 처리
+ * 단일 책임: 좌석 예약 처리 (단일 좌석, 다중 좌석)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SeatReservationService implements ReserveSeatUseCase {
+public class SeatReservationService implements ReserveSeatUseCase, ReserveSeatsUseCase {
 
     private static final int SEAT_LOCK_TTL_SECONDS = 300;
 
     private final SeatLockRepository seatLockRepository;
-    private final ReservationCacheRepository reservationCacheRepository;
     private final QueueServiceClient queueServiceClient;
     private final BookingManager bookingManager;
+    private final QueueTokenScopeVerifier queueTokenScopeVerifier;
 
     @Override
     public Reservation reserveSeat(ReserveSeatCommand command) {
-        // 토큰에서 concertId 추출 후 검증
-        String concertId = QueueTokenExtractor.extractConcertId(command.queueToken());
-        queueServiceClient.validateToken(concertId, command.userId(), command.queueToken());
+        // 토큰의 대기열 범위가 예매 대상 일정을 포함하는지 확인 후 검증
+        QueueTokenScope scope = QueueTokenExtractor.extractScope(command.queueToken());
+        queueTokenScopeVerifier.verify(scope, command.scheduleId());
+        queueServiceClient.validateToken(scope.queueId(), command.userId(), command.queueToken());
 
         boolean locked = seatLockRepository.tryLock(command.seatId(), command.userId(), SEAT_LOCK_TTL_SECONDS);
         if (!locked) {
@@ -45,8 +52,6 @@ public class SeatReservationService implements ReserveSeatUseCase {
 
         try {
             var saved = bookingManager.reserveSeatInTransaction(command);
-            reservationCacheRepository.setReservationTTL(saved.id(), saved.expiresAt());
-
             log.debug("Seat reserved: reservationId={}, seatId={}", saved.id(), command.seatId());
             return saved;
 
@@ -58,4 +63,34 @@ public class SeatReservationService implements ReserveSeatUseCase {
             seatLockRepository.unlock(command.seatId(), command.userId());
         }
     }
+
+    @Override
+    public List<Reservation> reserveSeats(ReserveSeatsCommand command) {
+        // 대기열 토큰 검증은 좌석 수와 무관하게 한 번만 수행
+        QueueTokenScope scope = QueueTokenExtractor.extractScope(command.queueToken());
+        queueTokenScopeVerifier.verify(scope, command.scheduleId());
+        queueServiceClient.validateToken(scope.queueId(), command.userId(), command.queueToken());
+
+        // 모든 좌석을 한 번에 선점 (하나라도 실패하면 아무 좌석도 선점하지 않음)
+        Optional<Long> conflict = seatLockRepository.tryLockAll(
+                command.seatIds(), command.userId(), SEAT_LOCK_TTL_SECONDS);
+        if (conflict.isPresent()) {
+            log.warn("Seat already reserved: seatId={}, requestedSeatIds={}", conflict.get(), command.seatIds());
+            throw new SeatAlreadyReservedException(conflict.get());
+        }
+
+        try {
+            List<Reservation> saved = bookingManager.reserveSeatsInTransaction(command);
+            log.debug("Seats reserved: reservationIds={}, seatIds={}",
+                    saved.stream().map(Reservation::id).toList(), command.seatIds());
+            return saved;
+
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Concurrent reservation detected: seatIds={}", command.seatIds());
+            throw new ConcurrentReservationException(command.seatIds().getFirst());
+
+        } finally {
+            seatLockRepository.unlockAll(command.seatIds(), command.userId());
+        }
+    }
 }
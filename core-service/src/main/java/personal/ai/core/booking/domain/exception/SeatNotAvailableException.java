@@ -4,6 +4,8 @@ import personal.ai.common.exception.BusinessException;
 import personal.ai.common.exception.ErrorCode;
 import personal.ai.core.booking.domain.model.SeatStatus;
 
+import java.util.List;
+
 /**
  * Seat Not Available Exception
  * 좌석이 예약 불가능한 상태일 때 발생하는 예외
@@ -13,4 +15,12 @@ public class SeatNotAvailableException extends BusinessException {
         super(ErrorCode.SEAT_NOT_AVAILABLE,
                 String.format("Seat is not available: seatId=%d, currentStatus=%s", seatId, currentStatus));
     }
+
+    /**
+     * 다중 좌석 중 어느 좌석이 예약 불가능한지 특정할 수 없는 경우 (요청 좌석 전체 기준)
+     */
+    public SeatNotAvailableException(List<Long> seatIds) {
+        super(ErrorCode.SEAT_NOT_AVAILABLE,
+                String.format("Some of the seats are not available: seatIds=%s", seatIds));
+    }
 }
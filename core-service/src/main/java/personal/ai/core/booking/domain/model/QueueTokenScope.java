@@ -0,0 +1,37 @@
+package personal.ai.core.booking.domain.model;
+
+/**
+ * Queue Token Scope
+ * 대기열 토큰이 발급된 대기열 범위 (불변)
+ *
+ * 대기열 ID 형식:
+ * - 콘서트 단위: {concertId}
+ * - 일정 단위: {concertId}@{scheduleId}
+ */
+public record QueueTokenScope(
+        String queueId,
+        String concertId,
+        Long scheduleId
+) {
+    public static final String PARTITION_DELIMITER = "@";
+
+    /**
+     * 일정 단위 대기열에서 발급된 토큰 여부
+     */
+    public boolean isScheduleScoped() {
+        return scheduleId != null;
+    }
+
+    /**
+     * 토큰 범위가 예매 대상 일정을 포함하는지 확인
+     *
+     * @param scheduleId         예매 대상 일정 ID
+     * @param scheduleConcertId  예매 대상 일정의 콘서트 ID
+     */
+    public boolean covers(Long scheduleId, Long scheduleConcertId) {
+        if (!concertId.equals(String.valueOf(scheduleConcertId))) {
+            return false;
+        }
+        return !isScheduleScoped() || this.scheduleId.equals(scheduleId);
+    }
+}
@@ -0,0 +1,129 @@
+package personal.ai.core.booking.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Seat Catalog
+ * 일정별 좌석의 정적 정보(번호, 등급, 가격) 목록 (불변)
+ *
+ * 좌석 상태 비트맵의 offset은 카탈로그 내 위치(좌석 ID 오름차순)이며,
+ * 비트 1은 AVAILABLE, 0은 RESERVED/OCCUPIED를 의미
+ * 좌석이 추가되어도 ID가 증가하므로 기존 좌석의 offset은 바뀌지 않음
+ *
+ * version은 좌석 정적 정보의 해시로, 인스턴스와 무관하게 같은 카탈로그면 같은 값
+ * (클라이언트는 버전이 바뀔 때만 카탈로그를 다시 받음)
+ */
+public record SeatCatalog(
+        Long scheduleId,
+        List<Seat> seats,              // 좌석 ID 오름차순, AVAILABLE 상태로 고정 (조회 시 그대로 반환)
+        Map<Long, Integer> offsets,    // 좌석 ID -> 비트 offset
+        String version                 // 카탈로그 버전 (정적 정보 해시)
+) {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public SeatCatalog {
+        seats = List.copyOf(seats);
+        offsets = Map.copyOf(offsets);
+    }
+
+    /**
+     * 일정의 전체 좌석으로 카탈로그 생성
+     *
+     * @param scheduleId 일정 ID
+     * @param seats      일정의 전체 좌석 (상태 무관)
+     */
+    public static SeatCatalog of(Long scheduleId, Collection<Seat> seats) {
+        List<Seat> sorted = seats.stream()
+                .sorted(Comparator.comparing(Seat::id))
+                .map(seat -> new Seat(seat.id(), seat.scheduleId(), seat.seatNumber(),
+                        seat.grade(), seat.price(), SeatStatus.AVAILABLE))
+                .toList();
+
+        Map<Long, Integer> offsets = new HashMap<>(sorted.size() * 2);
+        for (int offset = 0; offset < sorted.size(); offset++) {
+            offsets.put(sorted.get(offset).id(), offset);
+        }
+        return new SeatCatalog(scheduleId, sorted, offsets, versionOf(sorted));
+    }
+
+    /**
+     * 좌석 정적 정보의 FNV-1a 64bit 해시 (JVM과 무관하게 결정적)
+     */
+    private static String versionOf(List<Seat> sorted) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Seat seat : sorted) {
+            String entry = seat.id() + "|" + seat.seatNumber() + "|" + seat.grade() + "|"
+                    + seat.price().stripTrailingZeros().toPlainString() + ";";
+            for (byte b : entry.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= FNV_PRIME;
+            }
+        }
+        return Long.toHexString(hash);
+    }
+
+    public int size() {
+        return seats.size();
+    }
+
+    /**
+     * 카탈로그 좌석 수에 맞는 비트맵 바이트 길이
+     */
+    public int bitmapLength() {
+        return (seats.size() + 7) / 8;
+    }
+
+    /**
+     * 좌석의 비트 offset (카탈로그에 없는 좌석이면 empty)
+     */
+    public OptionalInt offsetOf(Long seatId) {
+        Integer offset = offsets.get(seatId);
+        return offset == null ? OptionalInt.empty() : OptionalInt.of(offset);
+    }
+
+    /**
+     * 좌석 상태를 비트맵으로 인코딩 (Redis SETBIT과 같은 MSB-first 비트 순서)
+     *
+     * @param currentSeats 현재 상태의 좌석 목록
+     * @return 예매 가능 좌석 비트가 1인 비트맵
+     */
+    public byte[] encodeAvailability(Collection<Seat> currentSeats) {
+        byte[] bitmap = new byte[bitmapLength()];
+        for (Seat seat : currentSeats) {
+            if (!seat.isAvailable()) {
+                continue;
+            }
+            Integer offset = offsets.get(seat.id());
+            if (offset != null) {
+                bitmap[offset >>> 3] |= (byte) (0x80 >>> (offset & 7));
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * 비트맵에서 예매 가능 좌석 목록 복원
+     * 비트맵이 카탈로그보다 짧으면 나머지 좌석은 예매 불가로 간주
+     *
+     * @param bitmap 좌석 상태 비트맵
+     * @return 예매 가능 좌석 목록 (좌석 ID 오름차순)
+     */
+    public List<Seat> availableSeats(byte[] bitmap) {
+        List<Seat> available = new ArrayList<>();
+        int limit = Math.min(seats.size(), bitmap.length * 8);
+        for (int offset = 0; offset < limit; offset++) {
+            if ((bitmap[offset >>> 3] & (0x80 >>> (offset & 7))) != 0) {
+                available.add(seats.get(offset));
+            }
+        }
+        return available;
+    }
+}
@@ -0,0 +1,47 @@
+package personal.ai.core.booking.domain.model;
+
+/**
+ * Seat Delta
+ * 좌석 상태 변경 1건 (불변)
+ *
+ * 좌석 맵을 받은 클라이언트가 전체 목록을 다시 받지 않고 변경분만 반영하기 위한 단위
+ */
+public record SeatDelta(
+        Long scheduleId,
+        Long seatId,
+        SeatStatus status,
+        long version      // 변경 후 좌석 상태 버전 (좌석 맵 version과 동일 체계, 알 수 없으면 0)
+) {
+    /**
+     * 노드 간 전달 채널 접두사 (seat:delta:{scheduleId}, 발행/구독 어댑터가 공유)
+     */
+    public static final String CHANNEL_PREFIX = "seat:delta:";
+    private static final String DELIMITER = ":";
+
+    public SeatDelta {
+        if (scheduleId == null || seatId == null || status == null) {
+            throw new IllegalArgumentException("scheduleId, seatId and status are required");
+        }
+    }
+
+    /**
+     * 노드 간 전달용 직렬화 ({seatId}:{status}:{version}, 일정 ID는 채널에 포함)
+     */
+    public String toMessage() {
+        return seatId + DELIMITER + status + DELIMITER + version;
+    }
+
+    /**
+     * 노드 간 전달 메시지 역직렬화
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static SeatDelta fromMessage(Long scheduleId, String message) {
+        String[] parts = message.split(DELIMITER);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid seat delta message: " + message);
+        }
+        return new SeatDelta(scheduleId, Long.parseLong(parts[0]), SeatStatus.valueOf(parts[1]),
+                Long.parseLong(parts[2]));
+    }
+}
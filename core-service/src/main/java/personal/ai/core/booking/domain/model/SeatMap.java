@@ -0,0 +1,47 @@
+package personal.ai.core.booking.domain.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Seat Map
+ * 일정의 좌석 배치(카탈로그)와 좌석 상태 비트맵을 묶은 조회 결과 (불변)
+ *
+ * 클라이언트는 카탈로그를 버전별로 한 번만 받아 두고, 이후에는 비트맵과 버전만 받음
+ * 버전이 같으면 좌석 상태가 바뀌지 않았으므로 응답 본문 없이 304로 처리 가능
+ */
+public record SeatMap(
+        SeatCatalog catalog,
+        long version,          // 좌석 상태 버전 (단조 증가)
+        byte[] availability    // 카탈로그 offset 기준 비트맵 (1 = AVAILABLE)
+) {
+    public SeatMap {
+        // 다른 인스턴스가 더 큰 카탈로그로 만든 비트맵도 이 카탈로그 길이에 맞춤
+        if (availability.length != catalog.bitmapLength()) {
+            availability = Arrays.copyOf(availability, catalog.bitmapLength());
+        }
+    }
+
+    /**
+     * 버전 저장소 없이 만든 좌석 맵 (인덱스 비활성화, Redis 장애 시)
+     * 비트맵 CRC32를 음수 버전으로 사용하므로 변경 감지는 되지만 단조 증가는 보장하지 않음
+     * (Redis 버전은 1 이상이므로 서로 겹치지 않음)
+     */
+    public static SeatMap unversioned(SeatCatalog catalog, byte[] availability) {
+        CRC32 crc = new CRC32();
+        crc.update(availability);
+        return new SeatMap(catalog, -(crc.getValue() + 1), availability);
+    }
+
+    public Long scheduleId() {
+        return catalog.scheduleId();
+    }
+
+    /**
+     * 예매 가능 좌석 목록
+     */
+    public List<Seat> availableSeats() {
+        return catalog.availableSeats(availability);
+    }
+}
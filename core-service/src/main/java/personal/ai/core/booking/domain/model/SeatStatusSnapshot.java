@@ -0,0 +1,18 @@
+package personal.ai.core.booking.domain.model;
+
+/**
+ * Seat Status Snapshot
+ * 좌석 상태 인덱스에서 한 번에 읽은 비트맵과 버전 (불변)
+ *
+ * 버전은 비트가 실제로 바뀌거나 비트맵이 재구성될 때마다 증가하며 감소하지 않음
+ */
+public record SeatStatusSnapshot(
+        byte[] bitmap,
+        long version
+) {
+    public SeatStatusSnapshot {
+        if (bitmap == null) {
+            throw new IllegalArgumentException("bitmap cannot be null");
+        }
+    }
+}
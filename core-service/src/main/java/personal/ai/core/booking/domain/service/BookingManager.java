@@ -5,12 +5,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
+import personal.ai.core.booking.application.port.in.ReserveSeatsCommand;
 import personal.ai.core.booking.application.port.out.ReservationRepository;
 import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
 import personal.ai.core.booking.domain.exception.SeatNotFoundException;
 import personal.ai.core.booking.domain.model.Reservation;
-import personal.ai.core.booking.domain.model.ReservationStatus;
 import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Booking Domain Service (Transaction Manager)
@@ -27,23 +35,24 @@ public class BookingManager {
     private static final int RESERVATION_TTL_MINUTES = 5;
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
+    private final SeatStatusIndexer seatStatusIndexer;
 
     /**
      * 트랜잭션 내에서 좌석 예약 및 저장
      * Safe Transaction Pattern: DB 작업만 트랜잭션 내에서 수행
      * Transactional Outbox Pattern: Adapter 내부에서 Outbox 저장 (도메인은 알 필요 없음)
+     * 조건부 UPDATE로 선점: 조회/병합 없이 좌석 UPDATE + 예약/Outbox INSERT만 수행하여 행 락 보유 시간 최소화
      */
     @Transactional
     public Reservation reserveSeatInTransaction(ReserveSeatCommand command) {
-        // 1. 좌석 조회 (일반 조회, 비관적 락 없음)
-        Seat seat = seatRepository.findById(command.seatId())
-                .orElseThrow(() -> new SeatNotFoundException(command.seatId()));
-
-        // 2. 도메인 로직: 좌석 예약 가능 검증 (AVAILABLE -> RESERVED)
-        Seat reservedSeat = seat.reserve();
-        seatRepository.save(reservedSeat);
+        // 1. 좌석 선점 (AVAILABLE -> RESERVED, 같은 일정의 좌석만)
+        // 대기열 토큰 범위는 command.scheduleId 기준으로 검증되므로 좌석도 같은 일정이어야 함
+        if (!seatRepository.claimAvailable(command.scheduleId(), command.seatId())) {
+            throw claimFailure(command.scheduleId(), command.seatId());
+        }
+        seatStatusIndexer.recordStatusChange(command.scheduleId(), command.seatId(), SeatStatus.RESERVED);
 
-        // 3. 예약 생성 (PENDING 상태, 5분 TTL)
+        // 2. 예약 생성 (PENDING 상태, 5분 TTL)
         // DB Unique Index (schedule_id, seat_id)가 2차 방어선 역할
         // Outbox 저장은 ReservationPersistenceAdapter 내부에서 자동 처리
         Reservation reservation = Reservation.create(
@@ -56,46 +65,104 @@ public class BookingManager {
     }
 
     /**
-     * 예약 만료 처리 (트랜잭션)
-     * 1. 예약 상태 변경 (PENDING -> EXPIRED)
-     * 2. 좌석 상태 변경 (RESERVED -> AVAILABLE)
+     * 트랜잭션 내에서 다중 좌석 예약 및 저장 (All or Nothing)
+     * 좌석 선점은 조건부 UPDATE 한 번, 예약은 일괄 저장, Outbox 이벤트는 하나만 기록
+     * 한 좌석이라도 선점할 수 없으면 예외로 전체 롤백
      */
     @Transactional
-    public void expireReservation(Long reservationId) {
-        log.info("Expiring reservation: reservationId={}", reservationId);
+    public List<Reservation> reserveSeatsInTransaction(ReserveSeatsCommand command) {
+        // 1. 좌석 일괄 선점 (AVAILABLE -> RESERVED), 모든 좌석이 선점되지 않으면 실패
+        int claimed = seatRepository.claimAllAvailable(command.scheduleId(), command.seatIds());
+        if (claimed != command.seatIds().size()) {
+            throw claimFailure(command.scheduleId(), command.seatIds());
+        }
+        command.seatIds().forEach(seatId ->
+                seatStatusIndexer.recordStatusChange(command.scheduleId(), seatId, SeatStatus.RESERVED));
 
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElse(null);
+        // 2. 예약 일괄 생성 (PENDING 상태, 5분 TTL)
+        // DB Unique Index (schedule_id, seat_id)가 2차 방어선 역할
+        List<Reservation> reservations = command.seatIds().stream()
+                .map(seatId -> Reservation.create(
+                        command.userId(),
+                        seatId,
+                        command.scheduleId(),
+                        RESERVATION_TTL_MINUTES))
+                .toList();
 
-        if (reservation == null) {
-            log.warn("Reservation not found for expiration: reservationId={}", reservationId);
-            return;
-        }
+        return reservationRepository.saveAll(reservations);
+    }
 
-        // 이미 완료된 예약은 만료 처리하지 않음
-        if (reservation.isConfirmed()) {
-            log.warn("Reservation is already confirmed: reservationId={}", reservationId);
-            return;
-        }
+    /**
+     * 좌석 선점 실패 원인 판별 (실패 경로에서만 조회)
+     */
+    private RuntimeException claimFailure(Long scheduleId, Long seatId) {
+        return seatRepository.findById(seatId)
+                .filter(seat -> seat.scheduleId().equals(scheduleId))
+                .<RuntimeException>map(seat -> new SeatNotAvailableException(seatId, seat.status()))
+                .orElseGet(() -> new SeatNotFoundException(seatId));
+    }
 
-        // 이미 만료된 경우 패스 (멱등성)
-        if (reservation.status() == ReservationStatus.EXPIRED) {
-            log.warn("Reservation is already expired: reservationId={}", reservationId);
-            return;
+    /**
+     * 다중 좌석 선점 실패 원인 판별 (실패 경로에서만 조회, 트랜잭션은 롤백됨)
+     * 존재하지 않거나 다른 일정의 좌석이 있으면 SeatNotFoundException,
+     * RESERVED가 아닌 좌석(이 트랜잭션이 선점하지 못한 좌석)이 있으면 그 좌석으로 SeatNotAvailableException
+     * 모두 RESERVED로 보이면 이 트랜잭션이 선점한 좌석과 구분할 수 없으므로 좌석을 특정하지 않음
+     */
+    private RuntimeException claimFailure(Long scheduleId, List<Long> seatIds) {
+        Map<Long, Seat> seats = seatRepository.findAllByIds(seatIds).stream()
+                .collect(Collectors.toMap(Seat::id, Function.identity()));
+
+        for (Long seatId : seatIds) {
+            Seat seat = seats.get(seatId);
+            if (seat == null || !seat.scheduleId().equals(scheduleId)) {
+                return new SeatNotFoundException(seatId);
+            }
         }
 
-        // 1. 예약 만료 처리 (상태 변경 -> save -> Outbox Event 자동 발행)
-        Reservation expiredReservation = reservation.expire();
-        reservationRepository.save(expiredReservation);
+        return seatIds.stream()
+                .map(seats::get)
+                .filter(seat -> !seat.isReserved())
+                .findFirst()
+                .<RuntimeException>map(seat -> new SeatNotAvailableException(seat.id(), seat.status()))
+                .orElseGet(() -> new SeatNotAvailableException(seatIds));
+    }
+
+    /**
+     * 만료 시각이 지난 예약 일괄 만료 처리 (트랜잭션, 배치 1회)
+     * 1. 선점: 만료 대상 PENDING 예약을 최대 limit건 선점 (FOR UPDATE SKIP LOCKED, 인스턴스 간 중복 처리 없음)
+     * 2. 예약 상태 일괄 변경 (PENDING -> EXPIRED) + 만료 이벤트 Outbox 일괄 기록
+     * 3. 좌석 상태 일괄 변경 (RESERVED -> AVAILABLE)
+     * 선점한 행은 커밋/롤백 시까지 잠겨 있으므로 각 예약은 정확히 한 번 만료되고 좌석도 한 번만 반환됨
+     *
+     * @return 만료 처리한 예약 수 (limit보다 작으면 남은 만료 대상 없음)
+     */
+    @Transactional
+    public int expireDueReservations(LocalDateTime now, int limit) {
+        List<Reservation> due = reservationRepository.claimExpired(now, limit);
+        if (due.isEmpty()) {
+            return 0;
+        }
 
-        // 2. 좌석 해제
-        Seat seat = seatRepository.findById(reservation.seatId())
-                .orElseThrow(() -> new SeatNotFoundException(reservation.seatId()));
+        // 1. 예약 일괄 만료 (Outbox 이벤트는 Adapter 내부에서 일괄 기록)
+        List<Reservation> expired = due.stream()
+                .map(Reservation::expire)
+                .toList();
+        reservationRepository.expireAll(expired);
 
-        if (seat.isReserved()) {
-            Seat releasedSeat = seat.release();
-            seatRepository.save(releasedSeat);
-            log.info("Seat released: seatId={}", seat.id());
+        // 2. 좌석 일괄 해제
+        List<Long> seatIds = expired.stream().map(Reservation::seatId).toList();
+        int released = seatRepository.releaseAllReserved(seatIds);
+        if (released == seatIds.size()) {
+            expired.forEach(reservation -> seatStatusIndexer.recordStatusChange(
+                    reservation.scheduleId(), reservation.seatId(), SeatStatus.AVAILABLE));
+        } else {
+            // RESERVED가 아니었던 좌석이 있으면 실제 상태를 읽어 반영 (예외 경로에서만 조회)
+            log.warn("Some seats were not reserved while expiring: expected={}, released={}",
+                    seatIds.size(), released);
+            seatRepository.findAllByIds(seatIds).forEach(seatStatusIndexer::recordStatusChange);
         }
+
+        log.debug("Reservations expired: count={}, releasedSeats={}", expired.size(), released);
+        return expired.size();
     }
 }
@@ -1,70 +1,72 @@
 package personal.ai.core.booking.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.ai.common.outbox.OutboxPurger;
+import personal.ai.common.outbox.OutboxRelay;
+import personal.ai.common.outbox.OutboxRelaySettings;
+import personal.ai.common.outbox.OutboxRetentionSettings;
 import personal.ai.core.booking.application.port.in.PublishPendingEventsUseCase;
+import personal.ai.core.booking.application.port.in.PurgePublishedEventsUseCase;
 import personal.ai.core.booking.application.port.out.OutboxEventRepository;
 import personal.ai.core.booking.application.port.out.ReservationEventPublisher;
-import personal.ai.core.booking.domain.model.OutboxEvent;
-
-import java.util.List;
 
 /**
  * Outbox Event Service
  * 대기 중인 이벤트를 발행 처리하는 도메인 서비스
+ * 선점/발행/상태 반영은 공통 Outbox Relay에 위임하고 이벤트 타입별 토픽만 결정
+ *
+ * - 기본 경로: 커밋 직후 바로 발행 (reservationOutboxDispatcher 빈, ReservationEventAdapter에서 호출)
+ * - 안전망: 기본 경로가 놓친 이벤트를 스케줄러가 발행 (Relay)
+ * - 보관: 보관 기간이 지난 발행 완료 이벤트 삭제 (Purger)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class OutboxEventService implements PublishPendingEventsUseCase {
+public class OutboxEventService implements PublishPendingEventsUseCase, PurgePublishedEventsUseCase {
+
+    private final OutboxRelay outboxRelay;
+    private final OutboxPurger outboxPurger;
 
-    private final OutboxEventRepository outboxEventRepository;
-    private final ReservationEventPublisher eventPublisher;
+    public OutboxEventService(OutboxEventRepository outboxEventRepository,
+                              ReservationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              OutboxRelaySettings outboxRelaySettings,
+                              OutboxRetentionSettings outboxRetentionSettings,
+                              ObjectMapper objectMapper) {
+        this.outboxRelay = new OutboxRelay(
+                "reservation",
+                outboxEventRepository,
+                eventPublisher::publishRawAsync,
+                OutboxEventService::topicOf,
+                transactionTemplate,
+                outboxRelaySettings);
+        this.outboxPurger = new OutboxPurger(
+                "reservation",
+                outboxEventRepository,
+                transactionTemplate,
+                objectMapper,
+                outboxRetentionSettings);
+    }
 
     @Override
-    @Transactional
     public int publishPendingEvents() {
-        List<OutboxEvent> pendingEvents = outboxEventRepository.findPendingEvents();
-        int publishedCount = 0;
-
-        for (OutboxEvent event : pendingEvents) {
-            try {
-                String topic = mapEventTypeToTopic(event.eventType());
-
-                // Key: Aggregate ID (reservationId) to ensure ordering
-                String key = String.valueOf(event.aggregateId());
-
-                log.debug("Publishing event: id={}, type={}, topic={}", event.id(), event.eventType(), topic);
-
-                // Publish Raw Payload directly
-                eventPublisher.publishRaw(topic, key, event.payload());
-
-                // Update Status (Immutable)
-                OutboxEvent publishedEvent = event.markAsPublished();
-                outboxEventRepository.save(publishedEvent);
-                publishedCount++;
-
-            } catch (Exception e) {
-                log.error("Failed to publish event: id={}", event.id(), e);
-
-                // Retry Logic (Immutable)
-                OutboxEvent retriedEvent = event.incrementRetryCount();
-
-                if (retriedEvent.retryCount() >= 3) { // MAX_RETRY_COUNT
-                    retriedEvent = retriedEvent.markAsFailed();
-                }
+        return outboxRelay.relayPending();
+    }
 
-                outboxEventRepository.save(retriedEvent);
-            }
-        }
-        return publishedCount;
+    @Override
+    public int purgePublishedEvents() {
+        return outboxPurger.purgePublished();
     }
 
-    private String mapEventTypeToTopic(String eventType) {
+    /**
+     * 예약 이벤트 타입 -> 토픽 (Relay/Dispatcher 공용)
+     */
+    public static String topicOf(String eventType) {
         return switch (eventType) {
             case "RESERVATION_CREATED" -> "reservation.created";
+            case "RESERVATION_GROUP_CREATED" -> "reservation.group.created";
             case "RESERVATION_CONFIRMED" -> "reservation.confirmed";
             case "RESERVATION_CANCELLED" -> "reservation.cancelled";
             case "RESERVATION_EXPIRED" -> "reservation.expired";
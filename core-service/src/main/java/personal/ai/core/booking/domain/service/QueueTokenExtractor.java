@@ -1,6 +1,7 @@
 package personal.ai.core.booking.domain.service;
 
 import personal.ai.core.booking.domain.exception.QueueTokenInvalidException;
+import personal.ai.core.booking.domain.model.QueueTokenScope;
 
 /**
  * Queue Token Extractor
@@ -17,8 +18,9 @@ public final class QueueTokenExtractor {
     }
 
     /**
-     * 토큰에서 concertId 추출
+     * 토큰에서 concertId(대기열 ID) 추출
      * 토큰 형식: {concertId}:{userId}:{counter}
+     * 일정 단위 대기열 토큰은 {concertId}@{scheduleId} 전체를 반환 (Queue Service 검증 API 호출용)
      *
      * @param queueToken 대기열 토큰
      * @return concertId
@@ -31,6 +33,35 @@ public final class QueueTokenExtractor {
         return parts[CONCERT_ID_INDEX];
     }
 
+    /**
+     * 토큰에서 대기열 범위 추출
+     * 토큰 형식: {queueId}:{userId}:{counter}, queueId = {concertId} 또는 {concertId}@{scheduleId}
+     *
+     * @param queueToken 대기열 토큰
+     * @return 대기열 범위
+     * @throws QueueTokenInvalidException 토큰 또는 대기열 ID 형식이 올바르지 않은 경우
+     */
+    public static QueueTokenScope extractScope(String queueToken) {
+        String queueId = extractConcertId(queueToken);
+
+        int delimiterIndex = queueId.indexOf(QueueTokenScope.PARTITION_DELIMITER);
+        if (delimiterIndex < 0) {
+            return new QueueTokenScope(queueId, queueId, null);
+        }
+
+        String concertId = queueId.substring(0, delimiterIndex);
+        String scheduleId = queueId.substring(delimiterIndex + QueueTokenScope.PARTITION_DELIMITER.length());
+        if (concertId.isBlank()) {
+            throw new QueueTokenInvalidException("ConcertId cannot be blank in token");
+        }
+
+        try {
+            return new QueueTokenScope(queueId, concertId, Long.parseLong(scheduleId));
+        } catch (NumberFormatException e) {
+            throw new QueueTokenInvalidException("Invalid scheduleId in token: " + scheduleId);
+        }
+    }
+
     private static void validateToken(String queueToken) {
         if (queueToken == null || queueToken.isBlank()) {
             throw new QueueTokenInvalidException();
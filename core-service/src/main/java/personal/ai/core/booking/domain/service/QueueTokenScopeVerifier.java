@@ -0,0 +1,50 @@
+package personal.ai.core.booking.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import personal.ai.core.booking.application.port.out.ConcertRepository;
+import personal.ai.core.booking.domain.exception.QueueTokenInvalidException;
+import personal.ai.core.booking.domain.exception.ScheduleNotFoundException;
+import personal.ai.core.booking.domain.model.ConcertSchedule;
+import personal.ai.core.booking.domain.model.QueueTokenScope;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queue Token Scope Verifier
+ * 대기열 토큰의 범위(콘서트/일정)가 예매 대상 일정을 포함하는지 검증
+ *
+ * - 콘서트 단위 토큰: 대상 일정이 토큰의 콘서트에 속해야 함 (다른 콘서트 대기열 토큰으로 예매 불가)
+ * - 일정 단위 토큰: 추가로 대상 일정과 토큰의 일정이 같아야 함 (다른 회차 대기열 토큰으로 예매 불가)
+ *
+ * 일정의 콘서트는 바뀌지 않으므로 scheduleId -> concertId를 인스턴스 메모리에 캐싱 (요청마다 DB 조회 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueueTokenScopeVerifier {
+
+    private final ConcertRepository concertRepository;
+    private final Map<Long, Long> scheduleConcertIds = new ConcurrentHashMap<>();
+
+    /**
+     * @param scope      토큰의 대기열 범위
+     * @param scheduleId 예매 대상 일정 ID
+     * @throws QueueTokenInvalidException 토큰 범위가 대상 일정을 포함하지 않는 경우
+     * @throws ScheduleNotFoundException  대상 일정이 없는 경우
+     */
+    public void verify(QueueTokenScope scope, Long scheduleId) {
+        Long concertId = scheduleConcertIds.computeIfAbsent(scheduleId, id -> concertRepository.findScheduleById(id)
+                .map(ConcertSchedule::concertId)
+                .orElseThrow(() -> new ScheduleNotFoundException(id)));
+
+        if (!scope.covers(scheduleId, concertId)) {
+            log.warn("Queue token scope mismatch: queueId={}, scheduleId={}, scheduleConcertId={}",
+                    scope.queueId(), scheduleId, concertId);
+            throw new QueueTokenInvalidException(
+                    "Queue token is not valid for scheduleId=" + scheduleId + " (token scope: " + scope.queueId() + ")");
+        }
+    }
+}
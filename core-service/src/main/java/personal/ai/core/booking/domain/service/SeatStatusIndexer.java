@@ -0,0 +1,204 @@
+package personal.ai.core.booking.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import personal.ai.core.booking.application.port.out.SeatDeltaPublisher;
+import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.application.port.out.SeatStatusIndexRepository;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatCatalog;
+import personal.ai.core.booking.domain.model.SeatDelta;
+import personal.ai.core.booking.domain.model.SeatMap;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Seat Status Indexer
+ * 좌석 조회를 Redis 좌석 상태 비트맵 + 인스턴스 메모리의 좌석 카탈로그로 처리하여
+ * 오픈 중 좌석 조회 경로에서 MySQL을 제외
+ *
+ * - 조회: 비트맵에서 AVAILABLE 비트만 골라 카탈로그의 좌석으로 변환 (DB, Entity 변환 없음)
+ * - 갱신: 좌석 상태 변경(reserve/occupy/release) 트랜잭션 커밋 후 해당 비트만 Write-Through
+ * - 전파: 같은 시점에 변경분(SeatDelta)을 발행하여 SSE 구독자에게 실시간 전달
+ * - 재구성: 비트맵이 없으면(최초 조회, TTL 만료, 갱신 실패) 일정의 전체 좌석을 DB에서 한 번 읽어 생성
+ *
+ * 좌석 맵 API는 같은 비트맵과 카탈로그를 가공 없이 내려주며, 비트맵 버전으로 변경 여부를 판단
+ *
+ * 비트맵은 조회용 인덱스일 뿐이며, 인덱스가 잠시 어긋나도 예약은 DB 조건부 UPDATE 선점
+ * (SeatRepository.claimAvailable: status = AVAILABLE일 때만 변경)으로 보호됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatStatusIndexer {
+
+    private final SeatRepository seatRepository;
+    private final SeatStatusIndexRepository seatStatusIndexRepository;
+    private final SeatDeltaPublisher seatDeltaPublisher;
+
+    // 좌석 정적 정보는 오픈 중 바뀌지 않으므로 인스턴스 메모리에 캐싱 (scheduleId -> 카탈로그)
+    private final Map<Long, SeatCatalog> catalogs = new ConcurrentHashMap<>();
+    // 비트맵 만료 직후 동시 요청이 모두 DB로 가지 않도록 일정별 재구성 직렬화
+    private final Map<Long, ReentrantLock> rebuildLocks = new ConcurrentHashMap<>();
+
+    @Value("${booking.seat-index.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 예매 가능 좌석 조회
+     *
+     * @param scheduleId 일정 ID
+     * @return 예매 가능 좌석 목록
+     */
+    public List<Seat> findAvailableSeats(Long scheduleId) {
+        if (!enabled) {
+            return seatRepository.findAvailableByScheduleId(scheduleId);
+        }
+
+        return currentSeatMap(scheduleId).availableSeats();
+    }
+
+    /**
+     * 좌석 맵 조회 (카탈로그 + 좌석 상태 비트맵 + 버전)
+     *
+     * @param scheduleId 일정 ID
+     * @return 좌석 맵
+     */
+    public SeatMap findSeatMap(Long scheduleId) {
+        if (!enabled) {
+            List<Seat> seats = seatRepository.findAllByScheduleId(scheduleId);
+            SeatCatalog catalog = SeatCatalog.of(scheduleId, seats);
+            return SeatMap.unversioned(catalog, catalog.encodeAvailability(seats));
+        }
+
+        return currentSeatMap(scheduleId);
+    }
+
+    /**
+     * 좌석 카탈로그 조회 (좌석 정적 정보)
+     *
+     * @param scheduleId 일정 ID
+     * @return 좌석 카탈로그
+     */
+    public SeatCatalog findCatalog(Long scheduleId) {
+        if (!enabled) {
+            return SeatCatalog.of(scheduleId, seatRepository.findAllByScheduleId(scheduleId));
+        }
+
+        return catalogOf(scheduleId);
+    }
+
+    /**
+     * 좌석 상태 변경 반영 (Write-Through) 및 변경분 발행
+     * 트랜잭션 안에서 호출되면 커밋 후에 반영하여 롤백된 상태가 인덱스/구독자에게 전달되지 않도록 함
+     *
+     * @param seat 상태가 변경된 좌석
+     */
+    public void recordStatusChange(Seat seat) {
+        recordStatusChange(seat.scheduleId(), seat.id(), seat.status());
+    }
+
+    /**
+     * 좌석 상태 변경 반영 (조건부 UPDATE로 좌석을 조회하지 않고 변경한 경우)
+     *
+     * @param scheduleId 일정 ID
+     * @param seatId     좌석 ID
+     * @param status     변경된 상태
+     */
+    public void recordStatusChange(Long scheduleId, Long seatId, SeatStatus status) {
+        if (!enabled) {
+            afterCommit(() -> seatDeltaPublisher.publish(new SeatDelta(scheduleId, seatId, status, 0L)));
+            return;
+        }
+
+        OptionalInt offset = catalogOf(scheduleId).offsetOf(seatId);
+        if (offset.isEmpty()) {
+            // 카탈로그 이후 추가된 좌석: 카탈로그를 다시 읽고 비트맵은 재구성되도록 삭제
+            catalogs.remove(scheduleId);
+            afterCommit(() -> {
+                seatStatusIndexRepository.evict(scheduleId);
+                seatDeltaPublisher.publish(new SeatDelta(scheduleId, seatId, status, 0L));
+            });
+            return;
+        }
+
+        boolean available = status == SeatStatus.AVAILABLE;
+        afterCommit(() -> {
+            long version = seatStatusIndexRepository.updateIfPresent(scheduleId, offset.getAsInt(), available);
+            seatDeltaPublisher.publish(new SeatDelta(scheduleId, seatId, status, version));
+        });
+    }
+
+    private SeatMap currentSeatMap(Long scheduleId) {
+        return readFromIndex(scheduleId).orElseGet(() -> rebuild(scheduleId));
+    }
+
+    private Optional<SeatMap> readFromIndex(Long scheduleId) {
+        SeatCatalog catalog = catalogs.get(scheduleId);
+        if (catalog == null) {
+            return Optional.empty();
+        }
+        return seatStatusIndexRepository.findSnapshot(scheduleId)
+                .map(snapshot -> new SeatMap(catalog, snapshot.version(), snapshot.bitmap()));
+    }
+
+    private SeatMap rebuild(Long scheduleId) {
+        ReentrantLock lock = rebuildLocks.computeIfAbsent(scheduleId, id -> new ReentrantLock());
+        lock.lock();
+        try {
+            // 대기 중 다른 요청이 재구성을 마쳤으면 그 결과 사용
+            Optional<SeatMap> rebuilt = readFromIndex(scheduleId);
+            if (rebuilt.isPresent()) {
+                return rebuilt.get();
+            }
+
+            // DB 조회 전에 버전을 읽어 두고, 그 사이 좌석 변경이 커밋되어 버전이 바뀌었으면 저장하지 않음
+            // (비트맵이 없어 Write-Through가 반영되지 못한 변경을 오래된 비트맵이 덮지 않도록 함)
+            long version = seatStatusIndexRepository.currentVersion(scheduleId);
+            List<Seat> seats = seatRepository.findAllByScheduleId(scheduleId);
+            SeatCatalog catalog = SeatCatalog.of(scheduleId, seats);
+            catalogs.put(scheduleId, catalog);
+            byte[] bitmap = catalog.encodeAvailability(seats);
+            if (!seatStatusIndexRepository.saveBitmapIfUnchanged(scheduleId, bitmap, version)) {
+                log.info("Seat status index not stored, seats changed during rebuild: scheduleId={}", scheduleId);
+                return SeatMap.unversioned(catalog, bitmap);
+            }
+
+            log.info("Seat status index rebuilt from DB: scheduleId={}, seats={}", scheduleId, catalog.size());
+
+            // 저장된 버전을 다시 읽어 사용 (Redis 장애 시 버전 없이 DB 결과로 응답)
+            return readFromIndex(scheduleId)
+                    .orElseGet(() -> SeatMap.unversioned(catalog, bitmap));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SeatCatalog catalogOf(Long scheduleId) {
+        return catalogs.computeIfAbsent(scheduleId,
+                id -> SeatCatalog.of(id, seatRepository.findAllByScheduleId(id)));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -9,6 +9,7 @@ import personal.ai.core.payment.domain.service.PaymentOutboxService;
 /**
  * Payment Outbox Event Scheduler
  * 주기적으로 PENDING 상태의 결제 이벤트를 Kafka로 발행
+ * 이벤트는 커밋 직후 바로 발행되므로, 스케줄러는 그 경로가 놓친 이벤트를 발행하는 안전망
  */
 @Slf4j
 @Component
@@ -18,9 +19,9 @@ public class PaymentOutboxScheduler {
     private final PaymentOutboxService paymentOutboxService;
 
     /**
-     * 5초마다 PENDING 이벤트 발행
+     * outbox.relay.poll-interval-ms마다 PENDING 이벤트 발행
      */
-    @Scheduled(fixedDelay = 5000)
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:1000}")
     public void publishPendingEvents() {
         try {
             int publishedCount = paymentOutboxService.publishPendingEvents();
@@ -32,4 +33,17 @@ public class PaymentOutboxScheduler {
             log.error("Error in payment outbox scheduler", e);
         }
     }
+
+    /**
+     * outbox.retention.interval-ms마다 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${outbox.retention.interval-ms:600000}",
+            initialDelayString = "${outbox.retention.interval-ms:600000}")
+    public void purgePublishedEvents() {
+        try {
+            paymentOutboxService.purgePublishedEvents();
+        } catch (Exception e) {
+            log.error("Error in payment outbox purge", e);
+        }
+    }
 }
@@ -1,17 +1,20 @@
 package personal.ai.core.payment.adapter.out.event;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import personal.ai.common.exception.OutboxEventException;
+import personal.ai.common.outbox.OutboxDispatcher;
+import personal.ai.common.outbox.OutboxMessage;
 import personal.ai.core.payment.adapter.out.kafka.PaymentCompletedEvent;
 import personal.ai.core.payment.adapter.out.persistence.PaymentOutboxEventEntity;
 import personal.ai.core.payment.application.port.out.PaymentEventPort;
 import personal.ai.core.payment.application.port.out.PaymentOutboxRepository;
 import personal.ai.core.payment.domain.model.Payment;
+import personal.ai.core.payment.domain.model.PaymentOutboxEvent;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -22,11 +25,20 @@ import java.util.UUID;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PaymentEventAdapter implements PaymentEventPort {
 
     private final PaymentOutboxRepository paymentOutboxRepository;
     private final ObjectMapper objectMapper;
+    private final OutboxDispatcher outboxDispatcher;
+
+    public PaymentEventAdapter(
+            PaymentOutboxRepository paymentOutboxRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("paymentOutboxDispatcher") OutboxDispatcher outboxDispatcher) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.objectMapper = objectMapper;
+        this.outboxDispatcher = outboxDispatcher;
+    }
 
     /**
      * 결제 완료 이벤트 발행 (Outbox 패턴)
@@ -35,14 +47,16 @@ public class PaymentEventAdapter implements PaymentEventPort {
      * - Outbox 이벤트는 반드시 비즈니스 로직과 같은 트랜잭션에서 저장되어야 함
      * - 호출자가 트랜잭션을 시작하지 않으면 즉시 예외 발생 (Fail-Fast)
      * - 데이터 정합성 보장을 아키텍처 레벨에서 강제
+     * 커밋 직후 바로 발행되며, 실패 시 스케줄러가 재발행
      */
     @Override
     @Transactional(propagation = Propagation.MANDATORY)
-    public void publishPaymentCompleted(Payment payment, String concertId) {
+    public void publishPaymentCompleted(Payment payment, String concertId, String scheduleId) {
         try {
             var event = new PaymentCompletedEvent(
                     UUID.randomUUID().toString(),
                     concertId,
+                    scheduleId,
                     payment.userId().toString(),
                     payment.reservationId().toString(),
                     payment.id().toString(),
@@ -57,7 +71,12 @@ public class PaymentEventAdapter implements PaymentEventPort {
                     "PAYMENT_COMPLETED",
                     payload);
 
-            paymentOutboxRepository.save(outboxEvent.toDomain());
+            PaymentOutboxEvent saved = paymentOutboxRepository.save(outboxEvent.toDomain());
+            outboxDispatcher.dispatchAfterCommit(new OutboxMessage(
+                    saved.id(),
+                    saved.eventType(),
+                    String.valueOf(saved.aggregateId()),
+                    saved.payload()));
             log.debug("Payment completed event published: paymentId={}", payment.id());
 
         } catch (Exception e) {
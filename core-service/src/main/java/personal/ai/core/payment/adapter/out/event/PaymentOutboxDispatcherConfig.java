@@ -0,0 +1,36 @@
+package personal.ai.core.payment.adapter.out.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.ai.common.outbox.OutboxDispatcher;
+import personal.ai.core.payment.application.port.out.PaymentEventPublisher;
+import personal.ai.core.payment.application.port.out.PaymentOutboxRepository;
+import personal.ai.core.payment.domain.service.PaymentOutboxService;
+
+import java.time.Duration;
+
+/**
+ * Payment Outbox Dispatcher Configuration
+ * 결제 이벤트를 커밋 직후 바로 발행하는 Dispatcher (PaymentEventAdapter에서 사용)
+ * 놓친 이벤트는 PaymentOutboxService의 Relay가 안전망으로 발행
+ */
+@Configuration
+public class PaymentOutboxDispatcherConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public OutboxDispatcher paymentOutboxDispatcher(
+            PaymentOutboxRepository paymentOutboxRepository,
+            PaymentEventPublisher paymentEventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${outbox.dispatch.mark-interval-ms:50}") long markIntervalMs) {
+        return new OutboxDispatcher(
+                "payment",
+                paymentOutboxRepository,
+                paymentEventPublisher::publishRawAsync,
+                PaymentOutboxService::topicOf,
+                transactionTemplate,
+                Duration.ofMillis(markIntervalMs));
+    }
+}
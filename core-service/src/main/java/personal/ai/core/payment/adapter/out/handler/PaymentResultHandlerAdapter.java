@@ -42,7 +42,7 @@ public class PaymentResultHandlerAdapter implements PaymentResultHandlerPort {
         var completedPayment = pendingPayment.complete();
         var savedPayment = paymentRepository.save(completedPayment);
 
-        paymentEventPort.publishPaymentCompleted(savedPayment, concertId);
+        paymentEventPort.publishPaymentCompleted(savedPayment, concertId, reservation.scheduleId().toString());
 
         log.debug("Payment success handled: paymentId={}", savedPayment.id());
         return savedPayment;
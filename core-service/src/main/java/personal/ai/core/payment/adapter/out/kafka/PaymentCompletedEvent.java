@@ -15,6 +15,9 @@ public record PaymentCompletedEvent(
         @JsonProperty("concertId")
         String concertId,
 
+        @JsonProperty("scheduleId")
+        String scheduleId,
+
         @JsonProperty("userId")
         String userId,
 
@@ -37,6 +40,7 @@ public record PaymentCompletedEvent(
         return "PaymentCompletedEvent{" +
                 "eventId='" + eventId + '\'' +
                 ", concertId='" + concertId + '\'' +
+                ", scheduleId='" + scheduleId + '\'' +
                 ", userId='" + userId + '\'' +
                 ", reservationId='" + reservationId + '\'' +
                 ", paymentId='" + paymentId + '\'' +
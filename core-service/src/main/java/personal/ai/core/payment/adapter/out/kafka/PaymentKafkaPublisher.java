@@ -13,6 +13,7 @@ import personal.ai.core.payment.domain.model.Payment;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Payment Kafka Publisher (Adapter Layer)
@@ -32,7 +33,7 @@ public class PaymentKafkaPublisher implements PaymentEventPublisher {
     private String paymentCompletedTopic;
 
     @Override
-    public void publishPaymentCompleted(Payment payment, String concertId) {
+    public void publishPaymentCompleted(Payment payment, String concertId, String scheduleId) {
         log.info("Publishing payment completed event: paymentId={}, reservationId={}",
                 payment.id(), payment.reservationId());
 
@@ -40,6 +41,7 @@ public class PaymentKafkaPublisher implements PaymentEventPublisher {
         PaymentCompletedEvent event = new PaymentCompletedEvent(
                 UUID.randomUUID().toString(),
                 concertId,
+                scheduleId,
                 payment.userId().toString(),
                 payment.reservationId().toString(),
                 payment.id().toString(),
@@ -80,4 +82,17 @@ public class PaymentKafkaPublisher implements PaymentEventPublisher {
             throw KafkaPublishException.publishFailed(topic, e);
         }
     }
+
+    @Override
+    public CompletableFuture<Void> publishRawAsync(String topic, String key, String payload) {
+        log.debug("Publishing raw payment event (async): topic={}, key={}", topic, key);
+        return kafkaTemplate.send(topic, key, payload)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        throw KafkaPublishException.publishFailed(topic, e);
+                    }
+                    log.debug("Raw payment event published: topic={}, key={}", topic, key);
+                    return null;
+                });
+    }
 }
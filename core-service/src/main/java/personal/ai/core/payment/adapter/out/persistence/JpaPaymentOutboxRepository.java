@@ -1,8 +1,11 @@
 package personal.ai.core.payment.adapter.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import personal.ai.core.payment.domain.model.PaymentOutboxEvent;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -11,7 +14,48 @@ import java.util.List;
 public interface JpaPaymentOutboxRepository extends JpaRepository<PaymentOutboxEventEntity, Long> {
 
     /**
-     * PENDING 상태의 이벤트 조회
+     * 발행 대기 중인 이벤트 선점 (생성 순서, 최대 limit건, 다른 인스턴스가 잠근 행은 건너뜀)
+     * 같은 aggregate_id에 더 오래된 PENDING 이벤트가 있으면 선점하지 않음 (키별 발행 순서 보장)
      */
-    List<PaymentOutboxEventEntity> findByStatusOrderByCreatedAtAsc(PaymentOutboxEvent.OutboxStatus status);
+    @Query(value = "SELECT o.* FROM payment_outbox_events o WHERE o.status = 'PENDING' AND o.created_at <= :createdBefore " +
+            "AND NOT EXISTS (SELECT 1 FROM payment_outbox_events p WHERE p.aggregate_id = o.aggregate_id " +
+            "AND p.status = 'PENDING' AND (p.created_at < o.created_at OR (p.created_at = o.created_at AND p.id < o.id))) " +
+            "ORDER BY o.created_at, o.id LIMIT :limit FOR UPDATE OF o SKIP LOCKED", nativeQuery = true)
+    List<PaymentOutboxEventEntity> claimPending(@Param("limit") int limit, @Param("createdBefore") LocalDateTime createdBefore);
+
+    /**
+     * 발행 완료 일괄 처리 (릴레이/커밋 직후 발행 중 먼저 반영한 쪽만 적용)
+     */
+    @Modifying
+    @Query(value = "UPDATE payment_outbox_events SET status = 'PUBLISHED', published_at = :publishedAt " +
+            "WHERE id IN (:ids) AND status = 'PENDING'", nativeQuery = true)
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 일괄 처리 (재시도 횟수 증가, 최대 횟수 도달 시 FAILED)
+     */
+    @Modifying
+    @Query(value = "UPDATE payment_outbox_events " +
+            "SET status = CASE WHEN retry_count + 1 >= :maxRetryCount THEN 'FAILED' ELSE status END, " +
+            "retry_count = retry_count + 1 " +
+            "WHERE id IN (:ids)", nativeQuery = true)
+    int markFailed(@Param("ids") List<Long> ids, @Param("maxRetryCount") int maxRetryCount);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 조회 ((published_at, id) Keyset 순서, (status, published_at) 인덱스 사용)
+     */
+    @Query(value = "SELECT * FROM payment_outbox_events WHERE status = 'PUBLISHED' AND published_at < :publishedBefore " +
+            "AND (published_at > :afterPublishedAt OR (published_at = :afterPublishedAt AND id > :afterId)) " +
+            "ORDER BY published_at, id LIMIT :limit", nativeQuery = true)
+    List<PaymentOutboxEventEntity> findPublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore,
+                                                       @Param("afterPublishedAt") LocalDateTime afterPublishedAt,
+                                                       @Param("afterId") long afterId,
+                                                       @Param("limit") int limit);
+
+    /**
+     * 발행 완료 이벤트 일괄 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM payment_outbox_events WHERE id IN (:ids) AND status = 'PUBLISHED'", nativeQuery = true)
+    int deletePublished(@Param("ids") List<Long> ids);
 }
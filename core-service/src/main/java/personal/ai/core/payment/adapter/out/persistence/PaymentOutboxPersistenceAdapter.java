@@ -3,11 +3,13 @@ package personal.ai.core.payment.adapter.out.persistence;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import personal.ai.common.outbox.OutboxMessage;
+import personal.ai.common.outbox.PublishedOutboxEvent;
 import personal.ai.core.payment.application.port.out.PaymentOutboxRepository;
 import personal.ai.core.payment.domain.model.PaymentOutboxEvent;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Payment Outbox Persistence Adapter
@@ -31,11 +33,37 @@ public class PaymentOutboxPersistenceAdapter implements PaymentOutboxRepository
     }
 
     @Override
-    public List<PaymentOutboxEvent> findPendingEvents() {
-        return jpaPaymentOutboxRepository
-                .findByStatusOrderByCreatedAtAsc(PaymentOutboxEvent.OutboxStatus.PENDING)
+    public List<OutboxMessage> claimPending(int limit, LocalDateTime createdBefore) {
+        // Key: Aggregate ID (paymentId) to ensure ordering
+        return jpaPaymentOutboxRepository.claimPending(limit, createdBefore)
                 .stream()
-                .map(PaymentOutboxEventEntity::toDomain)
-                .collect(Collectors.toList());
+                .map(PaymentOutboxEventEntity::toOutboxMessage)
+                .toList();
+    }
+
+    @Override
+    public int markPublished(List<Long> ids) {
+        return jpaPaymentOutboxRepository.markPublished(ids, LocalDateTime.now());
+    }
+
+    @Override
+    public int markFailed(List<Long> ids, int maxRetryCount) {
+        return jpaPaymentOutboxRepository.markFailed(ids, maxRetryCount);
+    }
+
+    @Override
+    public List<PublishedOutboxEvent> findPublishedBefore(LocalDateTime publishedBefore,
+                                                          LocalDateTime afterPublishedAt,
+                                                          long afterId,
+                                                          int limit) {
+        return jpaPaymentOutboxRepository.findPublishedBefore(publishedBefore, afterPublishedAt, afterId, limit)
+                .stream()
+                .map(PaymentOutboxEventEntity::toPublishedOutboxEvent)
+                .toList();
+    }
+
+    @Override
+    public int deletePublished(List<Long> ids) {
+        return jpaPaymentOutboxRepository.deletePublished(ids);
     }
 }
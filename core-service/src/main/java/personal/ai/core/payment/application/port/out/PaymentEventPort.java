@@ -12,7 +12,8 @@ public interface PaymentEventPort {
      * 결제 완료 이벤트 발행 (Outbox 패턴)
      *
      * @param payment   완료된 결제
-     * @param concertId 콘서트 ID
+     * @param concertId  콘서트 ID
+     * @param scheduleId 공연 일정 ID (일정 단위 대기열 식별용)
      */
-    void publishPaymentCompleted(Payment payment, String concertId);
+    void publishPaymentCompleted(Payment payment, String concertId, String scheduleId);
 }
@@ -2,6 +2,8 @@ package personal.ai.core.payment.application.port.out;
 
 import personal.ai.core.payment.domain.model.Payment;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Payment Event Publisher Port
  * 결제 이벤트 발행
@@ -11,7 +13,7 @@ public interface PaymentEventPublisher {
     /**
      * 결제 완료 이벤트 발행
      */
-    void publishPaymentCompleted(Payment payment, String concertId);
+    void publishPaymentCompleted(Payment payment, String concertId, String scheduleId);
 
     /**
      * Raw Event 발행 (Outbox Pattern용)
@@ -22,4 +24,14 @@ public interface PaymentEventPublisher {
      * @param payload 메시지 본문 (JSON String)
      */
     void publishRaw(String topic, String key, String payload);
+
+    /**
+     * Raw Event 비동기 발행 (Outbox Relay용)
+     *
+     * @param topic   발행할 Kafka 토픽
+     * @param key     메시지 키 (순서 보장용, e.g. paymentId)
+     * @param payload 메시지 본문 (JSON String)
+     * @return 브로커 확인(ack) 시 완료되는 Future (실패 시 KafkaPublishException)
+     */
+    CompletableFuture<Void> publishRawAsync(String topic, String key, String payload);
 }
@@ -1,21 +1,18 @@
 package personal.ai.core.payment.application.port.out;
 
+import personal.ai.common.outbox.OutboxRetentionStore;
+import personal.ai.common.outbox.OutboxStore;
 import personal.ai.core.payment.domain.model.PaymentOutboxEvent;
 
-import java.util.List;
-
 /**
  * Payment Outbox Repository Port
+ * 발행 대기 이벤트 선점/상태 반영은 공통 Outbox Relay의 OutboxStore 규약을 따름
+ * 보관 기간이 지난 이벤트 삭제는 OutboxRetentionStore 규약을 따름
  */
-public interface PaymentOutboxRepository {
+public interface PaymentOutboxRepository extends OutboxStore, OutboxRetentionStore {
 
     /**
      * Outbox Event 저장
      */
     PaymentOutboxEvent save(PaymentOutboxEvent event);
-
-    /**
-     * PENDING 상태의 이벤트 조회
-     */
-    List<PaymentOutboxEvent> findPendingEvents();
 }
@@ -1,71 +1,55 @@
 package personal.ai.core.payment.domain.service;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import personal.ai.common.outbox.OutboxPurger;
+import personal.ai.common.outbox.OutboxRelay;
+import personal.ai.common.outbox.OutboxRelaySettings;
+import personal.ai.common.outbox.OutboxRetentionSettings;
 import personal.ai.core.payment.application.port.out.PaymentEventPublisher;
 import personal.ai.core.payment.application.port.out.PaymentOutboxRepository;
-import personal.ai.core.payment.domain.model.PaymentOutboxEvent;
-
-import java.util.List;
 
 /**
  * Payment Outbox Service
  * 대기 중인 결제 이벤트를 발행 처리하는 도메인 서비스
+ * 선점/발행/상태 반영은 공통 Outbox Relay에 위임
+ * 커밋 직후 발행은 paymentOutboxDispatcher 빈이 담당하고, 놓친 이벤트는 스케줄러가 안전망으로 발행
+ * 보관 기간이 지난 발행 완료 이벤트는 배치 단위로 삭제
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PaymentOutboxService {
 
-    private static final int MAX_RETRY_COUNT = 3;
     private static final String TOPIC_PAYMENT_COMPLETED = "booking.payment.completed";
 
-    private final PaymentOutboxRepository paymentOutboxRepository;
-    private final PaymentEventPublisher paymentEventPublisher;
+    private final OutboxRelay outboxRelay;
+    private final OutboxPurger outboxPurger;
+
+    public PaymentOutboxService(PaymentOutboxRepository paymentOutboxRepository,
+                                PaymentEventPublisher paymentEventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                OutboxRelaySettings outboxRelaySettings,
+                                OutboxRetentionSettings outboxRetentionSettings,
+                                ObjectMapper objectMapper) {
+        this.outboxRelay = new OutboxRelay(
+                "payment",
+                paymentOutboxRepository,
+                paymentEventPublisher::publishRawAsync,
+                PaymentOutboxService::topicOf,
+                transactionTemplate,
+                outboxRelaySettings);
+        this.outboxPurger = new OutboxPurger(
+                "payment",
+                paymentOutboxRepository,
+                transactionTemplate,
+                objectMapper,
+                outboxRetentionSettings);
+    }
 
-    @Transactional
     public int publishPendingEvents() {
-        List<PaymentOutboxEvent> pendingEvents = paymentOutboxRepository.findPendingEvents();
-        int publishedCount = 0;
-
-        for (PaymentOutboxEvent event : pendingEvents) {
-            try {
-                String topic = mapEventTypeToTopic(event.eventType());
-
-                // Key: Aggregate ID (paymentId) to ensure ordering
-                String key = String.valueOf(event.aggregateId());
-
-                log.debug("Publishing payment event: id={}, type={}, topic={}",
-                        event.id(), event.eventType(), topic);
-
-                // Publish Raw Payload directly
-                paymentEventPublisher.publishRaw(topic, key, event.payload());
-
-                // Update Status (Immutable)
-                PaymentOutboxEvent publishedEvent = event.markAsPublished();
-                paymentOutboxRepository.save(publishedEvent);
-                publishedCount++;
-
-                log.info("Payment event published successfully: id={}, type={}",
-                        event.id(), event.eventType());
-
-            } catch (Exception e) {
-                log.error("Failed to publish payment event: id={}", event.id(), e);
-
-                // Retry Logic (Immutable)
-                PaymentOutboxEvent retriedEvent = event.incrementRetryCount();
-
-                if (retriedEvent.retryCount() >= MAX_RETRY_COUNT) {
-                    retriedEvent = retriedEvent.markAsFailed();
-                    log.error("Payment event marked as FAILED after {} retries: id={}",
-                            MAX_RETRY_COUNT, event.id());
-                }
-
-                paymentOutboxRepository.save(retriedEvent);
-            }
-        }
+        int publishedCount = outboxRelay.relayPending();
 
         if (publishedCount > 0) {
             log.info("Published {} payment outbox events", publishedCount);
@@ -74,7 +58,17 @@ public class PaymentOutboxService {
         return publishedCount;
     }
 
-    private String mapEventTypeToTopic(String eventType) {
+    /**
+     * 보관 기간이 지난 발행 완료 결제 이벤트 삭제
+     */
+    public int purgePublishedEvents() {
+        return outboxPurger.purgePublished();
+    }
+
+    /**
+     * 결제 이벤트 타입 -> 토픽 (Relay/Dispatcher 공용)
+     */
+    public static String topicOf(String eventType) {
         return switch (eventType) {
             case "PAYMENT_COMPLETED" -> TOPIC_PAYMENT_COMPLETED;
             default -> throw new IllegalArgumentException("Unknown payment event type: " + eventType);
@@ -0,0 +1,13 @@
+-- 다중 좌석 원자적 선점 (All or Nothing)
+-- KEYS: 좌석 락 키 목록, ARGV[1]: 소유자(userId), ARGV[2]: TTL(초)
+-- 반환: 0 = 전체 선점 성공, N = N번째 키가 이미 선점됨 (아무 키도 설정하지 않음)
+for i, key in ipairs(KEYS) do
+    if redis.call("exists", key) == 1 then
+        return i
+    end
+end
+
+for _, key in ipairs(KEYS) do
+    redis.call("set", key, ARGV[1], "EX", ARGV[2])
+end
+return 0
@@ -0,0 +1,10 @@
+-- 다중 좌석 선점 해제 (소유권 검증)
+-- KEYS: 좌석 락 키 목록, ARGV[1]: 소유자(userId)
+-- 반환: 해제된 키 개수
+local released = 0
+for _, key in ipairs(KEYS) do
+    if redis.call("get", key) == ARGV[1] then
+        released = released + redis.call("del", key)
+    end
+end
+return released
@@ -0,0 +1,19 @@
+-- 좌석 상태 비트맵 재구성 저장 (DB 조회 전 읽은 버전이 그대로일 때만)
+-- KEYS[1]: seat:status:{scheduleId}
+-- KEYS[2]: seat:version:{scheduleId}
+-- ARGV[1]: 좌석 상태 비트맵
+-- ARGV[2]: DB 조회 전 버전
+-- ARGV[3]: TTL(초)
+-- 반환: 1 = 저장 또는 이미 재구성됨, 0 = DB 조회 중 좌석 상태가 바뀌어 저장하지 않음
+if redis.call("exists", KEYS[1]) == 1 then
+    return 1
+end
+
+local current = tonumber(redis.call("get", KEYS[2]) or "0")
+if current ~= tonumber(ARGV[2]) then
+    return 0
+end
+
+redis.call("set", KEYS[1], ARGV[1], "EX", ARGV[3])
+redis.call("incr", KEYS[2])
+return 1
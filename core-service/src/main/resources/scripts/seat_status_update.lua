@@ -0,0 +1,17 @@
+-- 좌석 상태 비트맵 갱신 (비트맵이 있을 때만)
+-- KEYS[1]: seat:status:{scheduleId}
+-- KEYS[2]: seat:version:{scheduleId}
+-- ARGV[1]: 좌석 비트 offset
+-- ARGV[2]: 1 = AVAILABLE, 0 = RESERVED/OCCUPIED
+-- 반환: 비트가 바뀌면 증가된 버전, 변경 없음 또는 비트맵 없음이면 0
+if redis.call("exists", KEYS[1]) == 0 then
+    -- 비트맵이 없어도 버전은 올려 진행 중인 재구성이 이 변경 이전의 DB 결과를 저장하지 않도록 함
+    redis.call("incr", KEYS[2])
+    return 0
+end
+
+local previous = redis.call("setbit", KEYS[1], ARGV[1], ARGV[2])
+if previous ~= tonumber(ARGV[2]) then
+    return redis.call("incr", KEYS[2])
+end
+return 0
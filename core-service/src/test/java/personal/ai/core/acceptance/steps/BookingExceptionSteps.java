@@ -12,6 +12,8 @@ import personal.ai.core.acceptance.support.BookingTestContext;
 import personal.ai.core.booking.domain.model.ReservationStatus;
 import personal.ai.core.booking.domain.model.SeatStatus;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -67,6 +69,54 @@ public class BookingExceptionSteps {
         log.info(">>> Then: 에러 메시지 확인 - message={}", message);
     }
 
+    // ==========================================
+    // 다중 좌석 예약 (All or Nothing)
+    // ==========================================
+
+    @Given("예약할 좌석 3개 중 하나가 다른 사용자에게 선점되어 있다")
+    public void 예약할_좌석_3개_중_하나가_다른_사용자에게_선점되어_있다() {
+        Long scheduleId = context.getCurrentScheduleId();
+        context.setGroupSeatIds(List.of(
+                testUtility.createSeat(scheduleId, "G1", SeatStatus.AVAILABLE),
+                testUtility.createSeat(scheduleId, "G2", SeatStatus.AVAILABLE),
+                testUtility.createSeat(scheduleId, "G3", SeatStatus.AVAILABLE)));
+
+        // 가운데 좌석만 다른 사용자가 선점 (앞 좌석 락이 남지 않는지 확인하기 위함)
+        testUtility.lockSeat(context.getGroupSeatIds().get(1), 999L);
+        log.info(">>> Given: 다중 좌석 준비 - seatIds={}, lockedSeatId={}",
+                context.getGroupSeatIds(), context.getGroupSeatIds().get(1));
+    }
+
+    @When("3개 좌석을 한 번에 예약 요청한다")
+    public void 좌석_3개를_한_번에_예약_요청한다() {
+        log.info(">>> When: POST /api/v1/reservations/batch - seatIds={}", context.getGroupSeatIds());
+        context.setLastHttpResponse(httpAdapter.reserveSeats(
+                context.getCurrentScheduleId(), context.getGroupSeatIds(),
+                context.getCurrentUserId(), context.getCurrentQueueToken()));
+    }
+
+    @Then("요청된 다중 좌석 예약이 거부된다")
+    public void 요청된_다중_좌석_예약이_거부된다() {
+        assertThat(context.getLastHttpResponse().statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        log.info(">>> Then: 다중 좌석 예약 거부 확인 - HTTP 409 CONFLICT");
+    }
+
+    @Then("나머지 좌석에는 선점 락이 설정되지 않는다")
+    public void 나머지_좌석에는_선점_락이_설정되지_않는다() {
+        List<Long> seatIds = context.getGroupSeatIds();
+        assertThat(testUtility.isSeatLocked(seatIds.get(0))).isFalse();
+        assertThat(testUtility.isSeatLocked(seatIds.get(2))).isFalse();
+        log.info(">>> Then: 나머지 좌석 락 없음 확인");
+    }
+
+    @Then("어떤 좌석도 예약되지 않는다")
+    public void 어떤_좌석도_예약되지_않는다() {
+        assertThat(context.getGroupSeatIds())
+                .allSatisfy(seatId -> assertThat(testUtility.getSeatStatus(seatId)).isEqualTo(SeatStatus.AVAILABLE));
+        assertThat(testUtility.countReservations()).isZero();
+        log.info(">>> Then: 좌석 상태 AVAILABLE 유지 및 예약 없음 확인");
+    }
+
     // ==========================================
     // 타인 예약 조회
     // ==========================================
@@ -9,6 +9,7 @@ import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -89,6 +90,20 @@ public class BookingHttpAdapter {
                 .post("/api/v1/reservations");
     }
 
+    /**
+     * 다중 좌석 예약
+     * POST /api/v1/reservations/batch
+     */
+    public Response reserveSeats(Long scheduleId, List<Long> seatIds, Long userId, String queueToken) {
+        log.debug(">>> HTTP: POST /reservations/batch - scheduleId={}, seatIds={}, userId={}",
+                scheduleId, seatIds, userId);
+
+        return givenRequestWithHeaders(userId, queueToken)
+                .body(Map.of("scheduleId", scheduleId, "seatIds", seatIds))
+                .when()
+                .post("/api/v1/reservations/batch");
+    }
+
     /**
      * 예약 조회
      * GET /api/v1/reservations/{reservationId}
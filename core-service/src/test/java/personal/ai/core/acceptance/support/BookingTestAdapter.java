@@ -5,6 +5,8 @@ import io.restassured.http.ContentType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import personal.ai.core.booking.adapter.in.web.dto.ReservationResponse;
 import personal.ai.core.booking.adapter.in.web.dto.ReserveSeatRequest;
@@ -23,6 +25,8 @@ import personal.ai.core.user.adapter.out.persistence.JpaUserRepository;
 import personal.ai.core.user.adapter.out.persistence.UserEntity;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +51,8 @@ public class BookingTestAdapter {
 
     private static final String BASE_URI = "http://localhost";
     private static final int DEFAULT_PORT = 8080;
+    private static final Long DEFAULT_CONCERT_ID = 1L;
+    private static final String SEAT_LOCK_PREFIX = "seat:lock:";
     private final JpaSeatRepository seatRepository;
     private final JpaReservationRepository reservationRepository;
     private final JpaUserRepository userRepository;
@@ -57,6 +63,8 @@ public class BookingTestAdapter {
     // ==========================================
     private final JpaPaymentOutboxRepository outboxRepository;
     private final Environment environment;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
 
     // ==========================================
     // Private 헬퍼 메서드
@@ -93,13 +101,17 @@ public class BookingTestAdapter {
 
     /**
      * 스케줄 생성 (존재하지 않는 경우)
-     * Schedule은 별도 엔티티가 없으므로 ID만 사용
+     * 대기열 토큰 범위 검증이 일정의 콘서트를 조회하므로 기본 콘서트 하위에 일정을 생성
      *
      * @param scheduleId 스케줄 ID
      */
     public void createScheduleIfNotExists(Long scheduleId) {
-        log.info(">>> Adapter: 스케줄 ID {} 사용 (별도 엔티티 없음)", scheduleId);
-        // Schedule은 별도 테이블이 없고, Seat에 scheduleId로만 관리됨
+        jdbcTemplate.update("INSERT IGNORE INTO concerts (id, name) VALUES (?, ?)",
+                DEFAULT_CONCERT_ID, "Acceptance Test Concert");
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO concert_schedules (id, concert_id, performance_date, venue) VALUES (?, ?, ?, ?)",
+                scheduleId, DEFAULT_CONCERT_ID, LocalDateTime.now().plusDays(30), "Acceptance Test Hall");
+        log.info(">>> Adapter: 스케줄 준비 - scheduleId={}, concertId={}", scheduleId, DEFAULT_CONCERT_ID);
     }
 
     /**
@@ -139,6 +151,17 @@ public class BookingTestAdapter {
         return saved.getId();
     }
 
+    /**
+     * 좌석 선점 락 설정 (다른 사용자가 예약 진행 중인 상태)
+     *
+     * @param seatId 좌석 ID
+     * @param userId 락 소유 사용자 ID
+     */
+    public void lockSeat(Long seatId, Long userId) {
+        redisTemplate.opsForValue().set(SEAT_LOCK_PREFIX + seatId, String.valueOf(userId), Duration.ofMinutes(1));
+        log.info(">>> Adapter: 좌석 락 설정 - seatId={}, userId={}", seatId, userId);
+    }
+
     /**
      * 사용자 생성
      *
@@ -337,7 +360,7 @@ public class BookingTestAdapter {
                 userId,
                 seat.getPrice(),
                 "CREDIT_CARD",
-                "CONCERT-001");
+                String.valueOf(DEFAULT_CONCERT_ID));
 
         Map<String, Object> response = RestAssured.given()
                 .baseUri(BASE_URI)
@@ -385,6 +408,23 @@ public class BookingTestAdapter {
         return seat.getStatus();
     }
 
+    /**
+     * 좌석 선점 락 존재 여부
+     *
+     * @param seatId 좌석 ID
+     * @return 락 존재 여부
+     */
+    public boolean isSeatLocked(Long seatId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(SEAT_LOCK_PREFIX + seatId));
+    }
+
+    /**
+     * 저장된 예약 수
+     */
+    public long countReservations() {
+        return reservationRepository.count();
+    }
+
     /**
      * 예약 상태 조회
      *
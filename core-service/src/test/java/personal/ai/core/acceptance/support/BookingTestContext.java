@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -26,7 +27,7 @@ public class BookingTestContext {
     // ==========================================
 
     /** 기본 콘서트 ID */
-    private static final String DEFAULT_CONCERT_ID = "CONCERT-001";
+    private static final String DEFAULT_CONCERT_ID = "1";
 
     // ==========================================
     // 기본 테스트 데이터
@@ -53,6 +54,8 @@ public class BookingTestContext {
     private Long currentReservationId;
     /** 다른 사용자 ID (권한 테스트용) */
     private Long otherUserId;
+    /** 다중 좌석 예약 대상 좌석 ID 목록 */
+    private List<Long> groupSeatIds;
 
     // ==========================================
     // 동시성 테스트용
@@ -84,6 +87,7 @@ public class BookingTestContext {
         currentQueueToken = null;
         currentReservationId = null;
         otherUserId = null;
+        groupSeatIds = null;
         otherReservationId = null;
         myReservationId = null;
         successfulReservations.set(0);
@@ -0,0 +1,61 @@
+package personal.ai.core.adapter.out.persistence.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TsidFactory 단위 테스트")
+class TsidFactoryTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("같은 밀리초에 카운터를 모두 써도 ID는 중복 없이 단조 증가한다")
+    void next_MonotonicWithinSameMillisecond() {
+        // given
+        TsidFactory factory = new TsidFactory(7, Clock.fixed(NOW, ZoneOffset.UTC));
+        Set<Long> ids = new HashSet<>();
+
+        // when & then
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = factory.next();
+            assertThat(id).isGreaterThan(previous);
+            assertThat(ids.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("ID에 생성 시각과 노드 ID가 담긴다")
+    void next_EncodesTimeAndNode() {
+        // given
+        TsidFactory factory = new TsidFactory(1023, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when
+        long id = factory.next();
+
+        // then
+        long elapsed = id >>> (TsidFactory.NODE_BITS + TsidFactory.COUNTER_BITS);
+        long node = (id >>> TsidFactory.COUNTER_BITS) & TsidFactory.NODE_MASK;
+        assertThat(elapsed).isEqualTo(NOW.toEpochMilli() - TsidFactory.EPOCH_MILLIS);
+        assertThat(node).isEqualTo(1023);
+        assertThat(id).isPositive();
+    }
+
+    @Test
+    @DisplayName("노드 ID가 범위를 벗어나면 예외가 발생한다")
+    void constructor_InvalidNode() {
+        // when & then
+        assertThatThrownBy(() -> new TsidFactory(1024, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package personal.ai.core.booking.adapter.out.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import personal.ai.common.outbox.OutboxDispatcher;
+import personal.ai.core.booking.adapter.out.persistence.JpaOutboxEventRepository;
+import personal.ai.core.booking.adapter.out.persistence.OutboxEventEntity;
+import personal.ai.core.booking.adapter.out.persistence.OutboxEventFactory;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationEventAdapter 단위 테스트")
+class ReservationEventAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private JpaOutboxEventRepository jpaOutboxEventRepository;
+    @Mock
+    private OutboxDispatcher outboxDispatcher;
+
+    private ReservationEventAdapter reservationEventAdapter;
+
+    @BeforeEach
+    void setUp() {
+        reservationEventAdapter = new ReservationEventAdapter(
+                jpaOutboxEventRepository, new OutboxEventFactory(new ObjectMapper()), outboxDispatcher);
+    }
+
+    @Test
+    @DisplayName("다중 좌석 예약은 좌석 수와 무관하게 RESERVATION_GROUP_CREATED Outbox 이벤트 하나만 기록한다")
+    void publishReservationGroupCreatedEvent_SavesSingleOutboxRow() {
+        // given
+        List<Reservation> reservations = List.of(
+                pending(101L, 10L), pending(102L, 11L), pending(103L, 12L));
+
+        // when
+        reservationEventAdapter.publishReservationGroupCreatedEvent(reservations);
+
+        // then
+        ArgumentCaptor<OutboxEventEntity> captor = ArgumentCaptor.forClass(OutboxEventEntity.class);
+        verify(jpaOutboxEventRepository, times(1)).save(captor.capture());
+        verify(outboxDispatcher, times(1)).dispatchAfterCommit(any());
+
+        OutboxEventEntity event = captor.getValue();
+        assertThat(event.getEventType()).isEqualTo("RESERVATION_GROUP_CREATED");
+        assertThat(event.getAggregateId()).isEqualTo(101L);
+        assertThat(event.getPayload()).contains("\"reservationId\":101", "\"reservationId\":102", "\"reservationId\":103");
+    }
+
+    private static Reservation pending(Long id, Long seatId) {
+        return new Reservation(id, 7L, seatId, 1L, ReservationStatus.PENDING, NOW.plusMinutes(5), NOW);
+    }
+}
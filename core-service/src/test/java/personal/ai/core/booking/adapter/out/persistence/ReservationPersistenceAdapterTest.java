@@ -0,0 +1,56 @@
+package personal.ai.core.booking.adapter.out.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import personal.ai.core.booking.application.port.out.ReservationEventPort;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationPersistenceAdapter 단위 테스트")
+class ReservationPersistenceAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private JpaReservationRepository jpaReservationRepository;
+    @Mock
+    private ReservationEventPort reservationEventPort;
+    @InjectMocks
+    private ReservationPersistenceAdapter reservationPersistenceAdapter;
+
+    @Test
+    @DisplayName("예약 일괄 저장 시 예약별 이벤트 없이 그룹 이벤트를 한 번만 발행한다")
+    void saveAll_PublishesSingleGroupEvent() {
+        // given
+        List<Reservation> reservations = List.of(pending(101L, 10L), pending(102L, 11L));
+        willAnswer(invocation -> invocation.getArgument(0)).given(jpaReservationRepository).saveAll(anyList());
+
+        // when
+        List<Reservation> saved = reservationPersistenceAdapter.saveAll(reservations);
+
+        // then
+        assertThat(saved).extracting(Reservation::seatId).containsExactly(10L, 11L);
+        verify(reservationEventPort, times(1)).publishReservationGroupCreatedEvent(saved);
+        verify(reservationEventPort, never()).publishReservationEvent(any());
+    }
+
+    private static Reservation pending(Long id, Long seatId) {
+        return new Reservation(id, 7L, seatId, 1L, ReservationStatus.PENDING, NOW.plusMinutes(5), NOW);
+    }
+}
@@ -0,0 +1,47 @@
+package personal.ai.core.booking.application.port.in;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.common.exception.BusinessException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ReserveSeatsCommand 단위 테스트")
+class ReserveSeatsCommandTest {
+
+    private static final String TOKEN = "1:7:100";
+
+    @Test
+    @DisplayName("1~4개의 서로 다른 좌석은 좌석 ID 오름차순으로 정렬된다")
+    void create_SortsSeatIds() {
+        // when
+        ReserveSeatsCommand command = new ReserveSeatsCommand(7L, List.of(13L, 11L, 12L, 10L), 1L, TOKEN);
+
+        // then
+        assertThat(command.seatIds()).containsExactly(10L, 11L, 12L, 13L);
+        assertThat(new ReserveSeatsCommand(7L, List.of(10L), 1L, TOKEN).seatIds()).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("좌석이 없거나 최대 좌석 수를 넘으면 예외가 발생한다")
+    void create_RejectsEmptyOrTooManySeats() {
+        // when & then
+        assertThatThrownBy(() -> new ReserveSeatsCommand(7L, List.of(), 1L, TOKEN))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> new ReserveSeatsCommand(7L, List.of(10L, 11L, 12L, 13L, 14L), 1L, TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("more than 4");
+    }
+
+    @Test
+    @DisplayName("중복된 좌석 ID가 있으면 예외가 발생한다")
+    void create_RejectsDuplicateSeats() {
+        // when & then
+        assertThatThrownBy(() -> new ReserveSeatsCommand(7L, List.of(10L, 11L, 10L), 1L, TOKEN))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("distinct");
+    }
+}
@@ -0,0 +1,77 @@
+package personal.ai.core.booking.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import personal.ai.core.booking.application.port.in.ReserveSeatsCommand;
+import personal.ai.core.booking.application.port.out.QueueServiceClient;
+import personal.ai.core.booking.application.port.out.SeatLockRepository;
+import personal.ai.core.booking.domain.exception.SeatAlreadyReservedException;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
+import personal.ai.core.booking.domain.model.SeatStatus;
+import personal.ai.core.booking.domain.service.BookingManager;
+import personal.ai.core.booking.domain.service.QueueTokenScopeVerifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatReservationService 다중 좌석 예약 단위 테스트")
+class SeatReservationServiceTest {
+
+    private static final List<Long> SEAT_IDS = List.of(10L, 11L, 12L);
+
+    @Mock
+    private SeatLockRepository seatLockRepository;
+    @Mock
+    private QueueServiceClient queueServiceClient;
+    @Mock
+    private BookingManager bookingManager;
+    @Mock
+    private QueueTokenScopeVerifier queueTokenScopeVerifier;
+    @InjectMocks
+    private SeatReservationService seatReservationService;
+
+    @Test
+    @DisplayName("한 좌석이라도 선점되어 있으면 DB에 접근하지 않고 충돌 좌석으로 거부한다")
+    void reserveSeats_LockConflict_SkipsDatabase() {
+        // given
+        ReserveSeatsCommand command = new ReserveSeatsCommand(7L, SEAT_IDS, 1L, "1:7:100");
+        given(seatLockRepository.tryLockAll(SEAT_IDS, 7L, 300)).willReturn(Optional.of(11L));
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationService.reserveSeats(command))
+                .isInstanceOf(SeatAlreadyReservedException.class)
+                .hasMessageContaining("seatId=11");
+
+        verify(bookingManager, never()).reserveSeatsInTransaction(any());
+        verify(seatLockRepository, never()).unlockAll(anyList(), anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 선점에 실패하면 선점한 락을 모두 해제하고 예외를 전달한다")
+    void reserveSeats_ClaimFailure_ReleasesAllLocks() {
+        // given
+        ReserveSeatsCommand command = new ReserveSeatsCommand(7L, SEAT_IDS, 1L, "1:7:100");
+        given(seatLockRepository.tryLockAll(SEAT_IDS, 7L, 300)).willReturn(Optional.empty());
+        given(bookingManager.reserveSeatsInTransaction(command))
+                .willThrow(new SeatNotAvailableException(12L, SeatStatus.OCCUPIED));
+
+        // when & then
+        assertThatThrownBy(() -> seatReservationService.reserveSeats(command))
+                .isInstanceOf(SeatNotAvailableException.class);
+
+        verify(seatLockRepository).unlockAll(SEAT_IDS, 7L);
+    }
+}
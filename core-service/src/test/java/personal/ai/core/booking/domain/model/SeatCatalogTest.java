@@ -0,0 +1,91 @@
+package personal.ai.core.booking.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SeatCatalog 단위 테스트")
+class SeatCatalogTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    @Test
+    @DisplayName("좌석 ID 순서로 offset을 부여하고 예매 가능 좌석만 비트맵으로 복원한다")
+    void encodeAndDecode_AvailableSeatsOnly() {
+        // given
+        List<Seat> seats = List.of(
+                seat(30L, SeatStatus.AVAILABLE),
+                seat(10L, SeatStatus.RESERVED),
+                seat(20L, SeatStatus.AVAILABLE),
+                seat(40L, SeatStatus.OCCUPIED));
+        SeatCatalog catalog = SeatCatalog.of(SCHEDULE_ID, seats);
+
+        // when
+        byte[] bitmap = catalog.encodeAvailability(seats);
+        List<Seat> available = catalog.availableSeats(bitmap);
+
+        // then
+        assertThat(catalog.offsetOf(10L)).hasValue(0);
+        assertThat(catalog.offsetOf(40L)).hasValue(3);
+        assertThat(catalog.offsetOf(99L)).isEmpty();
+        assertThat(bitmap).containsExactly((byte) 0b0110_0000);
+        assertThat(available).extracting(Seat::id).containsExactly(20L, 30L);
+        assertThat(available).allMatch(Seat::isAvailable);
+    }
+
+    @Test
+    @DisplayName("비트맵이 카탈로그보다 짧으면 나머지 좌석은 예매 불가로 간주한다")
+    void availableSeats_ShortBitmap() {
+        // given
+        List<Seat> seats = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            seats.add(seat(id, SeatStatus.AVAILABLE));
+        }
+        SeatCatalog catalog = SeatCatalog.of(SCHEDULE_ID, seats);
+
+        // when
+        List<Seat> available = catalog.availableSeats(new byte[]{(byte) 0xFF});
+
+        // then
+        assertThat(available).hasSize(8);
+        assertThat(catalog.encodeAvailability(seats)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전은 정적 정보가 같으면 상태와 무관하게 같고, 가격이 바뀌면 달라진다")
+    void version_DependsOnStaticInfoOnly() {
+        // given
+        SeatCatalog catalog = SeatCatalog.of(SCHEDULE_ID, List.of(seat(1L, SeatStatus.AVAILABLE)));
+        SeatCatalog sameSeats = SeatCatalog.of(SCHEDULE_ID, List.of(seat(1L, SeatStatus.OCCUPIED)));
+        SeatCatalog repriced = SeatCatalog.of(SCHEDULE_ID, List.of(
+                new Seat(1L, SCHEDULE_ID, "A1", SeatGrade.A, BigDecimal.valueOf(60000), SeatStatus.AVAILABLE)));
+
+        // when & then
+        assertThat(sameSeats.version()).isEqualTo(catalog.version());
+        assertThat(repriced.version()).isNotEqualTo(catalog.version());
+    }
+
+    @Test
+    @DisplayName("좌석 맵은 비트맵 길이를 카탈로그 좌석 수에 맞춘다")
+    void seatMap_NormalizesBitmapLength() {
+        // given
+        SeatCatalog catalog = SeatCatalog.of(SCHEDULE_ID, List.of(seat(1L, SeatStatus.AVAILABLE)));
+
+        // when
+        SeatMap seatMap = new SeatMap(catalog, 3L, new byte[]{(byte) 0x80, (byte) 0xFF});
+
+        // then
+        assertThat(seatMap.availability()).containsExactly((byte) 0x80);
+        assertThat(seatMap.availableSeats()).extracting(Seat::id).containsExactly(1L);
+        assertThat(SeatMap.unversioned(catalog, seatMap.availability()).version()).isNegative();
+    }
+
+    private Seat seat(Long id, SeatStatus status) {
+        return new Seat(id, SCHEDULE_ID, "A" + id, SeatGrade.A, BigDecimal.valueOf(50000), status);
+    }
+}
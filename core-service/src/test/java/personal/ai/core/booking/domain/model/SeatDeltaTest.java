@@ -0,0 +1,35 @@
+package personal.ai.core.booking.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SeatDelta 단위 테스트")
+class SeatDeltaTest {
+
+    @Test
+    @DisplayName("노드 간 전달 메시지로 직렬화한 뒤 같은 변경분으로 복원된다")
+    void message_RoundTrip() {
+        // given
+        SeatDelta delta = new SeatDelta(1L, 42L, SeatStatus.RESERVED, 7L);
+
+        // when
+        SeatDelta restored = SeatDelta.fromMessage(1L, delta.toMessage());
+
+        // then
+        assertThat(delta.toMessage()).isEqualTo("42:RESERVED:7");
+        assertThat(restored).isEqualTo(delta);
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 메시지는 예외가 발생한다")
+    void fromMessage_InvalidFormat() {
+        // when & then
+        assertThatThrownBy(() -> SeatDelta.fromMessage(1L, "42:RESERVED"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeatDelta.fromMessage(1L, "42:UNKNOWN:1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,86 @@
+package personal.ai.core.booking.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import personal.ai.core.booking.application.port.out.ReservationRepository;
+import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.ReservationStatus;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingManager 예약 만료 단위 테스트")
+class BookingManagerExpiryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private SeatRepository seatRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SeatStatusIndexer seatStatusIndexer;
+    @InjectMocks
+    private BookingManager bookingManager;
+
+    @Test
+    @DisplayName("선점한 만료 예약을 한 번에 만료 처리하고 좌석을 일괄 반환한다")
+    void expireDueReservations_ExpiresBatchAndReleasesSeats() {
+        // given
+        List<Reservation> due = List.of(pending(1L, 10L, 100L), pending(2L, 20L, 200L));
+        given(reservationRepository.claimExpired(NOW, 10)).willReturn(due);
+        given(seatRepository.releaseAllReserved(List.of(10L, 20L))).willReturn(2);
+
+        // when
+        int expired = bookingManager.expireDueReservations(NOW, 10);
+
+        // then
+        assertThat(expired).isEqualTo(2);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Reservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository).expireAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(Reservation::status)
+                .containsOnly(ReservationStatus.EXPIRED);
+
+        verify(seatStatusIndexer).recordStatusChange(100L, 10L, SeatStatus.AVAILABLE);
+        verify(seatStatusIndexer).recordStatusChange(200L, 20L, SeatStatus.AVAILABLE);
+    }
+
+    @Test
+    @DisplayName("만료 대상이 없으면 아무것도 변경하지 않는다")
+    void expireDueReservations_NothingDue() {
+        // given
+        given(reservationRepository.claimExpired(NOW, 10)).willReturn(List.of());
+
+        // when
+        int expired = bookingManager.expireDueReservations(NOW, 10);
+
+        // then
+        assertThat(expired).isZero();
+        verify(reservationRepository, never()).expireAll(anyList());
+        verify(seatRepository, never()).releaseAllReserved(anyList());
+        verify(seatStatusIndexer, never()).recordStatusChange(any(), any(), any());
+    }
+
+    private static Reservation pending(Long id, Long seatId, Long scheduleId) {
+        return new Reservation(id, 1L, seatId, scheduleId, ReservationStatus.PENDING,
+                NOW.minusMinutes(1), NOW.minusMinutes(6));
+    }
+}
@@ -0,0 +1,179 @@
+package personal.ai.core.booking.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import personal.ai.core.booking.application.port.in.ReserveSeatCommand;
+import personal.ai.core.booking.application.port.in.ReserveSeatsCommand;
+import personal.ai.core.booking.application.port.out.ReservationRepository;
+import personal.ai.core.booking.application.port.out.SeatRepository;
+import personal.ai.core.booking.domain.exception.SeatNotAvailableException;
+import personal.ai.core.booking.domain.exception.SeatNotFoundException;
+import personal.ai.core.booking.domain.model.Reservation;
+import personal.ai.core.booking.domain.model.Seat;
+import personal.ai.core.booking.domain.model.SeatGrade;
+import personal.ai.core.booking.domain.model.SeatStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookingManager 좌석 예약 단위 테스트")
+class BookingManagerReservationTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+    private static final List<Long> SEAT_IDS = List.of(10L, 11L, 12L);
+
+    @Mock
+    private SeatRepository seatRepository;
+    @Mock
+    private ReservationRepository reservationRepository;
+    @Mock
+    private SeatStatusIndexer seatStatusIndexer;
+    @InjectMocks
+    private BookingManager bookingManager;
+
+    @Test
+    @DisplayName("조건부 UPDATE로 좌석을 선점하면 예약을 저장하고 인덱스 변경을 기록한다")
+    void reserveSeat_Claimed_SavesAndRecordsIndexChange() {
+        // given
+        given(seatRepository.claimAvailable(SCHEDULE_ID, 10L)).willReturn(true);
+        given(reservationRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Reservation reservation = bookingManager.reserveSeatInTransaction(singleCommand(10L));
+
+        // then
+        assertThat(reservation.seatId()).isEqualTo(10L);
+        assertThat(reservation.scheduleId()).isEqualTo(SCHEDULE_ID);
+        verify(seatStatusIndexer).recordStatusChange(SCHEDULE_ID, 10L, SeatStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("갱신된 행이 없으면 좌석의 현재 상태로 예약 불가 예외가 발생한다")
+    void reserveSeat_NoRowUpdated_NotAvailable() {
+        // given
+        given(seatRepository.claimAvailable(SCHEDULE_ID, 10L)).willReturn(false);
+        given(seatRepository.findById(10L)).willReturn(Optional.of(seat(10L, SCHEDULE_ID, SeatStatus.RESERVED)));
+
+        // when & then
+        assertThatThrownBy(() -> bookingManager.reserveSeatInTransaction(singleCommand(10L)))
+                .isInstanceOf(SeatNotAvailableException.class)
+                .hasMessageContaining("currentStatus=RESERVED");
+
+        verify(reservationRepository, never()).save(any());
+        verify(seatStatusIndexer, never()).recordStatusChange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("다른 일정의 좌석이면 좌석을 찾을 수 없다는 예외가 발생한다")
+    void reserveSeat_SeatOfAnotherSchedule_NotFound() {
+        // given
+        given(seatRepository.claimAvailable(SCHEDULE_ID, 10L)).willReturn(false);
+        given(seatRepository.findById(10L)).willReturn(Optional.of(seat(10L, 2L, SeatStatus.AVAILABLE)));
+
+        // when & then
+        assertThatThrownBy(() -> bookingManager.reserveSeatInTransaction(singleCommand(10L)))
+                .isInstanceOf(SeatNotFoundException.class)
+                .hasMessageContaining("seatId=10");
+
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("모든 좌석을 선점하면 예약을 한 번에 저장하고 좌석마다 인덱스 변경을 기록한다")
+    void reserveSeats_AllClaimed_SavesAll() {
+        // given
+        given(seatRepository.claimAllAvailable(SCHEDULE_ID, SEAT_IDS)).willReturn(3);
+        willAnswer(invocation -> invocation.getArgument(0)).given(reservationRepository).saveAll(anyList());
+
+        // when
+        List<Reservation> reservations = bookingManager.reserveSeatsInTransaction(command());
+
+        // then
+        assertThat(reservations).extracting(Reservation::seatId).containsExactlyElementsOf(SEAT_IDS);
+        SEAT_IDS.forEach(seatId ->
+                verify(seatStatusIndexer).recordStatusChange(SCHEDULE_ID, seatId, SeatStatus.RESERVED));
+    }
+
+    @Test
+    @DisplayName("선점 수가 요청 좌석 수와 다르면 아무것도 저장하지 않고 선점하지 못한 좌석으로 거부한다")
+    void reserveSeats_ClaimCountMismatch_SavesNothing() {
+        // given
+        given(seatRepository.claimAllAvailable(SCHEDULE_ID, SEAT_IDS)).willReturn(2);
+        given(seatRepository.findAllByIds(SEAT_IDS)).willReturn(List.of(
+                seat(10L, SCHEDULE_ID, SeatStatus.RESERVED),
+                seat(11L, SCHEDULE_ID, SeatStatus.OCCUPIED),
+                seat(12L, SCHEDULE_ID, SeatStatus.RESERVED)));
+
+        // when & then
+        assertThatThrownBy(() -> bookingManager.reserveSeatsInTransaction(command()))
+                .isInstanceOf(SeatNotAvailableException.class)
+                .hasMessageContaining("seatId=11");
+
+        verify(reservationRepository, never()).saveAll(anyList());
+        verify(seatStatusIndexer, never()).recordStatusChange(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("모든 좌석이 RESERVED로 보이면 이 트랜잭션이 선점한 좌석과 구분할 수 없으므로 좌석을 특정하지 않는다")
+    void reserveSeats_AllReadAsReserved_ReportsGroup() {
+        // given
+        given(seatRepository.claimAllAvailable(SCHEDULE_ID, SEAT_IDS)).willReturn(2);
+        given(seatRepository.findAllByIds(SEAT_IDS)).willReturn(List.of(
+                seat(10L, SCHEDULE_ID, SeatStatus.RESERVED),
+                seat(11L, SCHEDULE_ID, SeatStatus.RESERVED),
+                seat(12L, SCHEDULE_ID, SeatStatus.RESERVED)));
+
+        // when & then
+        assertThatThrownBy(() -> bookingManager.reserveSeatsInTransaction(command()))
+                .isInstanceOf(SeatNotAvailableException.class)
+                .hasMessageContaining("seatIds=[10, 11, 12]");
+
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 일정의 좌석이 섞여 있으면 해당 좌석을 찾을 수 없다고 거부한다")
+    void reserveSeats_SeatOfAnotherSchedule_NotFound() {
+        // given
+        given(seatRepository.claimAllAvailable(SCHEDULE_ID, SEAT_IDS)).willReturn(2);
+        given(seatRepository.findAllByIds(SEAT_IDS)).willReturn(List.of(
+                seat(10L, SCHEDULE_ID, SeatStatus.RESERVED),
+                seat(11L, 2L, SeatStatus.AVAILABLE),
+                seat(12L, SCHEDULE_ID, SeatStatus.RESERVED)));
+
+        // when & then
+        assertThatThrownBy(() -> bookingManager.reserveSeatsInTransaction(command()))
+                .isInstanceOf(SeatNotFoundException.class)
+                .hasMessageContaining("seatId=11");
+
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    private static ReserveSeatCommand singleCommand(Long seatId) {
+        return new ReserveSeatCommand(7L, seatId, SCHEDULE_ID, "1:7:100");
+    }
+
+    private static ReserveSeatsCommand command() {
+        return new ReserveSeatsCommand(7L, SEAT_IDS, SCHEDULE_ID, "1:7:100");
+    }
+
+    private static Seat seat(Long id, Long scheduleId, SeatStatus status) {
+        return new Seat(id, scheduleId, "A" + id, SeatGrade.A, BigDecimal.valueOf(50000), status);
+    }
+}
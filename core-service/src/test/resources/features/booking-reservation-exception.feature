@@ -16,6 +16,13 @@
     Then 요청된 예약이 거부된다
     And 좌석을 찾을 수 없다는 메시지가 반환된다
 
+  시나리오: 여러 좌석 중 하나라도 선점되어 있으면 어떤 좌석도 예약되지 않는다
+    Given 예약할 좌석 3개 중 하나가 다른 사용자에게 선점되어 있다
+    When 3개 좌석을 한 번에 예약 요청한다
+    Then 요청된 다중 좌석 예약이 거부된다
+    And 나머지 좌석에는 선점 락이 설정되지 않는다
+    And 어떤 좌석도 예약되지 않는다
+
   시나리오: 다른 사용자의 예약을 조회할 수 없다
     Given 다른 사용자가 생성한 예약이 존재한다
     When 해당 예약 조회를 요청한다
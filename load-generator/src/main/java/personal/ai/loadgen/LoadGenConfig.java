@@ -0,0 +1,108 @@
+package personal.ai.loadgen;
+
+import personal.ai.loadgen.journey.ArrivalCurve;
+import personal.ai.loadgen.journey.WaitMode;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 생성기 설정
+ * 커맨드라인 인자(--key=value)로 지정하며, 지정하지 않은 항목은 기본값을 사용
+ *
+ * @param queueBaseUrl      Queue Service 주소
+ * @param coreBaseUrl       Core Service 주소 (coreStandInPort 지정 시 무시)
+ * @param concertId         대기열 콘서트 ID
+ * @param scheduleId        예매 대상 일정 ID
+ * @param users             총 가상 사용자 수
+ * @param userIdStart       첫 사용자 ID (Core Service는 숫자 userId 사용)
+ * @param curve             도착 곡선 (step / spike / ramp)
+ * @param waitMode          READY 대기 방식 (SSE / POLL)
+ * @param pollInterval      POLL 모드 최소 폴링 간격
+ * @param readyTimeout      READY 대기 최대 시간
+ * @param reserveAttempts   좌석 선점 경합 시 재시도 횟수
+ * @param reportInterval    중간 리포트 출력 주기
+ * @param coreStandInPort   In-Memory Core Stand-in 포트 (0이면 사용하지 않음)
+ * @param standInSeats      Stand-in 좌석 수
+ * @param histogramDir      단계별 HdrHistogram 분포 파일 출력 경로 (null이면 출력하지 않음)
+ */
+public record LoadGenConfig(
+        String queueBaseUrl,
+        String coreBaseUrl,
+        String concertId,
+        long scheduleId,
+        int users,
+        long userIdStart,
+        ArrivalCurve curve,
+        WaitMode waitMode,
+        Duration pollInterval,
+        Duration readyTimeout,
+        int reserveAttempts,
+        Duration reportInterval,
+        int coreStandInPort,
+        int standInSeats,
+        Path histogramDir
+) {
+
+    public LoadGenConfig {
+        if (users <= 0) {
+            throw new IllegalArgumentException("users must be positive: " + users);
+        }
+        if (reserveAttempts <= 0) {
+            throw new IllegalArgumentException("reserve-attempts must be positive: " + reserveAttempts);
+        }
+    }
+
+    public boolean useCoreStandIn() {
+        return coreStandInPort > 0;
+    }
+
+    /**
+     * Stand-in 사용 시 Core 주소를 Stand-in으로 교체
+     */
+    public String effectiveCoreBaseUrl() {
+        return useCoreStandIn() ? "http://localhost:" + coreStandInPort : coreBaseUrl;
+    }
+
+    public static LoadGenConfig fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument (expected --key=value): " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        String histogramDir = options.remove("histogram-dir");
+        LoadGenConfig config = new LoadGenConfig(
+                take(options, "queue-url", "http://localhost:8081"),
+                take(options, "core-url", "http://localhost:8080"),
+                take(options, "concert-id", "1"),
+                Long.parseLong(take(options, "schedule-id", "1")),
+                Integer.parseInt(take(options, "users", "1000")),
+                Long.parseLong(take(options, "user-id-start", "100000")),
+                ArrivalCurve.parse(take(options, "curve", "spike:5s")),
+                WaitMode.valueOf(take(options, "wait-mode", "sse").toUpperCase()),
+                ArrivalCurve.parseDuration(take(options, "poll-interval", "1s")),
+                ArrivalCurve.parseDuration(take(options, "ready-timeout", "30m")),
+                Integer.parseInt(take(options, "reserve-attempts", "3")),
+                ArrivalCurve.parseDuration(take(options, "report-interval", "10s")),
+                Integer.parseInt(take(options, "core-stand-in-port", "0")),
+                Integer.parseInt(take(options, "stand-in-seats", "1000")),
+                histogramDir == null ? null : Path.of(histogramDir)
+        );
+
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    private static String take(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value == null ? defaultValue : value;
+    }
+}
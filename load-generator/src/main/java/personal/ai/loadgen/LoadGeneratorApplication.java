@@ -0,0 +1,133 @@
+package personal.ai.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import personal.ai.loadgen.journey.TicketingClient;
+import personal.ai.loadgen.journey.UserJourney;
+import personal.ai.loadgen.journey.UserJourney.JourneyOutcome;
+import personal.ai.loadgen.metrics.StepMetrics;
+import personal.ai.loadgen.standin.InMemoryCoreStandIn;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 티켓 오픈 부하 생성기
+ *
+ * 사용자 1명 = Virtual Thread 1개로 예매 여정 전체를 실행하고,
+ * 도착 곡선에 따라 사용자를 투입하며 단계별 지연 시간을 주기적으로 출력
+ *
+ * 실행 예:
+ *   --users=10000 --curve=step:1000:10s --wait-mode=poll
+ *   --users=5000 --curve=spike:2s --core-stand-in-port=18080 --histogram-dir=build/loadgen
+ */
+public class LoadGeneratorApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadGenConfig config = LoadGenConfig.fromArgs(args);
+        new LoadGeneratorApplication().run(config);
+    }
+
+    public void run(LoadGenConfig config) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ExecutorService userExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        ExecutorService httpExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+
+        InMemoryCoreStandIn standIn = null;
+        if (config.useCoreStandIn()) {
+            standIn = new InMemoryCoreStandIn(config.coreStandInPort(), config.standInSeats(),
+                    config.scheduleId(), config.queueBaseUrl(), objectMapper, httpClient);
+            standIn.start();
+            System.out.printf("In-memory core stand-in started on port %d (%d seats)%n",
+                    config.coreStandInPort(), config.standInSeats());
+        }
+
+        StepMetrics metrics = new StepMetrics();
+        TicketingClient client = new TicketingClient(httpClient, objectMapper,
+                config.queueBaseUrl(), config.effectiveCoreBaseUrl());
+        UserJourney journey = new UserJourney(client, metrics, config);
+
+        Map<JourneyOutcome, LongAdder> outcomes = new EnumMap<>(JourneyOutcome.class);
+        for (JourneyOutcome outcome : JourneyOutcome.values()) {
+            outcomes.put(outcome, new LongAdder());
+        }
+
+        System.out.printf("Starting load: users=%d, curve=%s, waitMode=%s, queue=%s, core=%s%n",
+                config.users(), config.curve(), config.waitMode(),
+                config.queueBaseUrl(), config.effectiveCoreBaseUrl());
+
+        long startNanos = System.nanoTime();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long reportMillis = config.reportInterval().toMillis();
+        reporter.scheduleAtFixedRate(
+                () -> metrics.printInterval(System.out,
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos)),
+                reportMillis, reportMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            for (int i = 0; i < config.users(); i++) {
+                long userId = config.userIdStart() + i;
+                long arrivalNanos = startNanos + config.curve().offsetOf(i, config.users()).toNanos();
+
+                userExecutor.submit(() -> {
+                    parkUntil(arrivalNanos);
+                    outcomes.get(journey.run(userId)).increment();
+                });
+            }
+
+            // 모든 여정 종료 대기
+            userExecutor.shutdown();
+            awaitTermination(userExecutor);
+        } finally {
+            reporter.shutdownNow();
+            if (standIn != null) {
+                standIn.close();
+            }
+            httpExecutor.shutdownNow();
+        }
+
+        metrics.printSummary(System.out);
+        System.out.printf("%nOutcomes (elapsed %ds):%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos));
+        outcomes.forEach((outcome, count) -> System.out.printf("  %-10s %d%n", outcome, count.sum()));
+
+        if (config.histogramDir() != null) {
+            metrics.writeDistributions(config.histogramDir());
+            System.out.printf("Latency distributions written to %s%n", config.histogramDir().toAbsolutePath());
+        }
+    }
+
+    /**
+     * 도착 시각까지 대기 (Virtual Thread는 park 동안 캐리어 스레드를 반납)
+     */
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // 장시간 대기열 시나리오는 중간 리포트로 진행 상황 확인
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package personal.ai.loadgen.journey;
+
+import java.time.Duration;
+
+/**
+ * 사용자 도착 곡선
+ * i번째(0부터) 사용자가 시작 시점으로부터 언제 도착하는지를 결정
+ *
+ * 형식:
+ * - step:{usersPerStep}:{interval}  일정 간격마다 usersPerStep명씩 동시에 도착 (예: step:500:10s)
+ * - spike:{window}                  window 안에 전원이 균등하게 도착, 0이면 동시 도착 (예: spike:2s)
+ * - ramp:{duration}                 도착률이 0에서 선형으로 증가하며 duration 안에 전원 도착 (예: ramp:60s)
+ */
+public sealed interface ArrivalCurve {
+
+    /**
+     * 도착 시각 (시작 시점 기준 오프셋)
+     *
+     * @param index 사용자 순번 (0 ~ total-1)
+     * @param total 전체 사용자 수
+     */
+    Duration offsetOf(int index, int total);
+
+    record Step(int usersPerStep, Duration interval) implements ArrivalCurve {
+        public Step {
+            if (usersPerStep <= 0) {
+                throw new IllegalArgumentException("usersPerStep must be positive: " + usersPerStep);
+            }
+        }
+
+        @Override
+        public Duration offsetOf(int index, int total) {
+            return interval.multipliedBy(index / usersPerStep);
+        }
+    }
+
+    record Spike(Duration window) implements ArrivalCurve {
+        @Override
+        public Duration offsetOf(int index, int total) {
+            return Duration.ofNanos(window.toNanos() * index / total);
+        }
+    }
+
+    /**
+     * 도착률 r(t) = k·t 로 선형 증가
+     * 누적 도착 수 N(t) ∝ t² 이므로 i번째 도착 시각 = duration · √(i / total)
+     */
+    record Ramp(Duration duration) implements ArrivalCurve {
+        @Override
+        public Duration offsetOf(int index, int total) {
+            return Duration.ofNanos((long) (duration.toNanos() * Math.sqrt((double) index / total)));
+        }
+    }
+
+    static ArrivalCurve parse(String spec) {
+        String[] parts = spec.split(":");
+        return switch (parts[0].toLowerCase()) {
+            case "step" -> {
+                requireParts(spec, parts, 3);
+                yield new Step(Integer.parseInt(parts[1]), parseDuration(parts[2]));
+            }
+            case "spike" -> {
+                requireParts(spec, parts, 2);
+                yield new Spike(parseDuration(parts[1]));
+            }
+            case "ramp" -> {
+                requireParts(spec, parts, 2);
+                yield new Ramp(parseDuration(parts[1]));
+            }
+            default -> throw new IllegalArgumentException("Unknown arrival curve: " + spec);
+        };
+    }
+
+    /**
+     * 기간 파싱 (예: 500ms, 10s, 2m, 1h / 단위 생략 시 초)
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.replaceAll("[smh]$", ""));
+        return switch (text.charAt(text.length() - 1)) {
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> Duration.ofSeconds(amount);
+        };
+    }
+
+    private static void requireParts(String spec, String[] parts, int expected) {
+        if (parts.length != expected) {
+            throw new IllegalArgumentException("Invalid arrival curve: " + spec);
+        }
+    }
+}
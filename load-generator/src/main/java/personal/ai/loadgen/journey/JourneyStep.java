@@ -0,0 +1,13 @@
+package personal.ai.loadgen.journey;
+
+/**
+ * 예매 여정 단계 (측정 단위)
+ */
+public enum JourneyStep {
+    ENTER,
+    WAIT_READY,
+    ACTIVATE,
+    LIST_SEATS,
+    RESERVE,
+    PAY
+}
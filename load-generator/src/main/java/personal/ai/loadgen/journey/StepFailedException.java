@@ -0,0 +1,19 @@
+package personal.ai.loadgen.journey;
+
+/**
+ * 여정 단계 실패
+ * reason은 실패 집계 키로 사용 (HTTP 상태 코드 + 에러 코드 또는 예외 종류)
+ */
+public class StepFailedException extends RuntimeException {
+
+    private final String reason;
+
+    public StepFailedException(String reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public String reason() {
+        return reason;
+    }
+}
@@ -0,0 +1,232 @@
+package personal.ai.loadgen.journey;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Queue / Core Service HTTP 클라이언트
+ * JDK HttpClient의 동기 API를 사용하며, 호출 스레드(Virtual Thread)가 응답을 기다리는 동안 캐리어 스레드를 점유하지 않음
+ */
+public class TicketingClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String STATUS_READY = "READY";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String queueBaseUrl;
+    private final String coreBaseUrl;
+
+    public TicketingClient(HttpClient httpClient, ObjectMapper objectMapper,
+                           String queueBaseUrl, String coreBaseUrl) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.queueBaseUrl = queueBaseUrl;
+        this.coreBaseUrl = coreBaseUrl;
+    }
+
+    // ========== Queue Service ==========
+
+    /**
+     * 대기열 진입
+     *
+     * @return 진입 응답 data (status, token, position ...)
+     */
+    public JsonNode enter(String concertId, String userId) {
+        HttpRequest request = post(queueBaseUrl + "/api/v1/queue/enter",
+                Map.of("concertId", concertId, "userId", userId), Map.of());
+        return send(request, 201).path("data");
+    }
+
+    /**
+     * 대기열 상태 조회 (Polling)
+     */
+    public JsonNode status(String concertId, String userId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(queueBaseUrl + "/api/v1/queue/status?"
+                        + query(concertId, userId)))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return send(request, 200).path("data");
+    }
+
+    /**
+     * SSE 구독 후 READY 이벤트까지 대기
+     * 서버가 스트림을 먼저 닫으면(Emitter Timeout) Optional.empty() 반환 → 호출자가 재구독
+     *
+     * @return READY 토큰 응답 data
+     */
+    public Optional<JsonNode> subscribeUntilReady(String concertId, String userId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(queueBaseUrl + "/api/v1/queue/subscribe?"
+                        + query(concertId, userId)))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+
+        HttpResponse<Stream<String>> response = sendRaw(request, HttpResponse.BodyHandlers.ofLines());
+        try (Stream<String> lines = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new StepFailedException("HTTP " + response.statusCode(), "SSE subscribe rejected");
+            }
+            return readUntilReady(lines);
+        }
+    }
+
+    /**
+     * 토큰 활성화 (READY -> ACTIVE)
+     */
+    public JsonNode activate(String concertId, String userId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(queueBaseUrl + "/api/v1/queue/activate?"
+                        + query(concertId, userId)))
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return send(request, 200).path("data");
+    }
+
+    // ========== Core Service ==========
+
+    /**
+     * 예약 가능 좌석 목록 조회
+     */
+    public JsonNode listSeats(long scheduleId, long userId, String queueToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        coreBaseUrl + "/api/v1/schedules/" + scheduleId + "/seats"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-User-Id", String.valueOf(userId))
+                .header("X-Queue-Token", queueToken)
+                .GET()
+                .build();
+        return send(request, 200);
+    }
+
+    /**
+     * 좌석 예약
+     *
+     * @return 예약 응답 data (reservationId ...)
+     */
+    public JsonNode reserve(long scheduleId, long seatId, long userId, String queueToken) {
+        HttpRequest request = post(coreBaseUrl + "/api/v1/reservations",
+                Map.of("seatId", seatId, "scheduleId", scheduleId),
+                Map.of("X-User-Id", String.valueOf(userId), "X-Queue-Token", queueToken));
+        return send(request, 201).path("data");
+    }
+
+    /**
+     * 결제
+     */
+    public JsonNode pay(long reservationId, long userId, BigDecimal amount, String concertId) {
+        HttpRequest request = post(coreBaseUrl + "/api/v1/payments",
+                Map.of("reservationId", reservationId,
+                        "userId", userId,
+                        "amount", amount,
+                        "paymentMethod", "CARD",
+                        "concertId", concertId),
+                Map.of());
+        return send(request, 201).path("data");
+    }
+
+    // ========== 내부 유틸 ==========
+
+    /**
+     * SSE 스트림 파싱
+     * "event: ready" 이벤트 또는 status=READY 인 status-update 이벤트를 READY로 간주
+     */
+    private Optional<JsonNode> readUntilReady(Stream<String> lines) {
+        String[] eventName = {null};
+        return lines
+                .map(line -> {
+                    if (line.startsWith("event:")) {
+                        eventName[0] = line.substring("event:".length()).trim();
+                        return null;
+                    }
+                    if (!line.startsWith("data:")) {
+                        return null;
+                    }
+                    String event = eventName[0];
+                    eventName[0] = null;
+                    if ("error".equals(event)) {
+                        throw new StepFailedException("SSE error", line);
+                    }
+                    JsonNode data = readTree(line.substring("data:".length()).trim());
+                    boolean ready = "ready".equals(event) || STATUS_READY.equals(data.path("status").asText());
+                    return ready ? data : null;
+                })
+                .filter(data -> data != null)
+                .findFirst();
+    }
+
+    private HttpRequest post(String url, Map<String, ?> body, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(writeBytes(body)));
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) {
+        HttpResponse<InputStream> response = sendRaw(request, HttpResponse.BodyHandlers.ofInputStream());
+        JsonNode body;
+        try (InputStream in = response.body()) {
+            body = objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new StepFailedException("HTTP " + response.statusCode() + " unreadable body", e.getMessage());
+        }
+
+        if (response.statusCode() != expectedStatus) {
+            // ErrorResponse(code, message, timestamp)의 code를 실패 사유에 포함
+            String code = body == null ? "" : body.path("code").asText("");
+            throw new StepFailedException(("HTTP " + response.statusCode() + " " + code).trim(),
+                    body == null ? "" : body.toString());
+        }
+        return body;
+    }
+
+    private <T> HttpResponse<T> sendRaw(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        try {
+            return httpClient.send(request, handler);
+        } catch (IOException e) {
+            throw new StepFailedException(e.getClass().getSimpleName(), String.valueOf(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailedException("Interrupted", request.uri().toString());
+        }
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] writeBytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String query(String concertId, String userId) {
+        return "concertId=" + URLEncoder.encode(concertId, StandardCharsets.UTF_8)
+                + "&userId=" + URLEncoder.encode(userId, StandardCharsets.UTF_8);
+    }
+}
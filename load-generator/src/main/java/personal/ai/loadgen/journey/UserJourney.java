@@ -0,0 +1,175 @@
+package personal.ai.loadgen.journey;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import personal.ai.loadgen.LoadGenConfig;
+import personal.ai.loadgen.metrics.StepMetrics;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 1명의 예매 여정
+ * 진입 -> READY 대기 -> 활성화 -> 좌석 조회 -> 예약 -> 결제
+ *
+ * 각 단계의 성공 지연 시간과 실패 사유를 StepMetrics에 기록하며,
+ * 단계가 실패하면 이후 단계는 진행하지 않음
+ */
+public class UserJourney {
+
+    private static final String STATUS_READY = "READY";
+    private static final String STATUS_ACTIVE = "ACTIVE";
+
+    private final TicketingClient client;
+    private final StepMetrics metrics;
+    private final LoadGenConfig config;
+
+    public UserJourney(TicketingClient client, StepMetrics metrics, LoadGenConfig config) {
+        this.client = client;
+        this.metrics = metrics;
+        this.config = config;
+    }
+
+    /**
+     * 여정 실행
+     *
+     * @return 최종 결과
+     */
+    public JourneyOutcome run(long userId) {
+        String queueUserId = String.valueOf(userId);
+        String concertId = config.concertId();
+
+        try {
+            JsonNode entered = measure(JourneyStep.ENTER, () -> client.enter(concertId, queueUserId));
+
+            // 이미 READY/ACTIVE(재진입)면 대기 단계 생략
+            String status = entered.path("status").asText();
+            if (!STATUS_READY.equals(status) && !STATUS_ACTIVE.equals(status)) {
+                measure(JourneyStep.WAIT_READY, () -> awaitReady(concertId, queueUserId));
+            }
+
+            String token = measure(JourneyStep.ACTIVATE, () -> client.activate(concertId, queueUserId))
+                    .path("token").asText();
+
+            return reserveAndPay(userId, token);
+
+        } catch (StepFailedException e) {
+            return JourneyOutcome.FAILED;
+        }
+    }
+
+    private JourneyOutcome reserveAndPay(long userId, String token) {
+        for (int attempt = 0; attempt < config.reserveAttempts(); attempt++) {
+            JsonNode seats = measure(JourneyStep.LIST_SEATS,
+                    () -> client.listSeats(config.scheduleId(), userId, token));
+
+            Optional<JsonNode> seat = pickAvailableSeat(seats);
+            if (seat.isEmpty()) {
+                return JourneyOutcome.SOLD_OUT;
+            }
+
+            long seatId = seat.get().path("seatId").asLong();
+            JsonNode reservation;
+            try {
+                reservation = measure(JourneyStep.RESERVE,
+                        () -> client.reserve(config.scheduleId(), seatId, userId, token));
+            } catch (StepFailedException e) {
+                // 다른 사용자와 좌석 경합(409)이면 좌석을 다시 골라 재시도
+                if (e.reason().startsWith("HTTP 409")) {
+                    continue;
+                }
+                throw e;
+            }
+
+            BigDecimal amount = seat.get().path("price").decimalValue();
+            long reservationId = reservation.path("reservationId").asLong();
+            measure(JourneyStep.PAY, () -> client.pay(reservationId, userId, amount, config.concertId()));
+            return JourneyOutcome.PURCHASED;
+        }
+        return JourneyOutcome.GAVE_UP;
+    }
+
+    /**
+     * READY가 될 때까지 대기 (SSE 재구독 또는 Polling)
+     */
+    private JsonNode awaitReady(String concertId, String userId) {
+        long deadline = System.nanoTime() + config.readyTimeout().toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (config.waitMode() == WaitMode.SSE) {
+                Optional<JsonNode> ready = client.subscribeUntilReady(concertId, userId);
+                if (ready.isPresent()) {
+                    return ready.get();
+                }
+                continue;
+            }
+
+            JsonNode status = client.status(concertId, userId);
+            if (STATUS_READY.equals(status.path("status").asText())) {
+                return status;
+            }
+            sleep(pollIntervalOf(status));
+        }
+        throw new StepFailedException("READY timeout", "userId=" + userId);
+    }
+
+    /**
+     * 서버가 내려준 권장 폴링 간격을 따르되, 설정값보다 짧게는 폴링하지 않음
+     */
+    private long pollIntervalOf(JsonNode status) {
+        long recommended = status.path("recommendedPollIntervalMs").asLong(0);
+        return Math.max(recommended, config.pollInterval().toMillis());
+    }
+
+    private static Optional<JsonNode> pickAvailableSeat(JsonNode seats) {
+        List<JsonNode> available = new ArrayList<>();
+        seats.forEach(seat -> {
+            if ("AVAILABLE".equals(seat.path("status").asText())) {
+                available.add(seat);
+            }
+        });
+        if (available.isEmpty()) {
+            return Optional.empty();
+        }
+        // 같은 좌석에 몰리지 않도록 무작위 선택
+        return Optional.of(available.get(ThreadLocalRandom.current().nextInt(available.size())));
+    }
+
+    private <T> T measure(JourneyStep step, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            metrics.recordSuccess(step, System.nanoTime() - start);
+            return result;
+        } catch (StepFailedException e) {
+            metrics.recordFailure(step, e.reason());
+            throw e;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(step, e.getClass().getSimpleName());
+            throw new StepFailedException(e.getClass().getSimpleName(), String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailedException("Interrupted", "poll sleep");
+        }
+    }
+
+    public enum JourneyOutcome {
+        /** 결제 완료 */
+        PURCHASED,
+        /** 예약 가능 좌석 없음 */
+        SOLD_OUT,
+        /** 좌석 경합으로 재시도 횟수 소진 */
+        GAVE_UP,
+        /** 단계 실패 */
+        FAILED
+    }
+}
@@ -0,0 +1,11 @@
+package personal.ai.loadgen.journey;
+
+/**
+ * READY 대기 방식
+ */
+public enum WaitMode {
+    /** GET /api/v1/queue/subscribe (SSE) 구독 */
+    SSE,
+    /** GET /api/v1/queue/status 주기적 폴링 */
+    POLL
+}
@@ -0,0 +1,121 @@
+package personal.ai.loadgen.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import personal.ai.loadgen.journey.JourneyStep;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단계별 지연 시간/성공/실패 집계
+ *
+ * - 지연 시간은 마이크로초 단위로 HdrHistogram Recorder에 기록 (다수 Virtual Thread에서 lock-free 기록)
+ * - 리포트 시점마다 interval 히스토그램을 꺼내 누적 히스토그램에 합산
+ * - WAIT_READY는 대기열 대기 시간이므로 최대 추적 범위를 넉넉하게(2시간) 둠
+ */
+public class StepMetrics {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<JourneyStep, Recorder> recorders = new EnumMap<>(JourneyStep.class);
+    private final Map<JourneyStep, Histogram> totals = new EnumMap<>(JourneyStep.class);
+    private final Map<JourneyStep, LongAdder> failures = new EnumMap<>(JourneyStep.class);
+    private final Map<String, LongAdder> failureReasons = new ConcurrentHashMap<>();
+
+    public StepMetrics() {
+        for (JourneyStep step : JourneyStep.values()) {
+            recorders.put(step, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            totals.put(step, new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            failures.put(step, new LongAdder());
+        }
+    }
+
+    public void recordSuccess(JourneyStep step, long elapsedNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+        recorders.get(step).recordValue(micros);
+    }
+
+    public void recordFailure(JourneyStep step, String reason) {
+        failures.get(step).increment();
+        failureReasons.computeIfAbsent(step + " " + reason, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 직전 리포트 이후 구간 통계 출력 후 누적 히스토그램에 합산
+     */
+    public synchronized void printInterval(PrintStream out, long elapsedSeconds) {
+        out.printf("%n[%ds] interval%n", elapsedSeconds);
+        printHeader(out);
+        for (JourneyStep step : JourneyStep.values()) {
+            Histogram interval = recorders.get(step).getIntervalHistogram();
+            totals.get(step).add(interval);
+            printRow(out, step, interval, -1);
+        }
+    }
+
+    /**
+     * 전체 누적 통계 출력
+     */
+    public synchronized void printSummary(PrintStream out) {
+        for (JourneyStep step : JourneyStep.values()) {
+            totals.get(step).add(recorders.get(step).getIntervalHistogram());
+        }
+
+        out.printf("%n===== Summary (latency: ms) =====%n");
+        printHeader(out);
+        for (JourneyStep step : JourneyStep.values()) {
+            printRow(out, step, totals.get(step), failures.get(step).sum());
+        }
+
+        if (!failureReasons.isEmpty()) {
+            out.printf("%nFailures:%n");
+            new TreeMap<>(failureReasons).forEach((reason, count) ->
+                    out.printf("  %-50s %d%n", reason, count.sum()));
+        }
+    }
+
+    /**
+     * 단계별 백분위 분포(.hgrm) 파일 출력 (HdrHistogram Plotter로 시각화 가능)
+     */
+    public synchronized void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (JourneyStep step : JourneyStep.values()) {
+            Path file = directory.resolve(step.name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                // 기록 단위가 마이크로초이므로 1000으로 나눠 밀리초로 출력
+                totals.get(step).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static void printHeader(PrintStream out) {
+        out.printf("%-11s %9s %8s %10s %10s %10s %10s %10s%n",
+                "step", "count", "errors", "p50", "p90", "p99", "p99.9", "max");
+    }
+
+    private static void printRow(PrintStream out, JourneyStep step, Histogram histogram, long errors) {
+        out.printf("%-11s %9d %8s %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                step,
+                histogram.getTotalCount(),
+                errors < 0 ? "-" : String.valueOf(errors),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,233 @@
+package personal.ai.loadgen.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-Memory Core Service Stand-in
+ * MySQL / Redis / Kafka 없이 Core Service의 예매 API 계약만 흉내 내는 로컬 서버
+ *
+ * - GET  /api/v1/schedules/{scheduleId}/seats  예약 가능 좌석 (List&lt;SeatResponse&gt;)
+ * - POST /api/v1/reservations                  좌석 예약 (ApiResponse&lt;ReservationResponse&gt;, 좌석 경합 시 409 B003)
+ * - POST /api/v1/payments                      결제 (ApiResponse&lt;PaymentResponse&gt;)
+ *
+ * 대기열 토큰은 실제 Core Service와 동일하게 Queue Service /validate 로 검증하므로,
+ * Queue Service(queue.store=memory)와 함께 실행하면 외부 인프라 없이 전체 여정을 재현할 수 있음
+ */
+public class InMemoryCoreStandIn implements AutoCloseable {
+
+    private static final String STATUS_AVAILABLE = "AVAILABLE";
+    private static final String STATUS_RESERVED = "RESERVED";
+    private static final String STATUS_OCCUPIED = "OCCUPIED";
+    private static final BigDecimal SEAT_PRICE = new BigDecimal("150000");
+    private static final int RESERVATION_TTL_MINUTES = 5;
+
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final String queueBaseUrl;
+    private final long scheduleId;
+
+    // 좌석 상태: index = seatId - 1
+    private final AtomicReferenceArray<String> seatStatuses;
+    private final Map<Long, long[]> reservations = new ConcurrentHashMap<>(); // reservationId -> {userId, seatId}
+    private final AtomicLong reservationSequence = new AtomicLong();
+    private final AtomicLong paymentSequence = new AtomicLong();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    public InMemoryCoreStandIn(int port, int seatCount, long scheduleId, String queueBaseUrl,
+                               ObjectMapper objectMapper, HttpClient httpClient) throws IOException {
+        this.objectMapper = objectMapper;
+        this.httpClient = httpClient;
+        this.queueBaseUrl = queueBaseUrl;
+        this.scheduleId = scheduleId;
+        this.seatStatuses = new AtomicReferenceArray<>(seatCount);
+        for (int i = 0; i < seatCount; i++) {
+            seatStatuses.set(i, STATUS_AVAILABLE);
+        }
+
+        this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/api/v1/schedules/", this::handleSeats);
+        server.createContext("/api/v1/reservations", this::handleReserve);
+        server.createContext("/api/v1/payments", this::handlePayment);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    // ========== Handlers ==========
+
+    private void handleSeats(HttpExchange exchange) throws IOException {
+        if (!validateQueueToken(exchange)) {
+            return;
+        }
+
+        List<Map<String, Object>> seats = new ArrayList<>();
+        for (int i = 0; i < seatStatuses.length(); i++) {
+            if (STATUS_AVAILABLE.equals(seatStatuses.get(i))) {
+                Map<String, Object> seat = new LinkedHashMap<>();
+                seat.put("seatId", i + 1L);
+                seat.put("scheduleId", scheduleId);
+                seat.put("seatNumber", "A-" + (i + 1));
+                seat.put("grade", "VIP");
+                seat.put("price", SEAT_PRICE);
+                seat.put("status", STATUS_AVAILABLE);
+                seats.add(seat);
+            }
+        }
+        respond(exchange, 200, seats);
+    }
+
+    private void handleReserve(HttpExchange exchange) throws IOException {
+        if (!validateQueueToken(exchange)) {
+            return;
+        }
+
+        JsonNode body = readBody(exchange);
+        long seatId = body.path("seatId").asLong();
+        long userId = Long.parseLong(exchange.getRequestHeaders().getFirst("X-User-Id"));
+
+        if (seatId < 1 || seatId > seatStatuses.length()) {
+            respondError(exchange, 404, "B001", "좌석을 찾을 수 없습니다.");
+            return;
+        }
+        // 좌석 선점 (Redis SETNX 분산 락 + 상태 변경에 해당)
+        if (!seatStatuses.compareAndSet((int) seatId - 1, STATUS_AVAILABLE, STATUS_RESERVED)) {
+            respondError(exchange, 409, "B003", "이미 선택된 좌석입니다.");
+            return;
+        }
+
+        long reservationId = reservationSequence.incrementAndGet();
+        reservations.put(reservationId, new long[]{userId, seatId});
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("reservationId", reservationId);
+        data.put("userId", userId);
+        data.put("seatId", seatId);
+        data.put("scheduleId", scheduleId);
+        data.put("status", "PENDING");
+        data.put("expiresAt", now.plusMinutes(RESERVATION_TTL_MINUTES).toString());
+        data.put("createdAt", now.toString());
+        respond(exchange, 201, success("좌석이 예약되었습니다.", data));
+    }
+
+    private void handlePayment(HttpExchange exchange) throws IOException {
+        JsonNode body = readBody(exchange);
+        long reservationId = body.path("reservationId").asLong();
+        long userId = body.path("userId").asLong();
+
+        long[] reservation = reservations.remove(reservationId);
+        if (reservation == null || reservation[0] != userId) {
+            respondError(exchange, 404, "B004", "예약을 찾을 수 없습니다.");
+            return;
+        }
+        seatStatuses.set((int) reservation[1] - 1, STATUS_OCCUPIED);
+
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("paymentId", paymentSequence.incrementAndGet());
+        data.put("reservationId", reservationId);
+        data.put("userId", userId);
+        data.put("amount", body.path("amount").decimalValue());
+        data.put("status", "COMPLETED");
+        respond(exchange, 201, success("결제가 완료되었습니다.", data));
+    }
+
+    // ========== 내부 유틸 ==========
+
+    /**
+     * Queue Service에 토큰 검증 위임 (Core Service의 QueueServiceRestClientAdapter와 동일한 요청)
+     */
+    private boolean validateQueueToken(HttpExchange exchange) throws IOException {
+        String token = exchange.getRequestHeaders().getFirst("X-Queue-Token");
+        String userId = exchange.getRequestHeaders().getFirst("X-User-Id");
+        if (token == null || userId == null || token.indexOf(':') < 0) {
+            respondError(exchange, 401, "Q003", "유효하지 않은 대기열 토큰입니다.");
+            return false;
+        }
+
+        String concertId = token.substring(0, token.indexOf(':'));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(queueBaseUrl + "/api/v1/queue/validate"))
+                .timeout(Duration.ofSeconds(5))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+                        Map.of("concertId", concertId, "userId", userId, "token", token))))
+                .build();
+
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                return true;
+            }
+            respondError(exchange, response.statusCode(), "Q003", "대기열 토큰 검증 실패");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respondError(exchange, 503, "E003", "대기열 서비스를 사용할 수 없습니다.");
+        } catch (IOException e) {
+            respondError(exchange, 503, "E003", "대기열 서비스를 사용할 수 없습니다.");
+        }
+        return false;
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return objectMapper.readTree(in);
+        }
+    }
+
+    private static Map<String, Object> success(String message, Object data) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("result", "success");
+        response.put("message", message);
+        response.put("data", data);
+        return response;
+    }
+
+    private void respondError(HttpExchange exchange, int status, String code, String message) throws IOException {
+        respond(exchange, status, Map.of(
+                "code", code,
+                "message", message,
+                "timestamp", LocalDateTime.now().toString()));
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
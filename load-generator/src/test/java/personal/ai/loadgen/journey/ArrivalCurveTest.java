@@ -0,0 +1,62 @@
+package personal.ai.loadgen.journey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ArrivalCurve 단위 테스트")
+class ArrivalCurveTest {
+
+    @Test
+    @DisplayName("step 곡선은 usersPerStep명씩 interval 간격으로 도착한다")
+    void step_ArrivesInBatches() {
+        // given
+        ArrivalCurve curve = ArrivalCurve.parse("step:100:10s");
+
+        // when & then
+        assertThat(curve.offsetOf(0, 300)).isEqualTo(Duration.ZERO);
+        assertThat(curve.offsetOf(99, 300)).isEqualTo(Duration.ZERO);
+        assertThat(curve.offsetOf(100, 300)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(curve.offsetOf(299, 300)).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    @DisplayName("spike 곡선은 window 안에 균등하게 도착한다")
+    void spike_ArrivesUniformlyWithinWindow() {
+        // given
+        ArrivalCurve curve = ArrivalCurve.parse("spike:2s");
+
+        // when & then
+        assertThat(curve.offsetOf(0, 1000)).isEqualTo(Duration.ZERO);
+        assertThat(curve.offsetOf(500, 1000)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(curve.offsetOf(999, 1000)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("ramp 곡선은 뒤로 갈수록 도착 간격이 좁아진다")
+    void ramp_ArrivalRateIncreases() {
+        // given
+        ArrivalCurve curve = ArrivalCurve.parse("ramp:60s");
+
+        // when
+        Duration quarter = curve.offsetOf(250, 1000);
+        Duration half = curve.offsetOf(500, 1000);
+
+        // then - 누적 도착 수가 t²에 비례하므로 1/4 인원은 전체 기간의 절반 시점에 도착
+        assertThat(quarter).isEqualTo(Duration.ofSeconds(30));
+        assertThat(half.minus(quarter)).isLessThan(quarter);
+    }
+
+    @Test
+    @DisplayName("잘못된 곡선 형식은 예외가 발생한다")
+    void parse_InvalidSpec() {
+        assertThatThrownBy(() -> ArrivalCurve.parse("burst:10s"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ArrivalCurve.parse("step:100"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import personal.ai.queue.application.port.in.RemoveFromQueueUseCase;
+import personal.ai.queue.domain.exception.InvalidQueueScopeException;
+import personal.ai.queue.domain.model.QueuePartitioning;
 
 /**
  * Payment Event Kafka Consumer (Inbound Adapter)
@@ -22,6 +24,7 @@ public class PaymentEventConsumer {
 
     private final RemoveFromQueueUseCase removeFromQueueUseCase;
     private final ObjectMapper objectMapper;
+    private final QueuePartitioning queuePartitioning;
 
     /**
      * 결제 완료 이벤트 처리
@@ -54,10 +57,10 @@ public class PaymentEventConsumer {
 
             log.info("Processing payment completed event: {}", event.toLogString());
 
-            // Active Queue에서 유저 제거 (UseCase를 통해)
+            // Active Queue에서 유저 제거 (UseCase를 통해, 일정 단위 대기열은 scheduleId로 결정)
             RemoveFromQueueUseCase.RemoveFromQueueCommand command =
                     new RemoveFromQueueUseCase.RemoveFromQueueCommand(
-                            event.concertId(),
+                            queuePartitioning.queueIdOf(event.concertId(), event.scheduleId()),
                             event.userId()
                     );
             removeFromQueueUseCase.removeFromQueue(command);
@@ -67,6 +70,15 @@ public class PaymentEventConsumer {
                 acknowledgment.acknowledge();
             }
 
+        } catch (InvalidQueueScopeException e) {
+            // 재처리해도 대기열을 결정할 수 없으므로 Ack (토큰은 TTL로 만료)
+            log.warn("Skipping payment completed event with unresolvable queue scope: topic={}, partition={}, offset={}, reason={}",
+                    topic, partition, offset, e.getMessage());
+
+            if (acknowledgment != null) {
+                acknowledgment.acknowledge();
+            }
+
         } catch (Exception e) {
             log.error("Failed to process payment completed event: topic={}, partition={}, offset={}",
                     topic, partition, offset, e);
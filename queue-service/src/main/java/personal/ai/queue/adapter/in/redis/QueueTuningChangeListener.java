@@ -0,0 +1,47 @@
+package personal.ai.queue.adapter.in.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import personal.ai.queue.adapter.out.redis.RedisKeyGenerator;
+import personal.ai.queue.application.port.in.RefreshQueueTuningUseCase;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Queue Tuning 변경 알림 구독
+ * 다른 인스턴스(또는 관리 API)가 튜닝 값을 바꾸면 해당 콘서트의 로컬 캐시를 즉시 갱신
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+public class QueueTuningChangeListener implements MessageListener {
+
+    private final RefreshQueueTuningUseCase refreshQueueTuningUseCase;
+
+    @Bean
+    public RedisMessageListenerContainer queueTuningListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(RedisKeyGenerator.tuningChannel()));
+        return container;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String concertId = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            refreshQueueTuningUseCase.refresh(concertId);
+        } catch (Exception e) {
+            log.error("Failed to refresh queue tuning: concertId={}", concertId, e);
+        }
+    }
+}
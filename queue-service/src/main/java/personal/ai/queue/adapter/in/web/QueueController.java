@@ -12,12 +12,16 @@ import personal.ai.common.dto.ApiResponse;
 import personal.ai.queue.adapter.in.web.dto.*;
 import personal.ai.queue.adapter.in.web.service.QueuePollingService;
 import personal.ai.queue.application.port.in.*;
+import personal.ai.queue.domain.model.QueuePartitioning;
 import personal.ai.queue.domain.model.QueuePosition;
 import personal.ai.queue.domain.model.QueueToken;
 
 /**
  * Queue REST Controller
  * 대기열 API 엔드포인트
+ *
+ * 일정 단위로 분리된 콘서트는 scheduleId로 대기열을 결정하며({concertId}@{scheduleId}),
+ * 이후 UseCase의 concertId는 결정된 대기열 ID를 의미
  */
 @Slf4j
 @RestController
@@ -32,6 +36,7 @@ public class QueueController {
         private final ExtendTokenUseCase extendTokenUseCase;
         private final ValidateTokenUseCase validateTokenUseCase;
         private final QueuePollingService queuePollingService;
+        private final QueuePartitioning queuePartitioning;
 
         /**
          * 대기열 진입
@@ -41,11 +46,11 @@ public class QueueController {
         public ResponseEntity<ApiResponse<QueuePositionResponse>> enterQueue(
                         @Valid @RequestBody EnterQueueRequest request) {
 
-                log.info("Enter queue request: concertId={}, userId={}",
-                                request.concertId(), request.userId());
+                log.info("Enter queue request: concertId={}, scheduleId={}, userId={}",
+                                request.concertId(), request.scheduleId(), request.userId());
 
                 EnterQueueUseCase.EnterQueueCommand command = new EnterQueueUseCase.EnterQueueCommand(
-                                request.concertId(),
+                                queuePartitioning.queueIdOf(request.concertId(), request.scheduleId()),
                                 request.userId());
 
                 QueuePosition position = enterQueueUseCase.enter(command);
@@ -58,17 +63,18 @@ public class QueueController {
 
         /**
          * 대기열 상태 조회
-         * GET /api/v1/queue/status?concertId={concertId}&userId={userId}
+         * GET /api/v1/queue/status?concertId={concertId}&userId={userId}[&scheduleId={scheduleId}]
          */
         @GetMapping("/status")
         public ResponseEntity<ApiResponse<QueueTokenResponse>> getQueueStatus(
                         @RequestParam @jakarta.validation.constraints.NotBlank String concertId,
-                        @RequestParam @jakarta.validation.constraints.NotBlank String userId) {
+                        @RequestParam @jakarta.validation.constraints.NotBlank String userId,
+                        @RequestParam(required = false) String scheduleId) {
 
-                log.debug("Get queue status: concertId={}, userId={}", concertId, userId);
+                log.debug("Get queue status: concertId={}, scheduleId={}, userId={}", concertId, scheduleId, userId);
 
                 GetQueueStatusUseCase.GetQueueStatusQuery query = new GetQueueStatusUseCase.GetQueueStatusQuery(
-                                concertId, userId);
+                                queuePartitioning.queueIdOf(concertId, scheduleId), userId);
 
                 QueueToken token = getQueueStatusUseCase.getStatus(query);
                 QueueTokenResponse response = QueueTokenResponse.from(token);
@@ -85,12 +91,13 @@ public class QueueController {
         @PostMapping("/activate")
         public ResponseEntity<ApiResponse<QueueTokenResponse>> activateToken(
                         @RequestParam @jakarta.validation.constraints.NotBlank String concertId,
-                        @RequestParam @jakarta.validation.constraints.NotBlank String userId) {
+                        @RequestParam @jakarta.validation.constraints.NotBlank String userId,
+                        @RequestParam(required = false) String scheduleId) {
 
-                log.info("Activate token: concertId={}, userId={}", concertId, userId);
+                log.info("Activate token: concertId={}, scheduleId={}, userId={}", concertId, scheduleId, userId);
 
                 ActivateTokenUseCase.ActivateTokenCommand command = new ActivateTokenUseCase.ActivateTokenCommand(
-                                concertId, userId);
+                                queuePartitioning.queueIdOf(concertId, scheduleId), userId);
 
                 QueueToken token = activateTokenUseCase.activate(command);
                 QueueTokenResponse response = QueueTokenResponse.from(token);
@@ -107,11 +114,11 @@ public class QueueController {
         public ResponseEntity<ApiResponse<QueueTokenResponse>> extendToken(
                         @Valid @RequestBody ExtendTokenRequest request) {
 
-                log.info("Extend token: concertId={}, userId={}",
-                                request.concertId(), request.userId());
+                log.info("Extend token: concertId={}, scheduleId={}, userId={}",
+                                request.concertId(), request.scheduleId(), request.userId());
 
                 ExtendTokenUseCase.ExtendTokenCommand command = new ExtendTokenUseCase.ExtendTokenCommand(
-                                request.concertId(),
+                                queuePartitioning.queueIdOf(request.concertId(), request.scheduleId()),
                                 request.userId());
 
                 QueueToken token = extendTokenUseCase.extend(command);
@@ -134,7 +141,7 @@ public class QueueController {
                                 request.concertId(), request.userId());
 
                 ValidateTokenUseCase.ValidateTokenQuery query = new ValidateTokenUseCase.ValidateTokenQuery(
-                                request.concertId(),
+                                queuePartitioning.queueIdOf(request.concertId(), request.scheduleId()),
                                 request.userId(),
                                 request.token());
 
@@ -146,7 +153,7 @@ public class QueueController {
 
         /**
          * 대기열 상태 실시간 구독 (SSE)
-         * GET /api/v1/queue/subscribe?concertId={concertId}&userId={userId}
+         * GET /api/v1/queue/subscribe?concertId={concertId}&userId={userId}[&scheduleId={scheduleId}]
          *
          * 클라이언트가 이 엔드포인트에 연결하면 상태 변경을 실시간으로 수신
          * - WAITING -> READY: 예매 페이지 진입 가능 알림
@@ -155,10 +162,12 @@ public class QueueController {
         @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
         public SseEmitter subscribeQueueStatus(
                         @RequestParam @jakarta.validation.constraints.NotBlank String concertId,
-                        @RequestParam @jakarta.validation.constraints.NotBlank String userId) {
+                        @RequestParam @jakarta.validation.constraints.NotBlank String userId,
+                        @RequestParam(required = false) String scheduleId) {
 
-                log.info("SSE subscription request: concertId={}, userId={}", concertId, userId);
+                log.info("SSE subscription request: concertId={}, scheduleId={}, userId={}",
+                                concertId, scheduleId, userId);
 
-                return queuePollingService.subscribe(concertId, userId);
+                return queuePollingService.subscribe(queuePartitioning.queueIdOf(concertId, scheduleId), userId);
         }
 }
@@ -0,0 +1,37 @@
+package personal.ai.queue.adapter.in.web;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import personal.ai.common.exception.ErrorCode;
+import personal.ai.common.exception.ErrorResponse;
+import personal.ai.queue.domain.exception.QueueFullException;
+
+/**
+ * 대기열 전용 예외 처리 핸들러
+ * 공통 GlobalExceptionHandler보다 먼저 적용되어 응답 헤더가 필요한 예외만 처리
+ */
+@Slf4j
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueueExceptionHandler {
+
+    /**
+     * 대기열 가득 참: 429 + Retry-After (클라이언트가 즉시 재시도하지 않도록 유도)
+     */
+    @ExceptionHandler(QueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleQueueFullException(QueueFullException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        log.debug("Queue full: {}", e.getMessage());
+
+        var response = ResponseEntity.status(errorCode.getHttpStatus());
+        if (e.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+        return response.body(ErrorResponse.of(errorCode, errorCode.getMessage()));
+    }
+}
@@ -0,0 +1,53 @@
+package personal.ai.queue.adapter.in.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import personal.ai.common.dto.ApiResponse;
+import personal.ai.queue.adapter.in.web.dto.QueueSummaryResponse;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.GetQueueSummaryUseCase;
+import personal.ai.queue.domain.model.QueuePartitioning;
+import personal.ai.queue.domain.model.QueueSummary;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue Summary REST Controller
+ * 대기열에 들어오지 않은 클라이언트(대시보드, 랜딩 페이지)를 위한 콘서트별 요약
+ *
+ * 스케줄러 틱마다 갱신되는 메모리 스냅샷에서 응답하며,
+ * 다음 갱신 전까지는 같은 값이므로 전환 주기만큼 캐시 허용
+ */
+@RestController
+@RequestMapping("/api/v1/queue/concerts")
+@RequiredArgsConstructor
+public class QueueSummaryController {
+
+    private final GetQueueSummaryUseCase getQueueSummaryUseCase;
+    private final QueueConfigProperties configProperties;
+    private final QueuePartitioning queuePartitioning;
+
+    /**
+     * 콘서트 대기열 요약 조회
+     * GET /api/v1/queue/concerts/{concertId}/summary[?scheduleId={scheduleId}]
+     */
+    @GetMapping("/{concertId}/summary")
+    public ResponseEntity<ApiResponse<QueueSummaryResponse>> getSummary(
+            @PathVariable String concertId,
+            @RequestParam(required = false) String scheduleId) {
+        QueueSummary summary = getQueueSummaryUseCase.getSummary(queuePartitioning.queueIdOf(concertId, scheduleId));
+
+        long maxAgeMs = configProperties.scheduler().activationIntervalMs();
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(maxAgeMs, TimeUnit.MILLISECONDS).cachePublic())
+                .lastModified(summary.refreshedAt())
+                .body(ApiResponse.success("대기열 요약 조회 완료", QueueSummaryResponse.from(summary)));
+    }
+}
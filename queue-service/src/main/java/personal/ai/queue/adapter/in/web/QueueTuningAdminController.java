@@ -0,0 +1,80 @@
+package personal.ai.queue.adapter.in.web;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import personal.ai.common.dto.ApiResponse;
+import personal.ai.queue.adapter.in.web.dto.QueueTuningRequest;
+import personal.ai.queue.adapter.in.web.dto.QueueTuningResponse;
+import personal.ai.queue.application.port.in.ManageQueueTuningUseCase;
+import personal.ai.queue.domain.model.QueuePartitioning;
+
+/**
+ * Queue Tuning Admin REST Controller
+ * 오픈 중 콘서트별 Active 상한, TTL, 입장 속도, 폴링 기준을 재배포 없이 변경
+ *
+ * 변경 값은 Redis에 저장되고 Pub/Sub 알림으로 모든 인스턴스에 즉시 반영됩니다.
+ * scheduleId를 지정하면 해당 일정 대기열만, 생략하면 콘서트 단위로 적용 (일정 대기열은 콘서트 튜닝을 상속)
+ * 운영자 전용 API이므로 게이트웨이/네트워크 정책으로 외부 노출을 차단해야 합니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/queue/concerts")
+@RequiredArgsConstructor
+public class QueueTuningAdminController {
+
+    private final ManageQueueTuningUseCase manageQueueTuningUseCase;
+
+    /**
+     * 콘서트 튜닝 조회
+     * GET /api/v1/admin/queue/concerts/{concertId}/tuning
+     */
+    @GetMapping("/{concertId}/tuning")
+    public ResponseEntity<ApiResponse<QueueTuningResponse>> getTuning(
+            @PathVariable String concertId,
+            @RequestParam(required = false) String scheduleId) {
+        var view = manageQueueTuningUseCase.getTuning(QueuePartitioning.scopedQueueId(concertId, scheduleId));
+        return ResponseEntity.ok(ApiResponse.success("튜닝 조회 완료", QueueTuningResponse.from(view)));
+    }
+
+    /**
+     * 콘서트 튜닝 교체 (생략한 항목은 전역 설정 사용)
+     * PUT /api/v1/admin/queue/concerts/{concertId}/tuning
+     */
+    @PutMapping("/{concertId}/tuning")
+    public ResponseEntity<ApiResponse<QueueTuningResponse>> updateTuning(
+            @PathVariable String concertId,
+            @RequestParam(required = false) String scheduleId,
+            @Valid @RequestBody QueueTuningRequest request) {
+
+        log.info("Update queue tuning request: concertId={}, scheduleId={}, request={}",
+                concertId, scheduleId, request);
+
+        var view = manageQueueTuningUseCase.updateTuning(
+                QueuePartitioning.scopedQueueId(concertId, scheduleId), request.toTuning());
+        return ResponseEntity.ok(ApiResponse.success("튜닝이 변경되었습니다.", QueueTuningResponse.from(view)));
+    }
+
+    /**
+     * 콘서트 튜닝 삭제 (전역 설정으로 복귀)
+     * DELETE /api/v1/admin/queue/concerts/{concertId}/tuning
+     */
+    @DeleteMapping("/{concertId}/tuning")
+    public ResponseEntity<ApiResponse<QueueTuningResponse>> resetTuning(
+            @PathVariable String concertId,
+            @RequestParam(required = false) String scheduleId) {
+        log.info("Reset queue tuning request: concertId={}, scheduleId={}", concertId, scheduleId);
+
+        var view = manageQueueTuningUseCase.resetTuning(QueuePartitioning.scopedQueueId(concertId, scheduleId));
+        return ResponseEntity.ok(ApiResponse.success("튜닝이 초기화되었습니다.", QueueTuningResponse.from(view)));
+    }
+}
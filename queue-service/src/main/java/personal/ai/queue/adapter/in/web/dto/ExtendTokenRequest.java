@@ -11,4 +11,8 @@ public record ExtendTokenRequest(
 
         @NotBlank(message = "사용자 ID는 필수입니다.")
         String userId
+,
+
+        // 일정(재고 파티션) ID - 일정 단위로 분리된 콘서트만 필수
+        String scheduleId
 ) {}
@@ -0,0 +1,30 @@
+package personal.ai.queue.adapter.in.web.dto;
+
+import personal.ai.queue.domain.model.QueueSummary;
+
+import java.time.Instant;
+
+/**
+ * 콘서트 대기열 요약 응답
+ */
+public record QueueSummaryResponse(
+        String concertId,
+        long waitingCount,
+        long activeCount,
+        double admissionRatePerMinute,
+        long headTicket,
+        Integer estimatedWaitMinutes,
+        Instant refreshedAt
+) {
+    public static QueueSummaryResponse from(QueueSummary summary) {
+        return new QueueSummaryResponse(
+                summary.concertId(),
+                summary.waitingCount(),
+                summary.activeCount(),
+                summary.admissionRatePerMinute(),
+                summary.headTicket(),
+                summary.estimatedWaitMinutes(),
+                summary.refreshedAt()
+        );
+    }
+}
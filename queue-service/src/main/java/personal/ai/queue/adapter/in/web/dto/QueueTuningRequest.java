@@ -0,0 +1,38 @@
+package personal.ai.queue.adapter.in.web.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import personal.ai.queue.domain.model.QueueTuning;
+
+/**
+ * 콘서트 튜닝 변경 요청 (생략한 항목은 전역 설정 사용)
+ */
+public record QueueTuningRequest(
+        @Positive(message = "activeMaxSize는 1 이상이어야 합니다.")
+        Integer activeMaxSize,
+
+        @Positive(message = "tokenTtlSeconds는 1 이상이어야 합니다.")
+        Integer tokenTtlSeconds,
+
+        @Positive(message = "activatedTtlSeconds는 1 이상이어야 합니다.")
+        Integer activatedTtlSeconds,
+
+        @Min(value = 0, message = "readyActivationDeadlineSeconds는 0 이상이어야 합니다.")
+        Integer readyActivationDeadlineSeconds,
+
+        @Min(value = 0, message = "maxAdmissionsPerTick은 0 이상이어야 합니다.")
+        Integer maxAdmissionsPerTick,
+
+        @Min(value = 0, message = "pollingFastThreshold는 0 이상이어야 합니다.")
+        Integer pollingFastThreshold
+) {
+    public QueueTuning toTuning() {
+        return new QueueTuning(
+                activeMaxSize,
+                tokenTtlSeconds,
+                activatedTtlSeconds,
+                readyActivationDeadlineSeconds,
+                maxAdmissionsPerTick,
+                pollingFastThreshold);
+    }
+}
@@ -0,0 +1,39 @@
+package personal.ai.queue.adapter.in.web.dto;
+
+import personal.ai.queue.application.port.in.ManageQueueTuningUseCase.TuningView;
+import personal.ai.queue.domain.model.QueueTuning;
+
+/**
+ * 콘서트 튜닝 조회 응답
+ * tuning: 저장된 튜닝 값 (null 항목은 전역 설정 사용), effective: 실제 적용 중인 값
+ */
+public record QueueTuningResponse(
+        String concertId,
+        QueueTuning tuning,
+        Effective effective
+) {
+    public record Effective(
+            int activeMaxSize,
+            int tokenTtlSeconds,
+            int activatedTtlSeconds,
+            int readyTtlSeconds,
+            Integer maxAdmissionsPerTick,  // null: 제한 없음
+            int pollingFastThreshold
+    ) {}
+
+    public static QueueTuningResponse from(TuningView view) {
+        var config = view.effectiveConfig();
+        int admissionLimit = view.tuning().admissionLimitPerTick();
+
+        return new QueueTuningResponse(
+                view.concertId(),
+                view.tuning(),
+                new Effective(
+                        config.activeMaxSize(),
+                        config.tokenTtlSeconds(),
+                        config.activatedTtlSeconds(),
+                        config.readyTtlSeconds(),
+                        admissionLimit == Integer.MAX_VALUE ? null : admissionLimit,
+                        view.pollingFastThreshold()));
+    }
+}
@@ -14,4 +14,8 @@ public record ValidateTokenRequest(
 
         @NotBlank(message = "토큰은 필수입니다.")
         String token
+,
+
+        // 일정(재고 파티션) ID - 일정 단위로 분리된 콘서트만 필수
+        String scheduleId
 ) {}
@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
@@ -12,7 +13,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import personal.ai.queue.adapter.out.redis.RedisKeyGenerator;
 import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.GuardQueueMemoryUseCase;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -31,16 +34,21 @@ import java.util.Collections;
  * 대규모 트래픽 대응:
  * - Fixed Window 대비 윈도우 경계 burst 방지
  * - 시간에 따른 점진적 토큰 리필로 안정적 처리
+ *
+ * Redis 메모리 압박 시(1단계 이상) Rate Limit 상태를 새로 만들지 않고 통과 (대기열 상태 보호가 우선)
+ *
+ * queue.store=memory(단일 노드 인메모리 대기열)에서는 Redis를 사용하지 않으므로 등록하지 않음
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:queue:";
     private static final String SUBSCRIBE_PATH = "/api/v1/queue/subscribe";
     private final RedisTemplate<String, String> redisTemplate;
     private final QueueConfigProperties configProperties;
     private final DefaultRedisScript<Long> rateLimitScript;
+    private final GuardQueueMemoryUseCase guardQueueMemoryUseCase;
 
     /**
      * 생성자: Lua Script 초기화
@@ -49,9 +57,11 @@ public class RateLimitFilter extends OncePerRequestFilter {
      * - Lua Script는 Redis에서 단일 스레드로 실행되어 원자성 보장
      */
     public RateLimitFilter(RedisTemplate<String, String> redisTemplate,
-                           QueueConfigProperties configProperties) {
+                           QueueConfigProperties configProperties,
+                           GuardQueueMemoryUseCase guardQueueMemoryUseCase) {
         this.redisTemplate = redisTemplate;
         this.configProperties = configProperties;
+        this.guardQueueMemoryUseCase = guardQueueMemoryUseCase;
 
         // Lua Script 로드 및 초기화
         this.rateLimitScript = new DefaultRedisScript<>();
@@ -85,6 +95,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 메모리 압박 시 Rate Limit 상태를 만들지 않음 (삭제는 QueueMemoryGuard가 수행)
+        if (guardQueueMemoryUseCase.currentPressure().shedsRateLimit()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         // Rate Limit 체크
         if (!checkRateLimit(concertId, userId)) {
             log.warn("Rate limit exceeded: concertId={}, userId={}", concertId, userId);
@@ -121,7 +137,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
      * @return true: 요청 허용, false: 요청 거부
      */
     private boolean checkRateLimit(String concertId, String userId) {
-        String key = RATE_LIMIT_KEY_PREFIX + concertId + ":" + userId;
+        String key = RedisKeyGenerator.rateLimitKey(concertId, userId);
         QueueConfigProperties.Polling pollingConfig = configProperties.polling();
 
         try {
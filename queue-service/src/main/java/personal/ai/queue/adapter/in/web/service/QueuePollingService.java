@@ -7,6 +7,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import personal.ai.queue.adapter.in.web.dto.QueueTokenResponse;
 import personal.ai.queue.application.config.QueueConfigProperties;
 import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
+import personal.ai.queue.application.port.in.ManageQueueTuningUseCase;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
@@ -30,6 +31,7 @@ public class QueuePollingService {
     private static final String EVENT_TYPE_ERROR = "error";
     private final GetQueueStatusUseCase getQueueStatusUseCase;
     private final QueueConfigProperties configProperties;
+    private final ManageQueueTuningUseCase manageQueueTuningUseCase;
     // SSE 연결 관리 (concertId:userId -> SseEmitter)
     private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
     // 폴링 스케줄 관리 (연결별로 스케줄을 취소할 수 있도록)
@@ -40,9 +42,11 @@ public class QueuePollingService {
      * 생성자: 설정값으로부터 Executor 초기화
      */
     public QueuePollingService(GetQueueStatusUseCase getQueueStatusUseCase,
-                               QueueConfigProperties configProperties) {
+                               QueueConfigProperties configProperties,
+                               ManageQueueTuningUseCase manageQueueTuningUseCase) {
         this.getQueueStatusUseCase = getQueueStatusUseCase;
         this.configProperties = configProperties;
+        this.manageQueueTuningUseCase = manageQueueTuningUseCase;
 
         int poolSize = configProperties.polling().executorPoolSize();
         this.executor = Executors.newScheduledThreadPool(poolSize, Thread.ofVirtual().factory());
@@ -253,9 +257,10 @@ public class QueuePollingService {
             return pollingConfig.fastIntervalMs();
         }
 
-        // WAITING 상태는 순번에 따라 차등
+        // WAITING 상태는 순번에 따라 차등 (기준 순번은 콘서트별 튜닝 값 우선)
         if (token.status() == QueueStatus.WAITING && token.position() != null) {
-            if (token.position() <= pollingConfig.fastThreshold()) {
+            int fastThreshold = manageQueueTuningUseCase.getTuning(token.concertId()).pollingFastThreshold();
+            if (token.position() <= fastThreshold) {
                 return pollingConfig.fastIntervalMs();  // 1~1000번: 3초
             } else {
                 return pollingConfig.slowIntervalMs();  // 1001번 이상: 10초
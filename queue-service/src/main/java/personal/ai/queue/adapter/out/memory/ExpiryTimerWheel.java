@@ -0,0 +1,113 @@
+package personal.ai.queue.adapter.out.memory;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Active Token 만료 타이머 휠 (Hashed Timer Wheel, 1초 단위 슬롯)
+ * Active Queue ZSet(score = 만료 시각) + ZREMRANGEBYSCORE를 대체합니다.
+ *
+ * - 만료 시각을 슬롯(초 % SLOT_COUNT)에 등록: O(1)
+ * - 커서를 현재 시각까지 전진시키며 지난 슬롯만 검사: 만료 처리 비용이 전체 인원이 아닌 만료 인원에 비례
+ * - 만료 시각 갱신(연장/활성화) 시 이전 항목은 지우지 않고 새로 등록 (Lazy Cancellation)
+ *   만료 여부는 항상 토큰 테이블의 현재 만료 시각으로 판정하므로, 오래된 항목은 검사 시 버려짐
+ *
+ * 동기화는 호출자(InMemoryConcertQueue)가 담당합니다.
+ */
+final class ExpiryTimerWheel {
+
+    private static final int SLOT_COUNT = 4096; // 약 68분 (2의 제곱수)
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int INITIAL_SLOT_CAPACITY = 8;
+
+    private final int[][] handles = new int[SLOT_COUNT][];
+    private final long[][] deadlines = new long[SLOT_COUNT][];
+    private final int[] sizes = new int[SLOT_COUNT];
+
+    private long cursorSecond;
+
+    ExpiryTimerWheel(long startSecond) {
+        this.cursorSecond = startSecond - 1;
+    }
+
+    /**
+     * 만료 시각 등록
+     * 이미 지나간 시각이면 다음 검사 슬롯에 등록하여 누락되지 않도록 함
+     */
+    void schedule(int handle, long deadlineSecond) {
+        long slotSecond = Math.max(deadlineSecond, cursorSecond + 1);
+        int slot = (int) (slotSecond & SLOT_MASK);
+
+        if (handles[slot] == null) {
+            handles[slot] = new int[INITIAL_SLOT_CAPACITY];
+            deadlines[slot] = new long[INITIAL_SLOT_CAPACITY];
+        } else if (sizes[slot] == handles[slot].length) {
+            handles[slot] = Arrays.copyOf(handles[slot], sizes[slot] * 2);
+            deadlines[slot] = Arrays.copyOf(deadlines[slot], sizes[slot] * 2);
+        }
+
+        handles[slot][sizes[slot]] = handle;
+        deadlines[slot][sizes[slot]] = deadlineSecond;
+        sizes[slot]++;
+    }
+
+    /**
+     * 커서를 nowSecond까지 전진시키며 만료 항목 처리
+     *
+     * @param nowSecond        현재 시각 (epoch seconds), 이 시각 이하인 만료 시각은 만료
+     * @param currentDeadline  handle의 현재 만료 시각 (삭제된 handle이면 음수)
+     * @param onExpired        만료된 handle 콜백
+     */
+    void advance(long nowSecond, IntToLongFunction currentDeadline, IntConsumer onExpired) {
+        if (nowSecond <= cursorSecond) {
+            return;
+        }
+
+        long elapsed = nowSecond - cursorSecond;
+        if (elapsed >= SLOT_COUNT) {
+            // 휠 한 바퀴 이상 지났으면 모든 슬롯을 한 번씩만 검사
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                expireSlot(slot, nowSecond, currentDeadline, onExpired);
+            }
+        } else {
+            for (long second = cursorSecond + 1; second <= nowSecond; second++) {
+                expireSlot((int) (second & SLOT_MASK), nowSecond, currentDeadline, onExpired);
+            }
+        }
+
+        cursorSecond = nowSecond;
+    }
+
+    private void expireSlot(int slot, long nowSecond, IntToLongFunction currentDeadline, IntConsumer onExpired) {
+        int size = sizes[slot];
+        if (size == 0) {
+            return;
+        }
+
+        int[] slotHandles = handles[slot];
+        long[] slotDeadlines = deadlines[slot];
+        int kept = 0;
+
+        for (int i = 0; i < size; i++) {
+            int handle = slotHandles[i];
+            long deadline = slotDeadlines[i];
+
+            if (deadline > nowSecond) {
+                // 다음 바퀴에 만료될 항목은 유지
+                slotHandles[kept] = handle;
+                slotDeadlines[kept] = deadline;
+                kept++;
+                continue;
+            }
+
+            // 현재 만료 시각 기준으로 재판정 (연장/삭제된 토큰은 무시)
+            long current = currentDeadline.applyAsLong(handle);
+            if (current >= 0 && current <= nowSecond) {
+                onExpired.accept(handle);
+            }
+        }
+
+        sizes[slot] = kept;
+    }
+}
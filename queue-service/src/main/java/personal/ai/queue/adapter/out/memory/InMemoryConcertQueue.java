@@ -0,0 +1,323 @@
+package personal.ai.queue.adapter.out.memory;
+
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.model.LotteryEntry;
+import personal.ai.queue.domain.model.QueueEntryState;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * 콘서트 단위 In-Memory 대기열
+ * Wait Queue(순서 통계 트리) + Active Queue(토큰 테이블 + 타이머 휠)를 하나의 모니터로 보호하여
+ * Redis Lua 스크립트와 동일한 원자성을 제공합니다.
+ */
+final class InMemoryConcertQueue {
+
+    // Redis Hash TTL 버퍼와 동일 (RedisTokenConverter.TTL_BUFFER_SECONDS)
+    private static final long TOKEN_TTL_BUFFER_SECONDS = 60L;
+
+    private final String concertId;
+    private final Map<String, Long> sequenceByUserId = new HashMap<>();
+    private final WaitingOrderTree waitingTree = new WaitingOrderTree();
+    private final TokenStateTable tokenTable = new TokenStateTable();
+    private final ExpiryTimerWheel expiryWheel;
+    private final Set<String> lotteryPool = new HashSet<>();
+    private final Map<String, Long> lastSeenByUserId = new HashMap<>();
+
+    private long nextSequence = 0;
+    private boolean lotteryDrawn = false;
+
+    InMemoryConcertQueue(String concertId, long nowSecond) {
+        this.concertId = concertId;
+        this.expiryWheel = new ExpiryTimerWheel(nowSecond);
+    }
+
+    synchronized boolean isEmpty() {
+        return waitingTree.size() == 0 && tokenTable.size() == 0;
+    }
+
+    // ========== Wait Queue ==========
+
+    /**
+     * 대기열 추가 (ZADD NX + ZRANK)
+     */
+    synchronized long addToWaitQueue(String userId) {
+        Long sequence = sequenceByUserId.get(userId);
+        if (sequence == null) {
+            sequence = nextSequence++;
+            sequenceByUserId.put(userId, sequence);
+            waitingTree.insert(sequence, userId);
+        }
+        return waitingTree.rank(sequence);
+    }
+
+    /**
+     * Active 토큰 확인 후 대기열 추가 (enter_wait_queue.lua)
+     */
+    synchronized QueueEntryState enterWaitQueue(String userId, long nowSecond, long maxWaitingSize) {
+        if (hasValidToken(userId, nowSecond)) {
+            return QueueEntryState.activeUser();
+        }
+        boolean added = !sequenceByUserId.containsKey(userId);
+        if (added && maxWaitingSize > 0 && waitingTree.size() >= maxWaitingSize) {
+            return QueueEntryState.full(waitingTree.size());
+        }
+        long position = addToWaitQueue(userId);
+        return new QueueEntryState(false, added, position, waitingTree.size());
+    }
+
+    /**
+     * Active 토큰 보유 여부 + 대기 순번 조회 (find_queue_entry.lua)
+     */
+    synchronized QueueEntryState findQueueEntry(String userId, long nowSecond) {
+        if (hasValidToken(userId, nowSecond)) {
+            return QueueEntryState.activeUser();
+        }
+        return new QueueEntryState(false, false, getWaitQueuePosition(userId), waitingTree.size());
+    }
+
+    synchronized Long getWaitQueuePosition(String userId) {
+        Long sequence = sequenceByUserId.get(userId);
+        return sequence == null ? null : waitingTree.rank(sequence);
+    }
+
+    synchronized long getWaitQueueSize() {
+        return waitingTree.size();
+    }
+
+    synchronized List<String> popFromWaitQueue(int count) {
+        List<String> userIds = waitingTree.pollFirst(count);
+        userIds.forEach(sequenceByUserId::remove);
+        return userIds;
+    }
+
+    synchronized void removeFromWaitQueue(String userId) {
+        Long sequence = sequenceByUserId.remove(userId);
+        if (sequence != null) {
+            waitingTree.remove(sequence);
+        }
+    }
+
+    // ========== Presence ==========
+
+    synchronized void recordPresence(Map<String, Long> lastSeenEpochSeconds) {
+        lastSeenEpochSeconds.forEach((userId, lastSeen) -> lastSeenByUserId.merge(userId, lastSeen, Math::max));
+    }
+
+    /**
+     * 이탈 대기자 일괄 제거 (remove_absent_waiters.lua)
+     */
+    synchronized long removeAbsentWaiters(long cutoffSecond, int limit) {
+        long removed = 0;
+        int scanned = 0;
+        var iterator = lastSeenByUserId.entrySet().iterator();
+        while (iterator.hasNext() && scanned < limit) {
+            var entry = iterator.next();
+            if (entry.getValue() >= cutoffSecond) {
+                continue;
+            }
+            iterator.remove();
+            scanned++;
+
+            Long sequence = sequenceByUserId.remove(entry.getKey());
+            if (sequence != null) {
+                waitingTree.remove(sequence);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    // ========== Lottery ==========
+
+    /**
+     * 추첨 응모 (enter_lottery.lua와 동일: 추첨 완료 후에는 응모 불가)
+     */
+    synchronized LotteryEntry addToLotteryPool(String userId) {
+        if (lotteryDrawn) {
+            return LotteryEntry.closed();
+        }
+        boolean added = lotteryPool.add(userId);
+        return new LotteryEntry(true, added, lotteryPool.size());
+    }
+
+    synchronized boolean isInLotteryPool(String userId) {
+        return lotteryPool.contains(userId);
+    }
+
+    /**
+     * 응모자 셔플 후 Wait Queue 일괄 적재 (draw_lottery.lua)
+     * 응모자에게 음수 순번(-N ~ -1)을 부여하여 선착순 진입자(0 이상)보다 앞에 배치
+     */
+    synchronized long drawLottery(long seed) {
+        if (lotteryDrawn) {
+            return -1L;
+        }
+        lotteryDrawn = true;
+
+        List<String> entrants = new ArrayList<>(lotteryPool);
+        lotteryPool.clear();
+        Collections.shuffle(entrants, new Random(seed));
+
+        long sequence = -entrants.size();
+        long loaded = 0;
+        for (String userId : entrants) {
+            if (sequenceByUserId.putIfAbsent(userId, sequence) == null) {
+                waitingTree.insert(sequence, userId);
+                loaded++;
+            }
+            sequence++;
+        }
+        return loaded;
+    }
+
+    // ========== Active Queue ==========
+
+    synchronized void addToActiveQueue(String userId, String token, Instant expiredAt) {
+        putToken(userId, token, TokenStateTable.STATUS_READY, expiredAt.getEpochSecond(), 0);
+    }
+
+    /**
+     * 토큰 조회
+     * Redis Hash TTL(만료 + 60초)이 지난 토큰은 Cleanup 전이라도 조회되지 않음
+     */
+    synchronized Optional<QueueToken> getActiveToken(String userId, long nowSecond) {
+        int handle = tokenTable.handleOf(userId);
+        if (handle < 0 || tokenTable.expiredAtSecond(handle) + TOKEN_TTL_BUFFER_SECONDS <= nowSecond) {
+            return Optional.empty();
+        }
+
+        Instant expiredAt = Instant.ofEpochSecond(tokenTable.expiredAtSecond(handle));
+        String token = tokenTable.token(handle);
+
+        return Optional.of(switch (tokenTable.status(handle)) {
+            case TokenStateTable.STATUS_READY -> QueueToken.ready(concertId, userId, token, expiredAt);
+            case TokenStateTable.STATUS_ACTIVE ->
+                    QueueToken.active(concertId, userId, token, expiredAt, tokenTable.extendCount(handle));
+            default -> QueueToken.notFound(concertId, userId);
+        });
+    }
+
+    synchronized boolean updateTokenExpiration(String userId, Instant expiredAt) {
+        int handle = tokenTable.handleOf(userId);
+        if (handle < 0) {
+            return false;
+        }
+        reschedule(handle, expiredAt.getEpochSecond());
+        return true;
+    }
+
+    synchronized void updateTokenStatus(String userId, QueueStatus status) {
+        int handle = tokenTable.handleOf(userId);
+        if (handle >= 0) {
+            tokenTable.setStatus(handle, toStatusCode(status));
+        }
+    }
+
+    synchronized int incrementExtendCount(String userId) {
+        int handle = tokenTable.handleOf(userId);
+        return handle < 0 ? 1 : tokenTable.incrementExtendCount(handle);
+    }
+
+    synchronized long getActiveQueueSize() {
+        return tokenTable.size();
+    }
+
+    /**
+     * 만료 토큰 정리 (ZREMRANGEBYSCORE 0 ~ now)
+     */
+    synchronized ExpiredTokens removeExpiredTokens(long nowSecond) {
+        long[] counts = {0, 0}; // {removed, unactivated}
+        expiryWheel.advance(
+                nowSecond,
+                handle -> tokenTable.isLive(handle) ? tokenTable.expiredAtSecond(handle) : -1L,
+                handle -> {
+                    if (tokenTable.status(handle) == TokenStateTable.STATUS_READY) {
+                        counts[1]++;
+                    }
+                    tokenTable.removeByHandle(handle);
+                    counts[0]++;
+                });
+        return new ExpiredTokens(counts[0], counts[1]);
+    }
+
+    synchronized boolean removeFromActiveQueue(String userId) {
+        return tokenTable.remove(userId);
+    }
+
+    /**
+     * Wait -> Active 원자적 이동 (move_to_active_queue.lua)
+     */
+    synchronized List<String> moveToActiveQueue(int count, Instant expiredAt, LongSupplier tokenCounter) {
+        List<String> userIds = popFromWaitQueue(count);
+        List<String> moved = new ArrayList<>(userIds.size());
+
+        for (String userId : userIds) {
+            String token = concertId + ":" + userId + ":" + tokenCounter.getAsLong();
+            putToken(userId, token, TokenStateTable.STATUS_READY, expiredAt.getEpochSecond(), 0);
+            moved.add(userId);
+        }
+        return moved;
+    }
+
+    /**
+     * READY -> ACTIVE 원자적 전환 (activate_token.lua)
+     *
+     * @return 1: 성공, 0: 토큰 없음 또는 READY 아님, -1: 이미 ACTIVE
+     */
+    synchronized int activateToken(String userId, Instant newExpiredAt) {
+        int handle = tokenTable.handleOf(userId);
+        if (handle < 0) {
+            return 0;
+        }
+
+        byte status = tokenTable.status(handle);
+        if (status == TokenStateTable.STATUS_ACTIVE) {
+            return -1;
+        }
+        if (status != TokenStateTable.STATUS_READY) {
+            return 0;
+        }
+
+        tokenTable.setStatus(handle, TokenStateTable.STATUS_ACTIVE);
+        reschedule(handle, newExpiredAt.getEpochSecond());
+        return 1;
+    }
+
+    // ========== 내부 유틸 ==========
+
+    private void putToken(String userId, String token, byte status, long expiredAtSecond, int extendCount) {
+        int handle = tokenTable.put(userId, token, status, expiredAtSecond, extendCount);
+        expiryWheel.schedule(handle, expiredAtSecond);
+    }
+
+    private boolean hasValidToken(String userId, long nowSecond) {
+        int handle = tokenTable.handleOf(userId);
+        return handle >= 0 && tokenTable.expiredAtSecond(handle) >= nowSecond;
+    }
+
+    private void reschedule(int handle, long expiredAtSecond) {
+        tokenTable.setExpiredAtSecond(handle, expiredAtSecond);
+        expiryWheel.schedule(handle, expiredAtSecond);
+    }
+
+    private static byte toStatusCode(QueueStatus status) {
+        return switch (status) {
+            case READY -> TokenStateTable.STATUS_READY;
+            case ACTIVE -> TokenStateTable.STATUS_ACTIVE;
+            default -> TokenStateTable.STATUS_OTHER;
+        };
+    }
+}
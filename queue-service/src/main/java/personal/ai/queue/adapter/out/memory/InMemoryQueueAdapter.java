@@ -0,0 +1,226 @@
+package personal.ai.queue.adapter.out.memory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueStatusReader;
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.model.LotteryEntry;
+import personal.ai.queue.domain.model.QueueEntryState;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-Memory Queue Adapter
+ * Redis 없이 JVM 메모리에서 동작하는 QueueRepository 구현체입니다.
+ * queue.store=memory 일 때만 활성화됩니다 (기본값: redis).
+ *
+ * 용도:
+ * - Redis 없는 소규모 배포 / 로컬 개발
+ * - 네트워크를 배제한 대기열 알고리즘 처리량 측정
+ *
+ * 자료구조:
+ * - Wait Queue: 진입 순번 기반 순서 통계 트리 (순위 조회 O(log n))
+ * - Active Queue: handle 기반 토큰 상태 테이블 + 1초 단위 타이머 휠 (만료 처리)
+ *
+ * 주의: 단일 인스턴스 전용입니다. 여러 인스턴스로 확장하면 대기열이 인스턴스별로 분리됩니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "memory")
+public class InMemoryQueueAdapter implements QueueRepository, QueueStatusReader {
+
+    private final ConcurrentMap<String, InMemoryConcertQueue> concertQueues = new ConcurrentHashMap<>();
+    private final AtomicLong tokenCounter = new AtomicLong();
+
+    // ========== Wait Queue 관련 메서드 ==========
+
+    @Override
+    public Long addToWaitQueue(String concertId, String userId) {
+        long position = queueOf(concertId).addToWaitQueue(userId);
+        log.debug("Added to wait queue: concertId={}, userId={}, position={}", concertId, userId, position);
+        return position;
+    }
+
+    @Override
+    public QueueEntryState enterWaitQueue(String concertId, String userId, long maxWaitingSize) {
+        return queueOf(concertId).enterWaitQueue(userId, nowSecond(), maxWaitingSize);
+    }
+
+    @Override
+    public QueueEntryState findQueueEntry(String concertId, String userId) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? new QueueEntryState(false, false, null, 0L) : queue.findQueueEntry(userId, nowSecond());
+    }
+
+    @Override
+    public Long getWaitQueuePosition(String concertId, String userId) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? null : queue.getWaitQueuePosition(userId);
+    }
+
+    @Override
+    public Long getWaitQueueSize(String concertId) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? 0L : queue.getWaitQueueSize();
+    }
+
+    @Override
+    public List<String> popFromWaitQueue(String concertId, int count) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? List.of() : queue.popFromWaitQueue(count);
+    }
+
+    @Override
+    public void removeFromWaitQueue(String concertId, String userId) {
+        var queue = concertQueues.get(concertId);
+        if (queue != null) {
+            queue.removeFromWaitQueue(userId);
+        }
+    }
+
+    // ========== Active Queue 관련 메서드 ==========
+
+    @Override
+    public void addToActiveQueue(String concertId, String userId, String token, Instant expiredAt) {
+        queueOf(concertId).addToActiveQueue(userId, token, expiredAt);
+        log.debug("Added to active queue: concertId={}, userId={}, token={}", concertId, userId, token);
+    }
+
+    @Override
+    public Optional<QueueToken> getActiveToken(String concertId, String userId) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? Optional.empty() : queue.getActiveToken(userId, nowSecond());
+    }
+
+    @Override
+    public void updateTokenExpiration(String concertId, String userId, Instant expiredAt) {
+        var queue = concertQueues.get(concertId);
+        if (queue == null || !queue.updateTokenExpiration(userId, expiredAt)) {
+            log.warn("Failed to update token expiration");
+        }
+    }
+
+    @Override
+    public void updateTokenStatus(String concertId, String userId, QueueStatus status) {
+        var queue = concertQueues.get(concertId);
+        if (queue != null) {
+            queue.updateTokenStatus(userId, status);
+        }
+    }
+
+    @Override
+    public Integer incrementExtendCount(String concertId, String userId) {
+        return queueOf(concertId).incrementExtendCount(userId);
+    }
+
+    @Override
+    public Long getActiveQueueSize(String concertId) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? 0L : queue.getActiveQueueSize();
+    }
+
+    @Override
+    public ExpiredTokens removeExpiredTokens(String concertId) {
+        var queue = concertQueues.get(concertId);
+        if (queue == null) {
+            return ExpiredTokens.none();
+        }
+
+        return queue.removeExpiredTokens(nowSecond());
+    }
+
+    @Override
+    public void removeFromActiveQueue(String concertId, String userId) {
+        var queue = concertQueues.get(concertId);
+        if (queue == null || !queue.removeFromActiveQueue(userId)) {
+            log.debug("No data to remove from active queue: concertId={}, userId={}", concertId, userId);
+        }
+    }
+
+    // ========== 배치 작업 메서드 ==========
+
+    @Override
+    public List<String> moveToActiveQueueAtomic(String concertId, int count, Instant expiredAt) {
+        var queue = concertQueues.get(concertId);
+        if (queue == null) {
+            return List.of();
+        }
+        return queue.moveToActiveQueue(count, expiredAt, tokenCounter::incrementAndGet);
+    }
+
+    @Override
+    public boolean activateTokenAtomic(String concertId, String userId, Instant newExpiredAt) {
+        var queue = concertQueues.get(concertId);
+        return queue != null && queue.activateToken(userId, newExpiredAt) == 1;
+    }
+
+    // ========== 추첨 관련 메서드 ==========
+
+    @Override
+    public LotteryEntry addToLotteryPool(String concertId, String userId) {
+        return queueOf(concertId).addToLotteryPool(userId);
+    }
+
+    @Override
+    public boolean isInLotteryPool(String concertId, String userId) {
+        var queue = concertQueues.get(concertId);
+        return queue != null && queue.isInLotteryPool(userId);
+    }
+
+    @Override
+    public boolean readsFromReplica() {
+        return false;
+    }
+
+    @Override
+    public long drawLottery(String concertId, Instant openAt, long seed) {
+        long loaded = queueOf(concertId).drawLottery(seed);
+        log.debug("Lottery drawn: concertId={}, loaded={}", concertId, loaded);
+        return loaded;
+    }
+
+    // ========== Presence 관련 메서드 ==========
+
+    @Override
+    public void recordPresence(String concertId, Map<String, Long> lastSeenEpochSeconds) {
+        queueOf(concertId).recordPresence(lastSeenEpochSeconds);
+    }
+
+    @Override
+    public long removeAbsentWaiters(String concertId, Instant cutoff, int limit) {
+        var queue = concertQueues.get(concertId);
+        return queue == null ? 0L : queue.removeAbsentWaiters(cutoff.getEpochSecond(), limit);
+    }
+
+    // ========== 조회 메서드 ==========
+
+    /**
+     * Wait Queue 또는 Active Queue에 데이터가 있는 콘서트 ID 목록
+     * (비어있는 콘서트 상태는 동시 진입과의 경합을 피하기 위해 제거하지 않고 필터링만 함)
+     */
+    @Override
+    public List<String> getActiveConcertIds() {
+        return concertQueues.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private InMemoryConcertQueue queueOf(String concertId) {
+        return concertQueues.computeIfAbsent(concertId, id -> new InMemoryConcertQueue(id, nowSecond()));
+    }
+
+    private static long nowSecond() {
+        return Instant.now().getEpochSecond();
+    }
+}
@@ -0,0 +1,27 @@
+package personal.ai.queue.adapter.out.memory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import personal.ai.queue.application.port.out.QueueMemoryRepository;
+import personal.ai.queue.domain.model.QueueMemoryUsage;
+
+import java.util.List;
+
+/**
+ * In-Memory Queue Memory Adapter
+ * 인메모리 저장소는 JVM 힙을 사용하므로 Redis 메모리 예산 보호 대상이 아님 (항상 측정 불가)
+ */
+@Repository
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "memory")
+public class InMemoryQueueMemoryAdapter implements QueueMemoryRepository {
+
+    @Override
+    public QueueMemoryUsage readUsage(List<String> concertIds) {
+        return QueueMemoryUsage.unknown();
+    }
+
+    @Override
+    public long purgeRateLimitState(int maxKeys) {
+        return 0;
+    }
+}
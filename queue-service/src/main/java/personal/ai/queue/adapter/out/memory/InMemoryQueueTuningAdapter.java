@@ -0,0 +1,41 @@
+package personal.ai.queue.adapter.out.memory;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import personal.ai.queue.application.port.out.QueueTuningRepository;
+import personal.ai.queue.domain.model.QueueTuning;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-Memory Queue Tuning Adapter
+ * 단일 인스턴스 전용이므로 변경 알림 없이 저장만 수행 (변경한 인스턴스의 캐시는 즉시 반영됨)
+ */
+@Repository
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "memory")
+public class InMemoryQueueTuningAdapter implements QueueTuningRepository {
+
+    private final Map<String, QueueTuning> tunings = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, QueueTuning> findAll() {
+        return Map.copyOf(tunings);
+    }
+
+    @Override
+    public Optional<QueueTuning> findByConcertId(String concertId) {
+        return Optional.ofNullable(tunings.get(concertId));
+    }
+
+    @Override
+    public void save(String concertId, QueueTuning tuning) {
+        tunings.put(concertId, tuning);
+    }
+
+    @Override
+    public void delete(String concertId) {
+        tunings.remove(concertId);
+    }
+}
@@ -0,0 +1,163 @@
+package personal.ai.queue.adapter.out.memory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Active Token 상태 테이블
+ * Redis Hash(active:token:{concertId}:{userId})를 대체하는 handle(int) 기반 저장소
+ *
+ * - userId는 한 번만 handle로 매핑하고, 이후 상태는 handle을 인덱스로 하는 primitive 배열에 저장
+ * - 해제된 handle은 free list로 재사용하여 배열이 무한히 커지지 않도록 함
+ *
+ * 동기화는 호출자(InMemoryConcertQueue)가 담당합니다.
+ */
+final class TokenStateTable {
+
+    static final byte STATUS_NONE = 0;
+    static final byte STATUS_READY = 1;
+    static final byte STATUS_ACTIVE = 2;
+    static final byte STATUS_OTHER = 3; // 조회 시 NOT_FOUND로 취급
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Integer> handleByUserId = new HashMap<>();
+
+    private String[] userIds = new String[INITIAL_CAPACITY];
+    private String[] tokens = new String[INITIAL_CAPACITY];
+    private long[] expiredAtSeconds = new long[INITIAL_CAPACITY];
+    private int[] extendCounts = new int[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int nextHandle = 0;
+    private int liveCount = 0;
+
+    int size() {
+        return liveCount;
+    }
+
+    /**
+     * handle 조회
+     *
+     * @return handle, 없으면 -1
+     */
+    int handleOf(String userId) {
+        Integer handle = handleByUserId.get(userId);
+        return handle == null ? -1 : handle;
+    }
+
+    /**
+     * 토큰 저장 (이미 있으면 덮어씀)
+     *
+     * @return handle
+     */
+    int put(String userId, String token, byte status, long expiredAtSecond, int extendCount) {
+        int handle = handleOf(userId);
+        if (handle < 0) {
+            handle = allocate();
+            handleByUserId.put(userId, handle);
+            userIds[handle] = userId;
+            liveCount++;
+        }
+
+        tokens[handle] = token;
+        statuses[handle] = status;
+        expiredAtSeconds[handle] = expiredAtSecond;
+        extendCounts[handle] = extendCount;
+        return handle;
+    }
+
+    /**
+     * 토큰 제거
+     *
+     * @return 제거 여부
+     */
+    boolean remove(String userId) {
+        Integer handle = handleByUserId.remove(userId);
+        if (handle == null) {
+            return false;
+        }
+        release(handle);
+        return true;
+    }
+
+    /**
+     * handle로 토큰 제거 (만료 처리용)
+     */
+    void removeByHandle(int handle) {
+        handleByUserId.remove(userIds[handle]);
+        release(handle);
+    }
+
+    boolean isLive(int handle) {
+        return handle >= 0 && handle < nextHandle && statuses[handle] != STATUS_NONE;
+    }
+
+    String userId(int handle) {
+        return userIds[handle];
+    }
+
+    String token(int handle) {
+        return tokens[handle];
+    }
+
+    byte status(int handle) {
+        return statuses[handle];
+    }
+
+    long expiredAtSecond(int handle) {
+        return expiredAtSeconds[handle];
+    }
+
+    int extendCount(int handle) {
+        return extendCounts[handle];
+    }
+
+    void setStatus(int handle, byte status) {
+        statuses[handle] = status;
+    }
+
+    void setExpiredAtSecond(int handle, long expiredAtSecond) {
+        expiredAtSeconds[handle] = expiredAtSecond;
+    }
+
+    int incrementExtendCount(int handle) {
+        return ++extendCounts[handle];
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeHandles[--freeCount];
+        }
+        if (nextHandle == statuses.length) {
+            grow();
+        }
+        return nextHandle++;
+    }
+
+    private void release(int handle) {
+        userIds[handle] = null;
+        tokens[handle] = null;
+        statuses[handle] = STATUS_NONE;
+        expiredAtSeconds[handle] = 0L;
+        extendCounts[handle] = 0;
+        liveCount--;
+
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeHandles.length * 2);
+        }
+        freeHandles[freeCount++] = handle;
+    }
+
+    private void grow() {
+        int capacity = statuses.length * 2;
+        userIds = Arrays.copyOf(userIds, capacity);
+        tokens = Arrays.copyOf(tokens, capacity);
+        expiredAtSeconds = Arrays.copyOf(expiredAtSeconds, capacity);
+        extendCounts = Arrays.copyOf(extendCounts, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+    }
+}
@@ -0,0 +1,171 @@
+package personal.ai.queue.adapter.out.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Wait Queue 순서 통계 트리 (Order-Statistic Treap)
+ * 진입 순번(arrival sequence)을 키로 대기자를 정렬하고, 서브트리 크기를 함께 관리하여
+ * 순위 조회(ZRANK)와 앞에서부터 N명 꺼내기(ZPOPMIN)를 O(log n)에 처리합니다.
+ *
+ * 동기화는 호출자(InMemoryConcertQueue)가 담당합니다.
+ */
+final class WaitingOrderTree {
+
+    private static final class Node {
+        private final long key;
+        private final String userId;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long key, String userId, int priority) {
+            this.key = key;
+            this.userId = userId;
+            this.priority = priority;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * 대기자 추가 (키는 단조 증가하는 진입 순번)
+     */
+    void insert(long key, String userId) {
+        Node[] parts = split(root, key);
+        root = merge(merge(parts[0], new Node(key, userId, random.nextInt())), parts[1]);
+    }
+
+    /**
+     * 대기자 제거
+     *
+     * @return 제거 여부
+     */
+    boolean remove(long key) {
+        Node[] lower = split(root, key);
+        Node[] upper = split(lower[1], key + 1);
+        root = merge(lower[0], upper[1]);
+        return upper[0] != null;
+    }
+
+    /**
+     * 순위 조회 (0-based)
+     *
+     * @return 순위, 없으면 -1
+     */
+    long rank(long key) {
+        long rank = 0;
+        Node node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 가장 먼저 진입한 N명을 꺼냄
+     */
+    List<String> pollFirst(int count) {
+        if (count <= 0 || root == null) {
+            return List.of();
+        }
+
+        Node[] parts = splitBySize(root, count);
+        root = parts[1];
+
+        List<String> userIds = new ArrayList<>(size(parts[0]));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = parts[0];
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            userIds.add(node.userId);
+            node = node.right;
+        }
+        return userIds;
+    }
+
+    // ========== Treap 연산 ==========
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * key 미만 / key 이상으로 분할
+     */
+    private static Node[] split(Node node, long key) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (node.key < key) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    /**
+     * 앞에서부터 count개 / 나머지로 분할
+     */
+    private static Node[] splitBySize(Node node, int count) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (size(node.left) >= count) {
+            Node[] parts = splitBySize(node.left, count);
+            node.left = parts[1];
+            update(node);
+            return new Node[]{parts[0], node};
+        }
+        Node[] parts = splitBySize(node.right, count - size(node.left) - 1);
+        node.right = parts[0];
+        update(node);
+        return new Node[]{node, parts[1]};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+}
@@ -0,0 +1,74 @@
+package personal.ai.queue.adapter.out.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.out.QueueMetrics;
+import personal.ai.queue.domain.model.MemoryPressure;
+import personal.ai.queue.domain.model.QueueKeyFamily;
+import personal.ai.queue.domain.model.QueueMemoryUsage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer 기반 대기열 지표 Adapter
+ * /actuator/prometheus로 노출 (queue_wait_overflow_total{concertId=...})
+ * 메모리 지표는 측정 시점 값을 Gauge로 노출 (queue_redis_memory_bytes{family=...}, queue_redis_memory_pressure = MemoryPressure 단계 0~3)
+ */
+@Component
+@RequiredArgsConstructor
+public class MicrometerQueueMetricsAdapter implements QueueMetrics {
+
+    private static final String WAIT_OVERFLOW_METRIC = "queue.wait.overflow";
+    private static final String MEMORY_BYTES_METRIC = "queue.redis.memory.bytes";
+    private static final String MEMORY_PRESSURE_METRIC = "queue.redis.memory.pressure";
+    private static final String MEMORY_REJECTION_METRIC = "queue.entry.memory.rejected";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> memoryGauges = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordWaitQueueOverflow(String concertId) {
+        Counter.builder(WAIT_OVERFLOW_METRIC)
+                .description("최대 대기 인원 초과로 거절된 대기열 진입 요청 수")
+                .tag("concertId", concertId)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @Override
+    public void recordMemoryUsage(QueueMemoryUsage usage, MemoryPressure pressure) {
+        memoryGauge(MEMORY_BYTES_METRIC, "family", "used").set(usage.usedBytes());
+        memoryGauge(MEMORY_BYTES_METRIC, "family", "max").set(usage.maxMemoryBytes());
+        for (QueueKeyFamily family : QueueKeyFamily.values()) {
+            memoryGauge(MEMORY_BYTES_METRIC, "family", family.name().toLowerCase()).set(usage.bytesOf(family));
+        }
+        memoryGauge(MEMORY_PRESSURE_METRIC).set(pressure.ordinal());
+    }
+
+    @Override
+    public void recordMemoryEntryRejection(String concertId) {
+        Counter.builder(MEMORY_REJECTION_METRIC)
+                .description("Redis 메모리 압박으로 거절된 대기열 진입 요청 수")
+                .tag("concertId", concertId)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 이름 + 태그별 Gauge 값 보관소 (최초 호출 시 등록)
+     */
+    private AtomicLong memoryGauge(String name, String... tags) {
+        return memoryGauges.computeIfAbsent(name + String.join(":", tags), key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .tags(tags)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
@@ -2,9 +2,11 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import personal.ai.queue.domain.exception.QueueDataCorruptionException;
+import personal.ai.queue.domain.model.ExpiredTokens;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
@@ -18,6 +20,7 @@ import java.util.Optional;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisActiveQueueAdapter {
 
@@ -162,17 +165,17 @@ public class RedisActiveQueueAdapter {
      * 만료된 토큰들을 제거합니다.
      *
      * @param concertId 콘서트 ID
-     * @return 제거된 토큰 수
+     * @return 제거된 토큰 수 및 READY 상태로 만료된 토큰 수
      */
-    public Long removeExpiredTokens(String concertId) {
+    public ExpiredTokens removeExpiredTokens(String concertId) {
         var activeQueueKey = RedisKeyGenerator.activeQueueKey(concertId);
-        var removedCount = luaScriptExecutor.executeRemoveExpiredTokens(activeQueueKey, concertId);
+        var expired = luaScriptExecutor.executeRemoveExpiredTokens(activeQueueKey, concertId);
 
-        if (removedCount > 0) {
-            log.debug("Removed expired tokens: concertId={}, count={}", concertId, removedCount);
+        if (expired.removed() > 0) {
+            log.debug("Removed expired tokens: concertId={}, count={}", concertId, expired.removed());
         }
 
-        return removedCount;
+        return expired;
     }
 
     /**
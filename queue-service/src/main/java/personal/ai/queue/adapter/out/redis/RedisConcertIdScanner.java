@@ -2,6 +2,7 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import personal.ai.common.redis.cursor.CursorManager;
@@ -16,6 +17,7 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisConcertIdScanner {
 
@@ -39,10 +39,11 @@ public class RedisConfig {
     }
 
     @Bean
-    public org.springframework.data.redis.core.script.RedisScript<Long> removeExpiredTokensScript() {
+    @SuppressWarnings("rawtypes")
+    public org.springframework.data.redis.core.script.RedisScript<java.util.List> removeExpiredTokensScript() {
         org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
                 "scripts/remove_expired_tokens.lua");
-        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, java.util.List.class);
     }
 
     @Bean
@@ -72,4 +73,49 @@ public class RedisConfig {
                 "scripts/activate_token.lua");
         return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
     }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> enterLotteryScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/enter_lottery.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> drawLotteryScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/draw_lottery.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public org.springframework.data.redis.core.script.RedisScript<java.util.List> findQueueEntryScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/find_queue_entry.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, java.util.List.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public org.springframework.data.redis.core.script.RedisScript<java.util.List> enterWaitQueueScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/enter_wait_queue.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, java.util.List.class);
+    }
+
+    @Bean
+    public org.springframework.data.redis.core.script.RedisScript<Long> removeAbsentWaitersScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/remove_absent_waiters.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, Long.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public org.springframework.data.redis.core.script.RedisScript<java.util.List> memoryUsageScript() {
+        org.springframework.core.io.ClassPathResource scriptSource = new org.springframework.core.io.ClassPathResource(
+                "scripts/memory_usage.lua");
+        return org.springframework.data.redis.core.script.RedisScript.of(scriptSource, java.util.List.class);
+    }
 }
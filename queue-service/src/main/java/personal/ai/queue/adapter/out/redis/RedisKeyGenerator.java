@@ -9,6 +9,12 @@ public class RedisKeyGenerator {
     private static final String WAIT_QUEUE_PREFIX = "queue:wait:";
     private static final String ACTIVE_QUEUE_PREFIX = "queue:active:";
     private static final String ACTIVE_TOKEN_PREFIX = "active:token:";
+    private static final String PRESENCE_PREFIX = "queue:presence:";
+    private static final String LOTTERY_POOL_PREFIX = "queue:lottery:pool:";
+    private static final String LOTTERY_DRAWN_PREFIX = "queue:lottery:drawn:";
+    private static final String RATE_LIMIT_PREFIX = "rate_limit:queue:";
+    private static final String TUNING_KEY = "queue:tuning";
+    private static final String TUNING_CHANNEL = "queue:tuning:changed";
 
     /**
      * Wait Queue Key
@@ -34,6 +40,54 @@ public class RedisKeyGenerator {
         return ACTIVE_TOKEN_PREFIX + concertId + ":" + userId;
     }
 
+    /**
+     * Presence Key (ZSet, score = 마지막 하트비트 epoch seconds)
+     * queue:presence:{concertId}
+     */
+    public static String presenceKey(String concertId) {
+        return PRESENCE_PREFIX + concertId;
+    }
+
+    /**
+     * Lottery Pool Key (Set)
+     * queue:lottery:pool:{concertId}
+     */
+    public static String lotteryPoolKey(String concertId) {
+        return LOTTERY_POOL_PREFIX + concertId;
+    }
+
+    /**
+     * Lottery Drawn Key (추첨 완료 표식)
+     * queue:lottery:drawn:{concertId}
+     */
+    public static String lotteryDrawnKey(String concertId) {
+        return LOTTERY_DRAWN_PREFIX + concertId;
+    }
+
+    /**
+     * Rate Limit Key (Token Bucket, 실제 저장 Key는 :tokens / :last_refill 접미사)
+     * rate_limit:queue:{concertId}:{userId}
+     */
+    public static String rateLimitKey(String concertId, String userId) {
+        return RATE_LIMIT_PREFIX + concertId + ":" + userId;
+    }
+
+    /**
+     * Queue Tuning Key (Hash, field = concertId, value = 튜닝 값 JSON)
+     * queue:tuning
+     */
+    public static String tuningKey() {
+        return TUNING_KEY;
+    }
+
+    /**
+     * Queue Tuning 변경 알림 채널 (Pub/Sub, message = concertId)
+     * queue:tuning:changed
+     */
+    public static String tuningChannel() {
+        return TUNING_CHANNEL;
+    }
+
     /**
      * Wait Queue 패턴 (모든 콘서트)
      * queue:wait:*
@@ -50,6 +104,18 @@ public class RedisKeyGenerator {
         return ACTIVE_QUEUE_PREFIX + "*";
     }
 
+    /**
+     * Rate Limit 패턴 (모든 콘서트/사용자)
+     * rate_limit:queue:*
+     */
+    public static String rateLimitPattern() {
+        return RATE_LIMIT_PREFIX + "*";
+    }
+
+    public static boolean isRateLimitKey(String key) {
+        return key.startsWith(RATE_LIMIT_PREFIX);
+    }
+
     /**
      * Key에서 Concert ID 추출
      */
@@ -0,0 +1,18 @@
+package personal.ai.queue.adapter.out.redis;
+
+/**
+ * Key 묶음의 메모리 사용량 (memory_usage.lua 결과)
+ */
+public record RedisKeyMemoryUsage(
+        long totalBytes,   // 존재하는 Key의 사용량 합계
+        long existingKeys  // 존재하는 Key 수
+) {
+    public static final RedisKeyMemoryUsage EMPTY = new RedisKeyMemoryUsage(0, 0);
+
+    /**
+     * Key 1개당 평균 사용량 (존재하는 Key가 없으면 0)
+     */
+    public double averageBytes() {
+        return existingKeys > 0 ? (double) totalBytes / existingKeys : 0;
+    }
+}
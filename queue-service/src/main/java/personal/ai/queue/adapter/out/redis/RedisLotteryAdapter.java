@@ -0,0 +1,80 @@
+package personal.ai.queue.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.domain.model.LotteryEntry;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Redis 추첨 응모 전담 어댑터
+ * 오픈 전 응모 풀(Set)과 추첨 실행을 담당합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisLotteryAdapter {
+
+    // 추첨 완료 표식 보관 기간 (오픈 직후 지연 도착한 응모를 선착순으로 돌리기 위한 용도)
+    private static final long DRAWN_MARKER_TTL_SECONDS = Duration.ofDays(7).toSeconds();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLuaScriptExecutor luaScriptExecutor;
+
+    /**
+     * 추첨에 응모합니다.
+     * 이미 추첨이 끝난 경우 응모를 받지 않습니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @return 응모 결과
+     */
+    public LotteryEntry addToLotteryPool(String concertId, String userId) {
+        long result = luaScriptExecutor.executeEnterLottery(
+                RedisKeyGenerator.lotteryPoolKey(concertId),
+                RedisKeyGenerator.lotteryDrawnKey(concertId),
+                userId);
+
+        if (result == 0L) {
+            log.debug("Lottery already drawn: concertId={}, userId={}", concertId, userId);
+            return LotteryEntry.closed();
+        }
+
+        return new LotteryEntry(true, result > 0, Math.abs(result));
+    }
+
+    /**
+     * 추첨 응모 여부를 조회합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @return 응모 풀에 있으면 true
+     */
+    public boolean isInLotteryPool(String concertId, String userId) {
+        Boolean member = redisTemplate.opsForSet().isMember(RedisKeyGenerator.lotteryPoolKey(concertId), userId);
+        return Boolean.TRUE.equals(member);
+    }
+
+    /**
+     * 응모자를 섞어 Wait Queue에 일괄 적재합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param openAt 오픈 시각
+     * @param seed 셔플 시드
+     * @return 적재된 인원 수 (이미 추첨된 경우 -1)
+     */
+    public long drawLottery(String concertId, Instant openAt, long seed) {
+        return luaScriptExecutor.executeDrawLottery(
+                RedisKeyGenerator.lotteryPoolKey(concertId),
+                RedisKeyGenerator.waitQueueKey(concertId),
+                RedisKeyGenerator.lotteryDrawnKey(concertId),
+                openAt,
+                seed,
+                DRAWN_MARKER_TTL_SECONDS);
+    }
+}
@@ -2,9 +2,12 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.model.QueueEntryState;
 import personal.ai.queue.domain.model.QueueStatus;
 
 import java.time.Instant;
@@ -16,6 +19,7 @@ import java.util.List;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisLuaScriptExecutor {
 
@@ -25,11 +29,21 @@ public class RedisLuaScriptExecutor {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisScript<Long> addToActiveQueueScript;
-    private final RedisScript<Long> removeExpiredTokensScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> removeExpiredTokensScript;
     private final RedisScript<Long> updateTokenExpirationScript;
     private final RedisScript<Long> removeFromActiveQueueScript;
     private final RedisScript<String> moveToActiveQueueScript;
     private final RedisScript<Long> activateTokenScript;
+    private final RedisScript<Long> enterLotteryScript;
+    private final RedisScript<Long> drawLotteryScript;
+    private final RedisScript<Long> removeAbsentWaitersScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> findQueueEntryScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> enterWaitQueueScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> memoryUsageScript;
 
     /**
      * Active Queue에 토큰을 추가합니다 (원자적 작업).
@@ -75,12 +89,12 @@ public class RedisLuaScriptExecutor {
      *
      * @param activeQueueKey Active Queue의 Redis 키
      * @param concertId 콘서트 ID
-     * @return 제거된 토큰 수
+     * @return 제거된 토큰 수 및 READY 상태로 만료된 토큰 수
      */
-    public Long executeRemoveExpiredTokens(String activeQueueKey, String concertId) {
+    public ExpiredTokens executeRemoveExpiredTokens(String activeQueueKey, String concertId) {
         long now = Instant.now().getEpochSecond();
 
-        Long removedCount = redisTemplate.execute(
+        List<?> result = redisTemplate.execute(
                 removeExpiredTokensScript,
                 List.of(activeQueueKey),
                 String.valueOf(MIN_SCORE),
@@ -89,11 +103,17 @@ public class RedisLuaScriptExecutor {
                 concertId
         );
 
-        if (removedCount != null && removedCount > 0) {
-            log.debug("Executed removeExpiredTokens script: concertId={}, removed={}", concertId, removedCount);
+        if (result == null || result.size() < 2) {
+            return ExpiredTokens.none();
         }
 
-        return removedCount != null ? removedCount : 0L;
+        ExpiredTokens expired = new ExpiredTokens(toLong(result.get(0)), toLong(result.get(1)));
+        if (expired.removed() > 0) {
+            log.debug("Executed removeExpiredTokens script: concertId={}, removed={}, unactivated={}",
+                    concertId, expired.removed(), expired.unactivated());
+        }
+
+        return expired;
     }
 
     /**
@@ -232,4 +252,176 @@ public class RedisLuaScriptExecutor {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 추첨에 응모합니다 (원자적 작업).
+     *
+     * @param lotteryPoolKey 응모 풀의 Redis 키
+     * @param lotteryDrawnKey 추첨 완료 표식의 Redis 키
+     * @param userId 사용자 ID
+     * @return 0: 추첨 완료, 양수: 신규 응모 (응모 인원), 음수: 중복 응모 (-응모 인원)
+     */
+    public long executeEnterLottery(String lotteryPoolKey, String lotteryDrawnKey, String userId) {
+        Long result = redisTemplate.execute(
+                enterLotteryScript,
+                List.of(lotteryPoolKey, lotteryDrawnKey),
+                userId
+        );
+
+        return result != null ? result : 0L;
+    }
+
+    /**
+     * 응모자를 섞어 Wait Queue에 적재합니다 (원자적 작업).
+     *
+     * @param lotteryPoolKey 응모 풀의 Redis 키
+     * @param waitQueueKey Wait Queue의 Redis 키
+     * @param lotteryDrawnKey 추첨 완료 표식의 Redis 키
+     * @param openAt 오픈 시각
+     * @param seed 셔플 시드
+     * @param drawnTtlSeconds 추첨 완료 표식 TTL (초)
+     * @return 적재된 인원 수 (이미 추첨된 경우 -1)
+     */
+    public long executeDrawLottery(
+            String lotteryPoolKey,
+            String waitQueueKey,
+            String lotteryDrawnKey,
+            Instant openAt,
+            long seed,
+            long drawnTtlSeconds) {
+
+        Long loaded = redisTemplate.execute(
+                drawLotteryScript,
+                List.of(lotteryPoolKey, waitQueueKey, lotteryDrawnKey),
+                String.valueOf(openAt.toEpochMilli()),
+                String.valueOf(seed),
+                String.valueOf(drawnTtlSeconds)
+        );
+
+        log.debug("Executed drawLottery script: waitQueueKey={}, loaded={}", waitQueueKey, loaded);
+
+        return loaded != null ? loaded : 0L;
+    }
+
+    /**
+     * Active 토큰 보유 여부와 Wait Queue 순번을 한 번에 조회합니다 (읽기 전용).
+     *
+     * @param waitQueueKey Wait Queue의 Redis 키
+     * @param tokenKey 토큰의 Redis 키
+     * @param userId 사용자 ID
+     * @return 진입 상태
+     */
+    public QueueEntryState executeFindQueueEntry(String waitQueueKey, String tokenKey, String userId) {
+        List<?> result = redisTemplate.execute(
+                findQueueEntryScript,
+                List.of(waitQueueKey, tokenKey),
+                userId,
+                String.valueOf(Instant.now().getEpochSecond())
+        );
+
+        return toQueueEntryState(result);
+    }
+
+    /**
+     * Active 토큰 확인 후 Wait Queue에 추가합니다 (원자적 작업).
+     * 이미 Active 토큰을 보유했거나 최대 대기 인원에 도달한 경우 추가하지 않습니다.
+     *
+     * @param waitQueueKey Wait Queue의 Redis 키
+     * @param tokenKey 토큰의 Redis 키
+     * @param userId 사용자 ID
+     * @param maxWaitingSize 최대 대기 인원 (0 이하면 제한 없음)
+     * @return 진입 상태
+     */
+    public QueueEntryState executeEnterWaitQueue(String waitQueueKey, String tokenKey, String userId,
+                                                 long maxWaitingSize) {
+        Instant now = Instant.now();
+
+        List<?> result = redisTemplate.execute(
+                enterWaitQueueScript,
+                List.of(waitQueueKey, tokenKey),
+                userId,
+                String.valueOf(now.getEpochSecond()),
+                String.valueOf(now.toEpochMilli()),
+                String.valueOf(maxWaitingSize)
+        );
+
+        QueueEntryState state = toQueueEntryState(result);
+        log.debug("Executed enterWaitQueue script: userId={}, state={}", userId, state);
+
+        return state;
+    }
+
+    /**
+     * 하트비트가 끊긴 대기자를 일괄 제거합니다 (원자적 작업).
+     *
+     * @param presenceKey Presence의 Redis 키
+     * @param waitQueueKey Wait Queue의 Redis 키
+     * @param cutoff 이 시각 이전 하트비트는 이탈로 간주
+     * @param limit 한 번에 처리할 최대 인원
+     * @return Wait Queue에서 제거된 인원 수
+     */
+    public long executeRemoveAbsentWaiters(String presenceKey, String waitQueueKey, Instant cutoff, int limit) {
+        Long removed = redisTemplate.execute(
+                removeAbsentWaitersScript,
+                List.of(presenceKey, waitQueueKey),
+                String.valueOf(cutoff.getEpochSecond()),
+                String.valueOf(limit)
+        );
+
+        if (removed != null && removed > 0) {
+            log.debug("Executed removeAbsentWaiters script: waitQueueKey={}, removed={}", waitQueueKey, removed);
+        }
+
+        return removed != null ? removed : 0L;
+    }
+
+    /**
+     * 여러 Key의 메모리 사용량 합계를 조회합니다 (MEMORY USAGE, 1회 왕복).
+     *
+     * @param keys 조회할 Key 목록
+     * @param samples 중첩 자료구조 샘플링 수 (0이면 전체)
+     * @return 존재하는 Key의 사용량 합계와 개수
+     */
+    public RedisKeyMemoryUsage executeMemoryUsage(List<String> keys, int samples) {
+        if (keys.isEmpty()) {
+            return RedisKeyMemoryUsage.EMPTY;
+        }
+
+        List<?> result = redisTemplate.execute(memoryUsageScript, keys, String.valueOf(samples));
+
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("Unexpected memory usage script result: " + result);
+        }
+
+        return new RedisKeyMemoryUsage(toLong(result.get(0)), toLong(result.get(1)));
+    }
+
+    /**
+     * 스크립트 결과 {active, added, rank, size}를 진입 상태로 변환합니다 (added = -1: 대기열 가득 참).
+     */
+    private QueueEntryState toQueueEntryState(List<?> result) {
+        if (result == null || result.size() < 4) {
+            throw new IllegalStateException("Unexpected queue entry script result: " + result);
+        }
+
+        if (toLong(result.get(0)) == 1L) {
+            return QueueEntryState.activeUser();
+        }
+
+        long added = toLong(result.get(1));
+        if (added < 0) {
+            return QueueEntryState.full(toLong(result.get(3)));
+        }
+
+        long rank = toLong(result.get(2));
+        return new QueueEntryState(
+                false,
+                added == 1L,
+                rank >= 0 ? rank : null,
+                toLong(result.get(3)));
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,69 @@
+package personal.ai.queue.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis Presence 전담 어댑터
+ * 대기자 하트비트(마지막 접속 시각) 기록과 이탈자 정리를 담당합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisPresenceAdapter {
+
+    // 콘서트 종료 후 남은 Presence 키 자동 정리 (마지막 기록 이후 1시간)
+    private static final Duration PRESENCE_KEY_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLuaScriptExecutor luaScriptExecutor;
+
+    /**
+     * 하트비트를 일괄 기록합니다 (콘서트당 ZADD 1회).
+     *
+     * @param concertId 콘서트 ID
+     * @param lastSeenEpochSeconds 사용자 ID -> 마지막 하트비트 시각 (epoch seconds)
+     */
+    public void recordPresence(String concertId, Map<String, Long> lastSeenEpochSeconds) {
+        if (lastSeenEpochSeconds.isEmpty()) {
+            return;
+        }
+
+        String presenceKey = RedisKeyGenerator.presenceKey(concertId);
+        Set<ZSetOperations.TypedTuple<String>> tuples = lastSeenEpochSeconds.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.of(entry.getKey(), entry.getValue().doubleValue()))
+                .collect(Collectors.toSet());
+
+        redisTemplate.opsForZSet().add(presenceKey, tuples);
+        redisTemplate.expire(presenceKey, PRESENCE_KEY_TTL);
+
+        log.debug("Recorded presence: concertId={}, count={}", concertId, tuples.size());
+    }
+
+    /**
+     * 하트비트가 끊긴 대기자를 Wait Queue에서 제거합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param cutoff 이 시각 이전 하트비트는 이탈로 간주
+     * @param limit 한 번에 처리할 최대 인원
+     * @return Wait Queue에서 제거된 인원 수
+     */
+    public long removeAbsentWaiters(String concertId, Instant cutoff, int limit) {
+        return luaScriptExecutor.executeRemoveAbsentWaiters(
+                RedisKeyGenerator.presenceKey(concertId),
+                RedisKeyGenerator.waitQueueKey(concertId),
+                cutoff,
+                limit);
+    }
+}
@@ -2,13 +2,18 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.model.LotteryEntry;
+import personal.ai.queue.domain.model.QueueEntryState;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -19,16 +24,23 @@ import java.util.stream.Stream;
  * 책임 분리:
  * - RedisWaitQueueAdapter: Wait Queue 관련 작업
  * - RedisActiveQueueAdapter: Active Queue 관련 작업
+ * - RedisLotteryAdapter: 오픈 전 추첨 응모 관련 작업
+ * - RedisPresenceAdapter: 대기자 하트비트 및 이탈자 정리
  * - RedisTokenConverter: 데이터 변환
  * - RedisLuaScriptExecutor: Lua 스크립트 실행
+ *
+ * queue.store=redis (기본값) 일 때 활성화됩니다.
  */
 @Slf4j
 @Repository
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisQueueAdapter implements QueueRepository {
 
     private final RedisWaitQueueAdapter waitQueueAdapter;
     private final RedisActiveQueueAdapter activeQueueAdapter;
+    private final RedisLotteryAdapter lotteryAdapter;
+    private final RedisPresenceAdapter presenceAdapter;
 
     // ========== Wait Queue 관련 메서드 ==========
 
@@ -37,6 +49,16 @@ public class RedisQueueAdapter implements QueueRepository {
         return waitQueueAdapter.addToWaitQueue(concertId, userId);
     }
 
+    @Override
+    public QueueEntryState enterWaitQueue(String concertId, String userId, long maxWaitingSize) {
+        return waitQueueAdapter.enterWaitQueue(concertId, userId, maxWaitingSize);
+    }
+
+    @Override
+    public QueueEntryState findQueueEntry(String concertId, String userId) {
+        return waitQueueAdapter.findQueueEntry(concertId, userId);
+    }
+
     @Override
     public Long getWaitQueuePosition(String concertId, String userId) {
         return waitQueueAdapter.getWaitQueuePosition(concertId, userId);
@@ -90,7 +112,7 @@ public class RedisQueueAdapter implements QueueRepository {
     }
 
     @Override
-    public Long removeExpiredTokens(String concertId) {
+    public ExpiredTokens removeExpiredTokens(String concertId) {
         return activeQueueAdapter.removeExpiredTokens(concertId);
     }
 
@@ -111,6 +133,35 @@ public class RedisQueueAdapter implements QueueRepository {
         return activeQueueAdapter.activateTokenAtomic(concertId, userId, newExpiredAt);
     }
 
+    // ========== 추첨 관련 메서드 ==========
+
+    @Override
+    public LotteryEntry addToLotteryPool(String concertId, String userId) {
+        return lotteryAdapter.addToLotteryPool(concertId, userId);
+    }
+
+    @Override
+    public boolean isInLotteryPool(String concertId, String userId) {
+        return lotteryAdapter.isInLotteryPool(concertId, userId);
+    }
+
+    @Override
+    public long drawLottery(String concertId, Instant openAt, long seed) {
+        return lotteryAdapter.drawLottery(concertId, openAt, seed);
+    }
+
+    // ========== Presence 관련 메서드 ==========
+
+    @Override
+    public void recordPresence(String concertId, Map<String, Long> lastSeenEpochSeconds) {
+        presenceAdapter.recordPresence(concertId, lastSeenEpochSeconds);
+    }
+
+    @Override
+    public long removeAbsentWaiters(String concertId, Instant cutoff, int limit) {
+        return presenceAdapter.removeAbsentWaiters(concertId, cutoff, limit);
+    }
+
     // ========== 조회 메서드 ==========
 
     /**
@@ -0,0 +1,173 @@
+package personal.ai.queue.adapter.out.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Repository;
+import personal.ai.common.redis.cursor.CursorManager;
+import personal.ai.queue.application.port.out.QueueMemoryRepository;
+import personal.ai.queue.domain.model.QueueKeyFamily;
+import personal.ai.queue.domain.model.QueueMemoryUsage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Redis Queue Memory Adapter
+ * INFO memory로 전체 사용량을, MEMORY USAGE(Lua Script)로 대기열 Key 계열별 사용량을 측정
+ *
+ * 계열별 측정 방식 (측정 비용을 콘서트 수에 비례하도록 제한):
+ * - Wait/Active Queue: 콘서트별 ZSet 1개씩 직접 측정
+ * - 토큰 Hash: Active Queue 앞쪽 사용자의 토큰 Hash를 샘플링한 평균 × Active 인원
+ * - Rate Limit: RANDOMKEY 샘플에서 Rate Limit Key 비율 × DBSIZE × 샘플 평균 크기
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisQueueMemoryAdapter implements QueueMemoryRepository {
+
+    private static final int MEMORY_USAGE_SAMPLES = 5;
+    private static final int TOKEN_SAMPLE_SIZE = 20;
+    private static final int RANDOM_KEY_SAMPLE_SIZE = 200;
+    private static final int SCAN_COUNT = 1000;
+    private static final int UNLINK_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLuaScriptExecutor luaScriptExecutor;
+    private final CursorManager cursorManager;
+
+    @Override
+    public QueueMemoryUsage readUsage(List<String> concertIds) {
+        Properties info = redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+
+        Map<QueueKeyFamily, Long> familyBytes = new EnumMap<>(QueueKeyFamily.class);
+        familyBytes.put(QueueKeyFamily.WAIT_QUEUE, measure(concertIds.stream()
+                .map(RedisKeyGenerator::waitQueueKey)
+                .toList()));
+        familyBytes.put(QueueKeyFamily.ACTIVE_QUEUE, measure(concertIds.stream()
+                .map(RedisKeyGenerator::activeQueueKey)
+                .toList()));
+        familyBytes.put(QueueKeyFamily.TOKEN_HASH, estimateTokenHashBytes(concertIds));
+        familyBytes.put(QueueKeyFamily.RATE_LIMIT, estimateRateLimitBytes());
+
+        return new QueueMemoryUsage(
+                longProperty(info, "used_memory"),
+                longProperty(info, "maxmemory"),
+                familyBytes);
+    }
+
+    @Override
+    public long purgeRateLimitState(int maxKeys) {
+        List<String> keys = new ArrayList<>();
+
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            Cursor<byte[]> cursor = null;
+            try {
+                ScanOptions scanOptions = ScanOptions.scanOptions()
+                        .match(RedisKeyGenerator.rateLimitPattern())
+                        .count(SCAN_COUNT)
+                        .build();
+
+                cursor = connection.keyCommands().scan(scanOptions);
+                while (cursor.hasNext() && keys.size() < maxKeys) {
+                    keys.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                }
+            } finally {
+                cursorManager.closeQuietly(cursor, "rate limit purge cursor");
+            }
+            return null;
+        });
+
+        long purged = 0;
+        for (int from = 0; from < keys.size(); from += UNLINK_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(from + UNLINK_BATCH_SIZE, keys.size()));
+            Long unlinked = redisTemplate.unlink(batch);
+            purged += unlinked != null ? unlinked : 0;
+        }
+
+        return purged;
+    }
+
+    private long measure(List<String> keys) {
+        return luaScriptExecutor.executeMemoryUsage(keys, MEMORY_USAGE_SAMPLES).totalBytes();
+    }
+
+    /**
+     * 콘서트별 Active 사용자 일부의 토큰 Hash 평균 크기 × Active 인원
+     */
+    private long estimateTokenHashBytes(List<String> concertIds) {
+        long total = 0;
+
+        for (String concertId : concertIds) {
+            String activeQueueKey = RedisKeyGenerator.activeQueueKey(concertId);
+            Long activeSize = redisTemplate.opsForZSet().zCard(activeQueueKey);
+            if (activeSize == null || activeSize == 0) {
+                continue;
+            }
+
+            Set<String> sampledUserIds = redisTemplate.opsForZSet().range(activeQueueKey, 0, TOKEN_SAMPLE_SIZE - 1);
+            if (sampledUserIds == null || sampledUserIds.isEmpty()) {
+                continue;
+            }
+
+            List<String> tokenKeys = sampledUserIds.stream()
+                    .map(userId -> RedisKeyGenerator.activeTokenKey(concertId, userId))
+                    .toList();
+            RedisKeyMemoryUsage sample = luaScriptExecutor.executeMemoryUsage(tokenKeys, MEMORY_USAGE_SAMPLES);
+            total += Math.round(sample.averageBytes() * activeSize);
+        }
+
+        return total;
+    }
+
+    /**
+     * Rate Limit Key는 사용자마다 생성되어 개수가 많으므로 전체 SCAN 대신 무작위 샘플로 추정
+     */
+    private long estimateRateLimitBytes() {
+        Long dbSize = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+        if (dbSize == null || dbSize == 0) {
+            return 0;
+        }
+
+        List<Object> sampledKeys = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < RANDOM_KEY_SAMPLE_SIZE; i++) {
+                connection.keyCommands().randomKey();
+            }
+            return null;
+        });
+
+        List<String> sampledRateLimitKeys = sampledKeys.stream()
+                .filter(key -> key != null && RedisKeyGenerator.isRateLimitKey(key.toString()))
+                .map(Object::toString)
+                .toList();
+        if (sampledRateLimitKeys.isEmpty()) {
+            return 0;
+        }
+
+        double rateLimitRatio = (double) sampledRateLimitKeys.size() / sampledKeys.size();
+        List<String> rateLimitKeys = sampledRateLimitKeys.stream().distinct().toList();
+        RedisKeyMemoryUsage sample = luaScriptExecutor.executeMemoryUsage(rateLimitKeys, MEMORY_USAGE_SAMPLES);
+
+        return Math.round(rateLimitRatio * dbSize * sample.averageBytes());
+    }
+
+    private static long longProperty(Properties info, String name) {
+        String value = info != null ? info.getProperty(name) : null;
+        if (value == null) {
+            log.warn("Redis INFO memory has no {} field", name);
+            return 0;
+        }
+        return Long.parseLong(value.trim());
+    }
+}
@@ -0,0 +1,74 @@
+package personal.ai.queue.adapter.out.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import personal.ai.queue.application.port.out.QueueStatusReader;
+import personal.ai.queue.domain.exception.QueueDataCorruptionException;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.util.Optional;
+
+/**
+ * Redis Queue Status Reader
+ * 상태 조회(HGETALL, ZRANK, SISMEMBER)를 queueReadRedisTemplate으로 처리
+ *
+ * queue.redis.replica-read.enabled=true면 복제본에서 읽으므로 Primary 대비 복제 지연만큼 늦은 값을 볼 수 있습니다.
+ * 쓰기와 Lua 스크립트는 모두 RedisQueueAdapter(Primary)에서 처리합니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisQueueStatusReader implements QueueStatusReader {
+
+    private final RedisTemplate<String, String> queueReadRedisTemplate;
+    private final RedisTokenConverter tokenConverter;
+    private final boolean replicaRead;
+
+    public RedisQueueStatusReader(
+            @Qualifier("queueReadRedisTemplate") RedisTemplate<String, String> queueReadRedisTemplate,
+            RedisTokenConverter tokenConverter,
+            RedisReplicaReadProperties replicaReadProperties) {
+        this.queueReadRedisTemplate = queueReadRedisTemplate;
+        this.tokenConverter = tokenConverter;
+        this.replicaRead = replicaReadProperties.enabled();
+    }
+
+    @Override
+    public Optional<QueueToken> getActiveToken(String concertId, String userId) {
+        var tokenKey = RedisKeyGenerator.activeTokenKey(concertId, userId);
+        var redisHashData = queueReadRedisTemplate.opsForHash().entries(tokenKey);
+
+        if (redisHashData.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(tokenConverter.toQueueToken(redisHashData, concertId, userId));
+        } catch (Exception e) {
+            log.error("Queue data corruption detected - Token data exists but format is invalid: " +
+                    "concertId={}, userId={}, data={}",
+                    concertId, userId, redisHashData, e);
+            throw new QueueDataCorruptionException(e);
+        }
+    }
+
+    @Override
+    public Long getWaitQueuePosition(String concertId, String userId) {
+        return queueReadRedisTemplate.opsForZSet().rank(RedisKeyGenerator.waitQueueKey(concertId), userId);
+    }
+
+    @Override
+    public boolean isInLotteryPool(String concertId, String userId) {
+        Boolean member = queueReadRedisTemplate.opsForSet()
+                .isMember(RedisKeyGenerator.lotteryPoolKey(concertId), userId);
+        return Boolean.TRUE.equals(member);
+    }
+
+    @Override
+    public boolean readsFromReplica() {
+        return replicaRead;
+    }
+}
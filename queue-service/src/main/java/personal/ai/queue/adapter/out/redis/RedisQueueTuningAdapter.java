@@ -0,0 +1,88 @@
+package personal.ai.queue.adapter.out.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import personal.ai.queue.application.port.out.QueueTuningRepository;
+import personal.ai.queue.domain.exception.QueueDataCorruptionException;
+import personal.ai.queue.domain.model.QueueTuning;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Queue Tuning Adapter
+ * 콘서트별 튜닝 값을 Hash(queue:tuning)에 JSON으로 저장하고 변경 시 Pub/Sub으로 알림
+ *
+ * Pub/Sub은 전달을 보장하지 않으므로 구독 측은 주기적 전체 재조회와 함께 사용해야 합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+public class RedisQueueTuningAdapter implements QueueTuningRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 전체 튜닝 조회 (주기적 전체 재조회용)
+     * 손상된 항목 하나 때문에 전체 재조회가 중단되지 않도록 해당 항목만 로그를 남기고 제외
+     */
+    @Override
+    public Map<String, QueueTuning> findAll() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(RedisKeyGenerator.tuningKey());
+
+        Map<String, QueueTuning> tunings = new HashMap<>();
+        entries.forEach((concertId, json) -> {
+            try {
+                tunings.put((String) concertId, fromJson((String) json));
+            } catch (QueueDataCorruptionException e) {
+                log.warn("Skipping corrupted queue tuning: concertId={}", concertId);
+            }
+        });
+        return tunings;
+    }
+
+    @Override
+    public Optional<QueueTuning> findByConcertId(String concertId) {
+        Object json = redisTemplate.opsForHash().get(RedisKeyGenerator.tuningKey(), concertId);
+        return Optional.ofNullable(json).map(value -> fromJson((String) value));
+    }
+
+    @Override
+    public void save(String concertId, QueueTuning tuning) {
+        redisTemplate.opsForHash().put(RedisKeyGenerator.tuningKey(), concertId, toJson(tuning));
+        redisTemplate.convertAndSend(RedisKeyGenerator.tuningChannel(), concertId);
+        log.debug("Saved queue tuning: concertId={}, tuning={}", concertId, tuning);
+    }
+
+    @Override
+    public void delete(String concertId) {
+        redisTemplate.opsForHash().delete(RedisKeyGenerator.tuningKey(), concertId);
+        redisTemplate.convertAndSend(RedisKeyGenerator.tuningChannel(), concertId);
+        log.debug("Deleted queue tuning: concertId={}", concertId);
+    }
+
+    private String toJson(QueueTuning tuning) {
+        try {
+            return objectMapper.writeValueAsString(tuning);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize queue tuning: " + tuning, e);
+        }
+    }
+
+    private QueueTuning fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, QueueTuning.class);
+        } catch (JsonProcessingException e) {
+            log.error("Queue data corruption detected - Invalid tuning JSON: {}", json, e);
+            throw new QueueDataCorruptionException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Redis Replica Read Configuration
+ * 상태 조회 전용 RedisTemplate(queueReadRedisTemplate) 설정
+ *
+ * - 비활성화: 기본 ConnectionFactory(Primary)를 그대로 사용
+ * - 활성화: Primary + 복제본 노드로 Master/Replica 연결을 만들고 Lettuce ReadFrom으로 읽기 명령을 복제본에 라우팅
+ *
+ * 복제본 연결은 Bean으로 등록하지 않고 직접 관리합니다.
+ * (RedisConnectionFactory Bean을 추가하면 Spring Boot 기본 ConnectionFactory 자동 설정이 비활성화되기 때문)
+ *
+ * queue.store=memory에서는 상태 조회도 인메모리 저장소가 처리하므로 등록하지 않음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
+@EnableConfigurationProperties(RedisReplicaReadProperties.class)
+public class RedisReplicaReadConfig implements DisposableBean {
+
+    private LettuceConnectionFactory replicaConnectionFactory;
+
+    @Bean
+    public RedisTemplate<String, String> queueReadRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            RedisProperties redisProperties,
+            RedisReplicaReadProperties replicaReadProperties) {
+
+        if (!replicaReadProperties.enabled()) {
+            return stringTemplate(connectionFactory);
+        }
+
+        replicaConnectionFactory = createReplicaConnectionFactory(redisProperties, replicaReadProperties);
+        log.info("Queue status reads routed to replicas: readFrom={}, nodes={}",
+                replicaReadProperties.readFrom(), replicaReadProperties.nodes());
+
+        return stringTemplate(replicaConnectionFactory);
+    }
+
+    @Override
+    public void destroy() {
+        if (replicaConnectionFactory != null) {
+            replicaConnectionFactory.destroy();
+        }
+    }
+
+    private LettuceConnectionFactory createReplicaConnectionFactory(
+            RedisProperties redisProperties, RedisReplicaReadProperties replicaReadProperties) {
+
+        var factory = new LettuceConnectionFactory(
+                replicaTopology(redisProperties, replicaReadProperties),
+                replicaClientConfiguration(redisProperties, replicaReadProperties));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    /**
+     * Primary + 복제본 노드 구성 (기본 연결과 같은 database/username/password 사용)
+     */
+    static RedisStaticMasterReplicaConfiguration replicaTopology(
+            RedisProperties redisProperties, RedisReplicaReadProperties replicaReadProperties) {
+
+        // Primary도 노드 목록에 포함해야 Lettuce가 역할(ROLE)을 확인하고 replicaPreferred 시 Primary로 대체 가능
+        var topology = new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        for (String node : replicaReadProperties.nodes()) {
+            int separator = node.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Replica node must be host:port, but was: " + node);
+            }
+            topology.node(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
+        }
+        topology.setDatabase(redisProperties.getDatabase());
+        if (redisProperties.getUsername() != null && !redisProperties.getUsername().isEmpty()) {
+            topology.setUsername(redisProperties.getUsername());
+        }
+        if (redisProperties.getPassword() != null && !redisProperties.getPassword().isEmpty()) {
+            topology.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        }
+        return topology;
+    }
+
+    /**
+     * 복제본 읽기용 클라이언트 설정 (기본 연결과 같은 SSL/타임아웃/클라이언트 이름 사용)
+     */
+    static LettuceClientConfiguration replicaClientConfiguration(
+            RedisProperties redisProperties, RedisReplicaReadProperties replicaReadProperties) {
+
+        var builder = LettuceClientConfiguration.builder()
+                .readFrom(ReadFrom.valueOf(replicaReadProperties.readFrom()));
+        if (redisProperties.getSsl().isEnabled()) {
+            builder.useSsl();
+        }
+        if (redisProperties.getTimeout() != null) {
+            builder.commandTimeout(redisProperties.getTimeout());
+        }
+        if (redisProperties.getConnectTimeout() != null) {
+            builder.clientOptions(ClientOptions.builder()
+                    .socketOptions(SocketOptions.builder()
+                            .connectTimeout(redisProperties.getConnectTimeout())
+                            .build())
+                    .build());
+        }
+        if (redisProperties.getClientName() != null && !redisProperties.getClientName().isEmpty()) {
+            builder.clientName(redisProperties.getClientName());
+        }
+        return builder.build();
+    }
+
+    private RedisTemplate<String, String> stringTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, String> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        StringRedisSerializer stringSerializer = new StringRedisSerializer();
+        template.setKeySerializer(stringSerializer);
+        template.setHashKeySerializer(stringSerializer);
+        template.setValueSerializer(stringSerializer);
+        template.setHashValueSerializer(stringSerializer);
+
+        template.afterPropertiesSet();
+        return template;
+    }
+}
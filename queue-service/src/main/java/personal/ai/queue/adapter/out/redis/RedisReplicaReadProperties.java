@@ -0,0 +1,25 @@
+package personal.ai.queue.adapter.out.redis;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Redis 복제본 읽기 설정
+ * queue.redis.replica-read.* 설정을 바인딩
+ *
+ * enabled가 false면 상태 조회도 Primary에서 읽음 (기본값)
+ */
+@ConfigurationProperties(prefix = "queue.redis.replica-read")
+public record RedisReplicaReadProperties(
+        boolean enabled,
+        String readFrom,     // Lettuce ReadFrom.valueOf 이름 (replicaPreferred, replica, lowestLatency, anyReplica 등)
+        List<String> nodes   // 복제본 노드 목록 (host:port)
+) {
+    private static final String DEFAULT_READ_FROM = "replicaPreferred";
+
+    public RedisReplicaReadProperties {
+        readFrom = readFrom == null || readFrom.isBlank() ? DEFAULT_READ_FROM : readFrom;
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+    }
+}
@@ -2,9 +2,11 @@ package personal.ai.queue.adapter.out.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.domain.model.QueueEntryState;
 
 import java.util.Collections;
 import java.util.List;
@@ -18,11 +20,13 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component
+@ConditionalOnProperty(prefix = "queue", name = "store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisWaitQueueAdapter {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisConcertIdScanner concertIdScanner;
+    private final RedisLuaScriptExecutor luaScriptExecutor;
 
     /**
      * Wait Queue에 사용자를 추가합니다.
@@ -44,6 +48,36 @@ public class RedisWaitQueueAdapter {
         return redisTemplate.opsForZSet().rank(waitQueueKey, userId);
     }
 
+    /**
+     * Active 토큰이 없으면 Wait Queue에 추가하고 순번을 조회합니다 (1회 왕복).
+     *
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @param maxWaitingSize 최대 대기 인원 (0 이하면 제한 없음)
+     * @return 진입 상태
+     */
+    public QueueEntryState enterWaitQueue(String concertId, String userId, long maxWaitingSize) {
+        return luaScriptExecutor.executeEnterWaitQueue(
+                RedisKeyGenerator.waitQueueKey(concertId),
+                RedisKeyGenerator.activeTokenKey(concertId, userId),
+                userId,
+                maxWaitingSize);
+    }
+
+    /**
+     * Active 토큰 보유 여부와 Wait Queue 순번을 조회합니다 (1회 왕복).
+     *
+     * @param concertId 콘서트 ID
+     * @param userId 사용자 ID
+     * @return 진입 상태
+     */
+    public QueueEntryState findQueueEntry(String concertId, String userId) {
+        return luaScriptExecutor.executeFindQueueEntry(
+                RedisKeyGenerator.waitQueueKey(concertId),
+                RedisKeyGenerator.activeTokenKey(concertId, userId),
+                userId);
+    }
+
     /**
      * Wait Queue에서 사용자의 위치를 조회합니다.
      *
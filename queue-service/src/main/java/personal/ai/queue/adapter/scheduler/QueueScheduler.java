@@ -5,14 +5,26 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import personal.ai.queue.application.port.in.CleanupExpiredTokensUseCase;
+import personal.ai.queue.application.port.in.DrawLotteryUseCase;
 import personal.ai.queue.application.port.in.GetActiveConcertsUseCase;
+import personal.ai.queue.application.port.in.GuardQueueMemoryUseCase;
 import personal.ai.queue.application.port.in.MoveToActiveQueueUseCase;
+import personal.ai.queue.application.port.in.PruneAbsentWaitersUseCase;
+import personal.ai.queue.application.port.in.RefreshQueueSummaryUseCase;
+import personal.ai.queue.application.port.in.RefreshQueueTuningUseCase;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Queue Scheduler
  * Wait -> Active 전환 및 만료 토큰 정리를 주기적으로 실행
+ * 전환 틱마다 콘서트별 대기열 요약 스냅샷도 함께 갱신
+ * 추첨 대상 콘서트는 오픈 시각에 응모자를 Wait Queue로 일괄 적재
+ * 전환 전에 하트비트가 끊긴 대기자를 정리하여 입장 슬롯이 이탈자에게 배정되지 않도록 함
+ * 콘서트별 튜닝 값은 변경 알림과 별개로 주기적으로 전체 재조회 (시작 시 즉시 1회 로드)
+ * Redis 메모리 사용량을 주기적으로 측정하여 압박 단계별 보호 조치 갱신
  * Virtual Thread 활용으로 Non-Blocking 처리
  */
 @Slf4j
@@ -23,6 +35,11 @@ public class QueueScheduler {
     private final MoveToActiveQueueUseCase moveToActiveQueueUseCase;
     private final CleanupExpiredTokensUseCase cleanupExpiredTokensUseCase;
     private final GetActiveConcertsUseCase getActiveConcertsUseCase;
+    private final RefreshQueueSummaryUseCase refreshQueueSummaryUseCase;
+    private final DrawLotteryUseCase drawLotteryUseCase;
+    private final PruneAbsentWaitersUseCase pruneAbsentWaitersUseCase;
+    private final RefreshQueueTuningUseCase refreshQueueTuningUseCase;
+    private final GuardQueueMemoryUseCase guardQueueMemoryUseCase;
 
     /**
      * Wait Queue -> Active Queue 전환 스케줄러
@@ -39,16 +56,30 @@ public class QueueScheduler {
 
             if (concertIds.isEmpty()) {
                 log.debug("No active concerts found");
+                refreshSummaries(concertIds, Map.of());
                 return;
             }
 
+            // 이탈 대기자 정리 (배분 전에 수행하여 실제 대기 인원 기준으로 배분)
+            pruneAbsentWaiters(concertIds);
+
+            // 전역 예산을 콘서트별 가중치로 배분 (비활성화 시 상한 없음)
+            Map<String, Integer> quotas = moveToActiveQueueUseCase.allocateAdmissionQuotas(concertIds);
+
             int totalMoved = 0;
+            Map<String, Integer> movedCounts = new HashMap<>();
 
             // 각 콘서트별로 처리
             for (String concertId : concertIds) {
                 try {
-                    int moved = moveToActiveQueueUseCase.moveWaitingToActive(concertId);
+                    int quota = quotas.getOrDefault(concertId, 0);
+                    if (quota <= 0) {
+                        continue;
+                    }
+
+                    int moved = moveToActiveQueueUseCase.moveWaitingToActive(concertId, quota);
                     totalMoved += moved;
+                    movedCounts.put(concertId, moved);
 
                     if (moved > 0) {
                         log.info("Moved users to active queue: concertId={}, count={}",
@@ -64,11 +95,101 @@ public class QueueScheduler {
                         totalMoved, concertIds.size());
             }
 
+            refreshSummaries(concertIds, movedCounts);
+
         } catch (Exception e) {
             log.error("Move scheduler failed", e);
         }
     }
 
+    /**
+     * 하트비트 반영 후 콘서트별 이탈 대기자 제거 (실패해도 전환 처리에는 영향 없음)
+     */
+    private void pruneAbsentWaiters(List<String> concertIds) {
+        pruneAbsentWaitersUseCase.flushHeartbeats();
+
+        for (String concertId : concertIds) {
+            try {
+                pruneAbsentWaitersUseCase.pruneAbsentWaiters(concertId);
+            } catch (Exception e) {
+                log.warn("Failed to prune absent waiters for concertId={}", concertId, e);
+            }
+        }
+    }
+
+    /**
+     * 하트비트 반영 스케줄러
+     * 주기: application.yml의 queue.presence.flush-interval-ms
+     * 기본값: 1초
+     */
+    @Scheduled(fixedDelayString = "${queue.presence.flush-interval-ms:1000}")
+    public void flushHeartbeats() {
+        try {
+            pruneAbsentWaitersUseCase.flushHeartbeats();
+        } catch (Exception e) {
+            log.error("Heartbeat flush scheduler failed", e);
+        }
+    }
+
+    /**
+     * 대기열 요약 스냅샷 갱신 (실패해도 전환 처리에는 영향 없음)
+     */
+    private void refreshSummaries(List<String> concertIds, Map<String, Integer> movedCounts) {
+        try {
+            refreshQueueSummaryUseCase.refresh(concertIds, movedCounts);
+        } catch (Exception e) {
+            log.warn("Failed to refresh queue summaries", e);
+        }
+    }
+
+    /**
+     * 오픈 전 추첨 스케줄러
+     * 주기: application.yml의 queue.lottery.draw-check-interval-ms
+     * 기본값: 1초 (오픈 시각과 추첨 사이 지연 상한)
+     */
+    @Scheduled(fixedDelayString = "${queue.lottery.draw-check-interval-ms:1000}")
+    public void drawDueLotteries() {
+        try {
+            for (String concertId : drawLotteryUseCase.findDueLotteries()) {
+                try {
+                    drawLotteryUseCase.draw(concertId);
+                } catch (Exception e) {
+                    log.error("Failed to draw lottery for concertId={}", concertId, e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Lottery scheduler failed", e);
+        }
+    }
+
+    /**
+     * 콘서트별 튜닝 값 전체 재조회 스케줄러 (Pub/Sub 알림 유실 대비)
+     * 주기: application.yml의 queue.tuning.reload-interval-ms
+     * 기본값: 30초
+     */
+    @Scheduled(fixedDelayString = "${queue.tuning.reload-interval-ms:30000}")
+    public void reloadQueueTunings() {
+        try {
+            refreshQueueTuningUseCase.refreshAll();
+        } catch (Exception e) {
+            log.error("Error in queue tuning reload scheduler", e);
+        }
+    }
+
+    /**
+     * Redis 메모리 예산 점검 스케줄러
+     * 주기: application.yml의 queue.memory.check-interval-ms
+     * 기본값: 5초
+     */
+    @Scheduled(fixedDelayString = "${queue.memory.check-interval-ms:5000}")
+    public void checkMemoryBudget() {
+        try {
+            guardQueueMemoryUseCase.checkMemory();
+        } catch (Exception e) {
+            log.error("Error in memory budget scheduler", e);
+        }
+    }
+
     /**
      * 만료된 토큰 정리 스케줄러
      * 주기: application.yml의 queue.scheduler.cleanup-interval-ms
@@ -3,8 +3,23 @@ package personal.ai.queue.application.config;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import personal.ai.queue.domain.model.AdmissionPolicy;
+import personal.ai.queue.domain.model.LotteryPolicy;
+import personal.ai.queue.domain.model.MemoryBudget;
+import personal.ai.queue.domain.model.OverAdmissionPolicy;
 import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueuePartitioning;
+import personal.ai.queue.domain.model.WaitingLimit;
+import personal.ai.queue.domain.service.NoShowRateEstimator;
 import personal.ai.queue.domain.service.QueueDomainService;
+import personal.ai.queue.domain.service.WeightedAdmissionAllocator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Queue Application Layer Configuration
@@ -21,7 +36,8 @@ public class QueueApplicationConfig {
         return QueueConfig.of(
                 properties.active().maxSize(),
                 properties.active().tokenTtlSeconds(),
-                activationIntervalSeconds
+                activationIntervalSeconds,
+                properties.active().readyActivationDeadlineSeconds()
         );
     }
 
@@ -29,4 +45,99 @@ public class QueueApplicationConfig {
     public QueueDomainService queueDomainService(QueueConfig queueConfig) {
         return new QueueDomainService(queueConfig);
     }
+
+    @Bean
+    public WaitingLimit waitingLimit(QueueConfigProperties properties) {
+        var waiting = properties.waiting();
+        if (waiting == null || waiting.maxSize() <= 0) {
+            return WaitingLimit.unlimited();
+        }
+
+        return new WaitingLimit(waiting.maxSize(), waiting.retryAfterSeconds());
+    }
+
+    @Bean
+    public QueuePartitioning queuePartitioning(QueueConfigProperties properties) {
+        var partition = properties.partition();
+        if (partition == null) {
+            return QueuePartitioning.none();
+        }
+
+        return new QueuePartitioning(
+                partition.allConcerts(),
+                partition.concerts() != null ? Set.copyOf(partition.concerts()) : Set.of()
+        );
+    }
+
+    @Bean
+    public AdmissionPolicy admissionPolicy(QueueConfigProperties properties) {
+        var admission = properties.admission();
+        if (admission == null) {
+            return AdmissionPolicy.unlimited();
+        }
+
+        return new AdmissionPolicy(
+                admission.globalBudget(),
+                admission.defaultWeight(),
+                admission.weights()
+        );
+    }
+
+    @Bean
+    public LotteryPolicy lotteryPolicy(QueueConfigProperties properties) {
+        var lottery = properties.lottery();
+        if (lottery == null || lottery.openAt() == null || lottery.openAt().isEmpty()) {
+            return LotteryPolicy.disabled();
+        }
+
+        Map<String, Instant> openTimes = new HashMap<>();
+        lottery.openAt().forEach((concertId, openAt) ->
+                openTimes.put(concertId, OffsetDateTime.parse(openAt).toInstant()));
+
+        return new LotteryPolicy(
+                Duration.ofMinutes(lottery.preOpenWindowMinutes()),
+                openTimes
+        );
+    }
+
+    @Bean
+    public OverAdmissionPolicy overAdmissionPolicy(QueueConfigProperties properties) {
+        var overAdmission = properties.overAdmission();
+        if (overAdmission == null || overAdmission.maxRatio() <= 0) {
+            return OverAdmissionPolicy.disabled();
+        }
+
+        return new OverAdmissionPolicy(
+                overAdmission.maxRatio(),
+                overAdmission.smoothing(),
+                overAdmission.minSamples()
+        );
+    }
+
+    @Bean
+    public MemoryBudget memoryBudget(QueueConfigProperties properties) {
+        var memory = properties.memory();
+        if (memory == null || !memory.enabled()) {
+            return MemoryBudget.disabled();
+        }
+
+        return new MemoryBudget(
+                memory.budgetBytes(),
+                memory.shedRateLimitRatio(),
+                memory.throttleAdmissionRatio(),
+                memory.rejectEntryRatio(),
+                memory.throttledAdmissionFactor(),
+                memory.retryAfterSeconds()
+        );
+    }
+
+    @Bean
+    public NoShowRateEstimator noShowRateEstimator(OverAdmissionPolicy overAdmissionPolicy) {
+        return new NoShowRateEstimator(overAdmissionPolicy);
+    }
+
+    @Bean
+    public WeightedAdmissionAllocator weightedAdmissionAllocator(AdmissionPolicy admissionPolicy) {
+        return new WeightedAdmissionAllocator(admissionPolicy);
+    }
 }
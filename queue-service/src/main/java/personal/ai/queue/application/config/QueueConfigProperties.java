@@ -2,19 +2,41 @@ package personal.ai.queue.application.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Queue 설정 Properties
  * application.yml의 queue.* 설정을 바인딩
  */
 @ConfigurationProperties(prefix = "queue")
 public record QueueConfigProperties(
+        Waiting waiting,
         Active active,
         Scheduler scheduler,
-        Polling polling
+        Polling polling,
+        Admission admission,
+        Lottery lottery,
+        EntryFilter entryFilter,
+        Presence presence,
+        OverAdmission overAdmission,
+        Tuning tuning,
+        Memory memory,
+        Partition partition
 ) {
+    /**
+     * 대기 인원 제한 설정
+     * maxSize가 0 이하면 제한 없음
+     */
+    public record Waiting(
+            long maxSize,           // 콘서트별 최대 대기 인원
+            int retryAfterSeconds   // 가득 찬 경우 Retry-After 헤더 값 (초)
+    ) {}
+
     public record Active(
             int maxSize,
-            int tokenTtlSeconds
+            int tokenTtlSeconds,
+            int readyActivationDeadlineSeconds  // READY 토큰 활성화 기한 (0이면 tokenTtlSeconds)
     ) {}
 
     public record Scheduler(
@@ -31,4 +53,87 @@ public record QueueConfigProperties(
             double rateLimitRefillRate,  // Token Bucket: 초당 리필 토큰 수
             int executorPoolSize
     ) {}
+
+    /**
+     * 콘서트 간 공정 입장 설정
+     * globalBudget이 0 이하면 비활성화 (콘서트별 active.max-size만 적용)
+     */
+    public record Admission(
+            long globalBudget,
+            int defaultWeight,
+            Map<String, Integer> weights  // concertId -> 가중치
+    ) {}
+
+    /**
+     * 오픈 전 추첨 입장 설정
+     * openAt에 등록된 콘서트만 추첨 대상 (미등록 콘서트는 선착순)
+     */
+    public record Lottery(
+            int preOpenWindowMinutes,
+            long drawCheckIntervalMs,
+            Map<String, String> openAt  // concertId -> 오픈 시각 (ISO-8601, 예: 2026-11-01T20:00:00+09:00)
+    ) {}
+
+    /**
+     * 재진입 판별용 인스턴스 로컬 Bloom Filter 설정
+     * expectedEntrants가 0 이하면 비활성화 (모든 진입 요청을 조회 후 처리)
+     */
+    public record EntryFilter(
+            long expectedEntrants,     // 콘서트당 예상 진입 인원
+            double falsePositiveRate,  // 오탐률 (오탐 시 조회 1회 추가)
+            int maxConcerts            // 필터를 유지할 최대 콘서트 수
+    ) {}
+
+    /**
+     * 대기자 접속 유지(Presence) 설정
+     * timeoutSeconds가 0 이하면 비활성화 (이탈 대기자 정리 안 함)
+     */
+    public record Presence(
+            int timeoutSeconds,     // 마지막 하트비트 이후 이 시간이 지나면 이탈로 간주
+            long flushIntervalMs,   // 로컬 하트비트 버퍼를 저장소로 반영하는 주기
+            int pruneBatchSize      // 스케줄러 틱마다 콘서트당 제거할 최대 인원
+    ) {}
+
+    /**
+     * 노쇼율 기반 초과 입장 설정
+     * maxRatio가 0 이하면 비활성화 (activeMaxSize까지만 입장)
+     */
+    public record OverAdmission(
+            double maxRatio,    // 최대 초과 입장 비율 (0.3 = activeMaxSize의 130%)
+            double smoothing,   // 노쇼율 지수 이동 평균 가중치 (0 < smoothing <= 1)
+            long minSamples     // 노쇼율을 반영하기 위한 최소 입장 표본 수
+    ) {}
+
+    /**
+     * 콘서트별 튜닝 값 동기화 설정
+     * 변경은 Pub/Sub 알림으로 즉시 반영되며, 이 주기로 전체 재조회하여 유실된 알림을 보정
+     */
+    public record Tuning(
+            long reloadIntervalMs
+    ) {}
+
+    /**
+     * Redis 메모리 예산 보호 설정
+     * 사용률(used / budget)이 임계치를 넘을 때마다 단계별 보호 조치 추가 (enabled=false면 측정하지 않음)
+     */
+    public record Memory(
+            boolean enabled,
+            long budgetBytes,                 // 메모리 예산 (0이면 Redis maxmemory 사용)
+            double shedRateLimitRatio,        // 1단계: Rate Limit 상태 삭제
+            double throttleAdmissionRatio,    // 2단계: 입장 속도 감소
+            double rejectEntryRatio,          // 3단계: 신규 진입 거절
+            double throttledAdmissionFactor,  // 2단계 이상에서 틱당 입장 인원 배율
+            int retryAfterSeconds,            // 3단계 진입 거절 시 Retry-After (초)
+            long checkIntervalMs,             // 사용량 측정 주기 (밀리초)
+            int purgeBatchSize                // 측정 1회당 삭제할 최대 Rate Limit Key 수
+    ) {}
+
+    /**
+     * 일정 단위 대기열 분리 설정
+     * 지정된 콘서트는 회차별로 Wait Queue / Active 정원을 따로 운영 (요청에 scheduleId 필수)
+     */
+    public record Partition(
+            boolean allConcerts,             // 모든 콘서트를 일정 단위로 분리
+            List<String> concerts  // 일정 단위로 분리할 콘서트 ID 목록
+    ) {}
 }
@@ -0,0 +1,23 @@
+package personal.ai.queue.application.port.in;
+
+import java.util.List;
+
+/**
+ * 오픈 전 추첨 UseCase (Input Port)
+ * 스케줄러가 주기적으로 호출하여 오픈 시각이 된 콘서트의 응모자를 Wait Queue에 적재
+ */
+public interface DrawLotteryUseCase {
+
+    /**
+     * 추첨을 실행해야 하는 콘서트 목록 (오픈 시각 경과 + 이 인스턴스에서 아직 추첨하지 않은 콘서트)
+     * @return 콘서트 ID 리스트
+     */
+    List<String> findDueLotteries();
+
+    /**
+     * 추첨 실행
+     * @param concertId 콘서트 ID
+     * @return Wait Queue에 적재된 인원 수
+     */
+    long draw(String concertId);
+}
@@ -0,0 +1,17 @@
+package personal.ai.queue.application.port.in;
+
+import personal.ai.queue.domain.model.QueueSummary;
+
+/**
+ * 콘서트 대기열 요약 조회 UseCase (Input Port)
+ * 메모리 스냅샷에서 응답하며 요청마다 Redis를 조회하지 않음
+ */
+public interface GetQueueSummaryUseCase {
+
+    /**
+     * 대기열 요약 조회
+     * @param concertId 콘서트 ID
+     * @return 마지막 스케줄러 틱 기준 요약 (대기/활성 인원이 없으면 0으로 채운 요약)
+     */
+    QueueSummary getSummary(String concertId);
+}
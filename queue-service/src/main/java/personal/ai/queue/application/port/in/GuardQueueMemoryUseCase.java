@@ -0,0 +1,22 @@
+package personal.ai.queue.application.port.in;
+
+import personal.ai.queue.domain.model.MemoryPressure;
+
+/**
+ * Redis 메모리 예산 보호 UseCase (Input Port)
+ * 스케줄러가 주기적으로 사용량을 측정하고, 요청 경로는 마지막 측정 결과(압박 단계)만 참조
+ */
+public interface GuardQueueMemoryUseCase {
+
+    /**
+     * 메모리 사용량 측정 후 압박 단계 갱신 (Rate Limit 상태 삭제 단계면 삭제까지 수행)
+     * @return 갱신된 압박 단계
+     */
+    MemoryPressure checkMemory();
+
+    /**
+     * 마지막으로 측정된 압박 단계 (저장소 호출 없음)
+     * @return 압박 단계
+     */
+    MemoryPressure currentPressure();
+}
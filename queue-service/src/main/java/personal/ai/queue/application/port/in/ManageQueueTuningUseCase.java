@@ -0,0 +1,36 @@
+package personal.ai.queue.application.port.in;
+
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueTuning;
+
+/**
+ * Manage Queue Tuning Use Case (Input Port)
+ * 운영 중 콘서트별 대기열 설정 변경 (재배포 없이 모든 인스턴스에 반영)
+ */
+public interface ManageQueueTuningUseCase {
+
+    /**
+     * 콘서트의 현재 튜닝 값과 실제 적용 설정 조회
+     */
+    TuningView getTuning(String concertId);
+
+    /**
+     * 콘서트 튜닝 값 교체
+     */
+    TuningView updateTuning(String concertId, QueueTuning tuning);
+
+    /**
+     * 콘서트 튜닝 값 삭제 (전역 설정으로 복귀)
+     */
+    TuningView resetTuning(String concertId);
+
+    /**
+     * 튜닝 조회 결과
+     */
+    record TuningView(
+            String concertId,
+            QueueTuning tuning,          // 저장된 튜닝 값 (null 항목은 전역 설정 사용)
+            QueueConfig effectiveConfig, // 튜닝 값이 반영된 실제 설정
+            int pollingFastThreshold     // 실제 적용 중인 빠른 폴링 기준 순번
+    ) {}
+}
@@ -1,5 +1,8 @@
 package personal.ai.queue.application.port.in;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Wait -> Active 전환 UseCase (Input Port)
  * 스케줄러가 주기적으로 호출
@@ -13,6 +16,22 @@ public interface MoveToActiveQueueUseCase {
      */
     int moveWaitingToActive(String concertId);
 
+    /**
+     * 대기열에서 활성 큐로 유저 이동 (입장 인원 상한 적용)
+     * @param concertId 콘서트 ID
+     * @param maxCount 이번 틱에 허용된 최대 인원
+     * @return 이동된 유저 수
+     */
+    int moveWaitingToActive(String concertId, int maxCount);
+
+    /**
+     * 전역 입장 예산을 콘서트별 가중치에 따라 배분
+     * 전역 예산이 비활성화되어 있으면 모든 콘서트에 상한 없음(Integer.MAX_VALUE)을 반환
+     * @param concertIds 콘서트 ID 목록
+     * @return 콘서트 ID -> 이번 틱 입장 허용 인원
+     */
+    Map<String, Integer> allocateAdmissionQuotas(List<String> concertIds);
+
     /**
      * 모든 콘서트의 대기열 처리
      * @return 총 이동된 유저 수
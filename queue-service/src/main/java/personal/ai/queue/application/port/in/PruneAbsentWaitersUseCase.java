@@ -0,0 +1,20 @@
+package personal.ai.queue.application.port.in;
+
+/**
+ * 이탈 대기자 정리 UseCase (Input Port)
+ * 스케줄러가 주기적으로 호출하여 하트비트가 끊긴 대기자가 입장 슬롯을 차지하지 않도록 정리
+ */
+public interface PruneAbsentWaitersUseCase {
+
+    /**
+     * 로컬에 모인 하트비트를 저장소에 반영
+     */
+    void flushHeartbeats();
+
+    /**
+     * 특정 콘서트의 이탈 대기자 제거
+     * @param concertId 콘서트 ID
+     * @return 제거된 대기자 수
+     */
+    long pruneAbsentWaiters(String concertId);
+}
@@ -0,0 +1,18 @@
+package personal.ai.queue.application.port.in;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콘서트 대기열 요약 스냅샷 갱신 UseCase (Input Port)
+ * Wait -> Active 전환 스케줄러가 틱마다 호출
+ */
+public interface RefreshQueueSummaryUseCase {
+
+    /**
+     * 스냅샷 갱신
+     * @param concertIds 현재 대기/활성 인원이 있는 콘서트 ID 목록
+     * @param movedCounts 이번 틱에 콘서트별로 입장시킨 인원
+     */
+    void refresh(List<String> concertIds, Map<String, Integer> movedCounts);
+}
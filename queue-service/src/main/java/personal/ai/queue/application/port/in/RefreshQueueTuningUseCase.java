@@ -0,0 +1,18 @@
+package personal.ai.queue.application.port.in;
+
+/**
+ * Refresh Queue Tuning Use Case (Input Port)
+ * 저장소의 튜닝 값을 인스턴스 로컬 캐시에 반영
+ */
+public interface RefreshQueueTuningUseCase {
+
+    /**
+     * 변경 알림을 받은 콘서트의 튜닝 값 재조회
+     */
+    void refresh(String concertId);
+
+    /**
+     * 전체 튜닝 값 재조회 (알림 유실 대비 주기 실행)
+     */
+    void refreshAll();
+}
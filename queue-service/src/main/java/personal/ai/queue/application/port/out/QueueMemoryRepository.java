@@ -0,0 +1,26 @@
+package personal.ai.queue.application.port.out;
+
+import personal.ai.queue.domain.model.QueueMemoryUsage;
+
+import java.util.List;
+
+/**
+ * Queue Memory Repository Port (Output Port)
+ * 대기열 저장소의 메모리 사용량 측정 및 버려도 되는 상태(Rate Limit) 정리
+ */
+public interface QueueMemoryRepository {
+
+    /**
+     * 전체 사용량과 Key 계열별 사용량 조회 (계열별 값은 샘플링 추정치)
+     * @param concertIds 집계 대상 콘서트 ID 목록
+     * @return 사용량 스냅샷 (측정 불가 시 QueueMemoryUsage.unknown())
+     */
+    QueueMemoryUsage readUsage(List<String> concertIds);
+
+    /**
+     * Rate Limit 상태 삭제
+     * @param maxKeys 한 번에 삭제할 최대 Key 수 (저장소 부하 제한)
+     * @return 삭제된 Key 수
+     */
+    long purgeRateLimitState(int maxKeys);
+}
@@ -0,0 +1,30 @@
+package personal.ai.queue.application.port.out;
+
+import personal.ai.queue.domain.model.MemoryPressure;
+import personal.ai.queue.domain.model.QueueMemoryUsage;
+
+/**
+ * Queue Metrics Port (Output Port)
+ * 대기열 운영 지표 기록
+ */
+public interface QueueMetrics {
+
+    /**
+     * 최대 대기 인원 초과로 진입이 거절된 건수 기록
+     * @param concertId 콘서트 ID
+     */
+    void recordWaitQueueOverflow(String concertId);
+
+    /**
+     * Redis 메모리 사용량과 압박 단계 기록
+     * @param usage 사용량 스냅샷
+     * @param pressure 압박 단계
+     */
+    void recordMemoryUsage(QueueMemoryUsage usage, MemoryPressure pressure);
+
+    /**
+     * 메모리 압박으로 진입이 거절된 건수 기록
+     * @param concertId 콘서트 ID
+     */
+    void recordMemoryEntryRejection(String concertId);
+}
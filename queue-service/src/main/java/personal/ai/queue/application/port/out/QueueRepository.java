@@ -1,9 +1,13 @@
 package personal.ai.queue.application.port.out;
 
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.model.LotteryEntry;
+import personal.ai.queue.domain.model.QueueEntryState;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,6 +24,24 @@ public interface QueueRepository {
      */
     Long addToWaitQueue(String concertId, String userId);
 
+    /**
+     * 유효한 Active 토큰이 없으면 Wait Queue에 유저 추가 (원자적)
+     * 확인, 인원 제한 검사, 추가, 순번 조회를 한 번에 처리
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @param maxWaitingSize 최대 대기 인원 (0 이하면 제한 없음, 이미 대기 중인 유저는 제한과 무관하게 순번 반환)
+     * @return 진입 상태 (Active 토큰 보유 시 active=true, 가득 찬 경우 overflow=true, 두 경우 모두 Wait Queue에 추가하지 않음)
+     */
+    QueueEntryState enterWaitQueue(String concertId, String userId, long maxWaitingSize);
+
+    /**
+     * 유저의 Active 토큰 보유 여부와 Wait Queue 순번을 한 번에 조회 (읽기 전용)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return 진입 상태
+     */
+    QueueEntryState findQueueEntry(String concertId, String userId);
+
     /**
      * Wait Queue에서 유저의 순번 조회
      * @param concertId 콘서트 ID
@@ -94,9 +116,9 @@ public interface QueueRepository {
     /**
      * 만료된 토큰 제거 (Cleanup)
      * @param concertId 콘서트 ID
-     * @return 제거된 개수
+     * @return 제거된 개수 및 READY 상태로 만료된 (활성화하지 않은) 개수
      */
-    Long removeExpiredTokens(String concertId);
+    ExpiredTokens removeExpiredTokens(String concertId);
 
     /**
      * 특정 유저를 Active Queue에서 제거 (결제 완료 시)
@@ -137,4 +159,48 @@ public interface QueueRepository {
      * @return 콘서트 ID 리스트
      */
     List<String> getActiveConcertIds();
+
+    /**
+     * 추첨 응모 (오픈 전 응모 구간)
+     * 이미 추첨이 끝난 콘서트는 응모를 받지 않음 (선착순 진입으로 전환)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return 응모 결과
+     */
+    LotteryEntry addToLotteryPool(String concertId, String userId);
+
+    /**
+     * 추첨 응모 여부 조회
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return 응모 후 추첨 대기 중이면 true
+     */
+    boolean isInLotteryPool(String concertId, String userId);
+
+    /**
+     * 응모자를 무작위로 섞어 Wait Queue에 원자적으로 일괄 적재
+     * 응모자는 오픈 이후 선착순 진입자보다 앞 순번을 받음 (콘서트당 1회만 실행)
+     * @param concertId 콘서트 ID
+     * @param openAt 오픈 시각
+     * @param seed 셔플 시드
+     * @return 적재된 인원 수 (이미 추첨된 경우 -1)
+     */
+    long drawLottery(String concertId, Instant openAt, long seed);
+
+    /**
+     * 대기자 하트비트 일괄 기록
+     * @param concertId 콘서트 ID
+     * @param lastSeenEpochSeconds 유저 ID -> 마지막 하트비트 시각 (epoch seconds)
+     */
+    void recordPresence(String concertId, Map<String, Long> lastSeenEpochSeconds);
+
+    /**
+     * 하트비트가 끊긴 대기자를 Wait Queue에서 일괄 제거
+     * 하트비트 기록이 없는 유저는 제거하지 않음
+     * @param concertId 콘서트 ID
+     * @param cutoff 이 시각 이전 하트비트는 이탈로 간주
+     * @param limit 한 번에 처리할 최대 인원
+     * @return Wait Queue에서 제거된 인원 수
+     */
+    long removeAbsentWaiters(String concertId, Instant cutoff, int limit);
 }
@@ -0,0 +1,44 @@
+package personal.ai.queue.application.port.out;
+
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.util.Optional;
+
+/**
+ * Queue Status Reader Port (Output Port)
+ * 상태 조회(SSE/폴링) 전용 읽기 포트
+ *
+ * 구현체는 Redis 복제본에서 읽을 수 있으므로 결과가 Primary보다 늦을 수 있습니다 (복제 지연).
+ * 쓰기 직후 결과를 보장해야 하는 경로(진입, 활성화, 연장, 토큰 검증)는 QueueRepository를 사용해야 합니다.
+ */
+public interface QueueStatusReader {
+
+    /**
+     * Active 토큰 조회 (복제 지연 허용)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return Active 토큰 (없으면 empty)
+     */
+    Optional<QueueToken> getActiveToken(String concertId, String userId);
+
+    /**
+     * Wait Queue 순번 조회 (복제 지연 허용)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return 대기 순번 (0-based, 없으면 null)
+     */
+    Long getWaitQueuePosition(String concertId, String userId);
+
+    /**
+     * 추첨 응모 여부 조회 (복제 지연 허용)
+     * @param concertId 콘서트 ID
+     * @param userId 유저 ID
+     * @return 응모 여부
+     */
+    boolean isInLotteryPool(String concertId, String userId);
+
+    /**
+     * 복제본에서 읽는지 여부 (true면 방금 쓴 데이터가 아직 보이지 않을 수 있음)
+     */
+    boolean readsFromReplica();
+}
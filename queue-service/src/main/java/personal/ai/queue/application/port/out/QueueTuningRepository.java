@@ -0,0 +1,39 @@
+package personal.ai.queue.application.port.out;
+
+import personal.ai.queue.domain.model.QueueTuning;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Queue Tuning Repository Port (Output Port)
+ * 콘서트별 튜닝 값 저장소 (모든 인스턴스가 공유)
+ */
+public interface QueueTuningRepository {
+
+    /**
+     * 전체 콘서트의 튜닝 값 조회
+     * @return 콘서트 ID -> 튜닝 값
+     */
+    Map<String, QueueTuning> findAll();
+
+    /**
+     * 콘서트 튜닝 값 조회
+     * @param concertId 콘서트 ID
+     * @return 튜닝 값 (없으면 empty)
+     */
+    Optional<QueueTuning> findByConcertId(String concertId);
+
+    /**
+     * 튜닝 값 저장 후 다른 인스턴스에 변경 알림
+     * @param concertId 콘서트 ID
+     * @param tuning 튜닝 값
+     */
+    void save(String concertId, QueueTuning tuning);
+
+    /**
+     * 튜닝 값 삭제 (전역 설정으로 복귀) 후 다른 인스턴스에 변경 알림
+     * @param concertId 콘서트 ID
+     */
+    void delete(String concertId);
+}
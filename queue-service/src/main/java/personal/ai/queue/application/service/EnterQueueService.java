@@ -9,6 +9,7 @@ import personal.ai.queue.domain.model.QueuePosition;
 /**
  * Enter Queue Service (SRP)
  * 단일 책임: 대기열 진입
+ * Redis 메모리 압박 시(QueueMemoryGuard) 신규 진입만 거절
  */
 @Slf4j
 @Service
@@ -17,16 +18,31 @@ public class EnterQueueService implements EnterQueueUseCase {
 
     private final QueueEntryValidator queueEntryValidator;
     private final QueueEntryProcessor queueEntryProcessor;
+    private final RecentEntrantFilter recentEntrantFilter;
+    private final PresenceTracker presenceTracker;
+    private final QueueMemoryGuard memoryGuard;
 
     @Override
     public QueuePosition enter(EnterQueueCommand command) {
         String concertId = command.concertId();
         String userId = command.userId();
 
-        // 1. 이미 진입한 사용자인지 확인 (기존 상태 반환)
-        return queueEntryValidator.checkActiveUser(concertId, userId)
-                .or(() -> queueEntryValidator.checkWaitingUser(concertId, userId))
-                // 2. 신규 진입 처리
+        // Redis 메모리 압박 3단계: 기존 대기자/Active 사용자는 현재 상태 반환, 신규 진입은 거절
+        if (memoryGuard.rejectsNewEntry()) {
+            return queueEntryValidator.checkExistingUser(concertId, userId)
+                    .orElseThrow(() -> memoryGuard.rejectNewEntry(concertId));
+        }
+
+        // 진입 요청도 접속 유지 신호로 기록 (Active 사용자는 정리 대상이 아니므로 무시됨)
+        presenceTracker.heartbeat(concertId, userId);
+
+        // 1. 이 인스턴스에서 처음 보는 사용자: 검증 없이 진입 (중복/활성 여부는 진입 스크립트가 판별)
+        if (recentEntrantFilter.markIfNew(concertId, userId)) {
+            return queueEntryProcessor.proceed(concertId, userId);
+        }
+
+        // 2. 재진입 가능성 있음: 단일 조회로 기존 상태 반환, 없으면 신규 진입 처리
+        return queueEntryValidator.checkExistingUser(concertId, userId)
                 .orElseGet(() -> queueEntryProcessor.proceed(concertId, userId));
     }
 }
@@ -0,0 +1,83 @@
+package personal.ai.queue.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 콘서트 단위 진입자 Bloom Filter
+ * 추가 시 "처음 본 키"는 확정, "이미 본 키"는 오탐(false positive) 가능
+ *
+ * - 비트 배열: AtomicLongArray (락 없이 CAS로 비트 설정)
+ * - 해시: 64-bit FNV-1a + SplitMix64 마무리, Kirsch-Mitzenmacher 이중 해싱으로 k개 인덱스 생성
+ */
+final class EntrantBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    EntrantBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid bloom filter sizing: expectedInsertions="
+                    + expectedInsertions + ", falsePositiveRate=" + falsePositiveRate);
+        }
+
+        // m = -n·ln(p) / (ln2)², k = (m/n)·ln2
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+    }
+
+    /**
+     * 추가
+     * @return 새로 설정된 비트가 있으면 true (= 이전에 확실히 없었음)
+     */
+    boolean put(String key) {
+        long hash = hash64(key);
+
+        boolean changed = false;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(hash, i);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+
+            long current;
+            do {
+                current = words.get(wordIndex);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(wordIndex, current, current | mask));
+
+            changed |= (current & mask) == 0;
+        }
+        return changed;
+    }
+
+    private long index(long hash, int i) {
+        // h1 = 하위 32비트, h2 = 상위 32비트 (홀수로 보정하여 주기 확보)
+        long combined = (hash & 0xffffffffL) + i * ((hash >>> 32) | 1L);
+        return combined % bitCount;
+    }
+
+    private static long hash64(String key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        // SplitMix64 finalizer (FNV 하위 비트 편향 보정)
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,61 @@
+package personal.ai.queue.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.queue.application.port.in.DrawLotteryUseCase;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.LotteryPolicy;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lottery Draw Service (SRP)
+ * 단일 책임: 오픈 시각에 추첨 응모자를 무작위 순번으로 Wait Queue에 적재
+ *
+ * 추첨은 저장소에서 콘서트당 1회만 실행되므로 여러 인스턴스가 동시에 호출해도 안전하며,
+ * 이 인스턴스에서 끝난 콘서트는 로컬에 기록하여 이후 틱에서 저장소를 호출하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LotteryDrawService implements DrawLotteryUseCase {
+
+    // draw_lottery.lua의 MINSTD 난수 시드 범위 (1 ~ 2^31 - 2)
+    private static final int MAX_SEED = Integer.MAX_VALUE - 1;
+
+    private final QueueRepository queueRepository;
+    private final LotteryPolicy lotteryPolicy;
+
+    private final SecureRandom seedGenerator = new SecureRandom();
+    private final Set<String> drawnConcerts = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public List<String> findDueLotteries() {
+        return lotteryPolicy.dueForDraw(Instant.now()).stream()
+                .filter(concertId -> !drawnConcerts.contains(concertId))
+                .toList();
+    }
+
+    @Override
+    public long draw(String concertId) {
+        Instant openAt = lotteryPolicy.openAtOf(concertId)
+                .orElseThrow(() -> new IllegalArgumentException("Not a lottery concert: " + concertId));
+        long seed = seedGenerator.nextInt(MAX_SEED) + 1;
+
+        long loaded = queueRepository.drawLottery(concertId, openAt, seed);
+        drawnConcerts.add(concertId);
+
+        if (loaded < 0) {
+            log.debug("Lottery already drawn by another instance: concertId={}", concertId);
+            return 0;
+        }
+
+        log.info("Lottery drawn: concertId={}, loaded={}", concertId, loaded);
+        return loaded;
+    }
+}
@@ -0,0 +1,51 @@
+package personal.ai.queue.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.exception.QueueNotOpenException;
+import personal.ai.queue.domain.model.LotteryEntry;
+import personal.ai.queue.domain.model.LotteryPolicy;
+import personal.ai.queue.domain.model.QueuePosition;
+
+import java.time.Instant;
+
+/**
+ * 추첨 입장 대기열 진입 처리 구현체
+ * 추첨 대상 콘서트의 응모 구간에는 응모 풀(Set)에만 추가하고,
+ * 그 외에는 기본 선착순 처리(QueueEntryProcessorImpl)에 위임
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class LotteryQueueEntryProcessor implements QueueEntryProcessor {
+
+    private final QueueEntryProcessorImpl fifoEntryProcessor;
+    private final QueueRepository queueRepository;
+    private final LotteryPolicy lotteryPolicy;
+
+    @Override
+    public QueuePosition proceed(String concertId, String userId) {
+        LotteryPolicy.Phase phase = lotteryPolicy.phaseOf(concertId, Instant.now());
+
+        if (phase == LotteryPolicy.Phase.NOT_OPEN) {
+            Instant openAt = lotteryPolicy.openAtOf(concertId).orElseThrow();
+            throw new QueueNotOpenException(concertId, openAt.minus(lotteryPolicy.preOpenWindow()));
+        }
+
+        if (phase == LotteryPolicy.Phase.COLLECTING) {
+            LotteryEntry entry = queueRepository.addToLotteryPool(concertId, userId);
+            if (entry.accepted()) {
+                log.debug("Lottery entry completed: concertId={}, userId={}, entrants={}",
+                        concertId, userId, entry.entrantCount());
+                return QueuePosition.lotteryEntry(concertId, userId, entry.entrantCount(), entry.newEntry());
+            }
+            // 오픈 시각 경계에서 추첨이 먼저 실행된 경우 선착순으로 진입
+        }
+
+        return fifoEntryProcessor.proceed(concertId, userId);
+    }
+}
@@ -0,0 +1,68 @@
+package personal.ai.queue.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.PruneAbsentWaitersUseCase;
+import personal.ai.queue.application.port.out.QueueRepository;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Presence Service (SRP)
+ * 단일 책임: 대기자 하트비트 반영 및 이탈 대기자 정리
+ *
+ * 탭을 닫은 대기자가 선두까지 남아 READY 슬롯을 토큰 TTL 동안 차지하면 실제 입장 속도가 떨어지므로,
+ * 하트비트가 timeout 이상 끊긴 대기자는 전환 전에 Wait Queue에서 제거
+ * (제거된 사용자가 다시 접속하면 NOT_FOUND를 받고 재진입해야 함)
+ */
+@Slf4j
+@Service
+public class PresenceService implements PruneAbsentWaitersUseCase {
+
+    private final QueueRepository queueRepository;
+    private final PresenceTracker presenceTracker;
+    private final QueueConfigProperties.Presence config;
+
+    public PresenceService(QueueRepository queueRepository,
+                           PresenceTracker presenceTracker,
+                           QueueConfigProperties properties) {
+        this.queueRepository = queueRepository;
+        this.presenceTracker = presenceTracker;
+        this.config = properties.presence();
+    }
+
+    @Override
+    public void flushHeartbeats() {
+        Map<String, Map<String, Long>> heartbeats = presenceTracker.drain();
+
+        heartbeats.forEach((concertId, lastSeen) -> {
+            try {
+                queueRepository.recordPresence(concertId, lastSeen);
+            } catch (Exception e) {
+                // 하트비트 반영 실패는 다음 폴링에서 복구되므로 경고만 남김
+                log.warn("Failed to record presence: concertId={}, count={}", concertId, lastSeen.size(), e);
+            }
+        });
+    }
+
+    @Override
+    public long pruneAbsentWaiters(String concertId) {
+        if (!isEnabled()) {
+            return 0;
+        }
+
+        Instant cutoff = Instant.now().minusSeconds(config.timeoutSeconds());
+        long removed = queueRepository.removeAbsentWaiters(concertId, cutoff, config.pruneBatchSize());
+
+        if (removed > 0) {
+            log.info("Pruned absent waiters: concertId={}, count={}", concertId, removed);
+        }
+        return removed;
+    }
+
+    private boolean isEnabled() {
+        return config != null && config.timeoutSeconds() > 0;
+    }
+}
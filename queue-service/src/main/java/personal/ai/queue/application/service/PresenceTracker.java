@@ -0,0 +1,55 @@
+package personal.ai.queue.application.service;
+
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기자 하트비트 버퍼 (인스턴스 로컬)
+ * 상태 조회(SSE/폴링)와 진입 요청마다 저장소에 쓰지 않고 메모리에 마지막 시각만 모아둔 뒤
+ * 주기적으로 콘서트당 한 번씩 일괄 반영
+ *
+ * 반영 직전에 도착한 하트비트가 누락될 수 있으나, 다음 폴링에서 다시 기록되므로
+ * 이탈 판정 시간(timeout)이 폴링 간격보다 충분히 길면 영향 없음
+ */
+@Component
+public class PresenceTracker {
+
+    private final boolean enabled;
+    private final Map<String, Map<String, Long>> buffers = new ConcurrentHashMap<>();
+
+    public PresenceTracker(QueueConfigProperties properties) {
+        var presence = properties.presence();
+        this.enabled = presence != null && presence.timeoutSeconds() > 0;
+    }
+
+    /**
+     * 하트비트 기록
+     */
+    public void heartbeat(String concertId, String userId) {
+        if (!enabled) {
+            return;
+        }
+        buffers.computeIfAbsent(concertId, id -> new ConcurrentHashMap<>())
+                .put(userId, Instant.now().getEpochSecond());
+    }
+
+    /**
+     * 버퍼를 비우고 모인 하트비트 반환
+     * @return 콘서트 ID -> (사용자 ID -> 마지막 하트비트 epoch seconds)
+     */
+    public Map<String, Map<String, Long>> drain() {
+        Map<String, Map<String, Long>> drained = new HashMap<>();
+        for (String concertId : buffers.keySet()) {
+            Map<String, Long> heartbeats = buffers.remove(concertId);
+            if (heartbeats != null && !heartbeats.isEmpty()) {
+                drained.put(concertId, heartbeats);
+            }
+        }
+        return drained;
+    }
+}
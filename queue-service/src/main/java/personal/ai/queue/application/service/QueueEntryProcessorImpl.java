@@ -3,13 +3,19 @@ package personal.ai.queue.application.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import personal.ai.queue.application.port.out.QueueMetrics;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.exception.QueueFullException;
 import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueEntryState;
 import personal.ai.queue.domain.model.QueuePosition;
+import personal.ai.queue.domain.model.WaitingLimit;
 
 /**
  * 기본 대기열 진입 처리 구현체
  * Redis 대기 큐에 사용자를 추가하고 순번을 계산
+ * Active 토큰 확인도 진입 스크립트 안에서 처리하므로 검증 체인 없이 호출해도 안전
+ * 최대 대기 인원에 도달하면 진입 스크립트가 추가 없이 거절하고 QueueFullException(429 + Retry-After) 발생
  */
 @Slf4j
 @Component
@@ -19,22 +25,54 @@ public class QueueEntryProcessorImpl implements QueueEntryProcessor {
     private static final int POSITION_DISPLAY_OFFSET = 1;
 
     private final QueueRepository queueRepository;
-    private final QueueConfig queueConfig;
+    private final QueueTuningRegistry tuningRegistry;
+    private final WaitingLimit waitingLimit;
+    private final QueueMetrics queueMetrics;
 
     @Override
     public QueuePosition proceed(String concertId, String userId) {
-        long position = queueRepository.addToWaitQueue(concertId, userId);
-        long totalWaiting = queueRepository.getWaitQueueSize(concertId);
+        // Active 확인 + 인원 제한 + 추가 + 순번 조회를 1회 왕복으로 처리
+        QueueEntryState state = queueRepository.enterWaitQueue(concertId, userId, waitingLimit.maxSize());
 
-        log.debug("Queue entry completed: concertId={}, userId={}, position={}",
-                concertId, userId, position + POSITION_DISPLAY_OFFSET);
+        if (state.active()) {
+            var activeToken = queueRepository.getActiveToken(concertId, userId);
+            if (activeToken.isPresent() && !activeToken.get().isExpired()) {
+                log.debug("User already active: concertId={}, userId={}", concertId, userId);
+                return QueuePosition.alreadyActive(activeToken.get());
+            }
+            // 조회 사이에 토큰이 만료된 경우 다시 진입
+            state = queueRepository.enterWaitQueue(concertId, userId, waitingLimit.maxSize());
+        }
+
+        if (state.overflow()) {
+            queueMetrics.recordWaitQueueOverflow(concertId);
+            log.debug("Wait queue full: concertId={}, userId={}, totalWaiting={}",
+                    concertId, userId, state.totalWaiting());
+            throw new QueueFullException(concertId, waitingLimit.retryAfterSeconds());
+        }
+
+        QueueConfig config = tuningRegistry.configOf(concertId);
+        long position = state.position() + POSITION_DISPLAY_OFFSET;
+
+        log.debug("Queue entry completed: concertId={}, userId={}, position={}, newEntry={}",
+                concertId, userId, position, state.newEntry());
+
+        if (!state.newEntry()) {
+            return QueuePosition.alreadyWaiting(
+                    concertId,
+                    userId,
+                    position,
+                    state.totalWaiting(),
+                    config.activeMaxSize(),
+                    config.activationIntervalSeconds());
+        }
 
         return QueuePosition.newEntry(
                 concertId,
                 userId,
-                position + POSITION_DISPLAY_OFFSET,
-                totalWaiting,
-                queueConfig.activeMaxSize(),
-                queueConfig.activationIntervalSeconds());
+                position,
+                state.totalWaiting(),
+                config.activeMaxSize(),
+                config.activationIntervalSeconds());
     }
 }
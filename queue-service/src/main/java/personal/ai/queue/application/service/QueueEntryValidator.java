@@ -11,12 +11,7 @@ import java.util.Optional;
 public interface QueueEntryValidator {
 
     /**
-     * 이미 활성화된 사용자인지 확인
+     * 이미 진입한 사용자인지 확인 (활성 또는 대기 중)
      */
-    Optional<QueuePosition> checkActiveUser(String concertId, String userId);
-
-    /**
-     * 이미 대기 중인 사용자인지 확인
-     */
-    Optional<QueuePosition> checkWaitingUser(String concertId, String userId);
+    Optional<QueuePosition> checkExistingUser(String concertId, String userId);
 }
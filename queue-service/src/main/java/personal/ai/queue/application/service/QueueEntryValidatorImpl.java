@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import personal.ai.queue.application.port.out.QueueRepository;
 import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueEntryState;
 import personal.ai.queue.domain.model.QueuePosition;
 
 import java.util.Optional;
@@ -20,36 +21,41 @@ public class QueueEntryValidatorImpl implements QueueEntryValidator {
     private static final int POSITION_DISPLAY_OFFSET = 1;
 
     private final QueueRepository queueRepository;
-    private final QueueConfig queueConfig;
+    private final QueueTuningRegistry tuningRegistry;
 
+    /**
+     * 조회 스크립트 1회로 활성/대기 여부를 확인
+     * 활성 사용자는 응답에 토큰이 필요하므로 토큰을 한 번 더 조회
+     */
     @Override
-    public Optional<QueuePosition> checkActiveUser(String concertId, String userId) {
-        var activeToken = queueRepository.getActiveToken(concertId, userId);
-        if (activeToken.isPresent() && !activeToken.get().isExpired()) {
-            log.debug("User already active: concertId={}, userId={}", concertId, userId);
-            return Optional.of(QueuePosition.alreadyActive(activeToken.get()));
+    public Optional<QueuePosition> checkExistingUser(String concertId, String userId) {
+        QueueEntryState state = queueRepository.findQueueEntry(concertId, userId);
+
+        if (state.active()) {
+            var activeToken = queueRepository.getActiveToken(concertId, userId);
+            if (activeToken.isPresent() && !activeToken.get().isExpired()) {
+                log.debug("User already active: concertId={}, userId={}", concertId, userId);
+                return Optional.of(QueuePosition.alreadyActive(activeToken.get()));
+            }
+            return Optional.empty();
         }
-        return Optional.empty();
-    }
 
-    @Override
-    public Optional<QueuePosition> checkWaitingUser(String concertId, String userId) {
-        Long existingPosition = queueRepository.getWaitQueuePosition(concertId, userId);
-        if (existingPosition != null) {
+        if (state.isWaiting()) {
             log.debug("User already waiting: concertId={}, userId={}, position={}",
-                    concertId, userId, existingPosition);
+                    concertId, userId, state.position());
+
+            QueueConfig config = tuningRegistry.configOf(concertId);
 
             // 동시성 고려사항: 트래픽이 매우 높은 환경(Redis)에서 totalWaiting 값은
             // 근사치(approximate)일 수 있음. 표시용(display)으로는 문제없으나,
             // 비즈니스 로직 분기(critical decision)에는 사용하지 않도록 주의
-            long totalWaiting = queueRepository.getWaitQueueSize(concertId);
             return Optional.of(QueuePosition.alreadyWaiting(
                     concertId,
                     userId,
-                    existingPosition + POSITION_DISPLAY_OFFSET,
-                    totalWaiting,
-                    queueConfig.activeMaxSize(),
-                    queueConfig.activationIntervalSeconds()));
+                    state.position() + POSITION_DISPLAY_OFFSET,
+                    state.totalWaiting(),
+                    config.activeMaxSize(),
+                    config.activationIntervalSeconds()));
         }
         return Optional.empty();
     }
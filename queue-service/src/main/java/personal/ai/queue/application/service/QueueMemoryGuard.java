@@ -0,0 +1,93 @@
+package personal.ai.queue.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.application.port.in.GuardQueueMemoryUseCase;
+import personal.ai.queue.application.port.out.QueueMemoryRepository;
+import personal.ai.queue.application.port.out.QueueMetrics;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.exception.QueueFullException;
+import personal.ai.queue.domain.model.MemoryBudget;
+import personal.ai.queue.domain.model.MemoryPressure;
+import personal.ai.queue.domain.model.QueueKeyFamily;
+import personal.ai.queue.domain.model.QueueMemoryUsage;
+
+/**
+ * Queue Memory Guard
+ * Redis 메모리 사용량이 예산에 가까워지면 단계별 보호 조치를 적용하여
+ * maxmemory eviction이 대기열 상태(Wait/Active Queue, 토큰 Hash)를 임의로 지우지 않도록 함
+ *
+ * - 측정: 스케줄러가 주기적으로 checkMemory 호출 (요청 경로는 volatile 필드만 참조)
+ * - 1단계: Rate Limit 상태 삭제 + 신규 생성 중단 (RateLimitFilter)
+ * - 2단계: 틱당 입장 인원 감소 (QueueSchedulerService)
+ * - 3단계: 신규 진입 거절 (EnterQueueService, 기존 대기자는 순번 유지)
+ * - 측정 실패 시 이전 단계를 유지 (장애 중 보호 조치가 풀리지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueMemoryGuard implements GuardQueueMemoryUseCase {
+
+    private final QueueRepository queueRepository;
+    private final QueueMemoryRepository memoryRepository;
+    private final QueueMetrics queueMetrics;
+    private final MemoryBudget memoryBudget;
+    private final QueueConfigProperties properties;
+
+    private volatile MemoryPressure pressure = MemoryPressure.NORMAL;
+
+    @Override
+    public MemoryPressure checkMemory() {
+        if (!memoryBudget.isEnabled()) {
+            return pressure;
+        }
+
+        QueueMemoryUsage usage = memoryRepository.readUsage(queueRepository.getActiveConcertIds());
+        MemoryPressure next = memoryBudget.pressureOf(usage);
+
+        if (next != pressure) {
+            log.warn("Redis memory pressure changed: {} -> {}, usedBytes={}, maxMemoryBytes={}, waitQueue={}, activeQueue={}, tokenHash={}, rateLimit={}",
+                    pressure, next, usage.usedBytes(), usage.maxMemoryBytes(),
+                    usage.bytesOf(QueueKeyFamily.WAIT_QUEUE), usage.bytesOf(QueueKeyFamily.ACTIVE_QUEUE),
+                    usage.bytesOf(QueueKeyFamily.TOKEN_HASH), usage.bytesOf(QueueKeyFamily.RATE_LIMIT));
+        }
+        pressure = next;
+        queueMetrics.recordMemoryUsage(usage, next);
+
+        if (next.shedsRateLimit()) {
+            long purged = memoryRepository.purgeRateLimitState(properties.memory().purgeBatchSize());
+            if (purged > 0) {
+                log.info("Purged rate limit state under memory pressure: keys={}", purged);
+            }
+        }
+
+        return next;
+    }
+
+    @Override
+    public MemoryPressure currentPressure() {
+        return pressure;
+    }
+
+    /**
+     * 현재 단계의 입장 배율 (입장 속도 감소 단계 이상이면 1 미만)
+     */
+    public double admissionFactor() {
+        return memoryBudget.admissionFactorOf(pressure);
+    }
+
+    public boolean rejectsNewEntry() {
+        return pressure.rejectsEntry();
+    }
+
+    /**
+     * 메모리 압박으로 인한 신규 진입 거절 예외 (429 + Retry-After)
+     */
+    public QueueFullException rejectNewEntry(String concertId) {
+        queueMetrics.recordMemoryEntryRejection(concertId);
+        log.debug("Queue entry rejected under memory pressure: concertId={}", concertId);
+        return new QueueFullException(concertId, memoryBudget.retryAfterSeconds());
+    }
+}
@@ -6,15 +6,25 @@ import org.springframework.stereotype.Service;
 import personal.ai.queue.application.port.in.CleanupExpiredTokensUseCase;
 import personal.ai.queue.application.port.in.MoveToActiveQueueUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
-import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.AdmissionDemand;
+import personal.ai.queue.domain.model.AdmissionPolicy;
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.service.NoShowRateEstimator;
 import personal.ai.queue.domain.service.QueueDomainService;
+import personal.ai.queue.domain.service.WeightedAdmissionAllocator;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Queue Scheduler Service
  * Wait -> Active 전환 및 만료 토큰 정리 로직
+ * 전역 입장 예산이 설정되면 콘서트별 가중치에 따라 DRR 방식으로 입장 인원 배분
+ * 관측된 노쇼율(READY 만료 비율)만큼 초과 입장시켜 실제 활성 인원을 activeMaxSize에 맞춤
+ * Redis 메모리 압박 시(QueueMemoryGuard) 틱당 입장 인원을 줄여 토큰 Hash 증가를 억제
  */
 @Slf4j
 @Service
@@ -24,22 +34,37 @@ public class QueueSchedulerService implements
         CleanupExpiredTokensUseCase {
 
     private final QueueRepository queueRepository;
-    private final QueueDomainService domainService;
-    private final QueueConfig queueConfig;
+    private final QueueTuningRegistry tuningRegistry;
+    private final WeightedAdmissionAllocator admissionAllocator;
+    private final NoShowRateEstimator noShowRateEstimator;
+    private final QueueMemoryGuard memoryGuard;
 
     @Override
     public int moveWaitingToActive(String concertId) {
-        log.debug("Moving users from wait to active queue: concertId={}", concertId);
+        return moveWaitingToActive(concertId, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int moveWaitingToActive(String concertId, int maxCount) {
+        log.debug("Moving users from wait to active queue: concertId={}, maxCount={}", concertId, maxCount);
+
+        // 콘서트별 튜닝 값 (Active 상한, READY 기한, 틱당 입장 인원)
+        QueueDomainService domainService = tuningRegistry.domainServiceOf(concertId);
 
         // 현재 Active Queue 크기 확인
         Long currentActiveSize = queueRepository.getActiveQueueSize(concertId);
 
-        // 전환 가능한 인원 계산
-        int availableSlots = domainService.calculateBatchSize(currentActiveSize);
+        // 전환 가능한 인원 계산 (노쇼율 반영 여유 슬롯, 전역 배분량, 틱당 입장 제한 중 가장 작은 값)
+        double overAdmissionFactor = noShowRateEstimator.overAdmissionFactor(concertId);
+        int availableSlots = Math.min(
+                Math.min(domainService.calculateBatchSize(currentActiveSize, overAdmissionFactor), maxCount),
+                tuningRegistry.admissionLimitOf(concertId));
+        availableSlots = throttleByMemoryPressure(availableSlots);
 
         if (availableSlots <= 0) {
             log.debug("No available slots: concertId={}, currentSize={}",
                     concertId, currentActiveSize);
+            noShowRateEstimator.recordAdmissions(concertId, 0);
             return 0;
         }
 
@@ -52,27 +77,79 @@ public class QueueSchedulerService implements
                 expiration
         );
 
+        noShowRateEstimator.recordAdmissions(concertId, movedUserIds.size());
+
         if (movedUserIds.isEmpty()) {
             log.debug("No users moved: concertId={}", concertId);
             return 0;
         }
 
-        log.info("Moved users to active queue atomically: concertId={}, moved={}, available={}",
-                concertId, movedUserIds.size(), availableSlots);
+        log.info("Moved users to active queue atomically: concertId={}, moved={}, available={}, overAdmissionFactor={}",
+                concertId, movedUserIds.size(), availableSlots, overAdmissionFactor);
 
         return movedUserIds.size();
     }
 
+    /**
+     * 메모리 압박 단계의 입장 배율 적용 (배율이 0이 아니면 최소 1명은 입장시켜 대기열이 멈추지 않도록 함)
+     */
+    private int throttleByMemoryPressure(int availableSlots) {
+        double factor = memoryGuard.admissionFactor();
+        if (factor >= 1.0 || availableSlots <= 0) {
+            return availableSlots;
+        }
+
+        int throttled = (int) Math.floor(availableSlots * factor);
+        log.debug("Admission throttled under memory pressure: available={}, throttled={}, factor={}",
+                availableSlots, throttled, factor);
+        return factor > 0 ? Math.max(1, throttled) : 0;
+    }
+
+    @Override
+    public Map<String, Integer> allocateAdmissionQuotas(List<String> concertIds) {
+        Map<String, Integer> quotas = new LinkedHashMap<>();
+        AdmissionPolicy policy = admissionAllocator.policy();
+
+        if (!policy.isGlobalBudgetEnabled()) {
+            concertIds.forEach(concertId -> quotas.put(concertId, Integer.MAX_VALUE));
+            return quotas;
+        }
+
+        // 콘서트별 수요와 전체 Active 인원 집계
+        List<AdmissionDemand> demands = new ArrayList<>();
+        long totalActive = 0;
+
+        for (String concertId : concertIds) {
+            long activeSize = queueRepository.getActiveQueueSize(concertId);
+            long waitSize = queueRepository.getWaitQueueSize(concertId);
+            totalActive += activeSize;
+
+            long demand = Math.min(waitSize, tuningRegistry.domainServiceOf(concertId).calculateBatchSize(
+                    activeSize, noShowRateEstimator.overAdmissionFactor(concertId)));
+            demand = Math.min(demand, tuningRegistry.admissionLimitOf(concertId));
+            demands.add(new AdmissionDemand(concertId, policy.weightOf(concertId), demand));
+        }
+
+        long availableBudget = Math.max(0, policy.globalBudget() - totalActive);
+        Map<String, Integer> allocated = admissionAllocator.allocate(demands, availableBudget);
+
+        log.debug("Admission quotas allocated: globalBudget={}, totalActive={}, quotas={}",
+                policy.globalBudget(), totalActive, allocated);
+
+        return allocated;
+    }
+
     @Override
     public int moveAllConcerts() {
         log.debug("Moving all concerts");
 
         List<String> concertIds = queueRepository.getActiveConcertIds();
+        Map<String, Integer> quotas = allocateAdmissionQuotas(concertIds);
         int totalMoved = 0;
 
         for (String concertId : concertIds) {
             try {
-                int moved = moveWaitingToActive(concertId);
+                int moved = moveWaitingToActive(concertId, quotas.getOrDefault(concertId, 0));
                 totalMoved += moved;
             } catch (Exception e) {
                 log.error("Failed to move users for concertId={}", concertId, e);
@@ -86,13 +163,17 @@ public class QueueSchedulerService implements
     public long cleanupExpired(String concertId) {
         log.debug("Cleaning up expired tokens: concertId={}", concertId);
 
-        long removedCount = queueRepository.removeExpiredTokens(concertId);
+        ExpiredTokens expired = queueRepository.removeExpiredTokens(concertId);
 
-        if (removedCount > 0) {
-            log.info("Removed expired tokens: concertId={}, count={}", concertId, removedCount);
+        if (expired.removed() > 0) {
+            log.info("Removed expired tokens: concertId={}, count={}, unactivated={}",
+                    concertId, expired.removed(), expired.unactivated());
         }
 
-        return removedCount;
+        // READY 상태로 만료된 토큰은 노쇼로 집계하여 초과 입장 배율에 반영
+        noShowRateEstimator.recordNoShows(concertId, expired.unactivated());
+
+        return expired.removed();
     }
 
     @Override
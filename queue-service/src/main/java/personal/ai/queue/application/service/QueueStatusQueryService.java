@@ -6,6 +6,10 @@ import org.springframework.stereotype.Service;
 import personal.ai.queue.application.port.in.GetActiveConcertsUseCase;
 import personal.ai.queue.application.port.in.GetQueueStatusUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueStatusReader;
+import personal.ai.queue.domain.model.LotteryPolicy;
+import personal.ai.queue.domain.model.QueueEntryState;
+import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
 
 import java.util.List;
@@ -13,6 +17,9 @@ import java.util.List;
 /**
  * Queue Status Query Service (SRP)
  * 단일 책임: 대기열 상태 조회
+ *
+ * 상태 조회는 QueueStatusReader(복제본 읽기 가능)로 처리하여 Primary 부하를 진입/입장 처리에 집중
+ * 복제본에서 찾지 못한 경우에만 Primary에서 재확인 (진입 직후 복제 지연 보정)
  */
 @Slf4j
 @Service
@@ -21,28 +28,90 @@ public class QueueStatusQueryService implements GetQueueStatusUseCase, GetActive
 
     private static final int POSITION_DISPLAY_OFFSET = 1;
 
+    private final QueueStatusReader statusReader;
     private final QueueRepository queueRepository;
+    private final LotteryPolicy lotteryPolicy;
+    private final PresenceTracker presenceTracker;
 
     @Override
     public QueueToken getStatus(GetQueueStatusQuery query) {
-        var activeToken = queueRepository.getActiveToken(query.concertId(), query.userId());
+        QueueToken status = readStatus(query.concertId(), query.userId());
 
+        // 복제본에서 읽은 경우 방금 진입/전환된 사용자가 아직 보이지 않을 수 있으므로 Primary에서 한 번 더 확인
+        if (status.status() == QueueStatus.NOT_FOUND && statusReader.readsFromReplica()) {
+            status = readStatusFromPrimary(query.concertId(), query.userId());
+        }
+
+        if (status.status() == QueueStatus.NOT_FOUND) {
+            log.debug("Token not found in queue: concertId={}, userId={}", query.concertId(), query.userId());
+        }
+        return status;
+    }
+
+    /**
+     * 상태 조회 (복제본 읽기 허용)
+     */
+    private QueueToken readStatus(String concertId, String userId) {
+        var activeToken = statusReader.getActiveToken(concertId, userId);
         if (activeToken.isPresent()) {
-            var token = activeToken.get();
-            if (token.isExpired()) {
-                log.debug("Token expired: concertId={}, userId={}", query.concertId(), query.userId());
-                return QueueToken.expired(query.concertId(), query.userId());
-            }
-            return token;
+            return activeOrExpired(activeToken.get(), concertId, userId);
         }
 
-        Long position = queueRepository.getWaitQueuePosition(query.concertId(), query.userId());
+        Long position = statusReader.getWaitQueuePosition(concertId, userId);
         if (position != null) {
-            return QueueToken.waiting(query.concertId(), query.userId(), position + POSITION_DISPLAY_OFFSET);
+            return waiting(concertId, userId, position);
         }
 
-        log.debug("Token not found in queue: concertId={}, userId={}", query.concertId(), query.userId());
-        return QueueToken.notFound(query.concertId(), query.userId());
+        // 추첨 대상 콘서트: 오픈 전 응모자는 추첨 대기 상태
+        if (lotteryPolicy.isLotteryConcert(concertId) && statusReader.isInLotteryPool(concertId, userId)) {
+            return lotteryPending(concertId, userId);
+        }
+
+        return QueueToken.notFound(concertId, userId);
+    }
+
+    /**
+     * 상태 조회 (Primary, 복제 지연 보정용)
+     * Active 확인과 순번 조회를 스크립트 1회로 처리
+     */
+    private QueueToken readStatusFromPrimary(String concertId, String userId) {
+        QueueEntryState state = queueRepository.findQueueEntry(concertId, userId);
+
+        if (state.active()) {
+            var activeToken = queueRepository.getActiveToken(concertId, userId);
+            if (activeToken.isPresent()) {
+                return activeOrExpired(activeToken.get(), concertId, userId);
+            }
+        }
+
+        if (state.isWaiting()) {
+            return waiting(concertId, userId, state.position());
+        }
+
+        if (lotteryPolicy.isLotteryConcert(concertId) && queueRepository.isInLotteryPool(concertId, userId)) {
+            return lotteryPending(concertId, userId);
+        }
+
+        return QueueToken.notFound(concertId, userId);
+    }
+
+    private QueueToken activeOrExpired(QueueToken token, String concertId, String userId) {
+        if (token.isExpired()) {
+            log.debug("Token expired: concertId={}, userId={}", concertId, userId);
+            return QueueToken.expired(concertId, userId);
+        }
+        return token;
+    }
+
+    private QueueToken waiting(String concertId, String userId, long position) {
+        // 대기자의 상태 조회(SSE/폴링)는 접속 유지 신호로 기록
+        presenceTracker.heartbeat(concertId, userId);
+        return QueueToken.waiting(concertId, userId, position + POSITION_DISPLAY_OFFSET);
+    }
+
+    private QueueToken lotteryPending(String concertId, String userId) {
+        presenceTracker.heartbeat(concertId, userId);
+        return QueueToken.lotteryPending(concertId, userId);
     }
 
     @Override
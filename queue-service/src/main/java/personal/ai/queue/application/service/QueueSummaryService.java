@@ -0,0 +1,128 @@
+package personal.ai.queue.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.queue.application.port.in.GetQueueSummaryUseCase;
+import personal.ai.queue.application.port.in.RefreshQueueSummaryUseCase;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.QueueSummary;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queue Summary Service
+ * 콘서트별 대기열 요약 스냅샷 관리
+ *
+ * - 갱신: 스케줄러 틱마다 콘서트별 Wait/Active 크기를 한 번씩 조회하여 스냅샷 교체
+ * - 조회: volatile 스냅샷에서 바로 응답 (요청당 Redis 호출 0회)
+ *
+ * 입장 속도와 누적 입장 번호는 이 인스턴스의 스케줄러가 입장시킨 인원 기준입니다.
+ * (다중 인스턴스에서 각 인스턴스가 스케줄러를 실행하면 인스턴스별 값이 됨)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueSummaryService implements GetQueueSummaryUseCase, RefreshQueueSummaryUseCase {
+
+    private static final Duration RATE_WINDOW = Duration.ofMinutes(1);
+
+    private final QueueRepository queueRepository;
+
+    private final Map<String, AdmissionHistory> histories = new ConcurrentHashMap<>();
+    private volatile Map<String, QueueSummary> snapshot = Map.of();
+    private volatile Instant lastRefreshedAt = Instant.EPOCH;
+
+    @Override
+    public QueueSummary getSummary(String concertId) {
+        QueueSummary summary = snapshot.get(concertId);
+        return summary != null ? summary : QueueSummary.empty(concertId, lastRefreshedAt);
+    }
+
+    @Override
+    public synchronized void refresh(List<String> concertIds, Map<String, Integer> movedCounts) {
+        Instant now = Instant.now();
+        Map<String, QueueSummary> previous = snapshot;
+        Map<String, QueueSummary> next = new HashMap<>();
+
+        for (String concertId : concertIds) {
+            AdmissionHistory history = histories.computeIfAbsent(concertId, id -> new AdmissionHistory(now));
+            history.record(now, movedCounts.getOrDefault(concertId, 0));
+
+            try {
+                long waitingCount = queueRepository.getWaitQueueSize(concertId);
+                long activeCount = queueRepository.getActiveQueueSize(concertId);
+
+                next.put(concertId, new QueueSummary(
+                        concertId,
+                        waitingCount,
+                        activeCount,
+                        history.ratePerMinute(now),
+                        history.totalAdmitted(),
+                        now));
+            } catch (Exception e) {
+                // 조회 실패 시 이전 스냅샷 유지 (요약은 참고용이므로 스케줄러를 중단하지 않음)
+                log.warn("Failed to refresh queue summary: concertId={}", concertId, e);
+                QueueSummary stale = previous.get(concertId);
+                if (stale != null) {
+                    next.put(concertId, stale);
+                }
+            }
+        }
+
+        // 대기/활성 인원이 모두 빠진 콘서트는 이력 제거
+        histories.keySet().retainAll(concertIds);
+
+        snapshot = Map.copyOf(next);
+        lastRefreshedAt = now;
+    }
+
+    /**
+     * 콘서트별 입장 이력 (최근 1분 슬라이딩 윈도우)
+     * 최초 틱은 기준점으로만 사용하고, 이후 틱의 입장 인원을 경과 시간으로 나눠 속도를 계산
+     */
+    private static final class AdmissionHistory {
+
+        private final Deque<long[]> samples = new ArrayDeque<>(); // {epochMillis, moved}
+        private final long trackingSinceMillis;
+        private long windowSum = 0;
+        private long totalAdmitted = 0;
+
+        AdmissionHistory(Instant trackingSince) {
+            this.trackingSinceMillis = trackingSince.toEpochMilli();
+        }
+
+        void record(Instant now, int moved) {
+            long nowMillis = now.toEpochMilli();
+            totalAdmitted += moved;
+            if (nowMillis > trackingSinceMillis) {
+                samples.addLast(new long[]{nowMillis, moved});
+                windowSum += moved;
+            }
+
+            long windowStart = nowMillis - RATE_WINDOW.toMillis();
+            while (!samples.isEmpty() && samples.peekFirst()[0] <= windowStart) {
+                windowSum -= samples.pollFirst()[1];
+            }
+        }
+
+        double ratePerMinute(Instant now) {
+            long elapsedMillis = Math.min(RATE_WINDOW.toMillis(), now.toEpochMilli() - trackingSinceMillis);
+            if (elapsedMillis <= 0) {
+                return 0.0;
+            }
+            return windowSum * 60_000.0 / elapsedMillis;
+        }
+
+        long totalAdmitted() {
+            return totalAdmitted;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package personal.ai.queue.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+import personal.ai.queue.domain.exception.InvalidQueueTuningException;
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueuePartitioning;
+import personal.ai.queue.domain.model.QueueTuning;
+import personal.ai.queue.domain.service.QueueDomainService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 콘서트별 대기열 설정 로컬 캐시
+ * 저장소(Redis)의 튜닝 값을 전역 설정에 덮어쓴 결과를 인스턴스 메모리에 보관
+ *
+ * - 조회: 요청/스케줄러 경로에서 Map 조회만 수행 (저장소 호출 없음)
+ * - 갱신: 변경 알림(Pub/Sub) 수신 시 해당 콘서트만, 주기적으로 전체 재조회 (알림 유실 대비)
+ * - 튜닝 값이 없는 콘서트는 전역 QueueConfig / QueueDomainService를 그대로 사용
+ * - 일정 단위 대기열({concertId}@{scheduleId})은 자체 튜닝이 없으면 콘서트 튜닝을 상속
+ */
+@Slf4j
+@Component
+public class QueueTuningRegistry {
+
+    private final QueueConfig baseConfig;
+    private final QueueDomainService baseDomainService;
+    private final int basePollingFastThreshold;
+    private final Map<String, TunedConcert> tunedConcerts = new ConcurrentHashMap<>();
+
+    public QueueTuningRegistry(QueueConfig queueConfig,
+                               QueueDomainService queueDomainService,
+                               QueueConfigProperties properties) {
+        this.baseConfig = queueConfig;
+        this.baseDomainService = queueDomainService;
+        this.basePollingFastThreshold = properties.polling().fastThreshold();
+    }
+
+    public QueueConfig configOf(String concertId) {
+        TunedConcert tuned = tunedOf(concertId);
+        return tuned != null ? tuned.config() : baseConfig;
+    }
+
+    public QueueDomainService domainServiceOf(String concertId) {
+        TunedConcert tuned = tunedOf(concertId);
+        return tuned != null ? tuned.domainService() : baseDomainService;
+    }
+
+    public QueueTuning tuningOf(String concertId) {
+        TunedConcert tuned = tunedOf(concertId);
+        return tuned != null ? tuned.tuning() : QueueTuning.none();
+    }
+
+    /**
+     * 스케줄러 틱당 최대 입장 인원 (제한 없으면 Integer.MAX_VALUE)
+     */
+    public int admissionLimitOf(String concertId) {
+        return tuningOf(concertId).admissionLimitPerTick();
+    }
+
+    public int pollingFastThresholdOf(String concertId) {
+        return tuningOf(concertId).pollingFastThresholdOr(basePollingFastThreshold);
+    }
+
+    /**
+     * 튜닝 값을 전역 설정에 적용해 검증 (잘못된 값은 InvalidQueueTuningException)
+     */
+    public QueueConfig validate(String concertId, QueueTuning tuning) {
+        try {
+            return tuning.applyTo(baseConfig);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidQueueTuningException(concertId, e.getMessage());
+        }
+    }
+
+    /**
+     * 콘서트 튜닝 값 반영 (빈 튜닝이면 전역 설정으로 복귀)
+     */
+    public void apply(String concertId, QueueTuning tuning) {
+        if (tuning == null || tuning.isEmpty()) {
+            if (tunedConcerts.remove(concertId) != null) {
+                log.info("Queue tuning cleared: concertId={}", concertId);
+            }
+            return;
+        }
+
+        QueueConfig config = tuning.applyTo(baseConfig);
+        TunedConcert previous = tunedConcerts.put(
+                concertId, new TunedConcert(tuning, config, new QueueDomainService(config)));
+
+        if (previous == null || !previous.tuning().equals(tuning)) {
+            log.info("Queue tuning applied: concertId={}, tuning={}", concertId, tuning);
+        }
+    }
+
+    /**
+     * 전체 튜닝 값 교체 (저장소에서 사라진 콘서트는 전역 설정으로 복귀)
+     */
+    public void replaceAll(Map<String, QueueTuning> tunings) {
+        tunedConcerts.keySet().stream()
+                .filter(concertId -> !tunings.containsKey(concertId))
+                .toList()
+                .forEach(concertId -> apply(concertId, null));
+
+        tunings.forEach((concertId, tuning) -> {
+            try {
+                apply(concertId, tuning);
+            } catch (IllegalArgumentException e) {
+                log.error("Ignoring invalid queue tuning: concertId={}, tuning={}", concertId, tuning, e);
+            }
+        });
+    }
+
+    /**
+     * 대기열 자체 튜닝, 없으면 일정 단위 대기열의 콘서트 튜닝
+     */
+    private TunedConcert tunedOf(String concertId) {
+        TunedConcert tuned = tunedConcerts.get(concertId);
+        if (tuned != null || !QueuePartitioning.isScoped(concertId)) {
+            return tuned;
+        }
+        return tunedConcerts.get(QueuePartitioning.concertIdOf(concertId));
+    }
+
+    private record TunedConcert(QueueTuning tuning, QueueConfig config, QueueDomainService domainService) {
+    }
+}
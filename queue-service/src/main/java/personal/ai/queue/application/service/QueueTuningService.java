@@ -0,0 +1,78 @@
+package personal.ai.queue.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import personal.ai.queue.application.port.in.ManageQueueTuningUseCase;
+import personal.ai.queue.application.port.in.RefreshQueueTuningUseCase;
+import personal.ai.queue.application.port.out.QueueTuningRepository;
+import personal.ai.queue.domain.model.QueueTuning;
+
+/**
+ * Queue Tuning Service
+ * 콘서트별 튜닝 값 변경/조회 및 로컬 캐시 갱신
+ *
+ * 변경 흐름: 검증 -> 저장소 저장 + 변경 알림 -> 이 인스턴스 캐시 즉시 반영
+ * 다른 인스턴스는 변경 알림 수신 시 refresh, 알림 유실 시 주기적 refreshAll로 수렴
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QueueTuningService implements ManageQueueTuningUseCase, RefreshQueueTuningUseCase {
+
+    private final QueueTuningRepository tuningRepository;
+    private final QueueTuningRegistry tuningRegistry;
+
+    @Override
+    public TuningView getTuning(String concertId) {
+        return viewOf(concertId);
+    }
+
+    @Override
+    public TuningView updateTuning(String concertId, QueueTuning tuning) {
+        QueueTuning normalized = tuning != null ? tuning : QueueTuning.none();
+        tuningRegistry.validate(concertId, normalized);
+
+        if (normalized.isEmpty()) {
+            return resetTuning(concertId);
+        }
+
+        tuningRepository.save(concertId, normalized);
+        tuningRegistry.apply(concertId, normalized);
+
+        log.info("Queue tuning updated: concertId={}, tuning={}", concertId, normalized);
+        return viewOf(concertId);
+    }
+
+    @Override
+    public TuningView resetTuning(String concertId) {
+        tuningRepository.delete(concertId);
+        tuningRegistry.apply(concertId, null);
+
+        log.info("Queue tuning reset: concertId={}", concertId);
+        return viewOf(concertId);
+    }
+
+    @Override
+    public void refresh(String concertId) {
+        QueueTuning tuning = tuningRepository.findByConcertId(concertId).orElse(null);
+        try {
+            tuningRegistry.apply(concertId, tuning);
+        } catch (IllegalArgumentException e) {
+            log.error("Ignoring invalid queue tuning: concertId={}, tuning={}", concertId, tuning, e);
+        }
+    }
+
+    @Override
+    public void refreshAll() {
+        tuningRegistry.replaceAll(tuningRepository.findAll());
+    }
+
+    private TuningView viewOf(String concertId) {
+        return new TuningView(
+                concertId,
+                tuningRegistry.tuningOf(concertId),
+                tuningRegistry.configOf(concertId),
+                tuningRegistry.pollingFastThresholdOf(concertId));
+    }
+}
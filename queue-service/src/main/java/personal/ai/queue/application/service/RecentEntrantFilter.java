@@ -0,0 +1,63 @@
+package personal.ai.queue.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import personal.ai.queue.application.config.QueueConfigProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최근 진입자 필터 (인스턴스 로컬)
+ * 오픈 직후 새로고침 폭주 시 재진입 요청을 구분하기 위한 콘서트별 Bloom Filter
+ *
+ * - 처음 보는 사용자: 검증 체인 없이 진입 스크립트로 바로 처리
+ * - 재진입 가능성 있음: 단일 조회 스크립트로 기존 위치 확인
+ *
+ * 필터는 힌트일 뿐이며 정확성은 스크립트가 보장합니다.
+ * (다른 인스턴스에서 진입했거나 재시작으로 필터가 비어도 진입 스크립트가 중복/활성 여부를 판별)
+ * 콘서트 수가 max-concerts를 넘으면 가장 오래 사용하지 않은 콘서트의 필터부터 제거합니다.
+ */
+@Slf4j
+@Component
+public class RecentEntrantFilter {
+
+    private final QueueConfigProperties.EntryFilter config;
+    private final Map<String, EntrantBloomFilter> filters;
+
+    public RecentEntrantFilter(QueueConfigProperties properties) {
+        this.config = properties.entryFilter();
+        int maxConcerts = isEnabled() ? config.maxConcerts() : 0;
+        this.filters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, EntrantBloomFilter> eldest) {
+                return size() > maxConcerts;
+            }
+        };
+    }
+
+    /**
+     * 진입자 등록
+     * @return 이 인스턴스에서 확실히 처음 보는 사용자면 true (비활성화 시 항상 false)
+     */
+    public boolean markIfNew(String concertId, String userId) {
+        if (!isEnabled()) {
+            return false;
+        }
+        return filterOf(concertId).put(userId);
+    }
+
+    private EntrantBloomFilter filterOf(String concertId) {
+        synchronized (filters) {
+            return filters.computeIfAbsent(concertId, id -> {
+                log.debug("Creating entrant filter: concertId={}, expectedEntrants={}",
+                        id, config.expectedEntrants());
+                return new EntrantBloomFilter(config.expectedEntrants(), config.falsePositiveRate());
+            });
+        }
+    }
+
+    private boolean isEnabled() {
+        return config != null && config.expectedEntrants() > 0;
+    }
+}
@@ -8,7 +8,6 @@ import personal.ai.queue.application.port.out.QueueRepository;
 import personal.ai.queue.domain.exception.QueueTokenNotFoundException;
 import personal.ai.queue.domain.model.QueueStatus;
 import personal.ai.queue.domain.model.QueueToken;
-import personal.ai.queue.domain.service.QueueDomainService;
 
 import java.time.Instant;
 
@@ -24,7 +23,7 @@ public class TokenActivationService implements ActivateTokenUseCase {
     private static final int INITIAL_EXTEND_COUNT = 0;
 
     private final QueueRepository queueRepository;
-    private final QueueDomainService domainService;
+    private final QueueTuningRegistry tuningRegistry;
 
     @Override
     public QueueToken activate(ActivateTokenCommand command) {
@@ -39,7 +38,7 @@ public class TokenActivationService implements ActivateTokenUseCase {
             return token;
         }
 
-        Instant newExpiration = domainService.calculateActiveExpiration();
+        Instant newExpiration = tuningRegistry.domainServiceOf(command.concertId()).calculateActiveExpiration();
         boolean success = queueRepository.activateTokenAtomic(command.concertId(), command.userId(), newExpiration);
 
         if (!success) {
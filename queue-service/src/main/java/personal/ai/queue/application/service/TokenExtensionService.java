@@ -7,7 +7,6 @@ import personal.ai.queue.application.port.in.ExtendTokenUseCase;
 import personal.ai.queue.application.port.out.QueueRepository;
 import personal.ai.queue.domain.exception.QueueTokenNotFoundException;
 import personal.ai.queue.domain.model.QueueToken;
-import personal.ai.queue.domain.service.QueueDomainService;
 
 import java.time.Instant;
 
@@ -21,7 +20,7 @@ import java.time.Instant;
 public class TokenExtensionService implements ExtendTokenUseCase {
 
     private final QueueRepository queueRepository;
-    private final QueueDomainService domainService;
+    private final QueueTuningRegistry tuningRegistry;
 
     @Override
     public QueueToken extend(ExtendTokenCommand command) {
@@ -34,7 +33,7 @@ public class TokenExtensionService implements ExtendTokenUseCase {
         token.ensureCanExtend();
 
         int newExtendCount = queueRepository.incrementExtendCount(command.concertId(), command.userId());
-        Instant newExpiration = domainService.calculateActiveExpiration();
+        Instant newExpiration = tuningRegistry.domainServiceOf(command.concertId()).calculateActiveExpiration();
         queueRepository.updateTokenExpiration(command.concertId(), command.userId(), newExpiration);
 
         log.debug("Token extended: concertId={}, userId={}, extendCount={}",
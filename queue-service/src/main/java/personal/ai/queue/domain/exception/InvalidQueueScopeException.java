@@ -0,0 +1,15 @@
+package personal.ai.queue.domain.exception;
+
+import personal.ai.common.exception.BusinessException;
+import personal.ai.common.exception.ErrorCode;
+
+/**
+ * 대기열 범위(콘서트/일정)를 결정할 수 없을 때 발생하는 예외
+ * 일정 단위로 분리된 콘서트에 일정 ID 없이 요청하거나, 대기열 ID와 일정 ID가 다른 경우
+ */
+public class InvalidQueueScopeException extends BusinessException {
+
+    public InvalidQueueScopeException(String concertId, String reason) {
+        super(ErrorCode.INVALID_INPUT, "concertId: %s, %s".formatted(concertId, reason));
+    }
+}
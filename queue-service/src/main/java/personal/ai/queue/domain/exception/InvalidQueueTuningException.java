@@ -0,0 +1,14 @@
+package personal.ai.queue.domain.exception;
+
+import personal.ai.common.exception.BusinessException;
+import personal.ai.common.exception.ErrorCode;
+
+/**
+ * 콘서트별 튜닝 값이 유효하지 않을 때 발생하는 예외
+ */
+public class InvalidQueueTuningException extends BusinessException {
+
+    public InvalidQueueTuningException(String concertId, String reason) {
+        super(ErrorCode.INVALID_INPUT, "concertId: " + concertId + ", " + reason);
+    }
+}
@@ -8,7 +8,22 @@ import personal.ai.common.exception.ErrorCode;
  */
 public class QueueFullException extends BusinessException {
 
+    private final Integer retryAfterSeconds;
+
     public QueueFullException(String concertId) {
         super(ErrorCode.QUEUE_FULL, "concertId: " + concertId);
+        this.retryAfterSeconds = null;
+    }
+
+    public QueueFullException(String concertId, int retryAfterSeconds) {
+        super(ErrorCode.QUEUE_FULL, "concertId: " + concertId + ", retryAfterSeconds: " + retryAfterSeconds);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 클라이언트 재시도 권장 간격 (초, 미지정 시 null)
+     */
+    public Integer getRetryAfterSeconds() {
+        return retryAfterSeconds;
     }
 }
@@ -0,0 +1,17 @@
+package personal.ai.queue.domain.exception;
+
+import personal.ai.common.exception.BusinessException;
+import personal.ai.common.exception.ErrorCode;
+
+import java.time.Instant;
+
+/**
+ * 추첨 응모 구간 이전에 대기열 진입을 시도할 때 발생하는 예외
+ */
+public class QueueNotOpenException extends BusinessException {
+
+    public QueueNotOpenException(String concertId, Instant entryOpensAt) {
+        super(ErrorCode.QUEUE_NOT_OPEN,
+              "concertId: %s, entryOpensAt: %s".formatted(concertId, entryOpensAt));
+    }
+}
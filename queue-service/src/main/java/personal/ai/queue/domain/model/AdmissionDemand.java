@@ -0,0 +1,27 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 콘서트별 입장 수요 (Value Object)
+ * 한 스케줄러 틱에서 해당 콘서트가 받아들일 수 있는 최대 인원
+ *
+ * @param concertId 콘서트 ID
+ * @param weight    배분 가중치
+ * @param demand    min(대기 인원, 콘서트별 Active 여유 슬롯)
+ */
+public record AdmissionDemand(
+        String concertId,
+        int weight,
+        long demand
+) {
+    public AdmissionDemand {
+        if (weight <= 0) {
+            throw new IllegalArgumentException(
+                    "weight must be positive (> 0), but was: " + weight);
+        }
+        demand = Math.max(0, demand);
+    }
+
+    public boolean isBacklogged() {
+        return demand > 0;
+    }
+}
@@ -0,0 +1,59 @@
+package personal.ai.queue.domain.model;
+
+import java.util.Map;
+
+/**
+ * 콘서트 간 공정 입장 정책 (Value Object)
+ * 여러 콘서트가 동시에 오픈될 때 core-service로 유입되는 총량을 제한하고
+ * 콘서트별 가중치에 따라 입장 인원을 배분
+ */
+public record AdmissionPolicy(
+        long globalBudget,            // 전체 콘서트 합산 Active 인원 상한 (0 이하면 비활성화)
+        int defaultWeight,            // 가중치가 지정되지 않은 콘서트의 기본 가중치
+        Map<String, Integer> weights  // 콘서트별 가중치
+) {
+    private static final int DEFAULT_WEIGHT = 1;
+
+    /**
+     * Compact Constructor - 가중치 검증
+     */
+    public AdmissionPolicy {
+        if (defaultWeight <= 0) {
+            throw new IllegalArgumentException(
+                    "defaultWeight must be positive (> 0), but was: " + defaultWeight);
+        }
+        weights = weights == null ? Map.of() : Map.copyOf(weights);
+        weights.forEach((concertId, weight) -> {
+            if (weight == null || weight <= 0) {
+                throw new IllegalArgumentException(
+                        "weight must be positive (> 0), concertId: " + concertId + ", but was: " + weight);
+            }
+        });
+    }
+
+    /**
+     * 전역 예산 미사용 정책 (콘서트별 active.max-size만 적용)
+     */
+    public static AdmissionPolicy unlimited() {
+        return new AdmissionPolicy(0, DEFAULT_WEIGHT, Map.of());
+    }
+
+    /**
+     * 전역 예산 사용 여부
+     */
+    public boolean isGlobalBudgetEnabled() {
+        return globalBudget > 0;
+    }
+
+    /**
+     * 콘서트 가중치 조회
+     * 일정 단위 대기열({concertId}@{scheduleId})은 별도 지정이 없으면 콘서트 가중치를 따름
+     */
+    public int weightOf(String concertId) {
+        Integer weight = weights.get(concertId);
+        if (weight != null) {
+            return weight;
+        }
+        return weights.getOrDefault(QueuePartitioning.concertIdOf(concertId), defaultWeight);
+    }
+}
@@ -0,0 +1,14 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 만료 토큰 정리 결과 (Value Object)
+ */
+public record ExpiredTokens(
+        long removed,      // 제거된 토큰 수
+        long unactivated   // 그 중 READY 상태로 만료된 (활성화하지 않은) 토큰 수
+) {
+
+    public static ExpiredTokens none() {
+        return new ExpiredTokens(0L, 0L);
+    }
+}
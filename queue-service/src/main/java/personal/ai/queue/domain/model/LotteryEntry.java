@@ -0,0 +1,18 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 추첨 응모 결과 (Value Object)
+ */
+public record LotteryEntry(
+        boolean accepted,    // 응모 접수 여부 (false: 이미 추첨 완료 → 선착순 진입으로 전환)
+        boolean newEntry,    // 신규 응모 여부 (false: 중복 응모)
+        long entrantCount    // 현재 응모 인원
+) {
+
+    /**
+     * 이미 추첨이 끝나 응모를 받지 않는 경우
+     */
+    public static LotteryEntry closed() {
+        return new LotteryEntry(false, false, 0L);
+    }
+}
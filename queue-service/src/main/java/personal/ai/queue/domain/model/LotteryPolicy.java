@@ -0,0 +1,96 @@
+package personal.ai.queue.domain.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 오픈 전 추첨 입장 정책 (Value Object)
+ * 오픈 직전 응모 구간에 들어온 사용자를 모아두었다가 오픈 시각에 무작위 순번으로 대기열에 적재
+ * 오픈 시각 직후 진입 요청이 몰리는 부하를 분산하고, 순번이 네트워크 지연에 좌우되지 않도록 함
+ *
+ * 구간:
+ * - 응모 구간 이전: 진입 불가
+ * - 응모 구간 [openAt - preOpenWindow, openAt): 추첨 응모
+ * - 오픈 이후: 기존 선착순(FIFO) 진입
+ */
+public record LotteryPolicy(
+        Duration preOpenWindow,        // 오픈 전 응모 구간 길이
+        Map<String, Instant> openTimes  // 콘서트별 오픈 시각 (추첨 대상 콘서트만)
+) {
+
+    /**
+     * Compact Constructor - 응모 구간 검증
+     */
+    public LotteryPolicy {
+        if (preOpenWindow == null || preOpenWindow.isNegative() || preOpenWindow.isZero()) {
+            throw new IllegalArgumentException(
+                    "preOpenWindow must be positive, but was: " + preOpenWindow);
+        }
+        openTimes = openTimes == null ? Map.of() : Map.copyOf(openTimes);
+    }
+
+    /**
+     * 추첨 미사용 정책 (모든 콘서트 선착순)
+     */
+    public static LotteryPolicy disabled() {
+        return new LotteryPolicy(Duration.ofMinutes(1), Map.of());
+    }
+
+    /**
+     * 추첨 대상 콘서트 여부
+     */
+    public boolean isLotteryConcert(String concertId) {
+        return openTimes.containsKey(concertId);
+    }
+
+    /**
+     * 콘서트 오픈 시각 조회
+     */
+    public Optional<Instant> openAtOf(String concertId) {
+        return Optional.ofNullable(openTimes.get(concertId));
+    }
+
+    /**
+     * 현재 시각 기준 진입 구간 판별
+     */
+    public Phase phaseOf(String concertId, Instant now) {
+        Instant openAt = openTimes.get(concertId);
+        if (openAt == null || !now.isBefore(openAt)) {
+            return Phase.FIFO;
+        }
+        return now.isBefore(openAt.minus(preOpenWindow)) ? Phase.NOT_OPEN : Phase.COLLECTING;
+    }
+
+    /**
+     * 오픈 시각이 지나 추첨을 실행해야 하는 콘서트 목록
+     */
+    public List<String> dueForDraw(Instant now) {
+        return openTimes.entrySet().stream()
+                .filter(entry -> !now.isBefore(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 진입 구간
+     */
+    public enum Phase {
+        /**
+         * 응모 구간 이전 (진입 불가)
+         */
+        NOT_OPEN,
+
+        /**
+         * 응모 구간 (추첨 응모)
+         */
+        COLLECTING,
+
+        /**
+         * 선착순 진입 (추첨 미대상 또는 오픈 이후)
+         */
+        FIFO
+    }
+}
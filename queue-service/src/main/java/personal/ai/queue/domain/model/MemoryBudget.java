@@ -0,0 +1,84 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * Redis 메모리 예산 정책 (Value Object)
+ * 사용률(used / budget)이 단계별 임계치를 넘으면 보호 조치를 적용하여
+ * Redis eviction이 대기열 상태를 지우기 전에 유입을 스스로 줄임
+ */
+public record MemoryBudget(
+        long budgetBytes,                 // 메모리 예산 (0이면 Redis maxmemory 사용)
+        double shedRateLimitRatio,        // Rate Limit 상태 삭제 임계치 (예: 0.75)
+        double throttleAdmissionRatio,    // 입장 속도 감소 임계치 (예: 0.85)
+        double rejectEntryRatio,          // 신규 진입 거절 임계치 (예: 0.92)
+        double throttledAdmissionFactor,  // 입장 속도 감소 시 배율 (0.5 = 틱당 입장 인원 절반)
+        int retryAfterSeconds             // 진입 거절 시 클라이언트에 권장하는 재시도 간격 (초)
+) {
+    private static final int DEFAULT_RETRY_AFTER_SECONDS = 30;
+
+    /**
+     * Compact Constructor - 임계치 순서 및 범위 검증
+     */
+    public MemoryBudget {
+        if (budgetBytes < 0) {
+            throw new IllegalArgumentException(
+                    "budgetBytes must be non-negative (>= 0), but was: " + budgetBytes);
+        }
+        if (!(0 < shedRateLimitRatio
+                && shedRateLimitRatio <= throttleAdmissionRatio
+                && throttleAdmissionRatio <= rejectEntryRatio)) {
+            throw new IllegalArgumentException(String.format(
+                    "ratios must satisfy 0 < shed(%s) <= throttle(%s) <= reject(%s)",
+                    shedRateLimitRatio, throttleAdmissionRatio, rejectEntryRatio));
+        }
+        if (throttledAdmissionFactor < 0 || throttledAdmissionFactor > 1) {
+            throw new IllegalArgumentException(
+                    "throttledAdmissionFactor must be in [0, 1], but was: " + throttledAdmissionFactor);
+        }
+        if (retryAfterSeconds <= 0) {
+            throw new IllegalArgumentException(
+                    "retryAfterSeconds must be positive (> 0), but was: " + retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 보호 조치 미사용 정책 (도달할 수 없는 임계치)
+     */
+    public static MemoryBudget disabled() {
+        return new MemoryBudget(0, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, 1,
+                DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    public boolean isEnabled() {
+        return shedRateLimitRatio != Double.MAX_VALUE;
+    }
+
+    /**
+     * 사용량 스냅샷의 압박 단계
+     * 예산을 알 수 없으면(설정 없음 + maxmemory 미설정) 항상 NORMAL
+     */
+    public MemoryPressure pressureOf(QueueMemoryUsage usage) {
+        long budget = budgetBytes > 0 ? budgetBytes : usage.maxMemoryBytes();
+        if (budget <= 0) {
+            return MemoryPressure.NORMAL;
+        }
+
+        double ratio = (double) usage.usedBytes() / budget;
+        if (ratio >= rejectEntryRatio) {
+            return MemoryPressure.REJECT_ENTRY;
+        }
+        if (ratio >= throttleAdmissionRatio) {
+            return MemoryPressure.THROTTLE_ADMISSION;
+        }
+        if (ratio >= shedRateLimitRatio) {
+            return MemoryPressure.SHED_RATE_LIMIT;
+        }
+        return MemoryPressure.NORMAL;
+    }
+
+    /**
+     * 압박 단계별 입장 배율 (입장 속도 감소 단계 이상이면 throttledAdmissionFactor)
+     */
+    public double admissionFactorOf(MemoryPressure pressure) {
+        return pressure.throttlesAdmission() ? throttledAdmissionFactor : 1.0;
+    }
+}
@@ -0,0 +1,28 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * Redis 메모리 압박 단계
+ * 단계가 올라갈수록 이전 단계의 보호 조치를 유지한 채 다음 조치를 추가
+ *
+ * - SHED_RATE_LIMIT: Rate Limit 상태 삭제 및 신규 생성 중단 (잃어도 되는 데이터부터 포기)
+ * - THROTTLE_ADMISSION: Wait -> Active 전환 속도 감소 (토큰 Hash 증가 억제)
+ * - REJECT_ENTRY: 신규 대기열 진입 거절 (기존 대기자와 Active 사용자는 유지)
+ */
+public enum MemoryPressure {
+    NORMAL,
+    SHED_RATE_LIMIT,
+    THROTTLE_ADMISSION,
+    REJECT_ENTRY;
+
+    public boolean shedsRateLimit() {
+        return compareTo(SHED_RATE_LIMIT) >= 0;
+    }
+
+    public boolean throttlesAdmission() {
+        return compareTo(THROTTLE_ADMISSION) >= 0;
+    }
+
+    public boolean rejectsEntry() {
+        return this == REJECT_ENTRY;
+    }
+}
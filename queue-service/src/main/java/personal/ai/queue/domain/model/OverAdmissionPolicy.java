@@ -0,0 +1,40 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 초과 입장 정책 (Value Object)
+ * READY 상태로 만료되는(활성화하지 않는) 비율만큼 Active 목표치를 늘려 실제 활성 인원을 목표치에 맞춤
+ */
+public record OverAdmissionPolicy(
+        double maxRatio,   // 최대 초과 입장 비율 (0.3 = activeMaxSize의 130%까지, 0 이하면 비활성화)
+        double smoothing,  // 노쇼율 지수 이동 평균 가중치 (0 < smoothing <= 1, 클수록 최근 틱 반영이 빠름)
+        long minSamples    // 노쇼율을 반영하기 위한 최소 입장 표본 수
+) {
+    /**
+     * Compact Constructor - 정책 검증
+     */
+    public OverAdmissionPolicy {
+        if (isEnabled(maxRatio) && (smoothing <= 0 || smoothing > 1)) {
+            throw new IllegalArgumentException(
+                    "smoothing must be in (0, 1], but was: " + smoothing);
+        }
+        if (minSamples < 0) {
+            throw new IllegalArgumentException(
+                    "minSamples must be non-negative (>= 0), but was: " + minSamples);
+        }
+    }
+
+    /**
+     * 초과 입장 미사용 정책 (activeMaxSize까지만 입장)
+     */
+    public static OverAdmissionPolicy disabled() {
+        return new OverAdmissionPolicy(0, 1, 0);
+    }
+
+    public boolean isEnabled() {
+        return isEnabled(maxRatio);
+    }
+
+    private static boolean isEnabled(double maxRatio) {
+        return maxRatio > 0;
+    }
+}
@@ -9,7 +9,8 @@ public record QueueConfig(
         int tokenTtlSeconds,
         int activatedTtlSeconds,
         int maxExtensionCount,
-        int activationIntervalSeconds // Wait -> Active 전환 주기 (초)
+        int activationIntervalSeconds, // Wait -> Active 전환 주기 (초)
+        int readyActivationDeadlineSeconds // READY 토큰 활성화 기한 (초, 0이면 tokenTtlSeconds 사용)
 ) {
     /**
      * Compact Constructor - 생성 시 모든 필드 검증
@@ -36,6 +37,30 @@ public record QueueConfig(
             throw new IllegalArgumentException(
                     "activationIntervalSeconds must be positive (> 0), but was: " + activationIntervalSeconds);
         }
+        if (readyActivationDeadlineSeconds < 0) {
+            throw new IllegalArgumentException(
+                    "readyActivationDeadlineSeconds must be non-negative (>= 0), but was: "
+                            + readyActivationDeadlineSeconds);
+        }
+    }
+
+    /**
+     * READY 활성화 기한 미지정 (tokenTtlSeconds 동안 READY 유지)
+     */
+    public QueueConfig(int activeMaxSize, int tokenTtlSeconds, int activatedTtlSeconds,
+                       int maxExtensionCount, int activationIntervalSeconds) {
+        this(activeMaxSize, tokenTtlSeconds, activatedTtlSeconds, maxExtensionCount, activationIntervalSeconds, 0);
+    }
+
+    /**
+     * READY 토큰 유지 시간 (초)
+     * 활성화하지 않은 사용자가 Active 슬롯을 점유하는 시간이므로 tokenTtlSeconds보다 길어지지 않음
+     */
+    public int readyTtlSeconds() {
+        if (readyActivationDeadlineSeconds <= 0) {
+            return tokenTtlSeconds;
+        }
+        return Math.min(tokenTtlSeconds, readyActivationDeadlineSeconds);
     }
     // 기본값 상수
     private static final int DEFAULT_ACTIVE_MAX_SIZE = 50000;
@@ -60,11 +85,20 @@ public record QueueConfig(
      * 커스텀 설정
      */
     public static QueueConfig of(int activeMaxSize, int tokenTtlSeconds, int activationIntervalSeconds) {
+        return of(activeMaxSize, tokenTtlSeconds, activationIntervalSeconds, 0);
+    }
+
+    /**
+     * 커스텀 설정 (READY 활성화 기한 지정)
+     */
+    public static QueueConfig of(int activeMaxSize, int tokenTtlSeconds, int activationIntervalSeconds,
+                                 int readyActivationDeadlineSeconds) {
         return new QueueConfig(
                 activeMaxSize,
                 tokenTtlSeconds,
                 DEFAULT_ACTIVATED_TTL_SECONDS,
                 DEFAULT_MAX_EXTENSION_COUNT,
-                activationIntervalSeconds);
+                activationIntervalSeconds,
+                readyActivationDeadlineSeconds);
     }
 }
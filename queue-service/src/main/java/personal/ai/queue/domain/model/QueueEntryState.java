@@ -0,0 +1,39 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 대기열 진입 상태 (Value Object)
+ * 진입/조회 스크립트 한 번으로 얻은 사용자의 현재 위치
+ */
+public record QueueEntryState(
+        boolean active,      // 유효한(만료 전) Active 토큰 보유 여부
+        boolean newEntry,    // 이번 요청으로 Wait Queue에 새로 추가되었는지 여부
+        Long position,       // Wait Queue 순번 (0-based, 대기 중이 아니면 null)
+        long totalWaiting,   // Wait Queue 전체 인원
+        boolean overflow     // 최대 대기 인원 초과로 진입이 거절되었는지 여부
+) {
+
+    public QueueEntryState(boolean active, boolean newEntry, Long position, long totalWaiting) {
+        this(active, newEntry, position, totalWaiting, false);
+    }
+
+    /**
+     * 이미 Active Queue에 있는 사용자
+     */
+    public static QueueEntryState activeUser() {
+        return new QueueEntryState(true, false, null, 0L);
+    }
+
+    /**
+     * 최대 대기 인원에 도달하여 Wait Queue에 추가되지 않은 사용자
+     */
+    public static QueueEntryState full(long totalWaiting) {
+        return new QueueEntryState(false, false, null, totalWaiting, true);
+    }
+
+    /**
+     * Wait Queue 대기 여부
+     */
+    public boolean isWaiting() {
+        return position != null;
+    }
+}
@@ -0,0 +1,11 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 대기열이 Redis에 저장하는 Key 계열 (메모리 사용량 집계 단위)
+ */
+public enum QueueKeyFamily {
+    WAIT_QUEUE,    // queue:wait:{concertId} (ZSet)
+    ACTIVE_QUEUE,  // queue:active:{concertId} (ZSet)
+    TOKEN_HASH,    // active:token:{concertId}:{userId} (Hash)
+    RATE_LIMIT     // rate_limit:queue:{concertId}:{userId}:* (String)
+}
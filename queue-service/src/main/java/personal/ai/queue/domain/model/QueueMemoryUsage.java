@@ -0,0 +1,28 @@
+package personal.ai.queue.domain.model;
+
+import java.util.Map;
+
+/**
+ * Redis 메모리 사용량 스냅샷 (Value Object)
+ * usedBytes / maxMemoryBytes는 Redis 전체 값(INFO memory), familyBytes는 대기열 Key 계열별 추정치
+ */
+public record QueueMemoryUsage(
+        long usedBytes,                        // Redis used_memory
+        long maxMemoryBytes,                   // Redis maxmemory (0이면 제한 없음)
+        Map<QueueKeyFamily, Long> familyBytes  // Key 계열별 사용량 (샘플링 추정)
+) {
+    public QueueMemoryUsage {
+        familyBytes = Map.copyOf(familyBytes);
+    }
+
+    /**
+     * 사용량을 알 수 없음 (인메모리 저장소 또는 조회 실패)
+     */
+    public static QueueMemoryUsage unknown() {
+        return new QueueMemoryUsage(0, 0, Map.of());
+    }
+
+    public long bytesOf(QueueKeyFamily family) {
+        return familyBytes.getOrDefault(family, 0L);
+    }
+}
@@ -0,0 +1,110 @@
+package personal.ai.queue.domain.model;
+
+import personal.ai.queue.domain.exception.InvalidQueueScopeException;
+
+import java.util.Set;
+
+/**
+ * 대기열 파티션 정책 (Value Object)
+ * 인기 콘서트의 모든 회차가 하나의 Wait Queue / Active 정원을 공유하지 않도록
+ * 지정된 콘서트는 일정(또는 재고 파티션) 단위로 대기열을 분리
+ *
+ * 대기열 ID 형식:
+ * - 콘서트 단위: {concertId}
+ * - 일정 단위: {concertId}@{scheduleId}
+ *
+ * 대기열 ID는 Redis Key, 토큰({queueId}:{userId}:{counter})에 그대로 사용되며
+ * core-service는 토큰의 대기열 ID로 예매 대상 일정과 범위가 일치하는지 검증
+ */
+public record QueuePartitioning(
+        boolean allConcerts,               // 모든 콘서트를 일정 단위로 분리
+        Set<String> partitionedConcertIds  // 일정 단위로 분리할 콘서트 ID 목록
+) {
+    public static final String PARTITION_DELIMITER = "@";
+
+    public QueuePartitioning {
+        partitionedConcertIds = Set.copyOf(partitionedConcertIds);
+    }
+
+    /**
+     * 파티션 미사용 정책 (모든 콘서트가 콘서트 단위 대기열)
+     */
+    public static QueuePartitioning none() {
+        return new QueuePartitioning(false, Set.of());
+    }
+
+    public boolean isPartitioned(String concertId) {
+        return allConcerts || partitionedConcertIds.contains(concertId);
+    }
+
+    /**
+     * 요청의 콘서트 ID와 일정 ID로 대기열 ID 결정
+     * - 이미 일정 단위 대기열 ID인 경우 분리 대상 콘서트일 때만 그대로 사용 (core-service 토큰 검증, 관리 도구)
+     *   (분리 대상이 아닌 콘서트의 임의 일정 ID로 빈 대기열이 생성되는 것을 방지)
+     * - 분리 대상 콘서트는 일정 ID 필수 (없으면 InvalidQueueScopeException)
+     * - 분리 대상이 아닌 콘서트는 일정 ID를 무시하고 콘서트 단위 대기열 사용
+     *
+     * @param concertId 콘서트 ID (또는 대기열 ID)
+     * @param scheduleId 일정(재고 파티션) ID, 없으면 null
+     * @return 대기열 ID
+     */
+    public String queueIdOf(String concertId, String scheduleId) {
+        boolean hasSchedule = scheduleId != null && !scheduleId.isBlank();
+
+        if (isScoped(concertId)) {
+            String partition = partitionOf(concertId);
+            if (!isPartitioned(concertIdOf(concertId)) || partition.isBlank()) {
+                throw new InvalidQueueScopeException(concertId, "concert is not partitioned by schedule");
+            }
+            if (hasSchedule && !scheduleId.equals(partition)) {
+                throw new InvalidQueueScopeException(concertId,
+                        "scheduleId does not match queue scope: " + scheduleId);
+            }
+            return scopedQueueId(concertIdOf(concertId), partition);
+        }
+
+        if (!isPartitioned(concertId)) {
+            return concertId;
+        }
+
+        if (!hasSchedule) {
+            throw new InvalidQueueScopeException(concertId, "scheduleId is required");
+        }
+
+        return scopedQueueId(concertId, scheduleId);
+    }
+
+    /**
+     * 정책과 무관하게 일정 단위 대기열 ID 생성 (일정 ID가 없으면 콘서트 단위)
+     * 관리 API처럼 콘서트 단위 값(튜닝)과 일정 단위 값을 모두 다루는 경우 사용
+     */
+    public static String scopedQueueId(String concertId, String scheduleId) {
+        if (scheduleId == null || scheduleId.isBlank()) {
+            return concertId;
+        }
+        if (isScoped(concertId) || scheduleId.contains(PARTITION_DELIMITER) || scheduleId.contains(":")) {
+            throw new InvalidQueueScopeException(concertId, "invalid scheduleId: " + scheduleId);
+        }
+        return concertId + PARTITION_DELIMITER + scheduleId;
+    }
+
+    /**
+     * 대기열 ID의 콘서트 ID (콘서트 단위 대기열이면 그대로)
+     */
+    public static String concertIdOf(String queueId) {
+        int index = queueId.indexOf(PARTITION_DELIMITER);
+        return index < 0 ? queueId : queueId.substring(0, index);
+    }
+
+    /**
+     * 대기열 ID의 일정(재고 파티션) ID (콘서트 단위 대기열이면 null)
+     */
+    public static String partitionOf(String queueId) {
+        int index = queueId.indexOf(PARTITION_DELIMITER);
+        return index < 0 ? null : queueId.substring(index + PARTITION_DELIMITER.length());
+    }
+
+    public static boolean isScoped(String queueId) {
+        return queueId.contains(PARTITION_DELIMITER);
+    }
+}
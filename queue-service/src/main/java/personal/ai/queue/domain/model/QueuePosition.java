@@ -44,6 +44,25 @@ public record QueuePosition(
                                 QueueStatus.WAITING, null, false);
         }
 
+        /**
+         * 추첨 응모 정보 생성 (순번은 오픈 시 추첨으로 결정되므로 비어 있음)
+         */
+        public static QueuePosition lotteryEntry(
+                        String concertId,
+                        String userId,
+                        long totalEntrants,
+                        boolean isNewEntry) {
+                return new QueuePosition(
+                                concertId,
+                                userId,
+                                null,
+                                totalEntrants,
+                                null,
+                                QueueStatus.LOTTERY_PENDING.name(),
+                                null,
+                                isNewEntry);
+        }
+
         /**
          * 이미 활성화된 상태 정보 생성
          */
@@ -10,6 +10,11 @@ public enum QueueStatus {
      */
     WAITING,
 
+    /**
+     * 추첨 대기 중 (오픈 전 응모 구간에 응모, 오픈 시 무작위 순번으로 Wait Queue에 적재)
+     */
+    LOTTERY_PENDING,
+
     /**
      * 입장 준비됨 (Active Queue로 전환됨, 아직 페이지 접속 전 - TTL 5분)
      */
@@ -0,0 +1,44 @@
+package personal.ai.queue.domain.model;
+
+import java.time.Instant;
+
+/**
+ * 콘서트별 대기열 요약 (Value Object)
+ * 스케줄러 틱마다 갱신되는 스냅샷으로, 개별 사용자 상태 조회 없이 대기열 전체 흐름을 보여줌
+ *
+ * @param concertId             콘서트 ID
+ * @param waitingCount          대기 인원
+ * @param activeCount           활성(READY/ACTIVE) 인원
+ * @param admissionRatePerMinute 최근 1분 기준 분당 입장(Wait -> Active) 인원
+ * @param headTicket            지금까지 입장한 누적 인원 (현재 입장 중인 번호표)
+ * @param refreshedAt           스냅샷 갱신 시각
+ */
+public record QueueSummary(
+        String concertId,
+        long waitingCount,
+        long activeCount,
+        double admissionRatePerMinute,
+        long headTicket,
+        Instant refreshedAt
+) {
+    /**
+     * 대기/활성 인원이 없는 콘서트의 요약
+     */
+    public static QueueSummary empty(String concertId, Instant refreshedAt) {
+        return new QueueSummary(concertId, 0L, 0L, 0.0, 0L, refreshedAt);
+    }
+
+    /**
+     * 현재 입장 속도 기준 예상 대기 시간 (분)
+     * 입장이 멈춰 있으면 null
+     */
+    public Integer estimatedWaitMinutes() {
+        if (waitingCount == 0) {
+            return 0;
+        }
+        if (admissionRatePerMinute <= 0) {
+            return null;
+        }
+        return (int) Math.ceil(waitingCount / admissionRatePerMinute);
+    }
+}
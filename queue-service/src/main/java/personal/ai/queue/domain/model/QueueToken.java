@@ -36,6 +36,20 @@ public record QueueToken(
                 INITIAL_EXTEND_COUNT);
     }
 
+    /**
+     * 추첨 대기 토큰 생성 (오픈 전 응모 구간, 순번 미정)
+     */
+    public static QueueToken lotteryPending(String concertId, String userId) {
+        return new QueueToken(
+                concertId,
+                userId,
+                null,
+                QueueStatus.LOTTERY_PENDING,
+                null,
+                null,
+                INITIAL_EXTEND_COUNT);
+    }
+
     /**
      * 입장 준비 토큰 생성 (Active Queue - Ready 상태)
      */
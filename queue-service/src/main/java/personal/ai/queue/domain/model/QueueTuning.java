@@ -0,0 +1,66 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 콘서트별 대기열 튜닝 값 (Value Object)
+ * 전역 설정(QueueConfig, queue.polling.*)을 콘서트 단위로 덮어쓰는 값이며, null인 항목은 전역 설정을 따름
+ */
+public record QueueTuning(
+        Integer activeMaxSize,                   // 동시 처리 가능 인원
+        Integer tokenTtlSeconds,                 // 토큰 유효시간 (초)
+        Integer activatedTtlSeconds,             // ACTIVE 토큰 유효시간 (초)
+        Integer readyActivationDeadlineSeconds,  // READY 토큰 활성화 기한 (초, 0이면 tokenTtlSeconds)
+        Integer maxAdmissionsPerTick,            // 스케줄러 틱당 최대 입장 인원 (입장 속도 조절, 0이면 제한 없음)
+        Integer pollingFastThreshold             // 빠른 폴링 기준 순번
+) {
+    /**
+     * Compact Constructor - 지정된 값만 검증 (QueueConfig 값은 applyTo에서 검증)
+     */
+    public QueueTuning {
+        if (maxAdmissionsPerTick != null && maxAdmissionsPerTick < 0) {
+            throw new IllegalArgumentException(
+                    "maxAdmissionsPerTick must be non-negative (>= 0), but was: " + maxAdmissionsPerTick);
+        }
+        if (pollingFastThreshold != null && pollingFastThreshold < 0) {
+            throw new IllegalArgumentException(
+                    "pollingFastThreshold must be non-negative (>= 0), but was: " + pollingFastThreshold);
+        }
+    }
+
+    /**
+     * 덮어쓰는 값 없음 (전역 설정 사용)
+     */
+    public static QueueTuning none() {
+        return new QueueTuning(null, null, null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return this.equals(none());
+    }
+
+    /**
+     * 전역 설정에 튜닝 값을 덮어쓴 콘서트별 설정
+     * QueueConfig Compact Constructor에서 값 범위를 검증하므로 잘못된 값은 IllegalArgumentException
+     */
+    public QueueConfig applyTo(QueueConfig base) {
+        return new QueueConfig(
+                activeMaxSize != null ? activeMaxSize : base.activeMaxSize(),
+                tokenTtlSeconds != null ? tokenTtlSeconds : base.tokenTtlSeconds(),
+                activatedTtlSeconds != null ? activatedTtlSeconds : base.activatedTtlSeconds(),
+                base.maxExtensionCount(),
+                base.activationIntervalSeconds(),
+                readyActivationDeadlineSeconds != null
+                        ? readyActivationDeadlineSeconds
+                        : base.readyActivationDeadlineSeconds());
+    }
+
+    /**
+     * 틱당 최대 입장 인원 (미지정 또는 0이면 제한 없음)
+     */
+    public int admissionLimitPerTick() {
+        return maxAdmissionsPerTick == null || maxAdmissionsPerTick == 0 ? Integer.MAX_VALUE : maxAdmissionsPerTick;
+    }
+
+    public int pollingFastThresholdOr(int defaultThreshold) {
+        return pollingFastThreshold != null ? pollingFastThreshold : defaultThreshold;
+    }
+}
@@ -0,0 +1,33 @@
+package personal.ai.queue.domain.model;
+
+/**
+ * 대기 인원 제한 정책 (Value Object)
+ * 봇 유입 등으로 Wait Queue가 무한히 커지는 것을 막기 위한 콘서트별 최대 대기 인원
+ */
+public record WaitingLimit(
+        long maxSize,          // 콘서트별 최대 대기 인원 (0 이하면 제한 없음)
+        int retryAfterSeconds  // 가득 찬 경우 클라이언트에 권장하는 재시도 간격 (초)
+) {
+    private static final int DEFAULT_RETRY_AFTER_SECONDS = 30;
+
+    /**
+     * Compact Constructor - 재시도 간격 검증
+     */
+    public WaitingLimit {
+        if (retryAfterSeconds <= 0) {
+            throw new IllegalArgumentException(
+                    "retryAfterSeconds must be positive (> 0), but was: " + retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 대기 인원 제한 없음
+     */
+    public static WaitingLimit unlimited() {
+        return new WaitingLimit(0, DEFAULT_RETRY_AFTER_SECONDS);
+    }
+
+    public boolean isLimited() {
+        return maxSize > 0;
+    }
+}
@@ -0,0 +1,88 @@
+package personal.ai.queue.domain.service;
+
+import personal.ai.queue.domain.model.OverAdmissionPolicy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * No-Show Rate Estimator
+ * 콘서트별로 READY 토큰 중 활성화하지 않고 만료되는 비율(노쇼율)을 추정하고 초과 입장 배율 계산
+ *
+ * - 입장 인원과 노쇼 인원을 지수 이동 평균(EWMA)으로 누적 (오픈 직후 급변하는 노쇼율을 빠르게 반영)
+ * - 입장 표본이 minSamples 미만이면 노쇼율 0으로 간주 (초기 과다 입장 방지)
+ * - 초과 입장 배율 = 1 / (1 - 노쇼율), 최대 1 + maxRatio
+ *
+ * 인스턴스 로컬 추정치이며 상태를 가지므로 모든 메서드는 동기화
+ */
+public class NoShowRateEstimator {
+
+    private final OverAdmissionPolicy policy;
+    private final Map<String, Window> windows = new HashMap<>();
+
+    public NoShowRateEstimator(OverAdmissionPolicy policy) {
+        this.policy = policy;
+    }
+
+    public OverAdmissionPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * 스케줄러 틱의 입장 인원 반영 (입장이 없는 틱도 호출해 이전 표본을 감쇠)
+     */
+    public synchronized void recordAdmissions(String concertId, long admitted) {
+        if (!policy.isEnabled()) {
+            return;
+        }
+        Window window = windows.computeIfAbsent(concertId, id -> new Window());
+        double decay = 1 - policy.smoothing();
+        window.admitted = window.admitted * decay + admitted;
+        window.noShows = window.noShows * decay + window.pendingNoShows;
+        window.pendingNoShows = 0;
+    }
+
+    /**
+     * READY 상태로 만료된 인원 반영 (다음 입장 틱에 합산)
+     */
+    public synchronized void recordNoShows(String concertId, long noShows) {
+        if (!policy.isEnabled() || noShows <= 0) {
+            return;
+        }
+        windows.computeIfAbsent(concertId, id -> new Window()).pendingNoShows += noShows;
+    }
+
+    /**
+     * 추정 노쇼율 (0 이상 1 미만)
+     */
+    public synchronized double noShowRate(String concertId) {
+        Window window = windows.get(concertId);
+        if (window == null || window.admitted <= 0 || window.admitted < policy.minSamples()) {
+            return 0.0;
+        }
+        return Math.min(window.noShows / window.admitted, maxNoShowRate());
+    }
+
+    /**
+     * 초과 입장 배율 (1.0 이상 1 + maxRatio 이하)
+     */
+    public double overAdmissionFactor(String concertId) {
+        if (!policy.isEnabled()) {
+            return 1.0;
+        }
+        return 1.0 / (1.0 - noShowRate(concertId));
+    }
+
+    /**
+     * 배율 상한(1 + maxRatio)에 대응하는 노쇼율 상한
+     */
+    private double maxNoShowRate() {
+        return 1.0 - 1.0 / (1.0 + policy.maxRatio());
+    }
+
+    private static final class Window {
+        private double admitted;
+        private double noShows;
+        private long pendingNoShows;
+    }
+}
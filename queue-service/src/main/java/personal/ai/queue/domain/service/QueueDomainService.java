@@ -29,10 +29,10 @@ public class QueueDomainService {
 
     /**
      * Ready 상태의 만료 시간 계산 (진입 대기)
-     * 현재 시간 + 5분
+     * 현재 시간 + READY 활성화 기한 (미지정 시 5분)
      */
     public Instant calculateReadyExpiration() {
-        return Instant.now().plusSeconds(config.tokenTtlSeconds());
+        return Instant.now().plusSeconds(config.readyTtlSeconds());
     }
 
     /**
@@ -69,7 +69,19 @@ public class QueueDomainService {
      * 한 번에 전환 가능한 최대 인원 계산
      */
     public int calculateBatchSize(long currentActiveCount) {
-        long available = config.activeMaxSize() - currentActiveCount;
-        return (int) Math.max(0, available);
+        return calculateBatchSize(currentActiveCount, 1.0);
+    }
+
+    /**
+     * 초과 입장 배율을 반영한 전환 가능 인원 계산
+     * 활성화하지 않을 것으로 예상되는 인원만큼 Active 목표치를 늘려 실제 활성 인원을 activeMaxSize에 맞춤
+     *
+     * @param currentActiveCount   현재 Active Queue 인원 (READY 포함)
+     * @param overAdmissionFactor  초과 입장 배율 (1.0 이상)
+     */
+    public int calculateBatchSize(long currentActiveCount, double overAdmissionFactor) {
+        long target = (long) Math.floor(config.activeMaxSize() * Math.max(1.0, overAdmissionFactor));
+        long available = target - currentActiveCount;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0, available));
     }
 }
@@ -0,0 +1,108 @@
+package personal.ai.queue.domain.service;
+
+import personal.ai.queue.domain.model.AdmissionDemand;
+import personal.ai.queue.domain.model.AdmissionPolicy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Weighted Admission Allocator
+ * 전역 입장 예산을 콘서트별 가중치에 따라 Deficit Round Robin(DRR)으로 배분
+ *
+ * - 라운드마다 각 콘서트의 deficit에 (quantum x weight)를 적립하고, 적립된 만큼 입장 허용
+ * - 예산이 소진되어 배분받지 못한 deficit은 다음 틱으로 이월 (정수 나머지로 인한 불공정 방지)
+ * - 대기 수요가 없어진 콘서트의 deficit은 초기화 (DRR 규칙: 빈 큐는 적립하지 않음)
+ * - 시작 콘서트를 틱마다 회전시켜 특정 콘서트가 항상 먼저 배분받지 않도록 함
+ *
+ * 상태(deficit)를 가지므로 allocate는 동기화
+ */
+public class WeightedAdmissionAllocator {
+
+    private final AdmissionPolicy policy;
+    private final Map<String, Long> deficits = new HashMap<>();
+    private int startOffset = 0;
+
+    public WeightedAdmissionAllocator(AdmissionPolicy policy) {
+        this.policy = policy;
+    }
+
+    public AdmissionPolicy policy() {
+        return policy;
+    }
+
+    /**
+     * 이번 틱의 콘서트별 입장 허용 인원 계산
+     *
+     * @param demands         콘서트별 수요
+     * @param availableBudget 전역 예산 중 남은 인원 (globalBudget - 전체 Active 인원)
+     * @return 콘서트 ID -> 허용 인원 (수요가 없는 콘서트는 0)
+     */
+    public synchronized Map<String, Integer> allocate(List<AdmissionDemand> demands, long availableBudget) {
+        Map<String, Integer> grants = new LinkedHashMap<>();
+        demands.forEach(demand -> grants.put(demand.concertId(), 0));
+
+        List<AdmissionDemand> backlogged = new ArrayList<>(demands.stream()
+                .filter(AdmissionDemand::isBacklogged)
+                .sorted(Comparator.comparing(AdmissionDemand::concertId))
+                .toList());
+
+        // 수요가 없는 콘서트의 deficit 제거
+        deficits.keySet().retainAll(backlogged.stream().map(AdmissionDemand::concertId).toList());
+
+        if (backlogged.isEmpty() || availableBudget <= 0) {
+            return grants;
+        }
+
+        rotate(backlogged);
+
+        long totalWeight = backlogged.stream().mapToLong(AdmissionDemand::weight).sum();
+        // quantum: 한 라운드에 가중치 1당 적립되는 인원 (라운드 수를 줄이기 위해 예산에 비례)
+        long quantum = Math.max(1, availableBudget / totalWeight);
+
+        Map<String, Long> remainingDemand = new HashMap<>();
+        backlogged.forEach(demand -> remainingDemand.put(demand.concertId(), demand.demand()));
+
+        long remainingBudget = availableBudget;
+        boolean progressed = true;
+
+        while (remainingBudget > 0 && progressed) {
+            progressed = false;
+
+            for (AdmissionDemand demand : backlogged) {
+                String concertId = demand.concertId();
+                long pending = remainingDemand.get(concertId);
+                if (pending == 0) {
+                    continue;
+                }
+
+                long deficit = deficits.getOrDefault(concertId, 0L) + quantum * demand.weight();
+                long grant = Math.min(deficit, Math.min(pending, remainingBudget));
+
+                grants.merge(concertId, (int) grant, Integer::sum);
+                remainingDemand.put(concertId, pending - grant);
+                remainingBudget -= grant;
+                progressed = true;
+
+                // 수요를 모두 채운 콘서트는 deficit을 이월하지 않음
+                deficits.put(concertId, pending - grant == 0 ? 0L : deficit - grant);
+
+                if (remainingBudget == 0) {
+                    break;
+                }
+            }
+        }
+
+        return grants;
+    }
+
+    private void rotate(List<AdmissionDemand> backlogged) {
+        int offset = Math.floorMod(startOffset++, backlogged.size());
+        Collections.rotate(backlogged, -offset);
+    }
+}
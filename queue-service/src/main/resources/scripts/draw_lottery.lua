@@ -0,0 +1,65 @@
+-- draw_lottery.lua
+-- 추첨 응모자를 무작위로 섞어 Wait Queue에 일괄 적재하는 작업을 원자적으로 처리
+-- 콘서트당 1회만 실행됨 (추첨 완료 표식으로 중복 실행 방지)
+--
+-- KEYS[1]: Lottery Pool Key (Set)
+-- KEYS[2]: Wait Queue Key (ZSet)
+-- KEYS[3]: Lottery Drawn Key (String, 추첨 완료 표식)
+-- ARGV[1]: Open Time (epoch milliseconds)
+-- ARGV[2]: Shuffle Seed (1 ~ 2147483646)
+-- ARGV[3]: Drawn Key TTL (seconds)
+--
+-- Return: 적재된 인원 수 (이미 추첨된 경우 -1)
+--
+-- 동작:
+-- 1. SMEMBERS로 응모자 조회 후 Fisher-Yates 셔플 (MINSTD 난수, 시드는 호출자가 지정)
+-- 2. score = openAt - N + i 로 ZADD NX
+--    → 모든 응모자가 오픈 이후 선착순 진입자(score >= openAt)보다 앞 순번
+-- 3. 응모 풀 삭제 및 추첨 완료 표식 설정
+
+local poolKey = KEYS[1]
+local waitQueueKey = KEYS[2]
+local drawnKey = KEYS[3]
+local openAtMillis = tonumber(ARGV[1])
+local state = tonumber(ARGV[2])
+local drawnTtl = tonumber(ARGV[3])
+
+local BATCH_SIZE = 1000
+local MODULUS = 2147483647
+local MULTIPLIER = 48271
+
+if redis.call('EXISTS', drawnKey) == 1 then
+    return -1
+end
+
+local entrants = redis.call('SMEMBERS', poolKey)
+local count = #entrants
+
+-- 1. Fisher-Yates 셔플 (곱이 2^47 미만이므로 double 연산으로도 정확)
+for i = count, 2, -1 do
+    state = (state * MULTIPLIER) % MODULUS
+    local j = (state % i) + 1
+    entrants[i], entrants[j] = entrants[j], entrants[i]
+end
+
+-- 2. Wait Queue 적재 (인자 수 제한을 피하기 위해 배치 단위 ZADD)
+local baseScore = openAtMillis - count
+local loaded = 0
+local args = {}
+for i = 1, count do
+    args[#args + 1] = string.format('%d', baseScore + i - 1)
+    args[#args + 1] = entrants[i]
+    if #args >= BATCH_SIZE * 2 then
+        loaded = loaded + redis.call('ZADD', waitQueueKey, 'NX', unpack(args))
+        args = {}
+    end
+end
+if #args > 0 then
+    loaded = loaded + redis.call('ZADD', waitQueueKey, 'NX', unpack(args))
+end
+
+-- 3. 응모 풀 정리 및 추첨 완료 표식
+redis.call('DEL', poolKey)
+redis.call('SET', drawnKey, count, 'EX', drawnTtl)
+
+return loaded
@@ -0,0 +1,28 @@
+-- enter_lottery.lua
+-- 오픈 전 추첨 응모를 원자적으로 처리
+-- 추첨 완료 표식 확인과 응모(SADD)를 한 번에 처리하여, 추첨 직후 도착한 응모가 풀에 남는 것을 방지
+--
+-- KEYS[1]: Lottery Pool Key (Set)
+-- KEYS[2]: Lottery Drawn Key (String, 추첨 완료 표식)
+-- ARGV[1]: User ID
+--
+-- Return:
+--   0: 이미 추첨 완료 (응모 불가 → 선착순 진입으로 전환)
+--   N (> 0): 신규 응모, N = 현재 응모 인원
+--  -N (< 0): 중복 응모, N = 현재 응모 인원
+
+local poolKey = KEYS[1]
+local drawnKey = KEYS[2]
+local userId = ARGV[1]
+
+if redis.call('EXISTS', drawnKey) == 1 then
+    return 0
+end
+
+local added = redis.call('SADD', poolKey, userId)
+local count = redis.call('SCARD', poolKey)
+
+if added == 1 then
+    return count
+end
+return -count
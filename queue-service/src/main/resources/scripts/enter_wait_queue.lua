@@ -0,0 +1,45 @@
+-- enter_wait_queue.lua
+-- Active 토큰 확인, Wait Queue 추가, 순번 조회를 원자적으로 처리
+-- 처음 보는 사용자는 검증 체인 없이 이 스크립트 한 번으로 진입 (다른 인스턴스에서 이미 진입한 경우도 안전)
+-- 최대 대기 인원에 도달하면 신규 사용자는 추가하지 않고 거절 (이미 대기 중인 사용자는 순번 반환)
+--
+-- KEYS[1]: Wait Queue Key (ZSet)
+-- KEYS[2]: Active Token Key (Hash)
+-- ARGV[1]: User ID
+-- ARGV[2]: Current Time (epoch seconds)
+-- ARGV[3]: Score (epoch milliseconds, 진입 시각)
+-- ARGV[4]: Max Waiting Size (0 이하면 제한 없음)
+--
+-- Return: {active, added, rank, size}
+--   active: 1 = 만료 전 Active 토큰 보유 (Wait Queue에 추가하지 않음)
+--   added: 1 = 신규 추가, 0 = 이미 대기 중, -1 = 대기열 가득 참 (추가하지 않음)
+--   rank: Wait Queue 순번 (0-based, 거절 시 -1)
+--   size: Wait Queue 전체 인원
+
+local waitQueueKey = KEYS[1]
+local tokenKey = KEYS[2]
+local userId = ARGV[1]
+local now = tonumber(ARGV[2])
+local score = ARGV[3]
+local maxSize = tonumber(ARGV[4])
+
+local expiredAt = redis.call('HGET', tokenKey, 'expired_at')
+if expiredAt and tonumber(expiredAt) >= now then
+    return {1, 0, -1, 0}
+end
+
+local size = redis.call('ZCARD', waitQueueKey)
+local rank = redis.call('ZRANK', waitQueueKey, userId)
+if rank then
+    return {0, 0, rank, size}
+end
+
+-- 가득 찬 경우 ZADD 없이 즉시 거절 (ZCARD는 O(1))
+if maxSize > 0 and size >= maxSize then
+    return {0, -1, -1, size}
+end
+
+redis.call('ZADD', waitQueueKey, score, userId)
+rank = redis.call('ZRANK', waitQueueKey, userId)
+
+return {0, 1, rank, size + 1}
@@ -0,0 +1,32 @@
+-- find_queue_entry.lua
+-- 사용자의 Active 토큰 보유 여부와 Wait Queue 순번을 한 번에 조회 (읽기 전용)
+-- 재진입 요청을 HGETALL + ZRANK + ZCARD 3회 왕복 대신 1회로 처리
+--
+-- KEYS[1]: Wait Queue Key (ZSet)
+-- KEYS[2]: Active Token Key (Hash)
+-- ARGV[1]: User ID
+-- ARGV[2]: Current Time (epoch seconds)
+--
+-- Return: {active, added, rank, size}
+--   active: 1 = 만료 전 Active 토큰 보유 (rank/size는 의미 없음)
+--   added: 항상 0 (조회 전용)
+--   rank: Wait Queue 순번 (0-based, 대기 중이 아니면 -1)
+--   size: Wait Queue 전체 인원
+
+local waitQueueKey = KEYS[1]
+local tokenKey = KEYS[2]
+local userId = ARGV[1]
+local now = tonumber(ARGV[2])
+
+local expiredAt = redis.call('HGET', tokenKey, 'expired_at')
+if expiredAt and tonumber(expiredAt) >= now then
+    return {1, 0, -1, 0}
+end
+
+local rank = redis.call('ZRANK', waitQueueKey, userId)
+local size = redis.call('ZCARD', waitQueueKey)
+
+if rank then
+    return {0, 0, rank, size}
+end
+return {0, 0, -1, size}
@@ -0,0 +1,23 @@
+-- memory_usage.lua
+-- 여러 Key의 메모리 사용량 합계를 1회 왕복으로 조회 (Key 계열별 사용량 집계용)
+--
+-- KEYS: 조회할 Key 목록
+-- ARGV[1]: MEMORY USAGE SAMPLES (중첩 자료구조 샘플링 수, 0이면 전체)
+--
+-- Return: {totalBytes, existingKeys}
+--   totalBytes: 존재하는 Key의 사용량 합계 (bytes)
+--   existingKeys: 존재하는 Key 수 (만료/삭제된 Key는 제외)
+
+local samples = ARGV[1]
+local totalBytes = 0
+local existingKeys = 0
+
+for _, key in ipairs(KEYS) do
+    local bytes = redis.call('MEMORY', 'USAGE', key, 'SAMPLES', samples)
+    if bytes then
+        totalBytes = totalBytes + bytes
+        existingKeys = existingKeys + 1
+    end
+end
+
+return {totalBytes, existingKeys}
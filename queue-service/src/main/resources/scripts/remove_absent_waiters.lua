@@ -0,0 +1,38 @@
+-- remove_absent_waiters.lua
+-- 하트비트가 끊긴 대기자를 Wait Queue와 Presence에서 일괄 제거
+--
+-- KEYS[1]: Presence Key (ZSet, score = 마지막 하트비트 epoch seconds)
+-- KEYS[2]: Wait Queue Key (ZSet)
+-- ARGV[1]: Cutoff (epoch seconds, 이 시각 이전 하트비트는 이탈로 간주)
+-- ARGV[2]: Limit (한 번에 처리할 최대 인원)
+--
+-- Return: Wait Queue에서 제거된 인원 수
+--
+-- 동작:
+-- 1. Presence에서 cutoff 이전 사용자 조회 (최대 Limit명)
+-- 2. Presence와 Wait Queue에서 제거 (이미 Active로 이동한 사용자는 Presence에서만 정리됨)
+-- 하트비트 기록이 없는 사용자는 제거하지 않음 (보수적 처리)
+
+local presenceKey = KEYS[1]
+local waitQueueKey = KEYS[2]
+local cutoff = ARGV[1]
+local limit = tonumber(ARGV[2])
+
+local BATCH_SIZE = 1000
+
+local stale = redis.call('ZRANGEBYSCORE', presenceKey, '-inf', '(' .. cutoff, 'LIMIT', 0, limit)
+if #stale == 0 then
+    return 0
+end
+
+local removed = 0
+for i = 1, #stale, BATCH_SIZE do
+    local batch = {}
+    for j = i, math.min(i + BATCH_SIZE - 1, #stale) do
+        batch[#batch + 1] = stale[j]
+    end
+    redis.call('ZREM', presenceKey, unpack(batch))
+    removed = removed + redis.call('ZREM', waitQueueKey, unpack(batch))
+end
+
+return removed
@@ -7,21 +7,30 @@
 --
 -- Token Key Format: {ARGV[3]}{ARGV[4]}:{userId}
 -- Example: active:token:CONCERT-001:USER-001
+--
+-- Return: {removed, unactivated}
+--   removed: 제거된 토큰 수
+--   unactivated: 그 중 READY 상태로 만료된 (활성화하지 않은) 토큰 수 → 노쇼율 추정에 사용
 
 -- 1. Get Expired User IDs
 local expiredUserIds = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2])
 
 if #expiredUserIds == 0 then
-    return 0
+    return {0, 0}
 end
 
 -- 2. Remove from ZSet
 redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[2])
 
--- 3. Build token keys array for batch deletion
+-- 3. Build token keys array for batch deletion (READY 상태로 만료된 토큰 집계)
 local tokenKeys = {}
+local unactivated = 0
 for _, userId in ipairs(expiredUserIds) do
-    tokenKeys[#tokenKeys + 1] = ARGV[3] .. ARGV[4] .. ":" .. userId
+    local tokenKey = ARGV[3] .. ARGV[4] .. ":" .. userId
+    tokenKeys[#tokenKeys + 1] = tokenKey
+    if redis.call('HGET', tokenKey, 'status') == 'READY' then
+        unactivated = unactivated + 1
+    end
 end
 
 -- 4. Batch delete with UNLINK (non-blocking, asynchronous)
@@ -36,4 +45,4 @@ if #tokenKeys > 0 then
              end
 end
 
-return #expiredUserIds
+return {#expiredUserIds, unactivated}
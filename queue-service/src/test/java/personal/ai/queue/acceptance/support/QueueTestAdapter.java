@@ -108,6 +108,7 @@ public class QueueTestAdapter {
             PaymentCompletedEvent event = new PaymentCompletedEvent(
                     UUID.randomUUID().toString(),
                     concertId,
+                    null,
                     userId,
                     "BOOKING-" + UUID.randomUUID(),
                     10000L,
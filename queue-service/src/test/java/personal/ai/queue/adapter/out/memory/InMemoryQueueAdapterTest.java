@@ -0,0 +1,186 @@
+package personal.ai.queue.adapter.out.memory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.domain.model.ExpiredTokens;
+import personal.ai.queue.domain.model.QueueEntryState;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryQueueAdapter 단위 테스트")
+class InMemoryQueueAdapterTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+
+    private InMemoryQueueAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryQueueAdapter();
+    }
+
+    @Test
+    @DisplayName("대기열 진입 순서대로 순번을 부여하고 중복 진입은 기존 순번을 유지한다")
+    void addToWaitQueue_KeepsArrivalOrder() {
+        // given
+        adapter.addToWaitQueue(CONCERT_ID, "USER-1");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-2");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-3");
+
+        // when
+        Long duplicated = adapter.addToWaitQueue(CONCERT_ID, "USER-2");
+        adapter.removeFromWaitQueue(CONCERT_ID, "USER-1");
+
+        // then
+        assertThat(duplicated).isEqualTo(1L);
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-3")).isEqualTo(1L);
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-1")).isNull();
+        assertThat(adapter.getWaitQueueSize(CONCERT_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("최대 대기 인원에 도달하면 신규 진입은 거절하고 기존 대기자는 순번을 유지한다")
+    void enterWaitQueue_RejectsNewEntrantsWhenFull() {
+        // given
+        adapter.enterWaitQueue(CONCERT_ID, "USER-1", 2);
+        adapter.enterWaitQueue(CONCERT_ID, "USER-2", 2);
+
+        // when
+        QueueEntryState rejected = adapter.enterWaitQueue(CONCERT_ID, "USER-3", 2);
+        QueueEntryState existing = adapter.enterWaitQueue(CONCERT_ID, "USER-2", 2);
+
+        // then
+        assertThat(rejected.overflow()).isTrue();
+        assertThat(rejected.isWaiting()).isFalse();
+        assertThat(existing.overflow()).isFalse();
+        assertThat(existing.position()).isEqualTo(1L);
+        assertThat(adapter.getWaitQueueSize(CONCERT_ID)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Wait -> Active 이동 시 앞 순번부터 READY 토큰을 발급한다")
+    void moveToActiveQueueAtomic_IssuesReadyTokens() {
+        // given
+        adapter.addToWaitQueue(CONCERT_ID, "USER-1");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-2");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-3");
+        Instant expiredAt = Instant.now().plusSeconds(300);
+
+        // when
+        List<String> moved = adapter.moveToActiveQueueAtomic(CONCERT_ID, 2, expiredAt);
+
+        // then
+        assertThat(moved).containsExactly("USER-1", "USER-2");
+        assertThat(adapter.getActiveQueueSize(CONCERT_ID)).isEqualTo(2L);
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-3")).isZero();
+
+        QueueToken token = adapter.getActiveToken(CONCERT_ID, "USER-1").orElseThrow();
+        assertThat(token.status()).isEqualTo(QueueStatus.READY);
+        assertThat(token.token()).startsWith(CONCERT_ID + ":USER-1:");
+        assertThat(token.expiredAt()).isEqualTo(Instant.ofEpochSecond(expiredAt.getEpochSecond()));
+    }
+
+    @Test
+    @DisplayName("READY 토큰만 ACTIVE로 전환할 수 있다")
+    void activateTokenAtomic_OnlyFromReady() {
+        // given
+        adapter.addToWaitQueue(CONCERT_ID, "USER-1");
+        adapter.moveToActiveQueueAtomic(CONCERT_ID, 1, Instant.now().plusSeconds(300));
+        Instant activeExpiredAt = Instant.now().plusSeconds(600);
+
+        // when
+        boolean first = adapter.activateTokenAtomic(CONCERT_ID, "USER-1", activeExpiredAt);
+        boolean second = adapter.activateTokenAtomic(CONCERT_ID, "USER-1", activeExpiredAt);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(adapter.getActiveToken(CONCERT_ID, "USER-1"))
+                .get()
+                .extracting(QueueToken::status)
+                .isEqualTo(QueueStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰만 정리하고 연장된 토큰은 유지한다")
+    void removeExpiredTokens_RemovesOnlyExpired() {
+        // given
+        adapter.addToActiveQueue(CONCERT_ID, "USER-1", "token-1", Instant.now().minusSeconds(1));
+        adapter.addToActiveQueue(CONCERT_ID, "USER-2", "token-2", Instant.now().minusSeconds(1));
+        adapter.addToActiveQueue(CONCERT_ID, "USER-3", "token-3", Instant.now().plusSeconds(300));
+        adapter.updateTokenExpiration(CONCERT_ID, "USER-2", Instant.now().plusSeconds(600));
+
+        // when
+        ExpiredTokens expired = adapter.removeExpiredTokens(CONCERT_ID);
+
+        // then
+        assertThat(expired.removed()).isEqualTo(1L);
+        assertThat(expired.unactivated()).isEqualTo(1L);
+        assertThat(adapter.getActiveQueueSize(CONCERT_ID)).isEqualTo(2L);
+        assertThat(adapter.getActiveToken(CONCERT_ID, "USER-1")).isEmpty();
+        assertThat(adapter.getActiveToken(CONCERT_ID, "USER-2")).isPresent();
+    }
+
+    @Test
+    @DisplayName("대기 또는 활성 인원이 있는 콘서트만 조회한다")
+    void getActiveConcertIds_ExcludesEmptyConcerts() {
+        // given
+        adapter.addToWaitQueue("CONCERT-A", "USER-1");
+        adapter.addToActiveQueue("CONCERT-B", "USER-2", "token-2", Instant.now().plusSeconds(300));
+        adapter.addToWaitQueue("CONCERT-C", "USER-3");
+        adapter.removeFromWaitQueue("CONCERT-C", "USER-3");
+
+        // when
+        List<String> concertIds = adapter.getActiveConcertIds();
+
+        // then
+        assertThat(concertIds).containsExactlyInAnyOrder("CONCERT-A", "CONCERT-B");
+    }
+
+    @Test
+    @DisplayName("추첨 응모자는 오픈 이후 선착순 진입자보다 앞 순번으로 적재되고 추첨 후에는 응모를 받지 않는다")
+    void drawLottery_LoadsEntrantsAheadOfFifo() {
+        // given
+        adapter.addToLotteryPool(CONCERT_ID, "USER-1");
+        adapter.addToLotteryPool(CONCERT_ID, "USER-2");
+        adapter.addToLotteryPool(CONCERT_ID, "USER-3");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-FIFO");
+
+        // when
+        long loaded = adapter.drawLottery(CONCERT_ID, Instant.now(), 42L);
+
+        // then
+        assertThat(loaded).isEqualTo(3L);
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-FIFO")).isEqualTo(3L);
+        assertThat(adapter.isInLotteryPool(CONCERT_ID, "USER-1")).isFalse();
+        assertThat(adapter.addToLotteryPool(CONCERT_ID, "USER-4").accepted()).isFalse();
+        assertThat(adapter.drawLottery(CONCERT_ID, Instant.now(), 42L)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("하트비트가 끊긴 대기자만 제거하고 하트비트 기록이 없는 대기자는 유지한다")
+    void removeAbsentWaiters_RemovesOnlyStaleWaiters() {
+        // given
+        long now = Instant.now().getEpochSecond();
+        adapter.addToWaitQueue(CONCERT_ID, "USER-GHOST");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-ALIVE");
+        adapter.addToWaitQueue(CONCERT_ID, "USER-UNTRACKED");
+        adapter.recordPresence(CONCERT_ID, Map.of("USER-GHOST", now - 120, "USER-ALIVE", now));
+
+        // when
+        long removed = adapter.removeAbsentWaiters(CONCERT_ID, Instant.ofEpochSecond(now - 60), 100);
+
+        // then
+        assertThat(removed).isEqualTo(1L);
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-GHOST")).isNull();
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-ALIVE")).isZero();
+        assertThat(adapter.getWaitQueuePosition(CONCERT_ID, "USER-UNTRACKED")).isEqualTo(1L);
+    }
+}
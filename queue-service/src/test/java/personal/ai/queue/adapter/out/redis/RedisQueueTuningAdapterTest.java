@@ -0,0 +1,52 @@
+package personal.ai.queue.adapter.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import personal.ai.queue.domain.model.QueueTuning;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("RedisQueueTuningAdapter 단위 테스트")
+class RedisQueueTuningAdapterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HashOperations<String, Object, Object> hashOperations;
+    private RedisQueueTuningAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        adapter = new RedisQueueTuningAdapter(redisTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("전체 조회 시 손상된 항목은 건너뛰고 나머지 튜닝은 반환한다")
+    void findAll_SkipsCorruptedEntry() throws Exception {
+        // given
+        QueueTuning tuning = new QueueTuning(2000, null, null, 30, 100, 50);
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        entries.put("CONCERT-001", "{not-json");
+        entries.put("CONCERT-002", objectMapper.writeValueAsString(tuning));
+        given(hashOperations.entries(RedisKeyGenerator.tuningKey())).willReturn(entries);
+
+        // when
+        Map<String, QueueTuning> tunings = adapter.findAll();
+
+        // then
+        assertThat(tunings).containsOnlyKeys("CONCERT-002");
+        assertThat(tunings.get("CONCERT-002")).isEqualTo(tuning);
+    }
+}
@@ -0,0 +1,74 @@
+package personal.ai.queue.adapter.out.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RedisReplicaReadConfig 단위 테스트")
+class RedisReplicaReadConfigTest {
+
+    private final RedisReplicaReadProperties replicaReadProperties =
+            new RedisReplicaReadProperties(true, "replica", List.of("redis-replica:6380"));
+
+    @Test
+    @DisplayName("복제본 연결은 기본 연결의 database, username, password를 그대로 사용한다")
+    void replicaTopology_CarriesOverConnectionSettings() {
+        // given
+        RedisProperties redisProperties = redisProperties();
+
+        // when
+        RedisStaticMasterReplicaConfiguration topology =
+                RedisReplicaReadConfig.replicaTopology(redisProperties, replicaReadProperties);
+
+        // then
+        assertThat(topology.getNodes()).hasSize(2);
+        assertThat(topology.getDatabase()).isEqualTo(3);
+        assertThat(topology.getUsername()).isEqualTo("queue");
+        assertThat(topology.getPassword()).isEqualTo(RedisPassword.of("secret"));
+    }
+
+    @Test
+    @DisplayName("복제본 연결은 기본 연결의 SSL, 타임아웃, 클라이언트 이름을 그대로 사용한다")
+    void replicaClientConfiguration_CarriesOverClientSettings() {
+        // given
+        RedisProperties redisProperties = redisProperties();
+
+        // when
+        LettuceClientConfiguration clientConfig =
+                RedisReplicaReadConfig.replicaClientConfiguration(redisProperties, replicaReadProperties);
+
+        // then
+        assertThat(clientConfig.isUseSsl()).isTrue();
+        assertThat(clientConfig.getCommandTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(clientConfig.getClientOptions())
+                .map(ClientOptions::getSocketOptions)
+                .hasValueSatisfying(socketOptions ->
+                        assertThat(socketOptions.getConnectTimeout()).isEqualTo(Duration.ofMillis(500)));
+        assertThat(clientConfig.getClientName()).hasValue("queue-service");
+        assertThat(clientConfig.getReadFrom()).hasValue(ReadFrom.REPLICA);
+    }
+
+    private RedisProperties redisProperties() {
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setHost("redis-primary");
+        redisProperties.setPort(6379);
+        redisProperties.setDatabase(3);
+        redisProperties.setUsername("queue");
+        redisProperties.setPassword("secret");
+        redisProperties.getSsl().setEnabled(true);
+        redisProperties.setTimeout(Duration.ofSeconds(2));
+        redisProperties.setConnectTimeout(Duration.ofMillis(500));
+        redisProperties.setClientName("queue-service");
+        return redisProperties;
+    }
+}
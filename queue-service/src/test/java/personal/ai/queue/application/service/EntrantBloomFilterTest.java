@@ -0,0 +1,54 @@
+package personal.ai.queue.application.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EntrantBloomFilter 단위 테스트")
+class EntrantBloomFilterTest {
+
+    private static final int ENTRANTS = 100_000;
+
+    @Test
+    @DisplayName("이미 추가한 사용자는 항상 재진입으로 판별한다")
+    void put_NeverMissesDuplicates() {
+        // given
+        EntrantBloomFilter filter = new EntrantBloomFilter(ENTRANTS, 0.01);
+        for (int i = 0; i < ENTRANTS; i++) {
+            filter.put("USER-" + i);
+        }
+
+        // when
+        int missed = 0;
+        for (int i = 0; i < ENTRANTS; i++) {
+            if (filter.put("USER-" + i)) {
+                missed++;
+            }
+        }
+
+        // then
+        assertThat(missed).isZero();
+    }
+
+    @Test
+    @DisplayName("처음 보는 사용자를 재진입으로 오판하는 비율은 설정 오탐률 근처로 유지된다")
+    void put_FalsePositiveRateNearConfigured() {
+        // given
+        EntrantBloomFilter filter = new EntrantBloomFilter(ENTRANTS, 0.01);
+        for (int i = 0; i < ENTRANTS; i++) {
+            filter.put("USER-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = ENTRANTS; i < ENTRANTS * 2; i++) {
+            if (!filter.put("USER-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat((double) falsePositives / ENTRANTS).isLessThan(0.02);
+    }
+}
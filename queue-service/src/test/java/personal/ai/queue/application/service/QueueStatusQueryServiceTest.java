@@ -0,0 +1,72 @@
+package personal.ai.queue.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.port.in.GetQueueStatusUseCase.GetQueueStatusQuery;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.application.port.out.QueueStatusReader;
+import personal.ai.queue.domain.model.LotteryPolicy;
+import personal.ai.queue.domain.model.QueueEntryState;
+import personal.ai.queue.domain.model.QueueStatus;
+import personal.ai.queue.domain.model.QueueToken;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("QueueStatusQueryService 단위 테스트")
+class QueueStatusQueryServiceTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final String USER_ID = "USER-001";
+
+    private QueueStatusReader statusReader;
+    private QueueRepository queueRepository;
+    private QueueStatusQueryService queryService;
+
+    @BeforeEach
+    void setUp() {
+        statusReader = mock(QueueStatusReader.class);
+        queueRepository = mock(QueueRepository.class);
+        queryService = new QueueStatusQueryService(
+                statusReader, queueRepository, LotteryPolicy.disabled(), mock(PresenceTracker.class));
+    }
+
+    @Test
+    @DisplayName("복제본에서 찾은 대기자는 Primary를 조회하지 않는다")
+    void getStatus_ServedFromReplica() {
+        // given
+        given(statusReader.getActiveToken(CONCERT_ID, USER_ID)).willReturn(Optional.empty());
+        given(statusReader.getWaitQueuePosition(CONCERT_ID, USER_ID)).willReturn(9L);
+
+        // when
+        QueueToken status = queryService.getStatus(new GetQueueStatusQuery(CONCERT_ID, USER_ID));
+
+        // then
+        assertThat(status.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(status.position()).isEqualTo(10L);
+        verify(queueRepository, never()).findQueueEntry(CONCERT_ID, USER_ID);
+    }
+
+    @Test
+    @DisplayName("복제 지연으로 복제본에 없는 사용자는 Primary에서 다시 조회한다")
+    void getStatus_FallsBackToPrimaryWhenReplicaLags() {
+        // given
+        given(statusReader.readsFromReplica()).willReturn(true);
+        given(statusReader.getActiveToken(CONCERT_ID, USER_ID)).willReturn(Optional.empty());
+        given(queueRepository.findQueueEntry(CONCERT_ID, USER_ID))
+                .willReturn(new QueueEntryState(false, false, 0L, 1L));
+
+        // when
+        QueueToken status = queryService.getStatus(new GetQueueStatusQuery(CONCERT_ID, USER_ID));
+
+        // then
+        assertThat(status.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(status.position()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,81 @@
+package personal.ai.queue.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.application.port.out.QueueRepository;
+import personal.ai.queue.domain.model.QueueSummary;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("QueueSummaryService 단위 테스트")
+class QueueSummaryServiceTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+
+    private QueueRepository queueRepository;
+    private QueueSummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        queueRepository = mock(QueueRepository.class);
+        summaryService = new QueueSummaryService(queueRepository);
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 후 조회는 저장소를 다시 호출하지 않는다")
+    void getSummary_ServedFromSnapshot() {
+        // given
+        given(queueRepository.getWaitQueueSize(CONCERT_ID)).willReturn(1_500L);
+        given(queueRepository.getActiveQueueSize(CONCERT_ID)).willReturn(300L);
+        summaryService.refresh(List.of(CONCERT_ID), Map.of(CONCERT_ID, 100));
+
+        // when
+        QueueSummary first = summaryService.getSummary(CONCERT_ID);
+        QueueSummary second = summaryService.getSummary(CONCERT_ID);
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first.waitingCount()).isEqualTo(1_500L);
+        assertThat(first.activeCount()).isEqualTo(300L);
+        verify(queueRepository, times(1)).getWaitQueueSize(CONCERT_ID);
+        verify(queueRepository, times(1)).getActiveQueueSize(CONCERT_ID);
+    }
+
+    @Test
+    @DisplayName("누적 입장 번호는 틱마다 입장 인원만큼 증가한다")
+    void refresh_AccumulatesHeadTicket() {
+        // given
+        given(queueRepository.getWaitQueueSize(CONCERT_ID)).willReturn(1_000L);
+        given(queueRepository.getActiveQueueSize(CONCERT_ID)).willReturn(0L);
+
+        // when
+        summaryService.refresh(List.of(CONCERT_ID), Map.of(CONCERT_ID, 100));
+        summaryService.refresh(List.of(CONCERT_ID), Map.of(CONCERT_ID, 50));
+
+        // then
+        assertThat(summaryService.getSummary(CONCERT_ID).headTicket()).isEqualTo(150L);
+    }
+
+    @Test
+    @DisplayName("대기열이 없는 콘서트는 0으로 채운 요약을 반환한다")
+    void getSummary_UnknownConcertReturnsEmpty() {
+        // given
+        summaryService.refresh(List.of(), Map.of());
+
+        // when
+        QueueSummary summary = summaryService.getSummary("CONCERT-UNKNOWN");
+
+        // then
+        assertThat(summary.waitingCount()).isZero();
+        assertThat(summary.activeCount()).isZero();
+        assertThat(summary.estimatedWaitMinutes()).isZero();
+    }
+}
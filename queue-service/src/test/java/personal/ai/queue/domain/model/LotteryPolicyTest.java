@@ -0,0 +1,43 @@
+package personal.ai.queue.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LotteryPolicy 단위 테스트")
+class LotteryPolicyTest {
+
+    private static final String CONCERT_ID = "CONCERT-001";
+    private static final Instant OPEN_AT = Instant.parse("2026-11-01T11:00:00Z");
+
+    private final LotteryPolicy policy = new LotteryPolicy(Duration.ofMinutes(30), Map.of(CONCERT_ID, OPEN_AT));
+
+    @Test
+    @DisplayName("응모 구간 이전은 진입 불가, 응모 구간은 추첨, 오픈 이후는 선착순이다")
+    void phaseOf_SplitsByOpenTime() {
+        // when & then
+        assertThat(policy.phaseOf(CONCERT_ID, OPEN_AT.minus(Duration.ofMinutes(31))))
+                .isEqualTo(LotteryPolicy.Phase.NOT_OPEN);
+        assertThat(policy.phaseOf(CONCERT_ID, OPEN_AT.minus(Duration.ofMinutes(30))))
+                .isEqualTo(LotteryPolicy.Phase.COLLECTING);
+        assertThat(policy.phaseOf(CONCERT_ID, OPEN_AT.minusMillis(1)))
+                .isEqualTo(LotteryPolicy.Phase.COLLECTING);
+        assertThat(policy.phaseOf(CONCERT_ID, OPEN_AT))
+                .isEqualTo(LotteryPolicy.Phase.FIFO);
+    }
+
+    @Test
+    @DisplayName("추첨 대상이 아닌 콘서트는 항상 선착순이며 추첨 목록에 포함되지 않는다")
+    void phaseOf_NonLotteryConcertIsFifo() {
+        // when & then
+        assertThat(policy.phaseOf("CONCERT-OTHER", OPEN_AT.minus(Duration.ofDays(1))))
+                .isEqualTo(LotteryPolicy.Phase.FIFO);
+        assertThat(policy.dueForDraw(OPEN_AT.minusSeconds(1))).isEmpty();
+        assertThat(policy.dueForDraw(OPEN_AT)).containsExactly(CONCERT_ID);
+    }
+}
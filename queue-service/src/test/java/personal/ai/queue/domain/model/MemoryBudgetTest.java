@@ -0,0 +1,54 @@
+package personal.ai.queue.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MemoryBudget 단위 테스트")
+class MemoryBudgetTest {
+
+    private static final long MAX_MEMORY = 1000;
+
+    private final MemoryBudget budget = new MemoryBudget(0, 0.75, 0.85, 0.92, 0.5, 30);
+
+    @Test
+    @DisplayName("사용률이 임계치를 넘을 때마다 압박 단계가 올라가고 이전 단계 조치를 유지한다")
+    void pressureOf_EscalatesByRatio() {
+        // when & then
+        assertThat(budget.pressureOf(usage(740))).isEqualTo(MemoryPressure.NORMAL);
+        assertThat(budget.pressureOf(usage(750))).isEqualTo(MemoryPressure.SHED_RATE_LIMIT);
+        assertThat(budget.pressureOf(usage(850))).isEqualTo(MemoryPressure.THROTTLE_ADMISSION);
+        assertThat(budget.pressureOf(usage(920))).isEqualTo(MemoryPressure.REJECT_ENTRY);
+
+        assertThat(MemoryPressure.REJECT_ENTRY.shedsRateLimit()).isTrue();
+        assertThat(MemoryPressure.REJECT_ENTRY.throttlesAdmission()).isTrue();
+        assertThat(budget.admissionFactorOf(MemoryPressure.SHED_RATE_LIMIT)).isEqualTo(1.0);
+        assertThat(budget.admissionFactorOf(MemoryPressure.THROTTLE_ADMISSION)).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("예산을 알 수 없거나 비활성화된 경우 항상 NORMAL이다")
+    void pressureOf_UnknownBudgetIsNormal() {
+        // when & then
+        assertThat(budget.pressureOf(QueueMemoryUsage.unknown())).isEqualTo(MemoryPressure.NORMAL);
+        assertThat(budget.pressureOf(new QueueMemoryUsage(5000, 0, Map.of()))).isEqualTo(MemoryPressure.NORMAL);
+        assertThat(MemoryBudget.disabled().isEnabled()).isFalse();
+        assertThat(MemoryBudget.disabled().pressureOf(usage(MAX_MEMORY))).isEqualTo(MemoryPressure.NORMAL);
+    }
+
+    @Test
+    @DisplayName("임계치 순서가 뒤바뀐 정책은 생성할 수 없다")
+    void constructor_RejectsUnorderedRatios() {
+        // when & then
+        assertThatThrownBy(() -> new MemoryBudget(0, 0.9, 0.8, 0.95, 0.5, 30))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private QueueMemoryUsage usage(long usedBytes) {
+        return new QueueMemoryUsage(usedBytes, MAX_MEMORY, Map.of());
+    }
+}
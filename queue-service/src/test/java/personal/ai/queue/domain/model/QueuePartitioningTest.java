@@ -0,0 +1,63 @@
+package personal.ai.queue.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.domain.exception.InvalidQueueScopeException;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueuePartitioning 단위 테스트")
+class QueuePartitioningTest {
+
+    private final QueuePartitioning partitioning = new QueuePartitioning(false, Set.of("hot-concert"));
+
+    @Test
+    @DisplayName("분리 대상 콘서트는 일정 단위 대기열 ID를 사용하고 나머지는 일정 ID를 무시한다")
+    void queueIdOf_ScopesOnlyPartitionedConcerts() {
+        // when & then
+        assertThat(partitioning.queueIdOf("hot-concert", "10")).isEqualTo("hot-concert@10");
+        assertThat(partitioning.queueIdOf("normal-concert", "10")).isEqualTo("normal-concert");
+        assertThat(partitioning.queueIdOf("normal-concert", null)).isEqualTo("normal-concert");
+        assertThat(QueuePartitioning.concertIdOf("hot-concert@10")).isEqualTo("hot-concert");
+        assertThat(QueuePartitioning.partitionOf("hot-concert@10")).isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("분리 대상 콘서트에 일정 ID가 없거나 범위가 다르면 예외가 발생한다")
+    void queueIdOf_RejectsMissingOrMismatchedSchedule() {
+        // when & then
+        assertThatThrownBy(() -> partitioning.queueIdOf("hot-concert", null))
+                .isInstanceOf(InvalidQueueScopeException.class);
+        assertThatThrownBy(() -> partitioning.queueIdOf("hot-concert@10", "11"))
+                .isInstanceOf(InvalidQueueScopeException.class);
+        assertThat(partitioning.queueIdOf("hot-concert@10", "10")).isEqualTo("hot-concert@10");
+    }
+
+    @Test
+    @DisplayName("분리 대상이 아닌 콘서트의 일정 단위 대기열 ID는 거부한다")
+    void queueIdOf_RejectsScopedIdOfUnpartitionedConcert() {
+        // when & then
+        assertThatThrownBy(() -> partitioning.queueIdOf("normal-concert@999", null))
+                .isInstanceOf(InvalidQueueScopeException.class);
+        assertThatThrownBy(() -> partitioning.queueIdOf("hot-concert@", null))
+                .isInstanceOf(InvalidQueueScopeException.class);
+        assertThatThrownBy(() -> partitioning.queueIdOf("hot-concert@10@11", null))
+                .isInstanceOf(InvalidQueueScopeException.class);
+    }
+
+    @Test
+    @DisplayName("일정 단위 대기열은 별도 가중치가 없으면 콘서트 가중치를 상속한다")
+    void weightOf_FallsBackToConcertWeight() {
+        // given
+        AdmissionPolicy policy = new AdmissionPolicy(100, 1, Map.of("hot-concert", 3, "hot-concert@11", 5));
+
+        // when & then
+        assertThat(policy.weightOf("hot-concert@10")).isEqualTo(3);
+        assertThat(policy.weightOf("hot-concert@11")).isEqualTo(5);
+        assertThat(policy.weightOf("other@1")).isEqualTo(1);
+    }
+}
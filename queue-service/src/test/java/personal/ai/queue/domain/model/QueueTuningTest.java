@@ -0,0 +1,54 @@
+package personal.ai.queue.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("QueueTuning 단위 테스트")
+class QueueTuningTest {
+
+    private final QueueConfig base = QueueConfig.of(50000, 300, 5, 60);
+
+    @Test
+    @DisplayName("지정한 값만 전역 설정을 덮어쓰고 나머지는 전역 설정을 따른다")
+    void applyTo_OverridesOnlySpecifiedValues() {
+        // given
+        QueueTuning tuning = new QueueTuning(2000, null, null, 30, 100, 50);
+
+        // when
+        QueueConfig config = tuning.applyTo(base);
+
+        // then
+        assertThat(config.activeMaxSize()).isEqualTo(2000);
+        assertThat(config.tokenTtlSeconds()).isEqualTo(base.tokenTtlSeconds());
+        assertThat(config.activatedTtlSeconds()).isEqualTo(base.activatedTtlSeconds());
+        assertThat(config.readyTtlSeconds()).isEqualTo(30);
+        assertThat(tuning.admissionLimitPerTick()).isEqualTo(100);
+        assertThat(tuning.pollingFastThresholdOr(1000)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("튜닝 값이 없으면 전역 설정과 같고 입장 속도 제한이 없다")
+    void none_KeepsGlobalConfig() {
+        // when
+        QueueTuning tuning = QueueTuning.none();
+
+        // then
+        assertThat(tuning.isEmpty()).isTrue();
+        assertThat(tuning.applyTo(base)).isEqualTo(base);
+        assertThat(tuning.admissionLimitPerTick()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(tuning.pollingFastThresholdOr(1000)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 튜닝 값은 거부한다")
+    void applyTo_RejectsInvalidValues() {
+        // when & then
+        assertThatThrownBy(() -> new QueueTuning(null, null, null, null, -1, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QueueTuning(0, null, null, null, null, null).applyTo(base))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package personal.ai.queue.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.domain.model.OverAdmissionPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("NoShowRateEstimator 단위 테스트")
+class NoShowRateEstimatorTest {
+
+    private static final String CONCERT_ID = "concert-a";
+
+    private NoShowRateEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        // smoothing 1.0: 직전 틱만 반영 (결과를 결정적으로 검증하기 위함)
+        estimator = new NoShowRateEstimator(new OverAdmissionPolicy(0.5, 1.0, 100));
+    }
+
+    @Test
+    @DisplayName("관측된 노쇼율만큼 초과 입장 배율을 계산한다")
+    void overAdmissionFactor_FollowsNoShowRate() {
+        // given
+        estimator.recordAdmissions(CONCERT_ID, 1000);
+        estimator.recordNoShows(CONCERT_ID, 200);
+
+        // when
+        estimator.recordAdmissions(CONCERT_ID, 1000);
+
+        // then
+        assertThat(estimator.noShowRate(CONCERT_ID)).isCloseTo(0.2, within(1e-9));
+        assertThat(estimator.overAdmissionFactor(CONCERT_ID)).isCloseTo(1.25, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("초과 입장 배율은 1 + maxRatio를 넘지 않는다")
+    void overAdmissionFactor_CappedByMaxRatio() {
+        // given
+        estimator.recordAdmissions(CONCERT_ID, 1000);
+        estimator.recordNoShows(CONCERT_ID, 900);
+
+        // when
+        estimator.recordAdmissions(CONCERT_ID, 1000);
+
+        // then
+        assertThat(estimator.overAdmissionFactor(CONCERT_ID)).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("입장 표본이 부족하면 초과 입장하지 않는다")
+    void overAdmissionFactor_NoOverAdmissionBelowMinSamples() {
+        // given
+        estimator.recordAdmissions(CONCERT_ID, 50);
+        estimator.recordNoShows(CONCERT_ID, 25);
+
+        // when
+        estimator.recordAdmissions(CONCERT_ID, 50);
+
+        // then
+        assertThat(estimator.overAdmissionFactor(CONCERT_ID)).isEqualTo(1.0);
+    }
+}
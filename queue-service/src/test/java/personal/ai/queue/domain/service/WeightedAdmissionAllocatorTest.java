@@ -0,0 +1,92 @@
+package personal.ai.queue.domain.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.domain.model.AdmissionDemand;
+import personal.ai.queue.domain.model.AdmissionPolicy;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WeightedAdmissionAllocator 단위 테스트")
+class WeightedAdmissionAllocatorTest {
+
+    private WeightedAdmissionAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new WeightedAdmissionAllocator(
+                new AdmissionPolicy(1000, 1, Map.of("concert-a", 3)));
+    }
+
+    @Test
+    @DisplayName("가중치 비율대로 예산을 배분한다")
+    void allocate_ProportionalToWeight() {
+        // given
+        List<AdmissionDemand> demands = List.of(
+                new AdmissionDemand("concert-a", 3, 10_000),
+                new AdmissionDemand("concert-b", 1, 10_000));
+
+        // when
+        Map<String, Integer> grants = allocator.allocate(demands, 1000);
+
+        // then
+        assertThat(grants).containsEntry("concert-a", 750).containsEntry("concert-b", 250);
+    }
+
+    @Test
+    @DisplayName("수요가 적은 콘서트의 남는 몫은 다른 콘서트에 재배분한다")
+    void allocate_RedistributesUnusedShare() {
+        // given
+        List<AdmissionDemand> demands = List.of(
+                new AdmissionDemand("concert-a", 3, 100),
+                new AdmissionDemand("concert-b", 1, 10_000));
+
+        // when
+        Map<String, Integer> grants = allocator.allocate(demands, 1000);
+
+        // then
+        assertThat(grants).containsEntry("concert-a", 100).containsEntry("concert-b", 900);
+    }
+
+    @Test
+    @DisplayName("전체 배분량은 남은 예산을 넘지 않는다")
+    void allocate_NeverExceedsBudget() {
+        // given
+        List<AdmissionDemand> demands = List.of(
+                new AdmissionDemand("concert-a", 1, 10),
+                new AdmissionDemand("concert-b", 1, 10),
+                new AdmissionDemand("concert-c", 1, 10));
+
+        // when
+        Map<String, Integer> first = allocator.allocate(demands, 5);
+        Map<String, Integer> second = allocator.allocate(demands, 5);
+
+        // then
+        assertThat(first.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        assertThat(second.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        // 두 틱에 걸쳐 모든 콘서트가 입장 기회를 얻는다
+        assertThat(first.keySet()).allSatisfy(concertId ->
+                assertThat(first.get(concertId) + second.get(concertId)).isPositive());
+    }
+
+    @Test
+    @DisplayName("예산이 없거나 수요가 없으면 배분하지 않는다")
+    void allocate_NoBudgetOrDemand() {
+        // given
+        List<AdmissionDemand> demands = List.of(
+                new AdmissionDemand("concert-a", 3, 0),
+                new AdmissionDemand("concert-b", 1, 100));
+
+        // when
+        Map<String, Integer> noBudget = allocator.allocate(demands, 0);
+        Map<String, Integer> withBudget = allocator.allocate(demands, 10);
+
+        // then
+        assertThat(noBudget.values()).containsOnly(0);
+        assertThat(withBudget).containsEntry("concert-a", 0).containsEntry("concert-b", 10);
+    }
+}
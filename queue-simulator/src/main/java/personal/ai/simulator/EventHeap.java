@@ -0,0 +1,81 @@
+package personal.ai.simulator;
+
+import java.util.Arrays;
+
+/**
+ * long 키 최소 힙 (이벤트 큐)
+ * 이벤트를 객체 대신 long 하나로 인코딩하여 시나리오 수천 개를 돌려도 GC 부담이 없도록 함
+ *
+ * 키 구성: [시각(ms) 37bit][이벤트 종류 3bit][사용자 번호 24bit]
+ * 같은 시각이면 이벤트 종류 번호가 작은 것부터 처리됨
+ */
+final class EventHeap {
+
+    private static final int USER_BITS = 24;
+    private static final int TYPE_BITS = 3;
+    private static final long USER_MASK = (1L << USER_BITS) - 1;
+    private static final long TYPE_MASK = (1L << TYPE_BITS) - 1;
+
+    private long[] keys = new long[1024];
+    private int size = 0;
+
+    static long encode(long timeMillis, int type, int user) {
+        return (timeMillis << (USER_BITS + TYPE_BITS)) | ((long) type << USER_BITS) | user;
+    }
+
+    static long timeOf(long key) {
+        return key >>> (USER_BITS + TYPE_BITS);
+    }
+
+    static int typeOf(long key) {
+        return (int) ((key >>> USER_BITS) & TYPE_MASK);
+    }
+
+    static int userOf(long key) {
+        return (int) (key & USER_MASK);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long peek() {
+        return keys[0];
+    }
+
+    void push(long key) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            index = parent;
+        }
+        keys[index] = key;
+    }
+
+    long poll() {
+        long top = keys[0];
+        long last = keys[--size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (last <= keys[child]) {
+                break;
+            }
+            keys[index] = keys[child];
+            index = child;
+        }
+        keys[index] = last;
+        return top;
+    }
+}
@@ -0,0 +1,30 @@
+package personal.ai.simulator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 로그정규 분포 (사용자 행동 소요 시간 모델)
+ * 중앙값과 형태 모수(sigma)로 지정하며, sigma가 클수록 오래 걸리는 사용자 꼬리가 길어짐
+ *
+ * @param medianSeconds 중앙값 (초)
+ * @param sigma         log 스케일 표준편차 (0이면 항상 중앙값)
+ */
+public record LogNormal(double medianSeconds, double sigma) {
+
+    public LogNormal {
+        if (medianSeconds <= 0) {
+            throw new IllegalArgumentException("medianSeconds must be positive: " + medianSeconds);
+        }
+        if (sigma < 0) {
+            throw new IllegalArgumentException("sigma must be non-negative: " + sigma);
+        }
+    }
+
+    /**
+     * 표본 추출 (밀리초)
+     */
+    public long sampleMillis(RandomGenerator random) {
+        double seconds = medianSeconds * Math.exp(sigma * random.nextGaussian());
+        return Math.max(1L, Math.round(seconds * 1000));
+    }
+}
@@ -0,0 +1,319 @@
+package personal.ai.simulator;
+
+import personal.ai.queue.domain.model.QueueConfig;
+import personal.ai.queue.domain.model.QueueToken;
+import personal.ai.queue.domain.service.QueueDomainService;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * 대기열 이산 사건 시뮬레이터
+ *
+ * 실제 스케줄러와 같은 규칙으로 가상 시간을 진행:
+ * - Wait -> Active 전환: activationIntervalSeconds마다 QueueDomainService.calculateBatchSize 만큼 FIFO 입장
+ * - 만료 토큰은 cleanupIntervalSeconds마다 정리되기 전까지 Active 인원에 포함 (ZCARD와 동일)
+ * - 결제 완료 토큰은 removalLag 후 즉시 제거 (결제 완료 이벤트 소비)
+ * - ACTIVE 토큰은 QueueToken.canExtend() 가 허용하는 만큼 연장하며 쇼핑을 이어감
+ *
+ * 한 번의 실행은 단일 스레드에서 동작하며 상태를 공유하지 않으므로 시나리오 단위로 병렬 실행 가능
+ */
+public class QueueSimulator {
+
+    // 이벤트 종류 (같은 시각이면 번호가 작은 것부터 처리)
+    private static final int ACTIVATION_TICK = 0;
+    private static final int CLEANUP_TICK = 1;
+    private static final int SAMPLE_TICK = 2;
+    private static final int READY_EXPIRE = 3;
+    private static final int ACTIVE_EXPIRE = 4;
+    private static final int RESERVE = 5;
+    private static final int PAY = 6;
+    private static final int RELEASE = 7;
+
+    private static final long SAMPLE_INTERVAL_MILLIS = 1000L;
+
+    public SimulationResult run(SimulationScenario scenario, long seed) {
+        return new Run(scenario, seed).execute();
+    }
+
+    /**
+     * 연장 가능 횟수 (도메인 규칙 QueueToken.canExtend 기준)
+     */
+    static int maxExtensions(QueueConfig config) {
+        int extensions = 0;
+        while (extensions < config.maxExtensionCount()
+                && QueueToken.active("SIM", "SIM", "SIM", Instant.EPOCH, extensions).canExtend()) {
+            extensions++;
+        }
+        return extensions;
+    }
+
+    /**
+     * 시나리오 1회 실행 상태
+     */
+    private static final class Run {
+
+        private final SimulationScenario scenario;
+        private final SimulationScenario.Arrival arrival;
+        private final SimulationScenario.Behavior behavior;
+        private final QueueDomainService domainService;
+        private final SplittableRandom random;
+
+        private final long readyTtlMillis;
+        private final long activeTtlMillis;
+        private final long activeLifetimeMillis;
+        private final long activationIntervalMillis;
+        private final long cleanupIntervalMillis;
+        private final long horizonMillis;
+
+        private final EventHeap events = new EventHeap();
+        private final long[] activatedAt;
+        private final long[] waitHistogram;   // 대기 시간(초) 분포
+        private final int[] coreRequests;     // 초 단위 Core 요청 수
+        private final int[] salesPerMinute;
+
+        private int arrived = 0;
+        private int admitHead = 0;             // 다음 입장할 사용자 번호 (FIFO)
+        private long activeCount = 0;          // Active Queue 크기 (정리 전 만료 토큰 포함)
+        private long expiredAwaitingCleanup = 0;
+        private int pendingUsers = 0;          // 아직 종료 이벤트가 남은 입장 사용자
+
+        private int seatsSold = 0;
+        private long soldOutMillis = -1;
+        private long firstSaleMillis = -1;
+        private long lastSaleMillis = -1;
+        private int readyExpired = 0;
+        private int activeExpired = 0;
+        private double peakQueuePollRps = 0;
+        private long firstCoreSecond = -1;
+        private long lastCoreSecond = -1;
+        private long totalCoreRequests = 0;
+        private long nowMillis = 0;
+
+        Run(SimulationScenario scenario, long seed) {
+            this.scenario = scenario;
+            this.arrival = scenario.arrival();
+            this.behavior = scenario.behavior();
+            this.domainService = new QueueDomainService(scenario.queueConfig());
+            this.random = new SplittableRandom(seed);
+
+            QueueConfig config = scenario.queueConfig();
+            this.readyTtlMillis = config.readyTtlSeconds() * 1000L;
+            this.activeTtlMillis = config.activatedTtlSeconds() * 1000L;
+            this.activeLifetimeMillis = activeTtlMillis * (1 + maxExtensions(config));
+            this.activationIntervalMillis = config.activationIntervalSeconds() * 1000L;
+            this.cleanupIntervalMillis = scenario.cleanupIntervalSeconds() * 1000L;
+            this.horizonMillis = scenario.horizonSeconds() * 1000L;
+
+            this.activatedAt = new long[arrival.totalUsers()];
+            this.waitHistogram = new long[scenario.horizonSeconds() + 1];
+            this.coreRequests = new int[scenario.horizonSeconds() + 1];
+            this.salesPerMinute = new int[scenario.horizonSeconds() / 60 + 1];
+        }
+
+        SimulationResult execute() {
+            int totalUsers = arrival.totalUsers();
+            events.push(EventHeap.encode(0, ACTIVATION_TICK, 0));
+            events.push(EventHeap.encode(cleanupIntervalMillis, CLEANUP_TICK, 0));
+            events.push(EventHeap.encode(0, SAMPLE_TICK, 0));
+
+            while (!events.isEmpty()) {
+                long nextArrival = arrived < totalUsers ? arrival.arrivalMillis(arrived) : Long.MAX_VALUE;
+                long next = events.peek();
+                long nextEventMillis = EventHeap.timeOf(next);
+
+                // 도착은 이벤트 큐에 넣지 않고 도착 모델에서 순서대로 꺼냄
+                if (nextArrival <= nextEventMillis && nextArrival <= horizonMillis) {
+                    nowMillis = nextArrival;
+                    arrived++;
+                    continue;
+                }
+                if (nextEventMillis > horizonMillis) {
+                    nowMillis = horizonMillis;
+                    break;
+                }
+
+                events.poll();
+                nowMillis = nextEventMillis;
+                handle(EventHeap.typeOf(next), EventHeap.userOf(next));
+
+                if (arrived == totalUsers && admitHead == totalUsers && pendingUsers == 0 && activeCount == 0) {
+                    break;
+                }
+            }
+            return toResult();
+        }
+
+        private void handle(int type, int user) {
+            switch (type) {
+                case ACTIVATION_TICK -> {
+                    admitWaiting();
+                    events.push(EventHeap.encode(nowMillis + activationIntervalMillis, ACTIVATION_TICK, 0));
+                }
+                case CLEANUP_TICK -> {
+                    activeCount -= expiredAwaitingCleanup;
+                    expiredAwaitingCleanup = 0;
+                    events.push(EventHeap.encode(nowMillis + cleanupIntervalMillis, CLEANUP_TICK, 0));
+                }
+                case SAMPLE_TICK -> {
+                    peakQueuePollRps = Math.max(peakQueuePollRps,
+                            scenario.polling().requestsPerSecond(arrived - admitHead));
+                    events.push(EventHeap.encode(nowMillis + SAMPLE_INTERVAL_MILLIS, SAMPLE_TICK, 0));
+                }
+                case READY_EXPIRE -> {
+                    readyExpired++;
+                    expire();
+                }
+                case ACTIVE_EXPIRE -> {
+                    activeExpired++;
+                    expire();
+                }
+                case RESERVE -> reserve(user);
+                case PAY -> {
+                    recordCoreRequests(1);
+                    events.push(EventHeap.encode(nowMillis + behavior.removalLagMillis(), RELEASE, user));
+                }
+                case RELEASE -> {
+                    activeCount--;
+                    pendingUsers--;
+                }
+                default -> throw new IllegalStateException("Unknown event type: " + type);
+            }
+        }
+
+        /**
+         * Wait -> Active 전환 (QueueSchedulerService.moveWaitingToActive와 동일한 배치 크기 규칙)
+         */
+        private void admitWaiting() {
+            int batchSize = domainService.calculateBatchSize(activeCount);
+            int count = Math.min(batchSize, arrived - admitHead);
+
+            for (int i = 0; i < count; i++) {
+                admit(admitHead++);
+            }
+        }
+
+        private void admit(int user) {
+            long waitSeconds = (nowMillis - arrival.arrivalMillis(user)) / 1000;
+            waitHistogram[(int) Math.min(waitSeconds, waitHistogram.length - 1)]++;
+            activeCount++;
+            pendingUsers++;
+
+            // READY No-show 또는 READY TTL 안에 활성화하지 못함
+            long activationDelay = behavior.activationDelay().sampleMillis(random);
+            if (random.nextDouble() < behavior.noShowRate() || activationDelay >= readyTtlMillis) {
+                events.push(EventHeap.encode(nowMillis + readyTtlMillis, READY_EXPIRE, user));
+                return;
+            }
+
+            long activated = nowMillis + activationDelay;
+            activatedAt[user] = activated;
+
+            // 활성화 후 이탈: 연장 없이 ACTIVE TTL 만료
+            if (random.nextDouble() < behavior.abandonRate()) {
+                events.push(EventHeap.encode(activated + activeTtlMillis, ACTIVE_EXPIRE, user));
+                return;
+            }
+
+            // 연장 한도까지 써도 예약하지 못하면 만료
+            long shoppingTime = behavior.shoppingTime().sampleMillis(random);
+            if (shoppingTime >= activeLifetimeMillis) {
+                events.push(EventHeap.encode(activated + activeLifetimeMillis, ACTIVE_EXPIRE, user));
+                return;
+            }
+            events.push(EventHeap.encode(activated + shoppingTime, RESERVE, user));
+        }
+
+        private void reserve(int user) {
+            recordCoreRequests(behavior.seatListRequests());
+
+            if (seatsSold >= scenario.seats()) {
+                // 매진: 좌석 목록만 보고 이탈, 토큰은 현재 만료 주기 끝까지 남음
+                long elapsed = nowMillis - activatedAt[user];
+                long expiresAt = activatedAt[user] + activeTtlMillis * (elapsed / activeTtlMillis + 1);
+                events.push(EventHeap.encode(expiresAt, ACTIVE_EXPIRE, user));
+                return;
+            }
+
+            recordCoreRequests(1);
+            seatsSold++;
+            salesPerMinute[(int) (nowMillis / 60_000)]++;
+            if (firstSaleMillis < 0) {
+                firstSaleMillis = nowMillis;
+            }
+            lastSaleMillis = nowMillis;
+            if (seatsSold == scenario.seats()) {
+                soldOutMillis = nowMillis;
+            }
+            events.push(EventHeap.encode(nowMillis + behavior.paymentTime().sampleMillis(random), PAY, user));
+        }
+
+        private void expire() {
+            expiredAwaitingCleanup++;
+            pendingUsers--;
+        }
+
+        private void recordCoreRequests(int count) {
+            if (count <= 0) {
+                return;
+            }
+            long second = Math.min(nowMillis / 1000, coreRequests.length - 1);
+            coreRequests[(int) second] += count;
+            totalCoreRequests += count;
+            if (firstCoreSecond < 0) {
+                firstCoreSecond = second;
+            }
+            lastCoreSecond = second;
+        }
+
+        private SimulationResult toResult() {
+            int peakSeatsPerMinute = 0;
+            for (int sales : salesPerMinute) {
+                peakSeatsPerMinute = Math.max(peakSeatsPerMinute, sales);
+            }
+            int peakCoreRps = 0;
+            for (int requests : coreRequests) {
+                peakCoreRps = Math.max(peakCoreRps, requests);
+            }
+
+            double sellingMinutes = firstSaleMillis < 0
+                    ? 0 : Math.max(1.0, (lastSaleMillis - firstSaleMillis) / 60_000.0);
+            double avgSeatsPerMinute = sellingMinutes == 0 ? 0 : seatsSold / sellingMinutes;
+            double avgCoreRps = firstCoreSecond < 0
+                    ? 0 : (double) totalCoreRequests / (lastCoreSecond - firstCoreSecond + 1);
+
+            return new SimulationResult(
+                    scenario.name(),
+                    seatsSold,
+                    soldOutMillis < 0 ? -1 : soldOutMillis / 1000,
+                    avgSeatsPerMinute,
+                    peakSeatsPerMinute,
+                    avgCoreRps,
+                    peakCoreRps,
+                    peakQueuePollRps,
+                    waitPercentile(0.50),
+                    waitPercentile(0.90),
+                    waitPercentile(0.99),
+                    admitHead,
+                    readyExpired,
+                    activeExpired,
+                    arrival.totalUsers() - admitHead,
+                    nowMillis / 1000);
+        }
+
+        private long waitPercentile(double percentile) {
+            if (admitHead == 0) {
+                return -1;
+            }
+            long target = (long) Math.ceil(admitHead * percentile);
+            long cumulative = 0;
+            for (int second = 0; second < waitHistogram.length; second++) {
+                cumulative += waitHistogram[second];
+                if (cumulative >= target) {
+                    return second;
+                }
+            }
+            return waitHistogram.length - 1;
+        }
+    }
+}
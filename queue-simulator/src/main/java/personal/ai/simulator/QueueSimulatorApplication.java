@@ -0,0 +1,128 @@
+package personal.ai.simulator;
+
+import personal.ai.queue.domain.model.QueueConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기열 용량 what-if 시뮬레이션 실행기
+ *
+ * 쉼표로 여러 값을 지정한 설정은 모든 조합(데카르트 곱)을 시나리오로 만들어 병렬 실행하고 CSV로 출력
+ *
+ * 대기열 설정 (기본값 = application.yml):
+ *   --active-max-size=50000  --token-ttl=300  --activated-ttl=600  --max-extension=2
+ *   --activation-interval=5  --cleanup-interval=1  --ready-deadline=0
+ *   --fast-interval-ms=3000  --slow-interval-ms=10000  --fast-threshold=1000
+ * 트래픽/행동 모델:
+ *   --users=100000  --seats=5000  --window=10  --shape=uniform|ramp  --horizon=7200
+ *   --no-show=0.1  --activation-median=20  --shopping-median=90  --payment-median=30  --sigma=0.6
+ *   --abandon=0.2  --seat-list-requests=3  --removal-lag-ms=1000  --seed=42
+ */
+public class QueueSimulatorApplication {
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        List<SimulationScenario> scenarios = buildScenarios(options);
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        long start = System.nanoTime();
+        QueueSimulator simulator = new QueueSimulator();
+        List<SimulationResult> results = scenarios.parallelStream()
+                .map(scenario -> simulator.run(scenario, seed))
+                .toList();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(SimulationResult.CSV_HEADER);
+        results.forEach(result -> System.out.println(result.toCsv()));
+        System.err.printf("%d scenarios simulated in %d ms%n", scenarios.size(), elapsedMillis);
+    }
+
+    static List<SimulationScenario> buildScenarios(Map<String, String> options) {
+        int users = intOption(options, "users", 100_000);
+        int seats = intOption(options, "seats", 5_000);
+        int horizon = intOption(options, "horizon", 7_200);
+        SimulationScenario.Arrival arrival = new SimulationScenario.Arrival(
+                users,
+                intOption(options, "window", 10),
+                SimulationScenario.Arrival.Shape.valueOf(options.getOrDefault("shape", "uniform").toUpperCase()));
+
+        double sigma = doubleOption(options, "sigma", 0.6);
+        int cleanupInterval = intOption(options, "cleanup-interval", 1);
+        int maxExtension = intOption(options, "max-extension", 2);
+        int readyDeadline = intOption(options, "ready-deadline", 0);
+        long fastIntervalMs = intOption(options, "fast-interval-ms", 3_000);
+        long slowIntervalMs = intOption(options, "slow-interval-ms", 10_000);
+
+        List<SimulationScenario> scenarios = new ArrayList<>();
+        for (int activeMaxSize : intList(options, "active-max-size", "50000")) {
+            for (int tokenTtl : intList(options, "token-ttl", "300")) {
+                for (int activatedTtl : intList(options, "activated-ttl", "600")) {
+                    for (int activationInterval : intList(options, "activation-interval", "5")) {
+                        for (int fastThreshold : intList(options, "fast-threshold", "1000")) {
+                            for (double noShow : doubleList(options, "no-show", "0.1")) {
+                                String name = String.format("max=%d/ttl=%d/activeTtl=%d/interval=%d/fast=%d/noShow=%.2f",
+                                        activeMaxSize, tokenTtl, activatedTtl, activationInterval, fastThreshold, noShow);
+                                scenarios.add(new SimulationScenario(
+                                        name,
+                                        new QueueConfig(activeMaxSize, tokenTtl, activatedTtl, maxExtension, activationInterval,
+                                                readyDeadline),
+                                        cleanupInterval,
+                                        new SimulationScenario.Polling(fastIntervalMs, slowIntervalMs, fastThreshold),
+                                        arrival,
+                                        new SimulationScenario.Behavior(
+                                                noShow,
+                                                new LogNormal(doubleOption(options, "activation-median", 20), sigma),
+                                                new LogNormal(doubleOption(options, "shopping-median", 90), sigma),
+                                                new LogNormal(doubleOption(options, "payment-median", 30), sigma),
+                                                doubleOption(options, "abandon", 0.2),
+                                                intOption(options, "seat-list-requests", 3),
+                                                intOption(options, "removal-lag-ms", 1_000)),
+                                        seats,
+                                        horizon));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid argument (expected --key=value): " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static double doubleOption(Map<String, String> options, String key, double defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static int[] intList(Map<String, String> options, String key, String defaultValue) {
+        return Arrays.stream(options.getOrDefault(key, defaultValue).split(","))
+                .mapToInt(value -> Integer.parseInt(value.trim()))
+                .toArray();
+    }
+
+    private static double[] doubleList(Map<String, String> options, String key, String defaultValue) {
+        return Arrays.stream(options.getOrDefault(key, defaultValue).split(","))
+                .mapToDouble(value -> Double.parseDouble(value.trim()))
+                .toArray();
+    }
+}
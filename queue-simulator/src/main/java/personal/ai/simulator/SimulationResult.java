@@ -0,0 +1,55 @@
+package personal.ai.simulator;
+
+/**
+ * 시뮬레이션 결과
+ *
+ * @param scenario               시나리오 이름
+ * @param seatsSold              판매 좌석 수
+ * @param soldOutSeconds         매진 시각 (초, 매진되지 않으면 -1)
+ * @param avgSeatsPerMinute      첫 판매 ~ 마지막 판매 구간의 평균 분당 판매량
+ * @param peakSeatsPerMinute     최대 분당 판매량
+ * @param avgCoreRps             평균 Core Service 요청률 (요청이 발생한 구간 기준)
+ * @param peakCoreRps            최대 초당 Core Service 요청 수
+ * @param peakQueuePollRps       최대 초당 대기열 상태 조회 요청 수
+ * @param waitP50Seconds         입장 대기 시간 p50 (도착 ~ READY)
+ * @param waitP90Seconds         입장 대기 시간 p90
+ * @param waitP99Seconds         입장 대기 시간 p99
+ * @param admitted               READY 전환 인원
+ * @param readyExpired           READY 상태에서 만료된 인원 (No-show 포함)
+ * @param activeExpired          ACTIVE 상태에서 만료된 인원 (이탈, 매진 후 잔류 포함)
+ * @param neverAdmitted          종료 시점까지 입장하지 못한 인원
+ * @param durationSeconds        시뮬레이션 종료 시각 (초)
+ */
+public record SimulationResult(
+        String scenario,
+        int seatsSold,
+        long soldOutSeconds,
+        double avgSeatsPerMinute,
+        int peakSeatsPerMinute,
+        double avgCoreRps,
+        int peakCoreRps,
+        double peakQueuePollRps,
+        long waitP50Seconds,
+        long waitP90Seconds,
+        long waitP99Seconds,
+        int admitted,
+        int readyExpired,
+        int activeExpired,
+        int neverAdmitted,
+        long durationSeconds
+) {
+
+    public static final String CSV_HEADER = String.join(",",
+            "scenario", "seats_sold", "sold_out_s", "avg_seats_per_min", "peak_seats_per_min",
+            "avg_core_rps", "peak_core_rps", "peak_queue_poll_rps",
+            "wait_p50_s", "wait_p90_s", "wait_p99_s",
+            "admitted", "ready_expired", "active_expired", "never_admitted", "duration_s");
+
+    public String toCsv() {
+        return String.format("%s,%d,%d,%.1f,%d,%.1f,%d,%.1f,%d,%d,%d,%d,%d,%d,%d,%d",
+                scenario, seatsSold, soldOutSeconds, avgSeatsPerMinute, peakSeatsPerMinute,
+                avgCoreRps, peakCoreRps, peakQueuePollRps,
+                waitP50Seconds, waitP90Seconds, waitP99Seconds,
+                admitted, readyExpired, activeExpired, neverAdmitted, durationSeconds);
+    }
+}
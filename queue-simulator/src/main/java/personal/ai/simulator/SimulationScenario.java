@@ -0,0 +1,130 @@
+package personal.ai.simulator;
+
+import personal.ai.queue.domain.model.QueueConfig;
+
+/**
+ * 시뮬레이션 시나리오
+ * 대기열 설정(QueueConfig + 정리/폴링 주기)과 사용자 행동 모델의 조합
+ *
+ * @param name                   시나리오 이름 (리포트용)
+ * @param queueConfig            대기열 설정 (Active 최대 인원, READY/ACTIVE TTL, 연장 횟수, 전환 주기)
+ * @param cleanupIntervalSeconds 만료 토큰 정리 주기 (queue.scheduler.cleanup-interval-ms)
+ * @param polling                대기 중 폴링 간격 정책 (queue.polling.*)
+ * @param arrival                사용자 도착 모델
+ * @param behavior               READY 이후 사용자 행동 모델
+ * @param seats                  판매 좌석 수
+ * @param horizonSeconds         최대 시뮬레이션 시간 (초)
+ */
+public record SimulationScenario(
+        String name,
+        QueueConfig queueConfig,
+        int cleanupIntervalSeconds,
+        Polling polling,
+        Arrival arrival,
+        Behavior behavior,
+        int seats,
+        int horizonSeconds
+) {
+
+    public SimulationScenario {
+        if (cleanupIntervalSeconds <= 0) {
+            throw new IllegalArgumentException("cleanupIntervalSeconds must be positive: " + cleanupIntervalSeconds);
+        }
+        if (seats <= 0) {
+            throw new IllegalArgumentException("seats must be positive: " + seats);
+        }
+        if (horizonSeconds <= 0) {
+            throw new IllegalArgumentException("horizonSeconds must be positive: " + horizonSeconds);
+        }
+    }
+
+    /**
+     * 폴링 간격 정책
+     * 순번이 fastThreshold 이하면 fastIntervalMs, 초과하면 slowIntervalMs 간격으로 상태 조회
+     */
+    public record Polling(long fastIntervalMs, long slowIntervalMs, int fastThreshold) {
+
+        public Polling {
+            if (fastIntervalMs <= 0 || slowIntervalMs <= 0) {
+                throw new IllegalArgumentException("poll intervals must be positive");
+            }
+        }
+
+        /**
+         * 대기 인원 기준 초당 상태 조회 요청 수
+         */
+        public double requestsPerSecond(long waiting) {
+            long fast = Math.min(waiting, fastThreshold);
+            long slow = waiting - fast;
+            return fast * 1000.0 / fastIntervalMs + slow * 1000.0 / slowIntervalMs;
+        }
+    }
+
+    /**
+     * 도착 모델
+     *
+     * @param totalUsers    총 사용자 수
+     * @param windowSeconds 도착 구간 길이 (0이면 오픈 시각에 전원 동시 도착)
+     * @param shape         구간 내 도착 분포
+     */
+    public record Arrival(int totalUsers, int windowSeconds, Shape shape) {
+
+        // 이벤트 키에 사용자 번호를 24비트로 인코딩
+        static final int MAX_USERS = 1 << 24;
+
+        public Arrival {
+            if (totalUsers <= 0 || totalUsers >= MAX_USERS) {
+                throw new IllegalArgumentException("totalUsers must be in (0, " + MAX_USERS + "): " + totalUsers);
+            }
+            if (windowSeconds < 0) {
+                throw new IllegalArgumentException("windowSeconds must be non-negative: " + windowSeconds);
+            }
+        }
+
+        /**
+         * i번째 사용자 도착 시각 (밀리초)
+         */
+        public long arrivalMillis(int index) {
+            double fraction = (double) index / totalUsers;
+            double position = shape == Shape.RAMP ? Math.sqrt(fraction) : fraction;
+            return (long) (windowSeconds * 1000L * position);
+        }
+
+        public enum Shape {
+            /** 구간 내 균등 도착 */
+            UNIFORM,
+            /** 도착률이 선형으로 증가 */
+            RAMP
+        }
+    }
+
+    /**
+     * READY 이후 사용자 행동 모델
+     *
+     * @param noShowRate           READY가 되어도 예매 페이지에 들어오지 않는 비율
+     * @param activationDelay      READY 알림 후 활성화(예매 페이지 진입)까지 걸리는 시간
+     * @param shoppingTime         활성화 후 좌석 선택/예약 요청까지 걸리는 시간
+     * @param paymentTime          예약 후 결제 완료까지 걸리는 시간
+     * @param abandonRate          활성화 후 구매하지 않고 이탈하는 비율
+     * @param seatListRequests     예약 1건당 좌석 목록 조회 횟수
+     * @param removalLagMillis     결제 완료 후 토큰 제거까지 지연 (Outbox + Kafka 전달)
+     */
+    public record Behavior(
+            double noShowRate,
+            LogNormal activationDelay,
+            LogNormal shoppingTime,
+            LogNormal paymentTime,
+            double abandonRate,
+            int seatListRequests,
+            long removalLagMillis
+    ) {
+        public Behavior {
+            if (noShowRate < 0 || noShowRate > 1 || abandonRate < 0 || abandonRate > 1) {
+                throw new IllegalArgumentException("rates must be within [0, 1]");
+            }
+            if (seatListRequests < 0 || removalLagMillis < 0) {
+                throw new IllegalArgumentException("seatListRequests and removalLagMillis must be non-negative");
+            }
+        }
+    }
+}
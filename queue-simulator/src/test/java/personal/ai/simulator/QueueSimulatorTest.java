@@ -0,0 +1,90 @@
+package personal.ai.simulator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import personal.ai.queue.domain.model.QueueConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueueSimulator 단위 테스트")
+class QueueSimulatorTest {
+
+    private static final long SEED = 42L;
+
+    private final QueueSimulator simulator = new QueueSimulator();
+
+    @Test
+    @DisplayName("좌석 수보다 많이 판매하지 않고, 수요가 충분하면 매진된다")
+    void run_NeverOversells() {
+        // given
+        SimulationScenario scenario = scenario(2_000, 300, 0.0);
+
+        // when
+        SimulationResult result = simulator.run(scenario, SEED);
+
+        // then
+        assertThat(result.seatsSold()).isEqualTo(1_000);
+        assertThat(result.soldOutSeconds()).isPositive();
+        assertThat(result.peakCoreRps()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Active 최대 인원을 줄이면 입장 대기 시간이 늘어난다")
+    void run_SmallerActiveSizeIncreasesWait() {
+        // given
+        SimulationScenario large = scenario(5_000, 300, 0.1);
+        SimulationScenario small = scenario(200, 300, 0.1);
+
+        // when
+        SimulationResult largeResult = simulator.run(large, SEED);
+        SimulationResult smallResult = simulator.run(small, SEED);
+
+        // then
+        assertThat(smallResult.waitP90Seconds()).isGreaterThan(largeResult.waitP90Seconds());
+        assertThat(smallResult.peakCoreRps()).isLessThanOrEqualTo(largeResult.peakCoreRps());
+    }
+
+    @Test
+    @DisplayName("READY TTL이 활성화 지연보다 짧으면 READY 만료가 늘어난다")
+    void run_ShortReadyTtlIncreasesReadyExpiry() {
+        // given
+        SimulationScenario generous = scenario(1_000, 300, 0.0);
+        SimulationScenario strict = scenario(1_000, 15, 0.0);
+
+        // when
+        SimulationResult generousResult = simulator.run(generous, SEED);
+        SimulationResult strictResult = simulator.run(strict, SEED);
+
+        // then
+        assertThat(strictResult.readyExpired()).isGreaterThan(generousResult.readyExpired());
+    }
+
+    @Test
+    @DisplayName("같은 시드로 실행하면 같은 결과가 나온다")
+    void run_IsDeterministicForSeed() {
+        // given
+        SimulationScenario scenario = scenario(500, 120, 0.2);
+
+        // when & then
+        assertThat(simulator.run(scenario, SEED)).isEqualTo(simulator.run(scenario, SEED));
+    }
+
+    private static SimulationScenario scenario(int activeMaxSize, int tokenTtlSeconds, double noShowRate) {
+        return new SimulationScenario(
+                "test",
+                new QueueConfig(activeMaxSize, tokenTtlSeconds, 600, 2, 5),
+                1,
+                new SimulationScenario.Polling(3_000, 10_000, 1_000),
+                new SimulationScenario.Arrival(10_000, 10, SimulationScenario.Arrival.Shape.UNIFORM),
+                new SimulationScenario.Behavior(
+                        noShowRate,
+                        new LogNormal(20, 0.6),
+                        new LogNormal(60, 0.6),
+                        new LogNormal(20, 0.3),
+                        0.1,
+                        3,
+                        1_000),
+                1_000,
+                3_600);
+    }
+}